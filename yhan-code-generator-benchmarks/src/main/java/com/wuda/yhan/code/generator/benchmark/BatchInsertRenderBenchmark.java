@@ -0,0 +1,126 @@
+package com.wuda.yhan.code.generator.benchmark;
+
+import com.wuda.yhan.code.generator.benchmark.entity.bench.BenchTable5;
+import com.wuda.yhan.code.generator.benchmark.entity.bench.BenchTable5MetaInfo;
+import com.wuda.yhan.code.generator.lang.Constant;
+import com.wuda.yhan.code.generator.lang.TableEntity;
+import com.wuda.yhan.code.generator.lang.util.BeanUtils;
+import com.wuda.yhan.code.generator.lang.util.JavaNamingUtils;
+import com.wuda.yhan.code.generator.lang.util.SqlProviderUtils;
+import com.wuda.yhan.code.generator.lang.util.TableEntityUtils;
+import org.apache.ibatis.jdbc.SQL;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.reflect.Method;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 对比batchInsertUseGeneratedKeys语句的生成.
+ * <ul>
+ * <li>legacy: 之前的实现,先生成一行的模板,每一行用正则替换行号</li>
+ * <li>streaming: {@link SqlProviderUtils#batchInsertUseGeneratedKeysStatement},直接把每一行写入预先分配好的{@link StringBuilder}</li>
+ * </ul>
+ * 加上<code>-prof gc</code>可以对比每次调用分配的内存.
+ * 运行: <code>java -jar yhan-code-generator-benchmarks/target/benchmarks.jar BatchInsertRenderBenchmark -prof gc</code>
+ *
+ * @author wuda
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class BatchInsertRenderBenchmark {
+
+    @Param({"10", "1000", "10000"})
+    private int rows;
+
+    private List<BenchTable5> list;
+
+    @Setup
+    public void setup() {
+        list = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            BenchTable5 entity = new BenchTable5();
+            entity.setName1("name" + i);
+            entity.setQuantity2(i);
+            entity.setUpdateTime3(new Timestamp(System.currentTimeMillis()));
+            entity.setAmount4(BigDecimal.valueOf(i, 2));
+            list.add(entity);
+        }
+    }
+
+    @Benchmark
+    public String legacy() {
+        SQL sql = new SQL();
+        sql.INSERT_INTO(BenchTable5MetaInfo.SCHEMA_DOT_TABLE);
+        legacyColumnsAndValues(sql, list, "list", BenchTable5MetaInfo.AUTO_INCREMENT_COLUMN);
+        return sql.toString();
+    }
+
+    @Benchmark
+    public String streaming() {
+        return SqlProviderUtils.batchInsertUseGeneratedKeysStatement(BenchTable5MetaInfo.SCHEMA_DOT_TABLE, list, "list",
+                BenchTable5MetaInfo.AUTO_INCREMENT_COLUMN);
+    }
+
+    /**
+     * 之前的实现.
+     */
+    private static void legacyColumnsAndValues(SQL sql, List<? extends TableEntity> list, String collectionName, String autoIncrementColumn) {
+        Class<? extends TableEntity> arbitrary = list.get(0).getClass();
+        Map<String, String> fieldToColumnMap = TableEntityUtils.fieldToColumn(arbitrary);
+        String[] columns = new String[fieldToColumnMap.size() - 1];
+        int index = 0;
+        String placeholder = "-k-";
+        StringBuilder valueStatementTemplateBuilder = new StringBuilder();
+        for (Map.Entry<String, String> entry : fieldToColumnMap.entrySet()) {
+            String columnName = entry.getValue();
+            if (columnName.equalsIgnoreCase(autoIncrementColumn)) {
+                continue;
+            }
+            columns[index] = columnName;
+            String fieldName = JavaNamingUtils.toCamelCase(columnName, Constant.underscore);
+            valueStatementTemplateBuilder.append("#{" + collectionName + "[" + placeholder + "]." + fieldName + "}");
+            if (index != columns.length - 1) {
+                valueStatementTemplateBuilder.append(",");
+            }
+            index++;
+        }
+        String valueStatementTemplate = valueStatementTemplateBuilder.toString();
+        int k = 0;
+        StringBuilder builder = new StringBuilder();
+        Method autoIncrementFieldGetter = BeanUtils.getter(arbitrary, JavaNamingUtils.toCamelCase(autoIncrementColumn, Constant.underscore));
+        for (TableEntity entity : list) {
+            if (k != 0) {
+                builder.append("(");
+            }
+            if (BeanUtils.getValue(entity, autoIncrementFieldGetter) != null) {
+                throw new RuntimeException("auto increment column has value");
+            }
+            builder.append(valueStatementTemplate.replaceAll(placeholder, k + ""));
+            if (k != list.size() - 1) {
+                builder.append("),");
+            }
+            k++;
+        }
+        sql.INTO_COLUMNS(columns);
+        sql.INTO_VALUES(builder.toString());
+    }
+}
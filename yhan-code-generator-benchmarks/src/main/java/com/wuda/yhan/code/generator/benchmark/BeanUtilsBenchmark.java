@@ -0,0 +1,107 @@
+package com.wuda.yhan.code.generator.benchmark;
+
+import com.wuda.yhan.code.generator.benchmark.entity.bench.BenchTable5;
+import com.wuda.yhan.code.generator.lang.util.BeanUtils;
+import com.wuda.yhan.code.generator.lang.util.JavaNamingUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * 对比{@link BeanUtils}读写属性的几种方式.
+ * <ul>
+ * <li>lookupAndInvoke: 每次都查找get方法并反射调用,即缓存之前的实现</li>
+ * <li>methodInvoke: 缓存{@link Method},反射调用</li>
+ * <li>beanUtils: {@link BeanUtils#getValue(Object, String)},每次从缓存中获取绑定后的function</li>
+ * <li>boundFunction: 直接调用绑定后的function</li>
+ * <li>direct: 直接调用get方法,作为基准</li>
+ * </ul>
+ * 运行: <code>java -jar yhan-code-generator-benchmarks/target/benchmarks.jar BeanUtilsBenchmark</code>
+ *
+ * @author wuda
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class BeanUtilsBenchmark {
+
+    private final static String PROPERTY = "name1";
+
+    private BenchTable5 bean;
+    private Method getter;
+    private Method setter;
+    private Function<Object, Object> getterFunction;
+    private BiConsumer<Object, Object> setterFunction;
+
+    @Setup
+    public void setup() {
+        bean = new BenchTable5();
+        bean.setName1("benchmark");
+        getter = BeanUtils.getter(BenchTable5.class, PROPERTY);
+        setter = BeanUtils.setter(BenchTable5.class, PROPERTY);
+        getterFunction = BeanUtils.getterFunction(BenchTable5.class, PROPERTY);
+        setterFunction = BeanUtils.setterFunction(BenchTable5.class, PROPERTY);
+    }
+
+    @Benchmark
+    public Object getLookupAndInvoke() throws Exception {
+        Method method = BenchTable5.class.getMethod(JavaNamingUtils.genGetterMethodName(PROPERTY));
+        return method.invoke(bean);
+    }
+
+    @Benchmark
+    public Object getMethodInvoke() throws Exception {
+        return getter.invoke(bean);
+    }
+
+    @Benchmark
+    public Object getBeanUtils() {
+        return BeanUtils.getValue(bean, PROPERTY);
+    }
+
+    @Benchmark
+    public Object getBoundFunction() {
+        return getterFunction.apply(bean);
+    }
+
+    @Benchmark
+    public Object getDirect() {
+        return bean.getName1();
+    }
+
+    @Benchmark
+    public void setLookupAndInvoke() throws Exception {
+        Method method = BenchTable5.class.getMethod(JavaNamingUtils.genSetterMethodName(PROPERTY), String.class);
+        method.invoke(bean, "v");
+    }
+
+    @Benchmark
+    public void setMethodInvoke() throws Exception {
+        setter.invoke(bean, "v");
+    }
+
+    @Benchmark
+    public void setBoundFunction() {
+        setterFunction.accept(bean, "v");
+    }
+
+    @Benchmark
+    public void setDirect() {
+        bean.setName1("v");
+    }
+}
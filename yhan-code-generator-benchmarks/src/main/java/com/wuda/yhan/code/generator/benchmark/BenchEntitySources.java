@@ -0,0 +1,99 @@
+package com.wuda.yhan.code.generator.benchmark;
+
+import com.squareup.javapoet.JavaFile;
+import com.wuda.code.generator.db.mysql.EntityGenerator;
+import com.wuda.code.generator.db.mysql.SqlTableGenerator;
+import com.wuda.code.generator.db.mysql.TableMetaInfoGenerator;
+import com.wuda.yhan.code.generator.lang.relational.Table;
+import com.wuda.yhan.code.generator.parser.mysql.MySqlCreateTableStatementParser;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 生成{@link com.wuda.yhan.code.generator.benchmark.entity.bench}中的类,表的定义参考package-info.
+ * 修改生成器之后运行{@link #main(String[])}重新生成,测试会检查这些类和生成器当前的输出是否一致.
+ *
+ * @author wuda
+ */
+final class BenchEntitySources {
+
+    /**
+     * 生成的类的包名,实体等类在<code>entity.bench</code>子包中.
+     */
+    final static String PACKAGE_NAME = "com.wuda.yhan.code.generator.benchmark";
+
+    /**
+     * 表的列数.
+     */
+    final static int[] COLUMN_COUNTS = {5, 30, 120};
+
+    /**
+     * 普通列的名称前缀和类型,按照顺序轮流出现.
+     */
+    private final static String[][] COLUMNS = {
+            {"name", "VARCHAR(64) NULL"},
+            {"quantity", "INT(11) NULL"},
+            {"update_time", "DATETIME NULL"},
+            {"amount", "DECIMAL(12,2) NULL"},
+            {"ref_id", "BIGINT(20) UNSIGNED NULL"},
+            {"status", "TINYINT(4) NULL"}
+    };
+
+    private BenchEntitySources() {
+    }
+
+    /**
+     * 生成所有的表的DDL.
+     *
+     * @return DDL
+     */
+    static String ddl() {
+        StringBuilder builder = new StringBuilder();
+        for (int columnCount : COLUMN_COUNTS) {
+            builder.append("CREATE TABLE ").append(SyntheticSchema.SCHEMA).append(".`bench_table_").append(columnCount).append("` (\n");
+            builder.append("\t`id` BIGINT(20) UNSIGNED NOT NULL AUTO_INCREMENT,\n");
+            for (int i = 1; i < columnCount; i++) {
+                String[] column = COLUMNS[(i - 1) % COLUMNS.length];
+                builder.append("\t`").append(column[0]).append('_').append(i).append("` ").append(column[1]).append(",\n");
+            }
+            builder.append("\tPRIMARY KEY (`id`)\n);\n");
+        }
+        return builder.toString();
+    }
+
+    /**
+     * 使用生成器当前的实现生成所有的类.
+     *
+     * @return java files
+     */
+    static List<JavaFile> javaFiles() {
+        EntityGenerator entityGenerator = new EntityGenerator();
+        TableMetaInfoGenerator tableMetaInfoGenerator = new TableMetaInfoGenerator();
+        SqlTableGenerator sqlTableGenerator = new SqlTableGenerator();
+        List<JavaFile> javaFiles = new ArrayList<>();
+        for (Table table : new MySqlCreateTableStatementParser().parse(ddl())) {
+            javaFiles.add(entityGenerator.genJavaFile(table, PACKAGE_NAME, false, true));
+            javaFiles.add(entityGenerator.genAccessorJavaFile(table, PACKAGE_NAME));
+            javaFiles.add(tableMetaInfoGenerator.genJavaFile(table, PACKAGE_NAME));
+            javaFiles.add(sqlTableGenerator.genJavaFile(table, PACKAGE_NAME));
+        }
+        return javaFiles;
+    }
+
+    /**
+     * 重新生成所有的类.
+     *
+     * @param args 源代码的根目录,默认是<code>yhan-code-generator-benchmarks/src/main/java</code>
+     * @throws IOException 写入文件失败
+     */
+    public static void main(String[] args) throws IOException {
+        Path directory = Paths.get(args.length > 0 ? args[0] : "yhan-code-generator-benchmarks/src/main/java");
+        for (JavaFile javaFile : javaFiles()) {
+            javaFile.writeTo(directory);
+        }
+    }
+}
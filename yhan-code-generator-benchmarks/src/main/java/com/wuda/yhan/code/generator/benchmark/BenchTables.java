@@ -0,0 +1,142 @@
+package com.wuda.yhan.code.generator.benchmark;
+
+import com.wuda.yhan.code.generator.benchmark.entity.bench.BenchTable120;
+import com.wuda.yhan.code.generator.benchmark.entity.bench.BenchTable120MetaInfo;
+import com.wuda.yhan.code.generator.benchmark.entity.bench.BenchTable120SqlTable;
+import com.wuda.yhan.code.generator.benchmark.entity.bench.BenchTable30;
+import com.wuda.yhan.code.generator.benchmark.entity.bench.BenchTable30MetaInfo;
+import com.wuda.yhan.code.generator.benchmark.entity.bench.BenchTable30SqlTable;
+import com.wuda.yhan.code.generator.benchmark.entity.bench.BenchTable5;
+import com.wuda.yhan.code.generator.benchmark.entity.bench.BenchTable5MetaInfo;
+import com.wuda.yhan.code.generator.benchmark.entity.bench.BenchTable5SqlTable;
+import com.wuda.yhan.code.generator.lang.TableEntity;
+import com.wuda.yhan.code.generator.lang.util.BeanUtils;
+import com.wuda.yhan.code.generator.lang.util.TableEntityUtils;
+import org.mybatis.dynamic.sql.SqlColumn;
+import org.mybatis.dynamic.sql.SqlTable;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 基准测试使用的不同列数的表,参考{@link com.wuda.yhan.code.generator.benchmark.entity.bench}.
+ *
+ * @author wuda
+ */
+enum BenchTables {
+
+    COLUMNS_5(BenchTable5.class, BenchTable5MetaInfo.SCHEMA_DOT_TABLE, BenchTable5SqlTable.instance),
+    COLUMNS_30(BenchTable30.class, BenchTable30MetaInfo.SCHEMA_DOT_TABLE, BenchTable30SqlTable.instance),
+    COLUMNS_120(BenchTable120.class, BenchTable120MetaInfo.SCHEMA_DOT_TABLE, BenchTable120SqlTable.instance);
+
+    /**
+     * 自增列.
+     */
+    final static String AUTO_INCREMENT_COLUMN = "id";
+
+    final Class<? extends TableEntity> entityClass;
+    final String schemaDotTable;
+    final SqlTable sqlTable;
+
+    BenchTables(Class<? extends TableEntity> entityClass, String schemaDotTable, SqlTable sqlTable) {
+        this.entityClass = entityClass;
+        this.schemaDotTable = schemaDotTable;
+        this.sqlTable = sqlTable;
+    }
+
+    /**
+     * 根据列数获取表,用于{@link org.openjdk.jmh.annotations.Param}.
+     *
+     * @param columns 列数
+     * @return 表
+     */
+    static BenchTables of(int columns) {
+        for (BenchTables table : values()) {
+            if (table.columns() == columns) {
+                return table;
+            }
+        }
+        throw new IllegalArgumentException("没有" + columns + "列的表");
+    }
+
+    /**
+     * @return 表的列数
+     */
+    int columns() {
+        return TableEntityUtils.fieldNames(entityClass).length;
+    }
+
+    /**
+     * 创建一个实体,通过set方法设置所有的属性,因此所有的列都会insert或者update.
+     *
+     * @param seed    用于生成属性值
+     * @param withKey 是否设置自增列对应的属性
+     * @return 实体
+     */
+    TableEntity newEntity(long seed, boolean withKey) {
+        TableEntity entity;
+        try {
+            entity = entityClass.newInstance();
+        } catch (ReflectiveOperationException e) {
+            throw new RuntimeException(e);
+        }
+        for (String fieldName : TableEntityUtils.fieldNames(entityClass)) {
+            if (!withKey && fieldName.equals(AUTO_INCREMENT_COLUMN)) {
+                continue;
+            }
+            Class<?> type = BeanUtils.getter(entityClass, fieldName).getReturnType();
+            BeanUtils.setValue(entity, fieldName, value(type, seed));
+        }
+        return entity;
+    }
+
+    /**
+     * 创建多个实体,不设置自增列对应的属性.
+     *
+     * @param rows 实体的数量
+     * @return list of entity
+     */
+    List<TableEntity> newEntities(int rows) {
+        List<TableEntity> list = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            list.add(newEntity(i, false));
+        }
+        return list;
+    }
+
+    /**
+     * @return {@link SqlTable}中定义的所有列
+     */
+    List<SqlColumn> sqlColumns() {
+        List<SqlColumn> list = new ArrayList<>();
+        for (Field field : sqlTable.getClass().getFields()) {
+            if (!Modifier.isStatic(field.getModifiers()) && SqlColumn.class.isAssignableFrom(field.getType())) {
+                try {
+                    list.add((SqlColumn) field.get(sqlTable));
+                } catch (IllegalAccessException e) {
+                    throw new RuntimeException(e);
+                }
+            }
+        }
+        return list;
+    }
+
+    private static Object value(Class<?> type, long seed) {
+        if (type == String.class) {
+            return "value" + seed;
+        } else if (type == Integer.class) {
+            return (int) seed;
+        } else if (type == Long.class) {
+            return seed;
+        } else if (type == BigDecimal.class) {
+            return BigDecimal.valueOf(seed, 2);
+        } else if (type == Timestamp.class) {
+            return new Timestamp(seed);
+        }
+        throw new IllegalArgumentException("不支持的类型:" + type);
+    }
+}
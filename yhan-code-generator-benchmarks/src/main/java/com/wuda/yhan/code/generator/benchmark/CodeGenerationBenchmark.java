@@ -0,0 +1,218 @@
+package com.wuda.yhan.code.generator.benchmark;
+
+import com.squareup.javapoet.JavaFile;
+import com.wuda.code.generator.db.mysql.EntityGenerator;
+import com.wuda.code.generator.db.mysql.EnumLikeColumnEnumGenerator;
+import com.wuda.code.generator.db.mysql.MyBatisMapperGenerator;
+import com.wuda.code.generator.db.mysql.SqlBuilderGenerator;
+import com.wuda.code.generator.db.mysql.SqlTableGenerator;
+import com.wuda.code.generator.db.mysql.TableMetaInfoGenerator;
+import com.wuda.yhan.code.generator.lang.relational.Table;
+import com.wuda.yhan.code.generator.parser.mysql.MySqlCreateTableStatementParser;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * 从DDL生成代码的各个阶段的吞吐量,DDL由{@link SyntheticSchema}生成,包含<code>tables</code>个表.
+ * 每个方法是一个阶段,每次调用处理schema中所有的表:
+ * <ul>
+ * <li>parse: {@link MySqlCreateTableStatementParser#parse(String)}</li>
+ * <li>entity,entityAccessor: {@link EntityGenerator}生成实体和实体的accessor</li>
+ * <li>mapper: {@link MyBatisMapperGenerator}</li>
+ * <li>sqlBuilder: {@link SqlBuilderGenerator}</li>
+ * <li>tableMetaInfo: {@link TableMetaInfoGenerator}</li>
+ * <li>sqlTable: {@link SqlTableGenerator}</li>
+ * <li>enumLikeColumn: {@link EnumLikeColumnEnumGenerator}</li>
+ * <li>writeFiles: 把上面生成的文件写入临时目录,最多{@link WriteState#MAX_WRITE_TABLES}个表</li>
+ * </ul>
+ * 结果中的<code>tables</code>是每秒处理的表的数量,<code>-prof gc</code>中的<code>gc.alloc.rate.norm</code>
+ * 是每次调用分配的内存,除以每次调用处理的表的数量(writeFiles是<code>tables</code>和{@link WriteState#MAX_WRITE_TABLES}中较小的一个,
+ * 其他阶段是<code>tables</code>)就是每个表分配的内存.
+ * 运行: <code>java -jar yhan-code-generator-benchmarks/target/benchmarks.jar CodeGenerationBenchmark -prof gc</code>,
+ * 结果默认写入<code>jmh-result.json</code>,可以作为优化之前的基线.
+ *
+ * @author wuda
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+@State(Scope.Benchmark)
+public class CodeGenerationBenchmark {
+
+    private final static String PACKAGE_NAME = "com.wuda.yhan.code.generator.benchmark.generated";
+
+    @Param({"100", "3000"})
+    private int tables;
+
+    private String ddl;
+    private List<Table> parsedTables;
+
+    /**
+     * 每秒处理的表的数量.
+     */
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    @State(Scope.Thread)
+    public static class TableCounter {
+
+        public long tables;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            tables = 0;
+        }
+    }
+
+    /**
+     * 写入文件的阶段需要的文件,只有{@link #writeFiles(WriteState, TableCounter)}使用,
+     * 这样其他阶段不需要等待生成所有的文件.{@link JavaFile}占用的内存很多,所以最多只生成前
+     * {@link #MAX_WRITE_TABLES}个表的文件,每秒处理的表的数量仍然可以和其他阶段比较.
+     */
+    @State(Scope.Benchmark)
+    public static class WriteState {
+
+        private final static int MAX_WRITE_TABLES = 500;
+
+        private int tables;
+        private List<JavaFile> javaFiles;
+        private Path outputDirectory;
+
+        @Setup
+        public void setup(CodeGenerationBenchmark benchmark) throws IOException {
+            tables = Math.min(benchmark.tables, MAX_WRITE_TABLES);
+            javaFiles = new ArrayList<>(tables * 8);
+            EntityGenerator entityGenerator = new EntityGenerator();
+            MyBatisMapperGenerator mapperGenerator = new MyBatisMapperGenerator();
+            SqlBuilderGenerator sqlBuilderGenerator = new SqlBuilderGenerator();
+            TableMetaInfoGenerator tableMetaInfoGenerator = new TableMetaInfoGenerator();
+            SqlTableGenerator sqlTableGenerator = new SqlTableGenerator();
+            EnumLikeColumnEnumGenerator enumGenerator = new EnumLikeColumnEnumGenerator();
+            for (Table table : benchmark.parsedTables.subList(0, tables)) {
+                javaFiles.add(entityGenerator.genJavaFile(table, PACKAGE_NAME, false, true));
+                javaFiles.add(entityGenerator.genAccessorJavaFile(table, PACKAGE_NAME));
+                javaFiles.add(mapperGenerator.genJavaFile(table, PACKAGE_NAME));
+                javaFiles.add(sqlBuilderGenerator.genJavaFile(table, PACKAGE_NAME));
+                javaFiles.add(tableMetaInfoGenerator.genJavaFile(table, PACKAGE_NAME));
+                javaFiles.add(sqlTableGenerator.genJavaFile(table, PACKAGE_NAME));
+                javaFiles.addAll(enumGenerator.genJavaFile(table, PACKAGE_NAME));
+            }
+            outputDirectory = Files.createTempDirectory("yhan-code-generator-benchmark");
+        }
+
+        @TearDown
+        public void tearDown() throws IOException {
+            try (Stream<Path> paths = Files.walk(outputDirectory)) {
+                paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+            }
+        }
+    }
+
+    @Setup
+    public void setup() {
+        ddl = SyntheticSchema.ddl(tables);
+        parsedTables = new MySqlCreateTableStatementParser().parse(ddl);
+        if (parsedTables.size() != tables) {
+            throw new IllegalStateException("解析出" + parsedTables.size() + "个表,期望" + tables + "个");
+        }
+    }
+
+    @Benchmark
+    public List<Table> parse(TableCounter counter) {
+        counter.tables += tables;
+        return new MySqlCreateTableStatementParser().parse(ddl);
+    }
+
+    @Benchmark
+    public void entity(TableCounter counter, Blackhole blackhole) {
+        EntityGenerator generator = new EntityGenerator();
+        for (Table table : parsedTables) {
+            blackhole.consume(generator.genJavaFile(table, PACKAGE_NAME, false, true));
+        }
+        counter.tables += tables;
+    }
+
+    @Benchmark
+    public void entityAccessor(TableCounter counter, Blackhole blackhole) {
+        EntityGenerator generator = new EntityGenerator();
+        for (Table table : parsedTables) {
+            blackhole.consume(generator.genAccessorJavaFile(table, PACKAGE_NAME));
+        }
+        counter.tables += tables;
+    }
+
+    @Benchmark
+    public void mapper(TableCounter counter, Blackhole blackhole) {
+        MyBatisMapperGenerator generator = new MyBatisMapperGenerator();
+        for (Table table : parsedTables) {
+            blackhole.consume(generator.genJavaFile(table, PACKAGE_NAME));
+        }
+        counter.tables += tables;
+    }
+
+    @Benchmark
+    public void sqlBuilder(TableCounter counter, Blackhole blackhole) {
+        SqlBuilderGenerator generator = new SqlBuilderGenerator();
+        for (Table table : parsedTables) {
+            blackhole.consume(generator.genJavaFile(table, PACKAGE_NAME));
+        }
+        counter.tables += tables;
+    }
+
+    @Benchmark
+    public void tableMetaInfo(TableCounter counter, Blackhole blackhole) {
+        TableMetaInfoGenerator generator = new TableMetaInfoGenerator();
+        for (Table table : parsedTables) {
+            blackhole.consume(generator.genJavaFile(table, PACKAGE_NAME));
+        }
+        counter.tables += tables;
+    }
+
+    @Benchmark
+    public void sqlTable(TableCounter counter, Blackhole blackhole) {
+        SqlTableGenerator generator = new SqlTableGenerator();
+        for (Table table : parsedTables) {
+            blackhole.consume(generator.genJavaFile(table, PACKAGE_NAME));
+        }
+        counter.tables += tables;
+    }
+
+    @Benchmark
+    public void enumLikeColumn(TableCounter counter, Blackhole blackhole) {
+        EnumLikeColumnEnumGenerator generator = new EnumLikeColumnEnumGenerator();
+        for (Table table : parsedTables) {
+            blackhole.consume(generator.genJavaFile(table, PACKAGE_NAME));
+        }
+        counter.tables += tables;
+    }
+
+    @Benchmark
+    public void writeFiles(WriteState state, TableCounter counter) throws IOException {
+        for (JavaFile javaFile : state.javaFiles) {
+            javaFile.writeTo(state.outputDirectory);
+        }
+        counter.tables += state.tables;
+    }
+}
@@ -0,0 +1,102 @@
+package com.wuda.yhan.code.generator.benchmark;
+
+import com.wuda.yhan.code.generator.lang.Constant;
+import com.wuda.yhan.code.generator.lang.TableEntity;
+import com.wuda.yhan.code.generator.lang.util.BeanUtils;
+import com.wuda.yhan.code.generator.lang.util.JavaNamingUtils;
+import com.wuda.yhan.code.generator.lang.util.TableEntityUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * sql provider依赖的实体元数据和命名转换,每个方法处理表中所有的列,
+ * 分别使用5列,30列,120列的表,参考{@link com.wuda.yhan.code.generator.benchmark.entity.bench}.
+ * <ul>
+ * <li>fieldToColumn: {@link TableEntityUtils#fieldToColumn(Class)}</li>
+ * <li>getter: 每个属性调用一次{@link BeanUtils#getter(Class, String)}</li>
+ * <li>getValue: 每个属性调用一次{@link BeanUtils#getValue(Object, Method)}</li>
+ * <li>toCamelCase: 每个列名调用一次{@link JavaNamingUtils#toCamelCase(String, char)}</li>
+ * <li>toUnderscoreCase: 每个属性调用一次{@link JavaNamingUtils#toUnderscoreCase(String)}</li>
+ * </ul>
+ * 运行: <code>java -jar yhan-code-generator-benchmarks/target/benchmarks.jar EntityMetadataBenchmark</code>,
+ * 结果默认写入<code>jmh-result.json</code>,参考{@link BenchmarkMain}.
+ *
+ * @author wuda
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class EntityMetadataBenchmark {
+
+    @Param({"5", "30", "120"})
+    private int columns;
+
+    private Class<? extends TableEntity> entityClass;
+    private TableEntity entity;
+    private String[] fieldNames;
+    private String[] columnNames;
+    private Method[] getters;
+
+    @Setup
+    public void setup() {
+        BenchTables table = BenchTables.of(columns);
+        entityClass = table.entityClass;
+        entity = table.newEntity(1, true);
+        fieldNames = TableEntityUtils.fieldNames(entityClass);
+        columnNames = TableEntityUtils.getAccessor(entityClass).columnNames();
+        getters = new Method[fieldNames.length];
+        for (int i = 0; i < fieldNames.length; i++) {
+            getters[i] = BeanUtils.getter(entityClass, fieldNames[i]);
+        }
+    }
+
+    @Benchmark
+    public Map<String, String> fieldToColumn() {
+        return TableEntityUtils.fieldToColumn(entityClass);
+    }
+
+    @Benchmark
+    public void getter(Blackhole blackhole) {
+        for (String fieldName : fieldNames) {
+            blackhole.consume(BeanUtils.getter(entityClass, fieldName));
+        }
+    }
+
+    @Benchmark
+    public void getValue(Blackhole blackhole) {
+        for (Method getter : getters) {
+            blackhole.consume(BeanUtils.getValue(entity, getter));
+        }
+    }
+
+    @Benchmark
+    public void toCamelCase(Blackhole blackhole) {
+        for (String columnName : columnNames) {
+            blackhole.consume(JavaNamingUtils.toCamelCase(columnName, Constant.underscore));
+        }
+    }
+
+    @Benchmark
+    public void toUnderscoreCase(Blackhole blackhole) {
+        for (String fieldName : fieldNames) {
+            blackhole.consume(JavaNamingUtils.toUnderscoreCase(fieldName));
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package com.wuda.yhan.code.generator.benchmark;
+
+import com.wuda.yhan.code.generator.lang.TableEntity;
+import com.wuda.yhan.code.generator.lang.util.SqlProviderUtils;
+import com.wuda.yhan.code.generator.lang.util.TableEntityUtils;
+import org.apache.ibatis.jdbc.SQL;
+import org.mybatis.dynamic.sql.SqlColumn;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 生成的sql builder在每次调用mapper时都会执行的{@link SqlProviderUtils}中的方法,
+ * 分别使用5列,30列,120列的表,参考{@link com.wuda.yhan.code.generator.benchmark.entity.bench}.
+ * <ul>
+ * <li>insertStatement,updateStatement: 语句缓存命中时的开销,即计算field mask和查找缓存</li>
+ * <li>insertRender: 语句缓存没有命中时生成insert语句的开销</li>
+ * <li>batchInsertUseGeneratedKeysStatement: {@link #BATCH_ROWS}行</li>
+ * <li>whereConditionsForeach: batchSelect中{@link #BATCH_ROWS}个元素的WHERE条件</li>
+ * <li>sqlColumnsToArray: 查询表中所有的列</li>
+ * </ul>
+ * 运行: <code>java -jar yhan-code-generator-benchmarks/target/benchmarks.jar SqlProviderBenchmark -prof gc</code>,
+ * 结果默认写入<code>jmh-result.json</code>,参考{@link BenchmarkMain}.
+ *
+ * @author wuda
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class SqlProviderBenchmark {
+
+    /**
+     * 批量语句的行数.
+     */
+    private final static int BATCH_ROWS = 100;
+
+    private final static String[] PRIMARY_KEY = {BenchTables.AUTO_INCREMENT_COLUMN};
+
+    @Param({"5", "30", "120"})
+    private int columns;
+
+    private BenchTables table;
+    private TableEntity insertEntity;
+    private TableEntity updateEntity;
+    private long[] insertFieldMask;
+    private List<TableEntity> batch;
+    private List<SqlColumn> sqlColumns;
+
+    @Setup
+    public void setup() {
+        table = BenchTables.of(columns);
+        insertEntity = table.newEntity(1, false);
+        updateEntity = table.newEntity(1, true);
+        insertFieldMask = TableEntityUtils.fieldMask(insertEntity);
+        batch = table.newEntities(BATCH_ROWS);
+        sqlColumns = table.sqlColumns();
+    }
+
+    @Benchmark
+    public String insertStatement() {
+        return SqlProviderUtils.insertStatement(table.schemaDotTable, insertEntity);
+    }
+
+    @Benchmark
+    public String insertRender() {
+        SQL sql = new SQL();
+        sql.INSERT_INTO(table.schemaDotTable);
+        SqlProviderUtils.insertColumnsAndValues(sql, table.entityClass, insertFieldMask);
+        return sql.toString();
+    }
+
+    @Benchmark
+    public String updateStatement() {
+        return SqlProviderUtils.updateStatement("updateById", table.schemaDotTable, updateEntity, "entity",
+                PRIMARY_KEY, PRIMARY_KEY);
+    }
+
+    @Benchmark
+    public String batchInsertUseGeneratedKeysStatement() {
+        return SqlProviderUtils.batchInsertUseGeneratedKeysStatement(table.schemaDotTable, batch, "list",
+                BenchTables.AUTO_INCREMENT_COLUMN);
+    }
+
+    @Benchmark
+    public String whereConditionsForeach() {
+        SQL sql = new SQL();
+        sql.SELECT(PRIMARY_KEY);
+        sql.FROM(table.schemaDotTable);
+        SqlProviderUtils.whereConditionsForeach(sql, "list", BATCH_ROWS, PRIMARY_KEY);
+        return sql.toString();
+    }
+
+    @Benchmark
+    public String[] sqlColumnsToArray() {
+        return SqlProviderUtils.sqlColumnsToArray(sqlColumns);
+    }
+}
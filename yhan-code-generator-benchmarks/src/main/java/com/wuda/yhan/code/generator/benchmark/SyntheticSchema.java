@@ -0,0 +1,115 @@
+package com.wuda.yhan.code.generator.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * 生成包含任意数量的表的DDL,用于测试代码生成的吞吐量.相同的表的数量总是生成相同的DDL.
+ * 表的形状按照常见的业务库分布:
+ * <ul>
+ * <li>列数: 70%的表5到20列,25%的表20到60列,5%的表60到150列</li>
+ * <li>主键: 85%的表是自增的<code>id</code>,15%的表是<code>(tenant_id, id)</code>复合主键</li>
+ * <li>索引: 0到4个,一半是单列索引,另一半是两列或者三列的复合索引,其中一部分是唯一索引</li>
+ * <li>每隔几列有一个带有enum-like注释的<code>status</code>列,用于EnumLikeColumnEnumGenerator</li>
+ * </ul>
+ *
+ * @author wuda
+ */
+final class SyntheticSchema {
+
+    /**
+     * schema.
+     */
+    final static String SCHEMA = "bench";
+
+    /**
+     * 普通列的类型.
+     */
+    private final static String[] COLUMN_TYPES = {
+            "VARCHAR(64) NULL",
+            "INT(11) NULL",
+            "DATETIME NULL",
+            "DECIMAL(12,2) NULL",
+            "BIGINT(20) UNSIGNED NULL",
+            "VARCHAR(255) NOT NULL DEFAULT ''",
+            "TIMESTAMP NOT NULL DEFAULT current_timestamp()"
+    };
+
+    /**
+     * enum-like列的注释,参考EnumLikeColumnCommentParser.
+     */
+    private final static String ENUM_LIKE_COMMENT = "enum. ENABLED(1-启用) || DISABLED(2-停用) || DELETED(3-删除)";
+
+    private SyntheticSchema() {
+    }
+
+    /**
+     * 生成DDL,每个表一条Create Table语句.
+     *
+     * @param tables 表的数量
+     * @return DDL
+     */
+    static String ddl(int tables) {
+        Random random = new Random(tables);
+        StringBuilder builder = new StringBuilder(tables * 1024);
+        for (int i = 0; i < tables; i++) {
+            appendTable(builder, String.format("table_%05d", i), random);
+        }
+        return builder.toString();
+    }
+
+    private static void appendTable(StringBuilder builder, String tableName, Random random) {
+        int percent = random.nextInt(100);
+        int columnCount;
+        if (percent < 70) {
+            columnCount = 5 + random.nextInt(16);
+        } else if (percent < 95) {
+            columnCount = 20 + random.nextInt(41);
+        } else {
+            columnCount = 60 + random.nextInt(91);
+        }
+        boolean compositeKey = random.nextInt(100) < 15;
+        builder.append("CREATE TABLE ").append(SCHEMA).append(".`").append(tableName).append("` (\n");
+        List<String> columns = new ArrayList<>(columnCount);
+        if (compositeKey) {
+            builder.append("\t`tenant_id` BIGINT(20) UNSIGNED NOT NULL COMMENT '租户',\n");
+            builder.append("\t`id` BIGINT(20) UNSIGNED NOT NULL COMMENT '主键',\n");
+            columns.add("tenant_id");
+        } else {
+            builder.append("\t`id` BIGINT(20) UNSIGNED NOT NULL AUTO_INCREMENT COMMENT '主键',\n");
+        }
+        for (int i = columns.size() + 1; i < columnCount; i++) {
+            String column;
+            if (i % 7 == 3) {
+                column = "status_" + i;
+                builder.append("\t`").append(column).append("` TINYINT(4) NOT NULL DEFAULT 1 COMMENT '")
+                        .append(ENUM_LIKE_COMMENT).append("',\n");
+            } else {
+                String type = COLUMN_TYPES[random.nextInt(COLUMN_TYPES.length)];
+                column = "column_" + i;
+                builder.append("\t`").append(column).append("` ").append(type)
+                        .append(" COMMENT '第").append(i).append("列',\n");
+            }
+            columns.add(column);
+        }
+        builder.append(compositeKey ? "\tPRIMARY KEY (`tenant_id`, `id`)" : "\tPRIMARY KEY (`id`)");
+        int indexCount = columns.isEmpty() ? 0 : random.nextInt(5);
+        for (int i = 0; i < indexCount; i++) {
+            int width = random.nextBoolean() ? 1 : 2 + random.nextInt(2);
+            width = Math.min(width, columns.size());
+            int start = random.nextInt(columns.size() - width + 1);
+            boolean unique = random.nextInt(4) == 0;
+            builder.append(",\n\t").append(unique ? "UNIQUE INDEX" : "INDEX")
+                    .append(" `idx_").append(tableName).append("_").append(i).append("` (");
+            for (int j = 0; j < width; j++) {
+                if (j > 0) {
+                    builder.append(", ");
+                }
+                builder.append("`").append(columns.get(start + j)).append("`");
+            }
+            builder.append(")");
+        }
+        builder.append("\n)\nCOMMENT='合成的表'\nENGINE=InnoDB\n;\n");
+    }
+}
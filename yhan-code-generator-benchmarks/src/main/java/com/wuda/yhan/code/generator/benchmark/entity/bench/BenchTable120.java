@@ -0,0 +1,1587 @@
+package com.wuda.yhan.code.generator.benchmark.entity.bench;
+
+import com.wuda.yhan.code.generator.lang.TableEntity;
+import java.io.Serializable;
+import java.lang.Integer;
+import java.lang.Long;
+import java.lang.Override;
+import java.lang.String;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.Arrays;
+
+public final class BenchTable120 implements TableEntity, Serializable {
+  private Long id;
+
+  private String name1;
+
+  private Integer quantity2;
+
+  private Timestamp updateTime3;
+
+  private BigDecimal amount4;
+
+  private Long refId5;
+
+  private Integer status6;
+
+  private String name7;
+
+  private Integer quantity8;
+
+  private Timestamp updateTime9;
+
+  private BigDecimal amount10;
+
+  private Long refId11;
+
+  private Integer status12;
+
+  private String name13;
+
+  private Integer quantity14;
+
+  private Timestamp updateTime15;
+
+  private BigDecimal amount16;
+
+  private Long refId17;
+
+  private Integer status18;
+
+  private String name19;
+
+  private Integer quantity20;
+
+  private Timestamp updateTime21;
+
+  private BigDecimal amount22;
+
+  private Long refId23;
+
+  private Integer status24;
+
+  private String name25;
+
+  private Integer quantity26;
+
+  private Timestamp updateTime27;
+
+  private BigDecimal amount28;
+
+  private Long refId29;
+
+  private Integer status30;
+
+  private String name31;
+
+  private Integer quantity32;
+
+  private Timestamp updateTime33;
+
+  private BigDecimal amount34;
+
+  private Long refId35;
+
+  private Integer status36;
+
+  private String name37;
+
+  private Integer quantity38;
+
+  private Timestamp updateTime39;
+
+  private BigDecimal amount40;
+
+  private Long refId41;
+
+  private Integer status42;
+
+  private String name43;
+
+  private Integer quantity44;
+
+  private Timestamp updateTime45;
+
+  private BigDecimal amount46;
+
+  private Long refId47;
+
+  private Integer status48;
+
+  private String name49;
+
+  private Integer quantity50;
+
+  private Timestamp updateTime51;
+
+  private BigDecimal amount52;
+
+  private Long refId53;
+
+  private Integer status54;
+
+  private String name55;
+
+  private Integer quantity56;
+
+  private Timestamp updateTime57;
+
+  private BigDecimal amount58;
+
+  private Long refId59;
+
+  private Integer status60;
+
+  private String name61;
+
+  private Integer quantity62;
+
+  private Timestamp updateTime63;
+
+  private BigDecimal amount64;
+
+  private Long refId65;
+
+  private Integer status66;
+
+  private String name67;
+
+  private Integer quantity68;
+
+  private Timestamp updateTime69;
+
+  private BigDecimal amount70;
+
+  private Long refId71;
+
+  private Integer status72;
+
+  private String name73;
+
+  private Integer quantity74;
+
+  private Timestamp updateTime75;
+
+  private BigDecimal amount76;
+
+  private Long refId77;
+
+  private Integer status78;
+
+  private String name79;
+
+  private Integer quantity80;
+
+  private Timestamp updateTime81;
+
+  private BigDecimal amount82;
+
+  private Long refId83;
+
+  private Integer status84;
+
+  private String name85;
+
+  private Integer quantity86;
+
+  private Timestamp updateTime87;
+
+  private BigDecimal amount88;
+
+  private Long refId89;
+
+  private Integer status90;
+
+  private String name91;
+
+  private Integer quantity92;
+
+  private Timestamp updateTime93;
+
+  private BigDecimal amount94;
+
+  private Long refId95;
+
+  private Integer status96;
+
+  private String name97;
+
+  private Integer quantity98;
+
+  private Timestamp updateTime99;
+
+  private BigDecimal amount100;
+
+  private Long refId101;
+
+  private Integer status102;
+
+  private String name103;
+
+  private Integer quantity104;
+
+  private Timestamp updateTime105;
+
+  private BigDecimal amount106;
+
+  private Long refId107;
+
+  private Integer status108;
+
+  private String name109;
+
+  private Integer quantity110;
+
+  private Timestamp updateTime111;
+
+  private BigDecimal amount112;
+
+  private Long refId113;
+
+  private Integer status114;
+
+  private String name115;
+
+  private Integer quantity116;
+
+  private Timestamp updateTime117;
+
+  private BigDecimal amount118;
+
+  private Long refId119;
+
+  private long[] dirtyFieldMask = new long[2];
+
+  public Long getId() {
+    return id;
+  }
+
+  public void setId(Long id) {
+    this.id=id;
+    if (dirtyFieldMask != null) {
+      dirtyFieldMask[0] |= 1L << 0;
+    }
+  }
+
+  public String getName1() {
+    return name1;
+  }
+
+  public void setName1(String name1) {
+    this.name1=name1;
+    if (dirtyFieldMask != null) {
+      dirtyFieldMask[0] |= 1L << 1;
+    }
+  }
+
+  public Integer getQuantity2() {
+    return quantity2;
+  }
+
+  public void setQuantity2(Integer quantity2) {
+    this.quantity2=quantity2;
+    if (dirtyFieldMask != null) {
+      dirtyFieldMask[0] |= 1L << 2;
+    }
+  }
+
+  public Timestamp getUpdateTime3() {
+    return updateTime3;
+  }
+
+  public void setUpdateTime3(Timestamp updateTime3) {
+    this.updateTime3=updateTime3;
+    if (dirtyFieldMask != null) {
+      dirtyFieldMask[0] |= 1L << 3;
+    }
+  }
+
+  public BigDecimal getAmount4() {
+    return amount4;
+  }
+
+  public void setAmount4(BigDecimal amount4) {
+    this.amount4=amount4;
+    if (dirtyFieldMask != null) {
+      dirtyFieldMask[0] |= 1L << 4;
+    }
+  }
+
+  public Long getRefId5() {
+    return refId5;
+  }
+
+  public void setRefId5(Long refId5) {
+    this.refId5=refId5;
+    if (dirtyFieldMask != null) {
+      dirtyFieldMask[0] |= 1L << 5;
+    }
+  }
+
+  public Integer getStatus6() {
+    return status6;
+  }
+
+  public void setStatus6(Integer status6) {
+    this.status6=status6;
+    if (dirtyFieldMask != null) {
+      dirtyFieldMask[0] |= 1L << 6;
+    }
+  }
+
+  public String getName7() {
+    return name7;
+  }
+
+  public void setName7(String name7) {
+    this.name7=name7;
+    if (dirtyFieldMask != null) {
+      dirtyFieldMask[0] |= 1L << 7;
+    }
+  }
+
+  public Integer getQuantity8() {
+    return quantity8;
+  }
+
+  public void setQuantity8(Integer quantity8) {
+    this.quantity8=quantity8;
+    if (dirtyFieldMask != null) {
+      dirtyFieldMask[0] |= 1L << 8;
+    }
+  }
+
+  public Timestamp getUpdateTime9() {
+    return updateTime9;
+  }
+
+  public void setUpdateTime9(Timestamp updateTime9) {
+    this.updateTime9=updateTime9;
+    if (dirtyFieldMask != null) {
+      dirtyFieldMask[0] |= 1L << 9;
+    }
+  }
+
+  public BigDecimal getAmount10() {
+    return amount10;
+  }
+
+  public void setAmount10(BigDecimal amount10) {
+    this.amount10=amount10;
+    if (dirtyFieldMask != null) {
+      dirtyFieldMask[0] |= 1L << 10;
+    }
+  }
+
+  public Long getRefId11() {
+    return refId11;
+  }
+
+  public void setRefId11(Long refId11) {
+    this.refId11=refId11;
+    if (dirtyFieldMask != null) {
+      dirtyFieldMask[0] |= 1L << 11;
+    }
+  }
+
+  public Integer getStatus12() {
+    return status12;
+  }
+
+  public void setStatus12(Integer status12) {
+    this.status12=status12;
+    if (dirtyFieldMask != null) {
+      dirtyFieldMask[0] |= 1L << 12;
+    }
+  }
+
+  public String getName13() {
+    return name13;
+  }
+
+  public void setName13(String name13) {
+    this.name13=name13;
+    if (dirtyFieldMask != null) {
+      dirtyFieldMask[0] |= 1L << 13;
+    }
+  }
+
+  public Integer getQuantity14() {
+    return quantity14;
+  }
+
+  public void setQuantity14(Integer quantity14) {
+    this.quantity14=quantity14;
+    if (dirtyFieldMask != null) {
+      dirtyFieldMask[0] |= 1L << 14;
+    }
+  }
+
+  public Timestamp getUpdateTime15() {
+    return updateTime15;
+  }
+
+  public void setUpdateTime15(Timestamp updateTime15) {
+    this.updateTime15=updateTime15;
+    if (dirtyFieldMask != null) {
+      dirtyFieldMask[0] |= 1L << 15;
+    }
+  }
+
+  public BigDecimal getAmount16() {
+    return amount16;
+  }
+
+  public void setAmount16(BigDecimal amount16) {
+    this.amount16=amount16;
+    if (dirtyFieldMask != null) {
+      dirtyFieldMask[0] |= 1L << 16;
+    }
+  }
+
+  public Long getRefId17() {
+    return refId17;
+  }
+
+  public void setRefId17(Long refId17) {
+    this.refId17=refId17;
+    if (dirtyFieldMask != null) {
+      dirtyFieldMask[0] |= 1L << 17;
+    }
+  }
+
+  public Integer getStatus18() {
+    return status18;
+  }
+
+  public void setStatus18(Integer status18) {
+    this.status18=status18;
+    if (dirtyFieldMask != null) {
+      dirtyFieldMask[0] |= 1L << 18;
+    }
+  }
+
+  public String getName19() {
+    return name19;
+  }
+
+  public void setName19(String name19) {
+    this.name19=name19;
+    if (dirtyFieldMask != null) {
+      dirtyFieldMask[0] |= 1L << 19;
+    }
+  }
+
+  public Integer getQuantity20() {
+    return quantity20;
+  }
+
+  public void setQuantity20(Integer quantity20) {
+    this.quantity20=quantity20;
+    if (dirtyFieldMask != null) {
+      dirtyFieldMask[0] |= 1L << 20;
+    }
+  }
+
+  public Timestamp getUpdateTime21() {
+    return updateTime21;
+  }
+
+  public void setUpdateTime21(Timestamp updateTime21) {
+    this.updateTime21=updateTime21;
+    if (dirtyFieldMask != null) {
+      dirtyFieldMask[0] |= 1L << 21;
+    }
+  }
+
+  public BigDecimal getAmount22() {
+    return amount22;
+  }
+
+  public void setAmount22(BigDecimal amount22) {
+    this.amount22=amount22;
+    if (dirtyFieldMask != null) {
+      dirtyFieldMask[0] |= 1L << 22;
+    }
+  }
+
+  public Long getRefId23() {
+    return refId23;
+  }
+
+  public void setRefId23(Long refId23) {
+    this.refId23=refId23;
+    if (dirtyFieldMask != null) {
+      dirtyFieldMask[0] |= 1L << 23;
+    }
+  }
+
+  public Integer getStatus24() {
+    return status24;
+  }
+
+  public void setStatus24(Integer status24) {
+    this.status24=status24;
+    if (dirtyFieldMask != null) {
+      dirtyFieldMask[0] |= 1L << 24;
+    }
+  }
+
+  public String getName25() {
+    return name25;
+  }
+
+  public void setName25(String name25) {
+    this.name25=name25;
+    if (dirtyFieldMask != null) {
+      dirtyFieldMask[0] |= 1L << 25;
+    }
+  }
+
+  public Integer getQuantity26() {
+    return quantity26;
+  }
+
+  public void setQuantity26(Integer quantity26) {
+    this.quantity26=quantity26;
+    if (dirtyFieldMask != null) {
+      dirtyFieldMask[0] |= 1L << 26;
+    }
+  }
+
+  public Timestamp getUpdateTime27() {
+    return updateTime27;
+  }
+
+  public void setUpdateTime27(Timestamp updateTime27) {
+    this.updateTime27=updateTime27;
+    if (dirtyFieldMask != null) {
+      dirtyFieldMask[0] |= 1L << 27;
+    }
+  }
+
+  public BigDecimal getAmount28() {
+    return amount28;
+  }
+
+  public void setAmount28(BigDecimal amount28) {
+    this.amount28=amount28;
+    if (dirtyFieldMask != null) {
+      dirtyFieldMask[0] |= 1L << 28;
+    }
+  }
+
+  public Long getRefId29() {
+    return refId29;
+  }
+
+  public void setRefId29(Long refId29) {
+    this.refId29=refId29;
+    if (dirtyFieldMask != null) {
+      dirtyFieldMask[0] |= 1L << 29;
+    }
+  }
+
+  public Integer getStatus30() {
+    return status30;
+  }
+
+  public void setStatus30(Integer status30) {
+    this.status30=status30;
+    if (dirtyFieldMask != null) {
+      dirtyFieldMask[0] |= 1L << 30;
+    }
+  }
+
+  public String getName31() {
+    return name31;
+  }
+
+  public void setName31(String name31) {
+    this.name31=name31;
+    if (dirtyFieldMask != null) {
+      dirtyFieldMask[0] |= 1L << 31;
+    }
+  }
+
+  public Integer getQuantity32() {
+    return quantity32;
+  }
+
+  public void setQuantity32(Integer quantity32) {
+    this.quantity32=quantity32;
+    if (dirtyFieldMask != null) {
+      dirtyFieldMask[0] |= 1L << 32;
+    }
+  }
+
+  public Timestamp getUpdateTime33() {
+    return updateTime33;
+  }
+
+  public void setUpdateTime33(Timestamp updateTime33) {
+    this.updateTime33=updateTime33;
+    if (dirtyFieldMask != null) {
+      dirtyFieldMask[0] |= 1L << 33;
+    }
+  }
+
+  public BigDecimal getAmount34() {
+    return amount34;
+  }
+
+  public void setAmount34(BigDecimal amount34) {
+    this.amount34=amount34;
+    if (dirtyFieldMask != null) {
+      dirtyFieldMask[0] |= 1L << 34;
+    }
+  }
+
+  public Long getRefId35() {
+    return refId35;
+  }
+
+  public void setRefId35(Long refId35) {
+    this.refId35=refId35;
+    if (dirtyFieldMask != null) {
+      dirtyFieldMask[0] |= 1L << 35;
+    }
+  }
+
+  public Integer getStatus36() {
+    return status36;
+  }
+
+  public void setStatus36(Integer status36) {
+    this.status36=status36;
+    if (dirtyFieldMask != null) {
+      dirtyFieldMask[0] |= 1L << 36;
+    }
+  }
+
+  public String getName37() {
+    return name37;
+  }
+
+  public void setName37(String name37) {
+    this.name37=name37;
+    if (dirtyFieldMask != null) {
+      dirtyFieldMask[0] |= 1L << 37;
+    }
+  }
+
+  public Integer getQuantity38() {
+    return quantity38;
+  }
+
+  public void setQuantity38(Integer quantity38) {
+    this.quantity38=quantity38;
+    if (dirtyFieldMask != null) {
+      dirtyFieldMask[0] |= 1L << 38;
+    }
+  }
+
+  public Timestamp getUpdateTime39() {
+    return updateTime39;
+  }
+
+  public void setUpdateTime39(Timestamp updateTime39) {
+    this.updateTime39=updateTime39;
+    if (dirtyFieldMask != null) {
+      dirtyFieldMask[0] |= 1L << 39;
+    }
+  }
+
+  public BigDecimal getAmount40() {
+    return amount40;
+  }
+
+  public void setAmount40(BigDecimal amount40) {
+    this.amount40=amount40;
+    if (dirtyFieldMask != null) {
+      dirtyFieldMask[0] |= 1L << 40;
+    }
+  }
+
+  public Long getRefId41() {
+    return refId41;
+  }
+
+  public void setRefId41(Long refId41) {
+    this.refId41=refId41;
+    if (dirtyFieldMask != null) {
+      dirtyFieldMask[0] |= 1L << 41;
+    }
+  }
+
+  public Integer getStatus42() {
+    return status42;
+  }
+
+  public void setStatus42(Integer status42) {
+    this.status42=status42;
+    if (dirtyFieldMask != null) {
+      dirtyFieldMask[0] |= 1L << 42;
+    }
+  }
+
+  public String getName43() {
+    return name43;
+  }
+
+  public void setName43(String name43) {
+    this.name43=name43;
+    if (dirtyFieldMask != null) {
+      dirtyFieldMask[0] |= 1L << 43;
+    }
+  }
+
+  public Integer getQuantity44() {
+    return quantity44;
+  }
+
+  public void setQuantity44(Integer quantity44) {
+    this.quantity44=quantity44;
+    if (dirtyFieldMask != null) {
+      dirtyFieldMask[0] |= 1L << 44;
+    }
+  }
+
+  public Timestamp getUpdateTime45() {
+    return updateTime45;
+  }
+
+  public void setUpdateTime45(Timestamp updateTime45) {
+    this.updateTime45=updateTime45;
+    if (dirtyFieldMask != null) {
+      dirtyFieldMask[0] |= 1L << 45;
+    }
+  }
+
+  public BigDecimal getAmount46() {
+    return amount46;
+  }
+
+  public void setAmount46(BigDecimal amount46) {
+    this.amount46=amount46;
+    if (dirtyFieldMask != null) {
+      dirtyFieldMask[0] |= 1L << 46;
+    }
+  }
+
+  public Long getRefId47() {
+    return refId47;
+  }
+
+  public void setRefId47(Long refId47) {
+    this.refId47=refId47;
+    if (dirtyFieldMask != null) {
+      dirtyFieldMask[0] |= 1L << 47;
+    }
+  }
+
+  public Integer getStatus48() {
+    return status48;
+  }
+
+  public void setStatus48(Integer status48) {
+    this.status48=status48;
+    if (dirtyFieldMask != null) {
+      dirtyFieldMask[0] |= 1L << 48;
+    }
+  }
+
+  public String getName49() {
+    return name49;
+  }
+
+  public void setName49(String name49) {
+    this.name49=name49;
+    if (dirtyFieldMask != null) {
+      dirtyFieldMask[0] |= 1L << 49;
+    }
+  }
+
+  public Integer getQuantity50() {
+    return quantity50;
+  }
+
+  public void setQuantity50(Integer quantity50) {
+    this.quantity50=quantity50;
+    if (dirtyFieldMask != null) {
+      dirtyFieldMask[0] |= 1L << 50;
+    }
+  }
+
+  public Timestamp getUpdateTime51() {
+    return updateTime51;
+  }
+
+  public void setUpdateTime51(Timestamp updateTime51) {
+    this.updateTime51=updateTime51;
+    if (dirtyFieldMask != null) {
+      dirtyFieldMask[0] |= 1L << 51;
+    }
+  }
+
+  public BigDecimal getAmount52() {
+    return amount52;
+  }
+
+  public void setAmount52(BigDecimal amount52) {
+    this.amount52=amount52;
+    if (dirtyFieldMask != null) {
+      dirtyFieldMask[0] |= 1L << 52;
+    }
+  }
+
+  public Long getRefId53() {
+    return refId53;
+  }
+
+  public void setRefId53(Long refId53) {
+    this.refId53=refId53;
+    if (dirtyFieldMask != null) {
+      dirtyFieldMask[0] |= 1L << 53;
+    }
+  }
+
+  public Integer getStatus54() {
+    return status54;
+  }
+
+  public void setStatus54(Integer status54) {
+    this.status54=status54;
+    if (dirtyFieldMask != null) {
+      dirtyFieldMask[0] |= 1L << 54;
+    }
+  }
+
+  public String getName55() {
+    return name55;
+  }
+
+  public void setName55(String name55) {
+    this.name55=name55;
+    if (dirtyFieldMask != null) {
+      dirtyFieldMask[0] |= 1L << 55;
+    }
+  }
+
+  public Integer getQuantity56() {
+    return quantity56;
+  }
+
+  public void setQuantity56(Integer quantity56) {
+    this.quantity56=quantity56;
+    if (dirtyFieldMask != null) {
+      dirtyFieldMask[0] |= 1L << 56;
+    }
+  }
+
+  public Timestamp getUpdateTime57() {
+    return updateTime57;
+  }
+
+  public void setUpdateTime57(Timestamp updateTime57) {
+    this.updateTime57=updateTime57;
+    if (dirtyFieldMask != null) {
+      dirtyFieldMask[0] |= 1L << 57;
+    }
+  }
+
+  public BigDecimal getAmount58() {
+    return amount58;
+  }
+
+  public void setAmount58(BigDecimal amount58) {
+    this.amount58=amount58;
+    if (dirtyFieldMask != null) {
+      dirtyFieldMask[0] |= 1L << 58;
+    }
+  }
+
+  public Long getRefId59() {
+    return refId59;
+  }
+
+  public void setRefId59(Long refId59) {
+    this.refId59=refId59;
+    if (dirtyFieldMask != null) {
+      dirtyFieldMask[0] |= 1L << 59;
+    }
+  }
+
+  public Integer getStatus60() {
+    return status60;
+  }
+
+  public void setStatus60(Integer status60) {
+    this.status60=status60;
+    if (dirtyFieldMask != null) {
+      dirtyFieldMask[0] |= 1L << 60;
+    }
+  }
+
+  public String getName61() {
+    return name61;
+  }
+
+  public void setName61(String name61) {
+    this.name61=name61;
+    if (dirtyFieldMask != null) {
+      dirtyFieldMask[0] |= 1L << 61;
+    }
+  }
+
+  public Integer getQuantity62() {
+    return quantity62;
+  }
+
+  public void setQuantity62(Integer quantity62) {
+    this.quantity62=quantity62;
+    if (dirtyFieldMask != null) {
+      dirtyFieldMask[0] |= 1L << 62;
+    }
+  }
+
+  public Timestamp getUpdateTime63() {
+    return updateTime63;
+  }
+
+  public void setUpdateTime63(Timestamp updateTime63) {
+    this.updateTime63=updateTime63;
+    if (dirtyFieldMask != null) {
+      dirtyFieldMask[0] |= 1L << 63;
+    }
+  }
+
+  public BigDecimal getAmount64() {
+    return amount64;
+  }
+
+  public void setAmount64(BigDecimal amount64) {
+    this.amount64=amount64;
+    if (dirtyFieldMask != null) {
+      dirtyFieldMask[1] |= 1L << 0;
+    }
+  }
+
+  public Long getRefId65() {
+    return refId65;
+  }
+
+  public void setRefId65(Long refId65) {
+    this.refId65=refId65;
+    if (dirtyFieldMask != null) {
+      dirtyFieldMask[1] |= 1L << 1;
+    }
+  }
+
+  public Integer getStatus66() {
+    return status66;
+  }
+
+  public void setStatus66(Integer status66) {
+    this.status66=status66;
+    if (dirtyFieldMask != null) {
+      dirtyFieldMask[1] |= 1L << 2;
+    }
+  }
+
+  public String getName67() {
+    return name67;
+  }
+
+  public void setName67(String name67) {
+    this.name67=name67;
+    if (dirtyFieldMask != null) {
+      dirtyFieldMask[1] |= 1L << 3;
+    }
+  }
+
+  public Integer getQuantity68() {
+    return quantity68;
+  }
+
+  public void setQuantity68(Integer quantity68) {
+    this.quantity68=quantity68;
+    if (dirtyFieldMask != null) {
+      dirtyFieldMask[1] |= 1L << 4;
+    }
+  }
+
+  public Timestamp getUpdateTime69() {
+    return updateTime69;
+  }
+
+  public void setUpdateTime69(Timestamp updateTime69) {
+    this.updateTime69=updateTime69;
+    if (dirtyFieldMask != null) {
+      dirtyFieldMask[1] |= 1L << 5;
+    }
+  }
+
+  public BigDecimal getAmount70() {
+    return amount70;
+  }
+
+  public void setAmount70(BigDecimal amount70) {
+    this.amount70=amount70;
+    if (dirtyFieldMask != null) {
+      dirtyFieldMask[1] |= 1L << 6;
+    }
+  }
+
+  public Long getRefId71() {
+    return refId71;
+  }
+
+  public void setRefId71(Long refId71) {
+    this.refId71=refId71;
+    if (dirtyFieldMask != null) {
+      dirtyFieldMask[1] |= 1L << 7;
+    }
+  }
+
+  public Integer getStatus72() {
+    return status72;
+  }
+
+  public void setStatus72(Integer status72) {
+    this.status72=status72;
+    if (dirtyFieldMask != null) {
+      dirtyFieldMask[1] |= 1L << 8;
+    }
+  }
+
+  public String getName73() {
+    return name73;
+  }
+
+  public void setName73(String name73) {
+    this.name73=name73;
+    if (dirtyFieldMask != null) {
+      dirtyFieldMask[1] |= 1L << 9;
+    }
+  }
+
+  public Integer getQuantity74() {
+    return quantity74;
+  }
+
+  public void setQuantity74(Integer quantity74) {
+    this.quantity74=quantity74;
+    if (dirtyFieldMask != null) {
+      dirtyFieldMask[1] |= 1L << 10;
+    }
+  }
+
+  public Timestamp getUpdateTime75() {
+    return updateTime75;
+  }
+
+  public void setUpdateTime75(Timestamp updateTime75) {
+    this.updateTime75=updateTime75;
+    if (dirtyFieldMask != null) {
+      dirtyFieldMask[1] |= 1L << 11;
+    }
+  }
+
+  public BigDecimal getAmount76() {
+    return amount76;
+  }
+
+  public void setAmount76(BigDecimal amount76) {
+    this.amount76=amount76;
+    if (dirtyFieldMask != null) {
+      dirtyFieldMask[1] |= 1L << 12;
+    }
+  }
+
+  public Long getRefId77() {
+    return refId77;
+  }
+
+  public void setRefId77(Long refId77) {
+    this.refId77=refId77;
+    if (dirtyFieldMask != null) {
+      dirtyFieldMask[1] |= 1L << 13;
+    }
+  }
+
+  public Integer getStatus78() {
+    return status78;
+  }
+
+  public void setStatus78(Integer status78) {
+    this.status78=status78;
+    if (dirtyFieldMask != null) {
+      dirtyFieldMask[1] |= 1L << 14;
+    }
+  }
+
+  public String getName79() {
+    return name79;
+  }
+
+  public void setName79(String name79) {
+    this.name79=name79;
+    if (dirtyFieldMask != null) {
+      dirtyFieldMask[1] |= 1L << 15;
+    }
+  }
+
+  public Integer getQuantity80() {
+    return quantity80;
+  }
+
+  public void setQuantity80(Integer quantity80) {
+    this.quantity80=quantity80;
+    if (dirtyFieldMask != null) {
+      dirtyFieldMask[1] |= 1L << 16;
+    }
+  }
+
+  public Timestamp getUpdateTime81() {
+    return updateTime81;
+  }
+
+  public void setUpdateTime81(Timestamp updateTime81) {
+    this.updateTime81=updateTime81;
+    if (dirtyFieldMask != null) {
+      dirtyFieldMask[1] |= 1L << 17;
+    }
+  }
+
+  public BigDecimal getAmount82() {
+    return amount82;
+  }
+
+  public void setAmount82(BigDecimal amount82) {
+    this.amount82=amount82;
+    if (dirtyFieldMask != null) {
+      dirtyFieldMask[1] |= 1L << 18;
+    }
+  }
+
+  public Long getRefId83() {
+    return refId83;
+  }
+
+  public void setRefId83(Long refId83) {
+    this.refId83=refId83;
+    if (dirtyFieldMask != null) {
+      dirtyFieldMask[1] |= 1L << 19;
+    }
+  }
+
+  public Integer getStatus84() {
+    return status84;
+  }
+
+  public void setStatus84(Integer status84) {
+    this.status84=status84;
+    if (dirtyFieldMask != null) {
+      dirtyFieldMask[1] |= 1L << 20;
+    }
+  }
+
+  public String getName85() {
+    return name85;
+  }
+
+  public void setName85(String name85) {
+    this.name85=name85;
+    if (dirtyFieldMask != null) {
+      dirtyFieldMask[1] |= 1L << 21;
+    }
+  }
+
+  public Integer getQuantity86() {
+    return quantity86;
+  }
+
+  public void setQuantity86(Integer quantity86) {
+    this.quantity86=quantity86;
+    if (dirtyFieldMask != null) {
+      dirtyFieldMask[1] |= 1L << 22;
+    }
+  }
+
+  public Timestamp getUpdateTime87() {
+    return updateTime87;
+  }
+
+  public void setUpdateTime87(Timestamp updateTime87) {
+    this.updateTime87=updateTime87;
+    if (dirtyFieldMask != null) {
+      dirtyFieldMask[1] |= 1L << 23;
+    }
+  }
+
+  public BigDecimal getAmount88() {
+    return amount88;
+  }
+
+  public void setAmount88(BigDecimal amount88) {
+    this.amount88=amount88;
+    if (dirtyFieldMask != null) {
+      dirtyFieldMask[1] |= 1L << 24;
+    }
+  }
+
+  public Long getRefId89() {
+    return refId89;
+  }
+
+  public void setRefId89(Long refId89) {
+    this.refId89=refId89;
+    if (dirtyFieldMask != null) {
+      dirtyFieldMask[1] |= 1L << 25;
+    }
+  }
+
+  public Integer getStatus90() {
+    return status90;
+  }
+
+  public void setStatus90(Integer status90) {
+    this.status90=status90;
+    if (dirtyFieldMask != null) {
+      dirtyFieldMask[1] |= 1L << 26;
+    }
+  }
+
+  public String getName91() {
+    return name91;
+  }
+
+  public void setName91(String name91) {
+    this.name91=name91;
+    if (dirtyFieldMask != null) {
+      dirtyFieldMask[1] |= 1L << 27;
+    }
+  }
+
+  public Integer getQuantity92() {
+    return quantity92;
+  }
+
+  public void setQuantity92(Integer quantity92) {
+    this.quantity92=quantity92;
+    if (dirtyFieldMask != null) {
+      dirtyFieldMask[1] |= 1L << 28;
+    }
+  }
+
+  public Timestamp getUpdateTime93() {
+    return updateTime93;
+  }
+
+  public void setUpdateTime93(Timestamp updateTime93) {
+    this.updateTime93=updateTime93;
+    if (dirtyFieldMask != null) {
+      dirtyFieldMask[1] |= 1L << 29;
+    }
+  }
+
+  public BigDecimal getAmount94() {
+    return amount94;
+  }
+
+  public void setAmount94(BigDecimal amount94) {
+    this.amount94=amount94;
+    if (dirtyFieldMask != null) {
+      dirtyFieldMask[1] |= 1L << 30;
+    }
+  }
+
+  public Long getRefId95() {
+    return refId95;
+  }
+
+  public void setRefId95(Long refId95) {
+    this.refId95=refId95;
+    if (dirtyFieldMask != null) {
+      dirtyFieldMask[1] |= 1L << 31;
+    }
+  }
+
+  public Integer getStatus96() {
+    return status96;
+  }
+
+  public void setStatus96(Integer status96) {
+    this.status96=status96;
+    if (dirtyFieldMask != null) {
+      dirtyFieldMask[1] |= 1L << 32;
+    }
+  }
+
+  public String getName97() {
+    return name97;
+  }
+
+  public void setName97(String name97) {
+    this.name97=name97;
+    if (dirtyFieldMask != null) {
+      dirtyFieldMask[1] |= 1L << 33;
+    }
+  }
+
+  public Integer getQuantity98() {
+    return quantity98;
+  }
+
+  public void setQuantity98(Integer quantity98) {
+    this.quantity98=quantity98;
+    if (dirtyFieldMask != null) {
+      dirtyFieldMask[1] |= 1L << 34;
+    }
+  }
+
+  public Timestamp getUpdateTime99() {
+    return updateTime99;
+  }
+
+  public void setUpdateTime99(Timestamp updateTime99) {
+    this.updateTime99=updateTime99;
+    if (dirtyFieldMask != null) {
+      dirtyFieldMask[1] |= 1L << 35;
+    }
+  }
+
+  public BigDecimal getAmount100() {
+    return amount100;
+  }
+
+  public void setAmount100(BigDecimal amount100) {
+    this.amount100=amount100;
+    if (dirtyFieldMask != null) {
+      dirtyFieldMask[1] |= 1L << 36;
+    }
+  }
+
+  public Long getRefId101() {
+    return refId101;
+  }
+
+  public void setRefId101(Long refId101) {
+    this.refId101=refId101;
+    if (dirtyFieldMask != null) {
+      dirtyFieldMask[1] |= 1L << 37;
+    }
+  }
+
+  public Integer getStatus102() {
+    return status102;
+  }
+
+  public void setStatus102(Integer status102) {
+    this.status102=status102;
+    if (dirtyFieldMask != null) {
+      dirtyFieldMask[1] |= 1L << 38;
+    }
+  }
+
+  public String getName103() {
+    return name103;
+  }
+
+  public void setName103(String name103) {
+    this.name103=name103;
+    if (dirtyFieldMask != null) {
+      dirtyFieldMask[1] |= 1L << 39;
+    }
+  }
+
+  public Integer getQuantity104() {
+    return quantity104;
+  }
+
+  public void setQuantity104(Integer quantity104) {
+    this.quantity104=quantity104;
+    if (dirtyFieldMask != null) {
+      dirtyFieldMask[1] |= 1L << 40;
+    }
+  }
+
+  public Timestamp getUpdateTime105() {
+    return updateTime105;
+  }
+
+  public void setUpdateTime105(Timestamp updateTime105) {
+    this.updateTime105=updateTime105;
+    if (dirtyFieldMask != null) {
+      dirtyFieldMask[1] |= 1L << 41;
+    }
+  }
+
+  public BigDecimal getAmount106() {
+    return amount106;
+  }
+
+  public void setAmount106(BigDecimal amount106) {
+    this.amount106=amount106;
+    if (dirtyFieldMask != null) {
+      dirtyFieldMask[1] |= 1L << 42;
+    }
+  }
+
+  public Long getRefId107() {
+    return refId107;
+  }
+
+  public void setRefId107(Long refId107) {
+    this.refId107=refId107;
+    if (dirtyFieldMask != null) {
+      dirtyFieldMask[1] |= 1L << 43;
+    }
+  }
+
+  public Integer getStatus108() {
+    return status108;
+  }
+
+  public void setStatus108(Integer status108) {
+    this.status108=status108;
+    if (dirtyFieldMask != null) {
+      dirtyFieldMask[1] |= 1L << 44;
+    }
+  }
+
+  public String getName109() {
+    return name109;
+  }
+
+  public void setName109(String name109) {
+    this.name109=name109;
+    if (dirtyFieldMask != null) {
+      dirtyFieldMask[1] |= 1L << 45;
+    }
+  }
+
+  public Integer getQuantity110() {
+    return quantity110;
+  }
+
+  public void setQuantity110(Integer quantity110) {
+    this.quantity110=quantity110;
+    if (dirtyFieldMask != null) {
+      dirtyFieldMask[1] |= 1L << 46;
+    }
+  }
+
+  public Timestamp getUpdateTime111() {
+    return updateTime111;
+  }
+
+  public void setUpdateTime111(Timestamp updateTime111) {
+    this.updateTime111=updateTime111;
+    if (dirtyFieldMask != null) {
+      dirtyFieldMask[1] |= 1L << 47;
+    }
+  }
+
+  public BigDecimal getAmount112() {
+    return amount112;
+  }
+
+  public void setAmount112(BigDecimal amount112) {
+    this.amount112=amount112;
+    if (dirtyFieldMask != null) {
+      dirtyFieldMask[1] |= 1L << 48;
+    }
+  }
+
+  public Long getRefId113() {
+    return refId113;
+  }
+
+  public void setRefId113(Long refId113) {
+    this.refId113=refId113;
+    if (dirtyFieldMask != null) {
+      dirtyFieldMask[1] |= 1L << 49;
+    }
+  }
+
+  public Integer getStatus114() {
+    return status114;
+  }
+
+  public void setStatus114(Integer status114) {
+    this.status114=status114;
+    if (dirtyFieldMask != null) {
+      dirtyFieldMask[1] |= 1L << 50;
+    }
+  }
+
+  public String getName115() {
+    return name115;
+  }
+
+  public void setName115(String name115) {
+    this.name115=name115;
+    if (dirtyFieldMask != null) {
+      dirtyFieldMask[1] |= 1L << 51;
+    }
+  }
+
+  public Integer getQuantity116() {
+    return quantity116;
+  }
+
+  public void setQuantity116(Integer quantity116) {
+    this.quantity116=quantity116;
+    if (dirtyFieldMask != null) {
+      dirtyFieldMask[1] |= 1L << 52;
+    }
+  }
+
+  public Timestamp getUpdateTime117() {
+    return updateTime117;
+  }
+
+  public void setUpdateTime117(Timestamp updateTime117) {
+    this.updateTime117=updateTime117;
+    if (dirtyFieldMask != null) {
+      dirtyFieldMask[1] |= 1L << 53;
+    }
+  }
+
+  public BigDecimal getAmount118() {
+    return amount118;
+  }
+
+  public void setAmount118(BigDecimal amount118) {
+    this.amount118=amount118;
+    if (dirtyFieldMask != null) {
+      dirtyFieldMask[1] |= 1L << 54;
+    }
+  }
+
+  public Long getRefId119() {
+    return refId119;
+  }
+
+  public void setRefId119(Long refId119) {
+    this.refId119=refId119;
+    if (dirtyFieldMask != null) {
+      dirtyFieldMask[1] |= 1L << 55;
+    }
+  }
+
+  @Override
+  public long[] dirtyFieldMask() {
+    return dirtyFieldMask;
+  }
+
+  @Override
+  public void clearDirtyFieldMask() {
+    if (dirtyFieldMask != null) {
+      Arrays.fill(dirtyFieldMask, 0L);
+    }
+  }
+}
@@ -0,0 +1,516 @@
+package com.wuda.yhan.code.generator.benchmark.entity.bench;
+
+import com.wuda.yhan.code.generator.lang.TableEntityAccessor;
+import java.lang.IndexOutOfBoundsException;
+import java.lang.Object;
+import java.lang.Override;
+import java.lang.String;
+
+public final class BenchTable120Accessor implements TableEntityAccessor<BenchTable120> {
+  private static final String[] FIELD_NAMES = {"id", "name1", "quantity2", "updateTime3", "amount4", "refId5", "status6", "name7", "quantity8", "updateTime9", "amount10", "refId11", "status12", "name13", "quantity14", "updateTime15", "amount16", "refId17", "status18", "name19", "quantity20", "updateTime21", "amount22", "refId23", "status24", "name25", "quantity26", "updateTime27", "amount28", "refId29", "status30", "name31", "quantity32", "updateTime33", "amount34", "refId35", "status36", "name37", "quantity38", "updateTime39", "amount40", "refId41", "status42", "name43", "quantity44", "updateTime45", "amount46", "refId47", "status48", "name49", "quantity50", "updateTime51", "amount52", "refId53", "status54", "name55", "quantity56", "updateTime57", "amount58", "refId59", "status60", "name61", "quantity62", "updateTime63", "amount64", "refId65", "status66", "name67", "quantity68", "updateTime69", "amount70", "refId71", "status72", "name73", "quantity74", "updateTime75", "amount76", "refId77", "status78", "name79", "quantity80", "updateTime81", "amount82", "refId83", "status84", "name85", "quantity86", "updateTime87", "amount88", "refId89", "status90", "name91", "quantity92", "updateTime93", "amount94", "refId95", "status96", "name97", "quantity98", "updateTime99", "amount100", "refId101", "status102", "name103", "quantity104", "updateTime105", "amount106", "refId107", "status108", "name109", "quantity110", "updateTime111", "amount112", "refId113", "status114", "name115", "quantity116", "updateTime117", "amount118", "refId119"};
+
+  private static final String[] COLUMN_NAMES = {"id", "name_1", "quantity_2", "update_time_3", "amount_4", "ref_id_5", "status_6", "name_7", "quantity_8", "update_time_9", "amount_10", "ref_id_11", "status_12", "name_13", "quantity_14", "update_time_15", "amount_16", "ref_id_17", "status_18", "name_19", "quantity_20", "update_time_21", "amount_22", "ref_id_23", "status_24", "name_25", "quantity_26", "update_time_27", "amount_28", "ref_id_29", "status_30", "name_31", "quantity_32", "update_time_33", "amount_34", "ref_id_35", "status_36", "name_37", "quantity_38", "update_time_39", "amount_40", "ref_id_41", "status_42", "name_43", "quantity_44", "update_time_45", "amount_46", "ref_id_47", "status_48", "name_49", "quantity_50", "update_time_51", "amount_52", "ref_id_53", "status_54", "name_55", "quantity_56", "update_time_57", "amount_58", "ref_id_59", "status_60", "name_61", "quantity_62", "update_time_63", "amount_64", "ref_id_65", "status_66", "name_67", "quantity_68", "update_time_69", "amount_70", "ref_id_71", "status_72", "name_73", "quantity_74", "update_time_75", "amount_76", "ref_id_77", "status_78", "name_79", "quantity_80", "update_time_81", "amount_82", "ref_id_83", "status_84", "name_85", "quantity_86", "update_time_87", "amount_88", "ref_id_89", "status_90", "name_91", "quantity_92", "update_time_93", "amount_94", "ref_id_95", "status_96", "name_97", "quantity_98", "update_time_99", "amount_100", "ref_id_101", "status_102", "name_103", "quantity_104", "update_time_105", "amount_106", "ref_id_107", "status_108", "name_109", "quantity_110", "update_time_111", "amount_112", "ref_id_113", "status_114", "name_115", "quantity_116", "update_time_117", "amount_118", "ref_id_119"};
+
+  @Override
+  public String[] fieldNames() {
+    return FIELD_NAMES;
+  }
+
+  @Override
+  public String[] columnNames() {
+    return COLUMN_NAMES;
+  }
+
+  @Override
+  public Object getValue(BenchTable120 entity, int index) {
+    switch (index) {
+      case 0: return entity.getId();
+      case 1: return entity.getName1();
+      case 2: return entity.getQuantity2();
+      case 3: return entity.getUpdateTime3();
+      case 4: return entity.getAmount4();
+      case 5: return entity.getRefId5();
+      case 6: return entity.getStatus6();
+      case 7: return entity.getName7();
+      case 8: return entity.getQuantity8();
+      case 9: return entity.getUpdateTime9();
+      case 10: return entity.getAmount10();
+      case 11: return entity.getRefId11();
+      case 12: return entity.getStatus12();
+      case 13: return entity.getName13();
+      case 14: return entity.getQuantity14();
+      case 15: return entity.getUpdateTime15();
+      case 16: return entity.getAmount16();
+      case 17: return entity.getRefId17();
+      case 18: return entity.getStatus18();
+      case 19: return entity.getName19();
+      case 20: return entity.getQuantity20();
+      case 21: return entity.getUpdateTime21();
+      case 22: return entity.getAmount22();
+      case 23: return entity.getRefId23();
+      case 24: return entity.getStatus24();
+      case 25: return entity.getName25();
+      case 26: return entity.getQuantity26();
+      case 27: return entity.getUpdateTime27();
+      case 28: return entity.getAmount28();
+      case 29: return entity.getRefId29();
+      case 30: return entity.getStatus30();
+      case 31: return entity.getName31();
+      case 32: return entity.getQuantity32();
+      case 33: return entity.getUpdateTime33();
+      case 34: return entity.getAmount34();
+      case 35: return entity.getRefId35();
+      case 36: return entity.getStatus36();
+      case 37: return entity.getName37();
+      case 38: return entity.getQuantity38();
+      case 39: return entity.getUpdateTime39();
+      case 40: return entity.getAmount40();
+      case 41: return entity.getRefId41();
+      case 42: return entity.getStatus42();
+      case 43: return entity.getName43();
+      case 44: return entity.getQuantity44();
+      case 45: return entity.getUpdateTime45();
+      case 46: return entity.getAmount46();
+      case 47: return entity.getRefId47();
+      case 48: return entity.getStatus48();
+      case 49: return entity.getName49();
+      case 50: return entity.getQuantity50();
+      case 51: return entity.getUpdateTime51();
+      case 52: return entity.getAmount52();
+      case 53: return entity.getRefId53();
+      case 54: return entity.getStatus54();
+      case 55: return entity.getName55();
+      case 56: return entity.getQuantity56();
+      case 57: return entity.getUpdateTime57();
+      case 58: return entity.getAmount58();
+      case 59: return entity.getRefId59();
+      case 60: return entity.getStatus60();
+      case 61: return entity.getName61();
+      case 62: return entity.getQuantity62();
+      case 63: return entity.getUpdateTime63();
+      case 64: return entity.getAmount64();
+      case 65: return entity.getRefId65();
+      case 66: return entity.getStatus66();
+      case 67: return entity.getName67();
+      case 68: return entity.getQuantity68();
+      case 69: return entity.getUpdateTime69();
+      case 70: return entity.getAmount70();
+      case 71: return entity.getRefId71();
+      case 72: return entity.getStatus72();
+      case 73: return entity.getName73();
+      case 74: return entity.getQuantity74();
+      case 75: return entity.getUpdateTime75();
+      case 76: return entity.getAmount76();
+      case 77: return entity.getRefId77();
+      case 78: return entity.getStatus78();
+      case 79: return entity.getName79();
+      case 80: return entity.getQuantity80();
+      case 81: return entity.getUpdateTime81();
+      case 82: return entity.getAmount82();
+      case 83: return entity.getRefId83();
+      case 84: return entity.getStatus84();
+      case 85: return entity.getName85();
+      case 86: return entity.getQuantity86();
+      case 87: return entity.getUpdateTime87();
+      case 88: return entity.getAmount88();
+      case 89: return entity.getRefId89();
+      case 90: return entity.getStatus90();
+      case 91: return entity.getName91();
+      case 92: return entity.getQuantity92();
+      case 93: return entity.getUpdateTime93();
+      case 94: return entity.getAmount94();
+      case 95: return entity.getRefId95();
+      case 96: return entity.getStatus96();
+      case 97: return entity.getName97();
+      case 98: return entity.getQuantity98();
+      case 99: return entity.getUpdateTime99();
+      case 100: return entity.getAmount100();
+      case 101: return entity.getRefId101();
+      case 102: return entity.getStatus102();
+      case 103: return entity.getName103();
+      case 104: return entity.getQuantity104();
+      case 105: return entity.getUpdateTime105();
+      case 106: return entity.getAmount106();
+      case 107: return entity.getRefId107();
+      case 108: return entity.getStatus108();
+      case 109: return entity.getName109();
+      case 110: return entity.getQuantity110();
+      case 111: return entity.getUpdateTime111();
+      case 112: return entity.getAmount112();
+      case 113: return entity.getRefId113();
+      case 114: return entity.getStatus114();
+      case 115: return entity.getName115();
+      case 116: return entity.getQuantity116();
+      case 117: return entity.getUpdateTime117();
+      case 118: return entity.getAmount118();
+      case 119: return entity.getRefId119();
+      default: throw new IndexOutOfBoundsException("index=" + index);
+    }
+  }
+
+  @Override
+  public long[] nonNullMask(BenchTable120 entity) {
+    long[] mask = new long[2];
+    if (entity.getId() != null) {
+      mask[0] |= 1L << 0;
+    }
+    if (entity.getName1() != null) {
+      mask[0] |= 1L << 1;
+    }
+    if (entity.getQuantity2() != null) {
+      mask[0] |= 1L << 2;
+    }
+    if (entity.getUpdateTime3() != null) {
+      mask[0] |= 1L << 3;
+    }
+    if (entity.getAmount4() != null) {
+      mask[0] |= 1L << 4;
+    }
+    if (entity.getRefId5() != null) {
+      mask[0] |= 1L << 5;
+    }
+    if (entity.getStatus6() != null) {
+      mask[0] |= 1L << 6;
+    }
+    if (entity.getName7() != null) {
+      mask[0] |= 1L << 7;
+    }
+    if (entity.getQuantity8() != null) {
+      mask[0] |= 1L << 8;
+    }
+    if (entity.getUpdateTime9() != null) {
+      mask[0] |= 1L << 9;
+    }
+    if (entity.getAmount10() != null) {
+      mask[0] |= 1L << 10;
+    }
+    if (entity.getRefId11() != null) {
+      mask[0] |= 1L << 11;
+    }
+    if (entity.getStatus12() != null) {
+      mask[0] |= 1L << 12;
+    }
+    if (entity.getName13() != null) {
+      mask[0] |= 1L << 13;
+    }
+    if (entity.getQuantity14() != null) {
+      mask[0] |= 1L << 14;
+    }
+    if (entity.getUpdateTime15() != null) {
+      mask[0] |= 1L << 15;
+    }
+    if (entity.getAmount16() != null) {
+      mask[0] |= 1L << 16;
+    }
+    if (entity.getRefId17() != null) {
+      mask[0] |= 1L << 17;
+    }
+    if (entity.getStatus18() != null) {
+      mask[0] |= 1L << 18;
+    }
+    if (entity.getName19() != null) {
+      mask[0] |= 1L << 19;
+    }
+    if (entity.getQuantity20() != null) {
+      mask[0] |= 1L << 20;
+    }
+    if (entity.getUpdateTime21() != null) {
+      mask[0] |= 1L << 21;
+    }
+    if (entity.getAmount22() != null) {
+      mask[0] |= 1L << 22;
+    }
+    if (entity.getRefId23() != null) {
+      mask[0] |= 1L << 23;
+    }
+    if (entity.getStatus24() != null) {
+      mask[0] |= 1L << 24;
+    }
+    if (entity.getName25() != null) {
+      mask[0] |= 1L << 25;
+    }
+    if (entity.getQuantity26() != null) {
+      mask[0] |= 1L << 26;
+    }
+    if (entity.getUpdateTime27() != null) {
+      mask[0] |= 1L << 27;
+    }
+    if (entity.getAmount28() != null) {
+      mask[0] |= 1L << 28;
+    }
+    if (entity.getRefId29() != null) {
+      mask[0] |= 1L << 29;
+    }
+    if (entity.getStatus30() != null) {
+      mask[0] |= 1L << 30;
+    }
+    if (entity.getName31() != null) {
+      mask[0] |= 1L << 31;
+    }
+    if (entity.getQuantity32() != null) {
+      mask[0] |= 1L << 32;
+    }
+    if (entity.getUpdateTime33() != null) {
+      mask[0] |= 1L << 33;
+    }
+    if (entity.getAmount34() != null) {
+      mask[0] |= 1L << 34;
+    }
+    if (entity.getRefId35() != null) {
+      mask[0] |= 1L << 35;
+    }
+    if (entity.getStatus36() != null) {
+      mask[0] |= 1L << 36;
+    }
+    if (entity.getName37() != null) {
+      mask[0] |= 1L << 37;
+    }
+    if (entity.getQuantity38() != null) {
+      mask[0] |= 1L << 38;
+    }
+    if (entity.getUpdateTime39() != null) {
+      mask[0] |= 1L << 39;
+    }
+    if (entity.getAmount40() != null) {
+      mask[0] |= 1L << 40;
+    }
+    if (entity.getRefId41() != null) {
+      mask[0] |= 1L << 41;
+    }
+    if (entity.getStatus42() != null) {
+      mask[0] |= 1L << 42;
+    }
+    if (entity.getName43() != null) {
+      mask[0] |= 1L << 43;
+    }
+    if (entity.getQuantity44() != null) {
+      mask[0] |= 1L << 44;
+    }
+    if (entity.getUpdateTime45() != null) {
+      mask[0] |= 1L << 45;
+    }
+    if (entity.getAmount46() != null) {
+      mask[0] |= 1L << 46;
+    }
+    if (entity.getRefId47() != null) {
+      mask[0] |= 1L << 47;
+    }
+    if (entity.getStatus48() != null) {
+      mask[0] |= 1L << 48;
+    }
+    if (entity.getName49() != null) {
+      mask[0] |= 1L << 49;
+    }
+    if (entity.getQuantity50() != null) {
+      mask[0] |= 1L << 50;
+    }
+    if (entity.getUpdateTime51() != null) {
+      mask[0] |= 1L << 51;
+    }
+    if (entity.getAmount52() != null) {
+      mask[0] |= 1L << 52;
+    }
+    if (entity.getRefId53() != null) {
+      mask[0] |= 1L << 53;
+    }
+    if (entity.getStatus54() != null) {
+      mask[0] |= 1L << 54;
+    }
+    if (entity.getName55() != null) {
+      mask[0] |= 1L << 55;
+    }
+    if (entity.getQuantity56() != null) {
+      mask[0] |= 1L << 56;
+    }
+    if (entity.getUpdateTime57() != null) {
+      mask[0] |= 1L << 57;
+    }
+    if (entity.getAmount58() != null) {
+      mask[0] |= 1L << 58;
+    }
+    if (entity.getRefId59() != null) {
+      mask[0] |= 1L << 59;
+    }
+    if (entity.getStatus60() != null) {
+      mask[0] |= 1L << 60;
+    }
+    if (entity.getName61() != null) {
+      mask[0] |= 1L << 61;
+    }
+    if (entity.getQuantity62() != null) {
+      mask[0] |= 1L << 62;
+    }
+    if (entity.getUpdateTime63() != null) {
+      mask[0] |= 1L << 63;
+    }
+    if (entity.getAmount64() != null) {
+      mask[1] |= 1L << 0;
+    }
+    if (entity.getRefId65() != null) {
+      mask[1] |= 1L << 1;
+    }
+    if (entity.getStatus66() != null) {
+      mask[1] |= 1L << 2;
+    }
+    if (entity.getName67() != null) {
+      mask[1] |= 1L << 3;
+    }
+    if (entity.getQuantity68() != null) {
+      mask[1] |= 1L << 4;
+    }
+    if (entity.getUpdateTime69() != null) {
+      mask[1] |= 1L << 5;
+    }
+    if (entity.getAmount70() != null) {
+      mask[1] |= 1L << 6;
+    }
+    if (entity.getRefId71() != null) {
+      mask[1] |= 1L << 7;
+    }
+    if (entity.getStatus72() != null) {
+      mask[1] |= 1L << 8;
+    }
+    if (entity.getName73() != null) {
+      mask[1] |= 1L << 9;
+    }
+    if (entity.getQuantity74() != null) {
+      mask[1] |= 1L << 10;
+    }
+    if (entity.getUpdateTime75() != null) {
+      mask[1] |= 1L << 11;
+    }
+    if (entity.getAmount76() != null) {
+      mask[1] |= 1L << 12;
+    }
+    if (entity.getRefId77() != null) {
+      mask[1] |= 1L << 13;
+    }
+    if (entity.getStatus78() != null) {
+      mask[1] |= 1L << 14;
+    }
+    if (entity.getName79() != null) {
+      mask[1] |= 1L << 15;
+    }
+    if (entity.getQuantity80() != null) {
+      mask[1] |= 1L << 16;
+    }
+    if (entity.getUpdateTime81() != null) {
+      mask[1] |= 1L << 17;
+    }
+    if (entity.getAmount82() != null) {
+      mask[1] |= 1L << 18;
+    }
+    if (entity.getRefId83() != null) {
+      mask[1] |= 1L << 19;
+    }
+    if (entity.getStatus84() != null) {
+      mask[1] |= 1L << 20;
+    }
+    if (entity.getName85() != null) {
+      mask[1] |= 1L << 21;
+    }
+    if (entity.getQuantity86() != null) {
+      mask[1] |= 1L << 22;
+    }
+    if (entity.getUpdateTime87() != null) {
+      mask[1] |= 1L << 23;
+    }
+    if (entity.getAmount88() != null) {
+      mask[1] |= 1L << 24;
+    }
+    if (entity.getRefId89() != null) {
+      mask[1] |= 1L << 25;
+    }
+    if (entity.getStatus90() != null) {
+      mask[1] |= 1L << 26;
+    }
+    if (entity.getName91() != null) {
+      mask[1] |= 1L << 27;
+    }
+    if (entity.getQuantity92() != null) {
+      mask[1] |= 1L << 28;
+    }
+    if (entity.getUpdateTime93() != null) {
+      mask[1] |= 1L << 29;
+    }
+    if (entity.getAmount94() != null) {
+      mask[1] |= 1L << 30;
+    }
+    if (entity.getRefId95() != null) {
+      mask[1] |= 1L << 31;
+    }
+    if (entity.getStatus96() != null) {
+      mask[1] |= 1L << 32;
+    }
+    if (entity.getName97() != null) {
+      mask[1] |= 1L << 33;
+    }
+    if (entity.getQuantity98() != null) {
+      mask[1] |= 1L << 34;
+    }
+    if (entity.getUpdateTime99() != null) {
+      mask[1] |= 1L << 35;
+    }
+    if (entity.getAmount100() != null) {
+      mask[1] |= 1L << 36;
+    }
+    if (entity.getRefId101() != null) {
+      mask[1] |= 1L << 37;
+    }
+    if (entity.getStatus102() != null) {
+      mask[1] |= 1L << 38;
+    }
+    if (entity.getName103() != null) {
+      mask[1] |= 1L << 39;
+    }
+    if (entity.getQuantity104() != null) {
+      mask[1] |= 1L << 40;
+    }
+    if (entity.getUpdateTime105() != null) {
+      mask[1] |= 1L << 41;
+    }
+    if (entity.getAmount106() != null) {
+      mask[1] |= 1L << 42;
+    }
+    if (entity.getRefId107() != null) {
+      mask[1] |= 1L << 43;
+    }
+    if (entity.getStatus108() != null) {
+      mask[1] |= 1L << 44;
+    }
+    if (entity.getName109() != null) {
+      mask[1] |= 1L << 45;
+    }
+    if (entity.getQuantity110() != null) {
+      mask[1] |= 1L << 46;
+    }
+    if (entity.getUpdateTime111() != null) {
+      mask[1] |= 1L << 47;
+    }
+    if (entity.getAmount112() != null) {
+      mask[1] |= 1L << 48;
+    }
+    if (entity.getRefId113() != null) {
+      mask[1] |= 1L << 49;
+    }
+    if (entity.getStatus114() != null) {
+      mask[1] |= 1L << 50;
+    }
+    if (entity.getName115() != null) {
+      mask[1] |= 1L << 51;
+    }
+    if (entity.getQuantity116() != null) {
+      mask[1] |= 1L << 52;
+    }
+    if (entity.getUpdateTime117() != null) {
+      mask[1] |= 1L << 53;
+    }
+    if (entity.getAmount118() != null) {
+      mask[1] |= 1L << 54;
+    }
+    if (entity.getRefId119() != null) {
+      mask[1] |= 1L << 55;
+    }
+    return mask;
+  }
+}
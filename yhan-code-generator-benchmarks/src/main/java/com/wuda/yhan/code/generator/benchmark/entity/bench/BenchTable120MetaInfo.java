@@ -0,0 +1,735 @@
+package com.wuda.yhan.code.generator.benchmark.entity.bench;
+
+import java.lang.String;
+
+public final class BenchTable120MetaInfo {
+  public static final String SCHEMA = "bench";
+
+  public static final String TABLE = "bench_table_120";
+
+  public static final String SCHEMA_DOT_TABLE = "`bench`.`bench_table_120`";
+
+  public static final String[] PRIMARY_KEY = new String[]{"id"};
+
+  public static final String AUTO_INCREMENT_COLUMN = "id";
+
+  public static final String ID = "`bench`.`bench_table_120`.id";
+
+  public static final String ID_AS = "id";
+
+  public static final String ID_CONCAT_TABLE_AS = "benchTable120Id";
+
+  public static final String NAME_1 = "`bench`.`bench_table_120`.name_1";
+
+  public static final String NAME_1_AS = "name1";
+
+  public static final String NAME_1_CONCAT_TABLE_AS = "benchTable120Name1";
+
+  public static final String QUANTITY_2 = "`bench`.`bench_table_120`.quantity_2";
+
+  public static final String QUANTITY_2_AS = "quantity2";
+
+  public static final String QUANTITY_2_CONCAT_TABLE_AS = "benchTable120Quantity2";
+
+  public static final String UPDATE_TIME_3 = "`bench`.`bench_table_120`.update_time_3";
+
+  public static final String UPDATE_TIME_3_AS = "updateTime3";
+
+  public static final String UPDATE_TIME_3_CONCAT_TABLE_AS = "benchTable120UpdateTime3";
+
+  public static final String AMOUNT_4 = "`bench`.`bench_table_120`.amount_4";
+
+  public static final String AMOUNT_4_AS = "amount4";
+
+  public static final String AMOUNT_4_CONCAT_TABLE_AS = "benchTable120Amount4";
+
+  public static final String REF_ID_5 = "`bench`.`bench_table_120`.ref_id_5";
+
+  public static final String REF_ID_5_AS = "refId5";
+
+  public static final String REF_ID_5_CONCAT_TABLE_AS = "benchTable120RefId5";
+
+  public static final String STATUS_6 = "`bench`.`bench_table_120`.status_6";
+
+  public static final String STATUS_6_AS = "status6";
+
+  public static final String STATUS_6_CONCAT_TABLE_AS = "benchTable120Status6";
+
+  public static final String NAME_7 = "`bench`.`bench_table_120`.name_7";
+
+  public static final String NAME_7_AS = "name7";
+
+  public static final String NAME_7_CONCAT_TABLE_AS = "benchTable120Name7";
+
+  public static final String QUANTITY_8 = "`bench`.`bench_table_120`.quantity_8";
+
+  public static final String QUANTITY_8_AS = "quantity8";
+
+  public static final String QUANTITY_8_CONCAT_TABLE_AS = "benchTable120Quantity8";
+
+  public static final String UPDATE_TIME_9 = "`bench`.`bench_table_120`.update_time_9";
+
+  public static final String UPDATE_TIME_9_AS = "updateTime9";
+
+  public static final String UPDATE_TIME_9_CONCAT_TABLE_AS = "benchTable120UpdateTime9";
+
+  public static final String AMOUNT_10 = "`bench`.`bench_table_120`.amount_10";
+
+  public static final String AMOUNT_10_AS = "amount10";
+
+  public static final String AMOUNT_10_CONCAT_TABLE_AS = "benchTable120Amount10";
+
+  public static final String REF_ID_11 = "`bench`.`bench_table_120`.ref_id_11";
+
+  public static final String REF_ID_11_AS = "refId11";
+
+  public static final String REF_ID_11_CONCAT_TABLE_AS = "benchTable120RefId11";
+
+  public static final String STATUS_12 = "`bench`.`bench_table_120`.status_12";
+
+  public static final String STATUS_12_AS = "status12";
+
+  public static final String STATUS_12_CONCAT_TABLE_AS = "benchTable120Status12";
+
+  public static final String NAME_13 = "`bench`.`bench_table_120`.name_13";
+
+  public static final String NAME_13_AS = "name13";
+
+  public static final String NAME_13_CONCAT_TABLE_AS = "benchTable120Name13";
+
+  public static final String QUANTITY_14 = "`bench`.`bench_table_120`.quantity_14";
+
+  public static final String QUANTITY_14_AS = "quantity14";
+
+  public static final String QUANTITY_14_CONCAT_TABLE_AS = "benchTable120Quantity14";
+
+  public static final String UPDATE_TIME_15 = "`bench`.`bench_table_120`.update_time_15";
+
+  public static final String UPDATE_TIME_15_AS = "updateTime15";
+
+  public static final String UPDATE_TIME_15_CONCAT_TABLE_AS = "benchTable120UpdateTime15";
+
+  public static final String AMOUNT_16 = "`bench`.`bench_table_120`.amount_16";
+
+  public static final String AMOUNT_16_AS = "amount16";
+
+  public static final String AMOUNT_16_CONCAT_TABLE_AS = "benchTable120Amount16";
+
+  public static final String REF_ID_17 = "`bench`.`bench_table_120`.ref_id_17";
+
+  public static final String REF_ID_17_AS = "refId17";
+
+  public static final String REF_ID_17_CONCAT_TABLE_AS = "benchTable120RefId17";
+
+  public static final String STATUS_18 = "`bench`.`bench_table_120`.status_18";
+
+  public static final String STATUS_18_AS = "status18";
+
+  public static final String STATUS_18_CONCAT_TABLE_AS = "benchTable120Status18";
+
+  public static final String NAME_19 = "`bench`.`bench_table_120`.name_19";
+
+  public static final String NAME_19_AS = "name19";
+
+  public static final String NAME_19_CONCAT_TABLE_AS = "benchTable120Name19";
+
+  public static final String QUANTITY_20 = "`bench`.`bench_table_120`.quantity_20";
+
+  public static final String QUANTITY_20_AS = "quantity20";
+
+  public static final String QUANTITY_20_CONCAT_TABLE_AS = "benchTable120Quantity20";
+
+  public static final String UPDATE_TIME_21 = "`bench`.`bench_table_120`.update_time_21";
+
+  public static final String UPDATE_TIME_21_AS = "updateTime21";
+
+  public static final String UPDATE_TIME_21_CONCAT_TABLE_AS = "benchTable120UpdateTime21";
+
+  public static final String AMOUNT_22 = "`bench`.`bench_table_120`.amount_22";
+
+  public static final String AMOUNT_22_AS = "amount22";
+
+  public static final String AMOUNT_22_CONCAT_TABLE_AS = "benchTable120Amount22";
+
+  public static final String REF_ID_23 = "`bench`.`bench_table_120`.ref_id_23";
+
+  public static final String REF_ID_23_AS = "refId23";
+
+  public static final String REF_ID_23_CONCAT_TABLE_AS = "benchTable120RefId23";
+
+  public static final String STATUS_24 = "`bench`.`bench_table_120`.status_24";
+
+  public static final String STATUS_24_AS = "status24";
+
+  public static final String STATUS_24_CONCAT_TABLE_AS = "benchTable120Status24";
+
+  public static final String NAME_25 = "`bench`.`bench_table_120`.name_25";
+
+  public static final String NAME_25_AS = "name25";
+
+  public static final String NAME_25_CONCAT_TABLE_AS = "benchTable120Name25";
+
+  public static final String QUANTITY_26 = "`bench`.`bench_table_120`.quantity_26";
+
+  public static final String QUANTITY_26_AS = "quantity26";
+
+  public static final String QUANTITY_26_CONCAT_TABLE_AS = "benchTable120Quantity26";
+
+  public static final String UPDATE_TIME_27 = "`bench`.`bench_table_120`.update_time_27";
+
+  public static final String UPDATE_TIME_27_AS = "updateTime27";
+
+  public static final String UPDATE_TIME_27_CONCAT_TABLE_AS = "benchTable120UpdateTime27";
+
+  public static final String AMOUNT_28 = "`bench`.`bench_table_120`.amount_28";
+
+  public static final String AMOUNT_28_AS = "amount28";
+
+  public static final String AMOUNT_28_CONCAT_TABLE_AS = "benchTable120Amount28";
+
+  public static final String REF_ID_29 = "`bench`.`bench_table_120`.ref_id_29";
+
+  public static final String REF_ID_29_AS = "refId29";
+
+  public static final String REF_ID_29_CONCAT_TABLE_AS = "benchTable120RefId29";
+
+  public static final String STATUS_30 = "`bench`.`bench_table_120`.status_30";
+
+  public static final String STATUS_30_AS = "status30";
+
+  public static final String STATUS_30_CONCAT_TABLE_AS = "benchTable120Status30";
+
+  public static final String NAME_31 = "`bench`.`bench_table_120`.name_31";
+
+  public static final String NAME_31_AS = "name31";
+
+  public static final String NAME_31_CONCAT_TABLE_AS = "benchTable120Name31";
+
+  public static final String QUANTITY_32 = "`bench`.`bench_table_120`.quantity_32";
+
+  public static final String QUANTITY_32_AS = "quantity32";
+
+  public static final String QUANTITY_32_CONCAT_TABLE_AS = "benchTable120Quantity32";
+
+  public static final String UPDATE_TIME_33 = "`bench`.`bench_table_120`.update_time_33";
+
+  public static final String UPDATE_TIME_33_AS = "updateTime33";
+
+  public static final String UPDATE_TIME_33_CONCAT_TABLE_AS = "benchTable120UpdateTime33";
+
+  public static final String AMOUNT_34 = "`bench`.`bench_table_120`.amount_34";
+
+  public static final String AMOUNT_34_AS = "amount34";
+
+  public static final String AMOUNT_34_CONCAT_TABLE_AS = "benchTable120Amount34";
+
+  public static final String REF_ID_35 = "`bench`.`bench_table_120`.ref_id_35";
+
+  public static final String REF_ID_35_AS = "refId35";
+
+  public static final String REF_ID_35_CONCAT_TABLE_AS = "benchTable120RefId35";
+
+  public static final String STATUS_36 = "`bench`.`bench_table_120`.status_36";
+
+  public static final String STATUS_36_AS = "status36";
+
+  public static final String STATUS_36_CONCAT_TABLE_AS = "benchTable120Status36";
+
+  public static final String NAME_37 = "`bench`.`bench_table_120`.name_37";
+
+  public static final String NAME_37_AS = "name37";
+
+  public static final String NAME_37_CONCAT_TABLE_AS = "benchTable120Name37";
+
+  public static final String QUANTITY_38 = "`bench`.`bench_table_120`.quantity_38";
+
+  public static final String QUANTITY_38_AS = "quantity38";
+
+  public static final String QUANTITY_38_CONCAT_TABLE_AS = "benchTable120Quantity38";
+
+  public static final String UPDATE_TIME_39 = "`bench`.`bench_table_120`.update_time_39";
+
+  public static final String UPDATE_TIME_39_AS = "updateTime39";
+
+  public static final String UPDATE_TIME_39_CONCAT_TABLE_AS = "benchTable120UpdateTime39";
+
+  public static final String AMOUNT_40 = "`bench`.`bench_table_120`.amount_40";
+
+  public static final String AMOUNT_40_AS = "amount40";
+
+  public static final String AMOUNT_40_CONCAT_TABLE_AS = "benchTable120Amount40";
+
+  public static final String REF_ID_41 = "`bench`.`bench_table_120`.ref_id_41";
+
+  public static final String REF_ID_41_AS = "refId41";
+
+  public static final String REF_ID_41_CONCAT_TABLE_AS = "benchTable120RefId41";
+
+  public static final String STATUS_42 = "`bench`.`bench_table_120`.status_42";
+
+  public static final String STATUS_42_AS = "status42";
+
+  public static final String STATUS_42_CONCAT_TABLE_AS = "benchTable120Status42";
+
+  public static final String NAME_43 = "`bench`.`bench_table_120`.name_43";
+
+  public static final String NAME_43_AS = "name43";
+
+  public static final String NAME_43_CONCAT_TABLE_AS = "benchTable120Name43";
+
+  public static final String QUANTITY_44 = "`bench`.`bench_table_120`.quantity_44";
+
+  public static final String QUANTITY_44_AS = "quantity44";
+
+  public static final String QUANTITY_44_CONCAT_TABLE_AS = "benchTable120Quantity44";
+
+  public static final String UPDATE_TIME_45 = "`bench`.`bench_table_120`.update_time_45";
+
+  public static final String UPDATE_TIME_45_AS = "updateTime45";
+
+  public static final String UPDATE_TIME_45_CONCAT_TABLE_AS = "benchTable120UpdateTime45";
+
+  public static final String AMOUNT_46 = "`bench`.`bench_table_120`.amount_46";
+
+  public static final String AMOUNT_46_AS = "amount46";
+
+  public static final String AMOUNT_46_CONCAT_TABLE_AS = "benchTable120Amount46";
+
+  public static final String REF_ID_47 = "`bench`.`bench_table_120`.ref_id_47";
+
+  public static final String REF_ID_47_AS = "refId47";
+
+  public static final String REF_ID_47_CONCAT_TABLE_AS = "benchTable120RefId47";
+
+  public static final String STATUS_48 = "`bench`.`bench_table_120`.status_48";
+
+  public static final String STATUS_48_AS = "status48";
+
+  public static final String STATUS_48_CONCAT_TABLE_AS = "benchTable120Status48";
+
+  public static final String NAME_49 = "`bench`.`bench_table_120`.name_49";
+
+  public static final String NAME_49_AS = "name49";
+
+  public static final String NAME_49_CONCAT_TABLE_AS = "benchTable120Name49";
+
+  public static final String QUANTITY_50 = "`bench`.`bench_table_120`.quantity_50";
+
+  public static final String QUANTITY_50_AS = "quantity50";
+
+  public static final String QUANTITY_50_CONCAT_TABLE_AS = "benchTable120Quantity50";
+
+  public static final String UPDATE_TIME_51 = "`bench`.`bench_table_120`.update_time_51";
+
+  public static final String UPDATE_TIME_51_AS = "updateTime51";
+
+  public static final String UPDATE_TIME_51_CONCAT_TABLE_AS = "benchTable120UpdateTime51";
+
+  public static final String AMOUNT_52 = "`bench`.`bench_table_120`.amount_52";
+
+  public static final String AMOUNT_52_AS = "amount52";
+
+  public static final String AMOUNT_52_CONCAT_TABLE_AS = "benchTable120Amount52";
+
+  public static final String REF_ID_53 = "`bench`.`bench_table_120`.ref_id_53";
+
+  public static final String REF_ID_53_AS = "refId53";
+
+  public static final String REF_ID_53_CONCAT_TABLE_AS = "benchTable120RefId53";
+
+  public static final String STATUS_54 = "`bench`.`bench_table_120`.status_54";
+
+  public static final String STATUS_54_AS = "status54";
+
+  public static final String STATUS_54_CONCAT_TABLE_AS = "benchTable120Status54";
+
+  public static final String NAME_55 = "`bench`.`bench_table_120`.name_55";
+
+  public static final String NAME_55_AS = "name55";
+
+  public static final String NAME_55_CONCAT_TABLE_AS = "benchTable120Name55";
+
+  public static final String QUANTITY_56 = "`bench`.`bench_table_120`.quantity_56";
+
+  public static final String QUANTITY_56_AS = "quantity56";
+
+  public static final String QUANTITY_56_CONCAT_TABLE_AS = "benchTable120Quantity56";
+
+  public static final String UPDATE_TIME_57 = "`bench`.`bench_table_120`.update_time_57";
+
+  public static final String UPDATE_TIME_57_AS = "updateTime57";
+
+  public static final String UPDATE_TIME_57_CONCAT_TABLE_AS = "benchTable120UpdateTime57";
+
+  public static final String AMOUNT_58 = "`bench`.`bench_table_120`.amount_58";
+
+  public static final String AMOUNT_58_AS = "amount58";
+
+  public static final String AMOUNT_58_CONCAT_TABLE_AS = "benchTable120Amount58";
+
+  public static final String REF_ID_59 = "`bench`.`bench_table_120`.ref_id_59";
+
+  public static final String REF_ID_59_AS = "refId59";
+
+  public static final String REF_ID_59_CONCAT_TABLE_AS = "benchTable120RefId59";
+
+  public static final String STATUS_60 = "`bench`.`bench_table_120`.status_60";
+
+  public static final String STATUS_60_AS = "status60";
+
+  public static final String STATUS_60_CONCAT_TABLE_AS = "benchTable120Status60";
+
+  public static final String NAME_61 = "`bench`.`bench_table_120`.name_61";
+
+  public static final String NAME_61_AS = "name61";
+
+  public static final String NAME_61_CONCAT_TABLE_AS = "benchTable120Name61";
+
+  public static final String QUANTITY_62 = "`bench`.`bench_table_120`.quantity_62";
+
+  public static final String QUANTITY_62_AS = "quantity62";
+
+  public static final String QUANTITY_62_CONCAT_TABLE_AS = "benchTable120Quantity62";
+
+  public static final String UPDATE_TIME_63 = "`bench`.`bench_table_120`.update_time_63";
+
+  public static final String UPDATE_TIME_63_AS = "updateTime63";
+
+  public static final String UPDATE_TIME_63_CONCAT_TABLE_AS = "benchTable120UpdateTime63";
+
+  public static final String AMOUNT_64 = "`bench`.`bench_table_120`.amount_64";
+
+  public static final String AMOUNT_64_AS = "amount64";
+
+  public static final String AMOUNT_64_CONCAT_TABLE_AS = "benchTable120Amount64";
+
+  public static final String REF_ID_65 = "`bench`.`bench_table_120`.ref_id_65";
+
+  public static final String REF_ID_65_AS = "refId65";
+
+  public static final String REF_ID_65_CONCAT_TABLE_AS = "benchTable120RefId65";
+
+  public static final String STATUS_66 = "`bench`.`bench_table_120`.status_66";
+
+  public static final String STATUS_66_AS = "status66";
+
+  public static final String STATUS_66_CONCAT_TABLE_AS = "benchTable120Status66";
+
+  public static final String NAME_67 = "`bench`.`bench_table_120`.name_67";
+
+  public static final String NAME_67_AS = "name67";
+
+  public static final String NAME_67_CONCAT_TABLE_AS = "benchTable120Name67";
+
+  public static final String QUANTITY_68 = "`bench`.`bench_table_120`.quantity_68";
+
+  public static final String QUANTITY_68_AS = "quantity68";
+
+  public static final String QUANTITY_68_CONCAT_TABLE_AS = "benchTable120Quantity68";
+
+  public static final String UPDATE_TIME_69 = "`bench`.`bench_table_120`.update_time_69";
+
+  public static final String UPDATE_TIME_69_AS = "updateTime69";
+
+  public static final String UPDATE_TIME_69_CONCAT_TABLE_AS = "benchTable120UpdateTime69";
+
+  public static final String AMOUNT_70 = "`bench`.`bench_table_120`.amount_70";
+
+  public static final String AMOUNT_70_AS = "amount70";
+
+  public static final String AMOUNT_70_CONCAT_TABLE_AS = "benchTable120Amount70";
+
+  public static final String REF_ID_71 = "`bench`.`bench_table_120`.ref_id_71";
+
+  public static final String REF_ID_71_AS = "refId71";
+
+  public static final String REF_ID_71_CONCAT_TABLE_AS = "benchTable120RefId71";
+
+  public static final String STATUS_72 = "`bench`.`bench_table_120`.status_72";
+
+  public static final String STATUS_72_AS = "status72";
+
+  public static final String STATUS_72_CONCAT_TABLE_AS = "benchTable120Status72";
+
+  public static final String NAME_73 = "`bench`.`bench_table_120`.name_73";
+
+  public static final String NAME_73_AS = "name73";
+
+  public static final String NAME_73_CONCAT_TABLE_AS = "benchTable120Name73";
+
+  public static final String QUANTITY_74 = "`bench`.`bench_table_120`.quantity_74";
+
+  public static final String QUANTITY_74_AS = "quantity74";
+
+  public static final String QUANTITY_74_CONCAT_TABLE_AS = "benchTable120Quantity74";
+
+  public static final String UPDATE_TIME_75 = "`bench`.`bench_table_120`.update_time_75";
+
+  public static final String UPDATE_TIME_75_AS = "updateTime75";
+
+  public static final String UPDATE_TIME_75_CONCAT_TABLE_AS = "benchTable120UpdateTime75";
+
+  public static final String AMOUNT_76 = "`bench`.`bench_table_120`.amount_76";
+
+  public static final String AMOUNT_76_AS = "amount76";
+
+  public static final String AMOUNT_76_CONCAT_TABLE_AS = "benchTable120Amount76";
+
+  public static final String REF_ID_77 = "`bench`.`bench_table_120`.ref_id_77";
+
+  public static final String REF_ID_77_AS = "refId77";
+
+  public static final String REF_ID_77_CONCAT_TABLE_AS = "benchTable120RefId77";
+
+  public static final String STATUS_78 = "`bench`.`bench_table_120`.status_78";
+
+  public static final String STATUS_78_AS = "status78";
+
+  public static final String STATUS_78_CONCAT_TABLE_AS = "benchTable120Status78";
+
+  public static final String NAME_79 = "`bench`.`bench_table_120`.name_79";
+
+  public static final String NAME_79_AS = "name79";
+
+  public static final String NAME_79_CONCAT_TABLE_AS = "benchTable120Name79";
+
+  public static final String QUANTITY_80 = "`bench`.`bench_table_120`.quantity_80";
+
+  public static final String QUANTITY_80_AS = "quantity80";
+
+  public static final String QUANTITY_80_CONCAT_TABLE_AS = "benchTable120Quantity80";
+
+  public static final String UPDATE_TIME_81 = "`bench`.`bench_table_120`.update_time_81";
+
+  public static final String UPDATE_TIME_81_AS = "updateTime81";
+
+  public static final String UPDATE_TIME_81_CONCAT_TABLE_AS = "benchTable120UpdateTime81";
+
+  public static final String AMOUNT_82 = "`bench`.`bench_table_120`.amount_82";
+
+  public static final String AMOUNT_82_AS = "amount82";
+
+  public static final String AMOUNT_82_CONCAT_TABLE_AS = "benchTable120Amount82";
+
+  public static final String REF_ID_83 = "`bench`.`bench_table_120`.ref_id_83";
+
+  public static final String REF_ID_83_AS = "refId83";
+
+  public static final String REF_ID_83_CONCAT_TABLE_AS = "benchTable120RefId83";
+
+  public static final String STATUS_84 = "`bench`.`bench_table_120`.status_84";
+
+  public static final String STATUS_84_AS = "status84";
+
+  public static final String STATUS_84_CONCAT_TABLE_AS = "benchTable120Status84";
+
+  public static final String NAME_85 = "`bench`.`bench_table_120`.name_85";
+
+  public static final String NAME_85_AS = "name85";
+
+  public static final String NAME_85_CONCAT_TABLE_AS = "benchTable120Name85";
+
+  public static final String QUANTITY_86 = "`bench`.`bench_table_120`.quantity_86";
+
+  public static final String QUANTITY_86_AS = "quantity86";
+
+  public static final String QUANTITY_86_CONCAT_TABLE_AS = "benchTable120Quantity86";
+
+  public static final String UPDATE_TIME_87 = "`bench`.`bench_table_120`.update_time_87";
+
+  public static final String UPDATE_TIME_87_AS = "updateTime87";
+
+  public static final String UPDATE_TIME_87_CONCAT_TABLE_AS = "benchTable120UpdateTime87";
+
+  public static final String AMOUNT_88 = "`bench`.`bench_table_120`.amount_88";
+
+  public static final String AMOUNT_88_AS = "amount88";
+
+  public static final String AMOUNT_88_CONCAT_TABLE_AS = "benchTable120Amount88";
+
+  public static final String REF_ID_89 = "`bench`.`bench_table_120`.ref_id_89";
+
+  public static final String REF_ID_89_AS = "refId89";
+
+  public static final String REF_ID_89_CONCAT_TABLE_AS = "benchTable120RefId89";
+
+  public static final String STATUS_90 = "`bench`.`bench_table_120`.status_90";
+
+  public static final String STATUS_90_AS = "status90";
+
+  public static final String STATUS_90_CONCAT_TABLE_AS = "benchTable120Status90";
+
+  public static final String NAME_91 = "`bench`.`bench_table_120`.name_91";
+
+  public static final String NAME_91_AS = "name91";
+
+  public static final String NAME_91_CONCAT_TABLE_AS = "benchTable120Name91";
+
+  public static final String QUANTITY_92 = "`bench`.`bench_table_120`.quantity_92";
+
+  public static final String QUANTITY_92_AS = "quantity92";
+
+  public static final String QUANTITY_92_CONCAT_TABLE_AS = "benchTable120Quantity92";
+
+  public static final String UPDATE_TIME_93 = "`bench`.`bench_table_120`.update_time_93";
+
+  public static final String UPDATE_TIME_93_AS = "updateTime93";
+
+  public static final String UPDATE_TIME_93_CONCAT_TABLE_AS = "benchTable120UpdateTime93";
+
+  public static final String AMOUNT_94 = "`bench`.`bench_table_120`.amount_94";
+
+  public static final String AMOUNT_94_AS = "amount94";
+
+  public static final String AMOUNT_94_CONCAT_TABLE_AS = "benchTable120Amount94";
+
+  public static final String REF_ID_95 = "`bench`.`bench_table_120`.ref_id_95";
+
+  public static final String REF_ID_95_AS = "refId95";
+
+  public static final String REF_ID_95_CONCAT_TABLE_AS = "benchTable120RefId95";
+
+  public static final String STATUS_96 = "`bench`.`bench_table_120`.status_96";
+
+  public static final String STATUS_96_AS = "status96";
+
+  public static final String STATUS_96_CONCAT_TABLE_AS = "benchTable120Status96";
+
+  public static final String NAME_97 = "`bench`.`bench_table_120`.name_97";
+
+  public static final String NAME_97_AS = "name97";
+
+  public static final String NAME_97_CONCAT_TABLE_AS = "benchTable120Name97";
+
+  public static final String QUANTITY_98 = "`bench`.`bench_table_120`.quantity_98";
+
+  public static final String QUANTITY_98_AS = "quantity98";
+
+  public static final String QUANTITY_98_CONCAT_TABLE_AS = "benchTable120Quantity98";
+
+  public static final String UPDATE_TIME_99 = "`bench`.`bench_table_120`.update_time_99";
+
+  public static final String UPDATE_TIME_99_AS = "updateTime99";
+
+  public static final String UPDATE_TIME_99_CONCAT_TABLE_AS = "benchTable120UpdateTime99";
+
+  public static final String AMOUNT_100 = "`bench`.`bench_table_120`.amount_100";
+
+  public static final String AMOUNT_100_AS = "amount100";
+
+  public static final String AMOUNT_100_CONCAT_TABLE_AS = "benchTable120Amount100";
+
+  public static final String REF_ID_101 = "`bench`.`bench_table_120`.ref_id_101";
+
+  public static final String REF_ID_101_AS = "refId101";
+
+  public static final String REF_ID_101_CONCAT_TABLE_AS = "benchTable120RefId101";
+
+  public static final String STATUS_102 = "`bench`.`bench_table_120`.status_102";
+
+  public static final String STATUS_102_AS = "status102";
+
+  public static final String STATUS_102_CONCAT_TABLE_AS = "benchTable120Status102";
+
+  public static final String NAME_103 = "`bench`.`bench_table_120`.name_103";
+
+  public static final String NAME_103_AS = "name103";
+
+  public static final String NAME_103_CONCAT_TABLE_AS = "benchTable120Name103";
+
+  public static final String QUANTITY_104 = "`bench`.`bench_table_120`.quantity_104";
+
+  public static final String QUANTITY_104_AS = "quantity104";
+
+  public static final String QUANTITY_104_CONCAT_TABLE_AS = "benchTable120Quantity104";
+
+  public static final String UPDATE_TIME_105 = "`bench`.`bench_table_120`.update_time_105";
+
+  public static final String UPDATE_TIME_105_AS = "updateTime105";
+
+  public static final String UPDATE_TIME_105_CONCAT_TABLE_AS = "benchTable120UpdateTime105";
+
+  public static final String AMOUNT_106 = "`bench`.`bench_table_120`.amount_106";
+
+  public static final String AMOUNT_106_AS = "amount106";
+
+  public static final String AMOUNT_106_CONCAT_TABLE_AS = "benchTable120Amount106";
+
+  public static final String REF_ID_107 = "`bench`.`bench_table_120`.ref_id_107";
+
+  public static final String REF_ID_107_AS = "refId107";
+
+  public static final String REF_ID_107_CONCAT_TABLE_AS = "benchTable120RefId107";
+
+  public static final String STATUS_108 = "`bench`.`bench_table_120`.status_108";
+
+  public static final String STATUS_108_AS = "status108";
+
+  public static final String STATUS_108_CONCAT_TABLE_AS = "benchTable120Status108";
+
+  public static final String NAME_109 = "`bench`.`bench_table_120`.name_109";
+
+  public static final String NAME_109_AS = "name109";
+
+  public static final String NAME_109_CONCAT_TABLE_AS = "benchTable120Name109";
+
+  public static final String QUANTITY_110 = "`bench`.`bench_table_120`.quantity_110";
+
+  public static final String QUANTITY_110_AS = "quantity110";
+
+  public static final String QUANTITY_110_CONCAT_TABLE_AS = "benchTable120Quantity110";
+
+  public static final String UPDATE_TIME_111 = "`bench`.`bench_table_120`.update_time_111";
+
+  public static final String UPDATE_TIME_111_AS = "updateTime111";
+
+  public static final String UPDATE_TIME_111_CONCAT_TABLE_AS = "benchTable120UpdateTime111";
+
+  public static final String AMOUNT_112 = "`bench`.`bench_table_120`.amount_112";
+
+  public static final String AMOUNT_112_AS = "amount112";
+
+  public static final String AMOUNT_112_CONCAT_TABLE_AS = "benchTable120Amount112";
+
+  public static final String REF_ID_113 = "`bench`.`bench_table_120`.ref_id_113";
+
+  public static final String REF_ID_113_AS = "refId113";
+
+  public static final String REF_ID_113_CONCAT_TABLE_AS = "benchTable120RefId113";
+
+  public static final String STATUS_114 = "`bench`.`bench_table_120`.status_114";
+
+  public static final String STATUS_114_AS = "status114";
+
+  public static final String STATUS_114_CONCAT_TABLE_AS = "benchTable120Status114";
+
+  public static final String NAME_115 = "`bench`.`bench_table_120`.name_115";
+
+  public static final String NAME_115_AS = "name115";
+
+  public static final String NAME_115_CONCAT_TABLE_AS = "benchTable120Name115";
+
+  public static final String QUANTITY_116 = "`bench`.`bench_table_120`.quantity_116";
+
+  public static final String QUANTITY_116_AS = "quantity116";
+
+  public static final String QUANTITY_116_CONCAT_TABLE_AS = "benchTable120Quantity116";
+
+  public static final String UPDATE_TIME_117 = "`bench`.`bench_table_120`.update_time_117";
+
+  public static final String UPDATE_TIME_117_AS = "updateTime117";
+
+  public static final String UPDATE_TIME_117_CONCAT_TABLE_AS = "benchTable120UpdateTime117";
+
+  public static final String AMOUNT_118 = "`bench`.`bench_table_120`.amount_118";
+
+  public static final String AMOUNT_118_AS = "amount118";
+
+  public static final String AMOUNT_118_CONCAT_TABLE_AS = "benchTable120Amount118";
+
+  public static final String REF_ID_119 = "`bench`.`bench_table_120`.ref_id_119";
+
+  public static final String REF_ID_119_AS = "refId119";
+
+  public static final String REF_ID_119_CONCAT_TABLE_AS = "benchTable120RefId119";
+}
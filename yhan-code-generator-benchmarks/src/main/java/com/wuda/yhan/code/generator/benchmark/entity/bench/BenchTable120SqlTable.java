@@ -0,0 +1,257 @@
+package com.wuda.yhan.code.generator.benchmark.entity.bench;
+
+import java.lang.Integer;
+import java.lang.Long;
+import java.lang.String;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import org.mybatis.dynamic.sql.SqlColumn;
+import org.mybatis.dynamic.sql.SqlTable;
+
+public final class BenchTable120SqlTable extends SqlTable {
+  public static final BenchTable120SqlTable instance = new BenchTable120SqlTable();
+
+  public final SqlColumn<Long> ID = column(com.wuda.yhan.code.generator.benchmark.entity.bench.BenchTable120MetaInfo.ID);
+
+  public final SqlColumn<String> NAME_1 = column(com.wuda.yhan.code.generator.benchmark.entity.bench.BenchTable120MetaInfo.NAME_1);
+
+  public final SqlColumn<Integer> QUANTITY_2 = column(com.wuda.yhan.code.generator.benchmark.entity.bench.BenchTable120MetaInfo.QUANTITY_2);
+
+  public final SqlColumn<Timestamp> UPDATE_TIME_3 = column(com.wuda.yhan.code.generator.benchmark.entity.bench.BenchTable120MetaInfo.UPDATE_TIME_3);
+
+  public final SqlColumn<BigDecimal> AMOUNT_4 = column(com.wuda.yhan.code.generator.benchmark.entity.bench.BenchTable120MetaInfo.AMOUNT_4);
+
+  public final SqlColumn<Long> REF_ID_5 = column(com.wuda.yhan.code.generator.benchmark.entity.bench.BenchTable120MetaInfo.REF_ID_5);
+
+  public final SqlColumn<Integer> STATUS_6 = column(com.wuda.yhan.code.generator.benchmark.entity.bench.BenchTable120MetaInfo.STATUS_6);
+
+  public final SqlColumn<String> NAME_7 = column(com.wuda.yhan.code.generator.benchmark.entity.bench.BenchTable120MetaInfo.NAME_7);
+
+  public final SqlColumn<Integer> QUANTITY_8 = column(com.wuda.yhan.code.generator.benchmark.entity.bench.BenchTable120MetaInfo.QUANTITY_8);
+
+  public final SqlColumn<Timestamp> UPDATE_TIME_9 = column(com.wuda.yhan.code.generator.benchmark.entity.bench.BenchTable120MetaInfo.UPDATE_TIME_9);
+
+  public final SqlColumn<BigDecimal> AMOUNT_10 = column(com.wuda.yhan.code.generator.benchmark.entity.bench.BenchTable120MetaInfo.AMOUNT_10);
+
+  public final SqlColumn<Long> REF_ID_11 = column(com.wuda.yhan.code.generator.benchmark.entity.bench.BenchTable120MetaInfo.REF_ID_11);
+
+  public final SqlColumn<Integer> STATUS_12 = column(com.wuda.yhan.code.generator.benchmark.entity.bench.BenchTable120MetaInfo.STATUS_12);
+
+  public final SqlColumn<String> NAME_13 = column(com.wuda.yhan.code.generator.benchmark.entity.bench.BenchTable120MetaInfo.NAME_13);
+
+  public final SqlColumn<Integer> QUANTITY_14 = column(com.wuda.yhan.code.generator.benchmark.entity.bench.BenchTable120MetaInfo.QUANTITY_14);
+
+  public final SqlColumn<Timestamp> UPDATE_TIME_15 = column(com.wuda.yhan.code.generator.benchmark.entity.bench.BenchTable120MetaInfo.UPDATE_TIME_15);
+
+  public final SqlColumn<BigDecimal> AMOUNT_16 = column(com.wuda.yhan.code.generator.benchmark.entity.bench.BenchTable120MetaInfo.AMOUNT_16);
+
+  public final SqlColumn<Long> REF_ID_17 = column(com.wuda.yhan.code.generator.benchmark.entity.bench.BenchTable120MetaInfo.REF_ID_17);
+
+  public final SqlColumn<Integer> STATUS_18 = column(com.wuda.yhan.code.generator.benchmark.entity.bench.BenchTable120MetaInfo.STATUS_18);
+
+  public final SqlColumn<String> NAME_19 = column(com.wuda.yhan.code.generator.benchmark.entity.bench.BenchTable120MetaInfo.NAME_19);
+
+  public final SqlColumn<Integer> QUANTITY_20 = column(com.wuda.yhan.code.generator.benchmark.entity.bench.BenchTable120MetaInfo.QUANTITY_20);
+
+  public final SqlColumn<Timestamp> UPDATE_TIME_21 = column(com.wuda.yhan.code.generator.benchmark.entity.bench.BenchTable120MetaInfo.UPDATE_TIME_21);
+
+  public final SqlColumn<BigDecimal> AMOUNT_22 = column(com.wuda.yhan.code.generator.benchmark.entity.bench.BenchTable120MetaInfo.AMOUNT_22);
+
+  public final SqlColumn<Long> REF_ID_23 = column(com.wuda.yhan.code.generator.benchmark.entity.bench.BenchTable120MetaInfo.REF_ID_23);
+
+  public final SqlColumn<Integer> STATUS_24 = column(com.wuda.yhan.code.generator.benchmark.entity.bench.BenchTable120MetaInfo.STATUS_24);
+
+  public final SqlColumn<String> NAME_25 = column(com.wuda.yhan.code.generator.benchmark.entity.bench.BenchTable120MetaInfo.NAME_25);
+
+  public final SqlColumn<Integer> QUANTITY_26 = column(com.wuda.yhan.code.generator.benchmark.entity.bench.BenchTable120MetaInfo.QUANTITY_26);
+
+  public final SqlColumn<Timestamp> UPDATE_TIME_27 = column(com.wuda.yhan.code.generator.benchmark.entity.bench.BenchTable120MetaInfo.UPDATE_TIME_27);
+
+  public final SqlColumn<BigDecimal> AMOUNT_28 = column(com.wuda.yhan.code.generator.benchmark.entity.bench.BenchTable120MetaInfo.AMOUNT_28);
+
+  public final SqlColumn<Long> REF_ID_29 = column(com.wuda.yhan.code.generator.benchmark.entity.bench.BenchTable120MetaInfo.REF_ID_29);
+
+  public final SqlColumn<Integer> STATUS_30 = column(com.wuda.yhan.code.generator.benchmark.entity.bench.BenchTable120MetaInfo.STATUS_30);
+
+  public final SqlColumn<String> NAME_31 = column(com.wuda.yhan.code.generator.benchmark.entity.bench.BenchTable120MetaInfo.NAME_31);
+
+  public final SqlColumn<Integer> QUANTITY_32 = column(com.wuda.yhan.code.generator.benchmark.entity.bench.BenchTable120MetaInfo.QUANTITY_32);
+
+  public final SqlColumn<Timestamp> UPDATE_TIME_33 = column(com.wuda.yhan.code.generator.benchmark.entity.bench.BenchTable120MetaInfo.UPDATE_TIME_33);
+
+  public final SqlColumn<BigDecimal> AMOUNT_34 = column(com.wuda.yhan.code.generator.benchmark.entity.bench.BenchTable120MetaInfo.AMOUNT_34);
+
+  public final SqlColumn<Long> REF_ID_35 = column(com.wuda.yhan.code.generator.benchmark.entity.bench.BenchTable120MetaInfo.REF_ID_35);
+
+  public final SqlColumn<Integer> STATUS_36 = column(com.wuda.yhan.code.generator.benchmark.entity.bench.BenchTable120MetaInfo.STATUS_36);
+
+  public final SqlColumn<String> NAME_37 = column(com.wuda.yhan.code.generator.benchmark.entity.bench.BenchTable120MetaInfo.NAME_37);
+
+  public final SqlColumn<Integer> QUANTITY_38 = column(com.wuda.yhan.code.generator.benchmark.entity.bench.BenchTable120MetaInfo.QUANTITY_38);
+
+  public final SqlColumn<Timestamp> UPDATE_TIME_39 = column(com.wuda.yhan.code.generator.benchmark.entity.bench.BenchTable120MetaInfo.UPDATE_TIME_39);
+
+  public final SqlColumn<BigDecimal> AMOUNT_40 = column(com.wuda.yhan.code.generator.benchmark.entity.bench.BenchTable120MetaInfo.AMOUNT_40);
+
+  public final SqlColumn<Long> REF_ID_41 = column(com.wuda.yhan.code.generator.benchmark.entity.bench.BenchTable120MetaInfo.REF_ID_41);
+
+  public final SqlColumn<Integer> STATUS_42 = column(com.wuda.yhan.code.generator.benchmark.entity.bench.BenchTable120MetaInfo.STATUS_42);
+
+  public final SqlColumn<String> NAME_43 = column(com.wuda.yhan.code.generator.benchmark.entity.bench.BenchTable120MetaInfo.NAME_43);
+
+  public final SqlColumn<Integer> QUANTITY_44 = column(com.wuda.yhan.code.generator.benchmark.entity.bench.BenchTable120MetaInfo.QUANTITY_44);
+
+  public final SqlColumn<Timestamp> UPDATE_TIME_45 = column(com.wuda.yhan.code.generator.benchmark.entity.bench.BenchTable120MetaInfo.UPDATE_TIME_45);
+
+  public final SqlColumn<BigDecimal> AMOUNT_46 = column(com.wuda.yhan.code.generator.benchmark.entity.bench.BenchTable120MetaInfo.AMOUNT_46);
+
+  public final SqlColumn<Long> REF_ID_47 = column(com.wuda.yhan.code.generator.benchmark.entity.bench.BenchTable120MetaInfo.REF_ID_47);
+
+  public final SqlColumn<Integer> STATUS_48 = column(com.wuda.yhan.code.generator.benchmark.entity.bench.BenchTable120MetaInfo.STATUS_48);
+
+  public final SqlColumn<String> NAME_49 = column(com.wuda.yhan.code.generator.benchmark.entity.bench.BenchTable120MetaInfo.NAME_49);
+
+  public final SqlColumn<Integer> QUANTITY_50 = column(com.wuda.yhan.code.generator.benchmark.entity.bench.BenchTable120MetaInfo.QUANTITY_50);
+
+  public final SqlColumn<Timestamp> UPDATE_TIME_51 = column(com.wuda.yhan.code.generator.benchmark.entity.bench.BenchTable120MetaInfo.UPDATE_TIME_51);
+
+  public final SqlColumn<BigDecimal> AMOUNT_52 = column(com.wuda.yhan.code.generator.benchmark.entity.bench.BenchTable120MetaInfo.AMOUNT_52);
+
+  public final SqlColumn<Long> REF_ID_53 = column(com.wuda.yhan.code.generator.benchmark.entity.bench.BenchTable120MetaInfo.REF_ID_53);
+
+  public final SqlColumn<Integer> STATUS_54 = column(com.wuda.yhan.code.generator.benchmark.entity.bench.BenchTable120MetaInfo.STATUS_54);
+
+  public final SqlColumn<String> NAME_55 = column(com.wuda.yhan.code.generator.benchmark.entity.bench.BenchTable120MetaInfo.NAME_55);
+
+  public final SqlColumn<Integer> QUANTITY_56 = column(com.wuda.yhan.code.generator.benchmark.entity.bench.BenchTable120MetaInfo.QUANTITY_56);
+
+  public final SqlColumn<Timestamp> UPDATE_TIME_57 = column(com.wuda.yhan.code.generator.benchmark.entity.bench.BenchTable120MetaInfo.UPDATE_TIME_57);
+
+  public final SqlColumn<BigDecimal> AMOUNT_58 = column(com.wuda.yhan.code.generator.benchmark.entity.bench.BenchTable120MetaInfo.AMOUNT_58);
+
+  public final SqlColumn<Long> REF_ID_59 = column(com.wuda.yhan.code.generator.benchmark.entity.bench.BenchTable120MetaInfo.REF_ID_59);
+
+  public final SqlColumn<Integer> STATUS_60 = column(com.wuda.yhan.code.generator.benchmark.entity.bench.BenchTable120MetaInfo.STATUS_60);
+
+  public final SqlColumn<String> NAME_61 = column(com.wuda.yhan.code.generator.benchmark.entity.bench.BenchTable120MetaInfo.NAME_61);
+
+  public final SqlColumn<Integer> QUANTITY_62 = column(com.wuda.yhan.code.generator.benchmark.entity.bench.BenchTable120MetaInfo.QUANTITY_62);
+
+  public final SqlColumn<Timestamp> UPDATE_TIME_63 = column(com.wuda.yhan.code.generator.benchmark.entity.bench.BenchTable120MetaInfo.UPDATE_TIME_63);
+
+  public final SqlColumn<BigDecimal> AMOUNT_64 = column(com.wuda.yhan.code.generator.benchmark.entity.bench.BenchTable120MetaInfo.AMOUNT_64);
+
+  public final SqlColumn<Long> REF_ID_65 = column(com.wuda.yhan.code.generator.benchmark.entity.bench.BenchTable120MetaInfo.REF_ID_65);
+
+  public final SqlColumn<Integer> STATUS_66 = column(com.wuda.yhan.code.generator.benchmark.entity.bench.BenchTable120MetaInfo.STATUS_66);
+
+  public final SqlColumn<String> NAME_67 = column(com.wuda.yhan.code.generator.benchmark.entity.bench.BenchTable120MetaInfo.NAME_67);
+
+  public final SqlColumn<Integer> QUANTITY_68 = column(com.wuda.yhan.code.generator.benchmark.entity.bench.BenchTable120MetaInfo.QUANTITY_68);
+
+  public final SqlColumn<Timestamp> UPDATE_TIME_69 = column(com.wuda.yhan.code.generator.benchmark.entity.bench.BenchTable120MetaInfo.UPDATE_TIME_69);
+
+  public final SqlColumn<BigDecimal> AMOUNT_70 = column(com.wuda.yhan.code.generator.benchmark.entity.bench.BenchTable120MetaInfo.AMOUNT_70);
+
+  public final SqlColumn<Long> REF_ID_71 = column(com.wuda.yhan.code.generator.benchmark.entity.bench.BenchTable120MetaInfo.REF_ID_71);
+
+  public final SqlColumn<Integer> STATUS_72 = column(com.wuda.yhan.code.generator.benchmark.entity.bench.BenchTable120MetaInfo.STATUS_72);
+
+  public final SqlColumn<String> NAME_73 = column(com.wuda.yhan.code.generator.benchmark.entity.bench.BenchTable120MetaInfo.NAME_73);
+
+  public final SqlColumn<Integer> QUANTITY_74 = column(com.wuda.yhan.code.generator.benchmark.entity.bench.BenchTable120MetaInfo.QUANTITY_74);
+
+  public final SqlColumn<Timestamp> UPDATE_TIME_75 = column(com.wuda.yhan.code.generator.benchmark.entity.bench.BenchTable120MetaInfo.UPDATE_TIME_75);
+
+  public final SqlColumn<BigDecimal> AMOUNT_76 = column(com.wuda.yhan.code.generator.benchmark.entity.bench.BenchTable120MetaInfo.AMOUNT_76);
+
+  public final SqlColumn<Long> REF_ID_77 = column(com.wuda.yhan.code.generator.benchmark.entity.bench.BenchTable120MetaInfo.REF_ID_77);
+
+  public final SqlColumn<Integer> STATUS_78 = column(com.wuda.yhan.code.generator.benchmark.entity.bench.BenchTable120MetaInfo.STATUS_78);
+
+  public final SqlColumn<String> NAME_79 = column(com.wuda.yhan.code.generator.benchmark.entity.bench.BenchTable120MetaInfo.NAME_79);
+
+  public final SqlColumn<Integer> QUANTITY_80 = column(com.wuda.yhan.code.generator.benchmark.entity.bench.BenchTable120MetaInfo.QUANTITY_80);
+
+  public final SqlColumn<Timestamp> UPDATE_TIME_81 = column(com.wuda.yhan.code.generator.benchmark.entity.bench.BenchTable120MetaInfo.UPDATE_TIME_81);
+
+  public final SqlColumn<BigDecimal> AMOUNT_82 = column(com.wuda.yhan.code.generator.benchmark.entity.bench.BenchTable120MetaInfo.AMOUNT_82);
+
+  public final SqlColumn<Long> REF_ID_83 = column(com.wuda.yhan.code.generator.benchmark.entity.bench.BenchTable120MetaInfo.REF_ID_83);
+
+  public final SqlColumn<Integer> STATUS_84 = column(com.wuda.yhan.code.generator.benchmark.entity.bench.BenchTable120MetaInfo.STATUS_84);
+
+  public final SqlColumn<String> NAME_85 = column(com.wuda.yhan.code.generator.benchmark.entity.bench.BenchTable120MetaInfo.NAME_85);
+
+  public final SqlColumn<Integer> QUANTITY_86 = column(com.wuda.yhan.code.generator.benchmark.entity.bench.BenchTable120MetaInfo.QUANTITY_86);
+
+  public final SqlColumn<Timestamp> UPDATE_TIME_87 = column(com.wuda.yhan.code.generator.benchmark.entity.bench.BenchTable120MetaInfo.UPDATE_TIME_87);
+
+  public final SqlColumn<BigDecimal> AMOUNT_88 = column(com.wuda.yhan.code.generator.benchmark.entity.bench.BenchTable120MetaInfo.AMOUNT_88);
+
+  public final SqlColumn<Long> REF_ID_89 = column(com.wuda.yhan.code.generator.benchmark.entity.bench.BenchTable120MetaInfo.REF_ID_89);
+
+  public final SqlColumn<Integer> STATUS_90 = column(com.wuda.yhan.code.generator.benchmark.entity.bench.BenchTable120MetaInfo.STATUS_90);
+
+  public final SqlColumn<String> NAME_91 = column(com.wuda.yhan.code.generator.benchmark.entity.bench.BenchTable120MetaInfo.NAME_91);
+
+  public final SqlColumn<Integer> QUANTITY_92 = column(com.wuda.yhan.code.generator.benchmark.entity.bench.BenchTable120MetaInfo.QUANTITY_92);
+
+  public final SqlColumn<Timestamp> UPDATE_TIME_93 = column(com.wuda.yhan.code.generator.benchmark.entity.bench.BenchTable120MetaInfo.UPDATE_TIME_93);
+
+  public final SqlColumn<BigDecimal> AMOUNT_94 = column(com.wuda.yhan.code.generator.benchmark.entity.bench.BenchTable120MetaInfo.AMOUNT_94);
+
+  public final SqlColumn<Long> REF_ID_95 = column(com.wuda.yhan.code.generator.benchmark.entity.bench.BenchTable120MetaInfo.REF_ID_95);
+
+  public final SqlColumn<Integer> STATUS_96 = column(com.wuda.yhan.code.generator.benchmark.entity.bench.BenchTable120MetaInfo.STATUS_96);
+
+  public final SqlColumn<String> NAME_97 = column(com.wuda.yhan.code.generator.benchmark.entity.bench.BenchTable120MetaInfo.NAME_97);
+
+  public final SqlColumn<Integer> QUANTITY_98 = column(com.wuda.yhan.code.generator.benchmark.entity.bench.BenchTable120MetaInfo.QUANTITY_98);
+
+  public final SqlColumn<Timestamp> UPDATE_TIME_99 = column(com.wuda.yhan.code.generator.benchmark.entity.bench.BenchTable120MetaInfo.UPDATE_TIME_99);
+
+  public final SqlColumn<BigDecimal> AMOUNT_100 = column(com.wuda.yhan.code.generator.benchmark.entity.bench.BenchTable120MetaInfo.AMOUNT_100);
+
+  public final SqlColumn<Long> REF_ID_101 = column(com.wuda.yhan.code.generator.benchmark.entity.bench.BenchTable120MetaInfo.REF_ID_101);
+
+  public final SqlColumn<Integer> STATUS_102 = column(com.wuda.yhan.code.generator.benchmark.entity.bench.BenchTable120MetaInfo.STATUS_102);
+
+  public final SqlColumn<String> NAME_103 = column(com.wuda.yhan.code.generator.benchmark.entity.bench.BenchTable120MetaInfo.NAME_103);
+
+  public final SqlColumn<Integer> QUANTITY_104 = column(com.wuda.yhan.code.generator.benchmark.entity.bench.BenchTable120MetaInfo.QUANTITY_104);
+
+  public final SqlColumn<Timestamp> UPDATE_TIME_105 = column(com.wuda.yhan.code.generator.benchmark.entity.bench.BenchTable120MetaInfo.UPDATE_TIME_105);
+
+  public final SqlColumn<BigDecimal> AMOUNT_106 = column(com.wuda.yhan.code.generator.benchmark.entity.bench.BenchTable120MetaInfo.AMOUNT_106);
+
+  public final SqlColumn<Long> REF_ID_107 = column(com.wuda.yhan.code.generator.benchmark.entity.bench.BenchTable120MetaInfo.REF_ID_107);
+
+  public final SqlColumn<Integer> STATUS_108 = column(com.wuda.yhan.code.generator.benchmark.entity.bench.BenchTable120MetaInfo.STATUS_108);
+
+  public final SqlColumn<String> NAME_109 = column(com.wuda.yhan.code.generator.benchmark.entity.bench.BenchTable120MetaInfo.NAME_109);
+
+  public final SqlColumn<Integer> QUANTITY_110 = column(com.wuda.yhan.code.generator.benchmark.entity.bench.BenchTable120MetaInfo.QUANTITY_110);
+
+  public final SqlColumn<Timestamp> UPDATE_TIME_111 = column(com.wuda.yhan.code.generator.benchmark.entity.bench.BenchTable120MetaInfo.UPDATE_TIME_111);
+
+  public final SqlColumn<BigDecimal> AMOUNT_112 = column(com.wuda.yhan.code.generator.benchmark.entity.bench.BenchTable120MetaInfo.AMOUNT_112);
+
+  public final SqlColumn<Long> REF_ID_113 = column(com.wuda.yhan.code.generator.benchmark.entity.bench.BenchTable120MetaInfo.REF_ID_113);
+
+  public final SqlColumn<Integer> STATUS_114 = column(com.wuda.yhan.code.generator.benchmark.entity.bench.BenchTable120MetaInfo.STATUS_114);
+
+  public final SqlColumn<String> NAME_115 = column(com.wuda.yhan.code.generator.benchmark.entity.bench.BenchTable120MetaInfo.NAME_115);
+
+  public final SqlColumn<Integer> QUANTITY_116 = column(com.wuda.yhan.code.generator.benchmark.entity.bench.BenchTable120MetaInfo.QUANTITY_116);
+
+  public final SqlColumn<Timestamp> UPDATE_TIME_117 = column(com.wuda.yhan.code.generator.benchmark.entity.bench.BenchTable120MetaInfo.UPDATE_TIME_117);
+
+  public final SqlColumn<BigDecimal> AMOUNT_118 = column(com.wuda.yhan.code.generator.benchmark.entity.bench.BenchTable120MetaInfo.AMOUNT_118);
+
+  public final SqlColumn<Long> REF_ID_119 = column(com.wuda.yhan.code.generator.benchmark.entity.bench.BenchTable120MetaInfo.REF_ID_119);
+
+  public BenchTable120SqlTable() {
+    super(com.wuda.yhan.code.generator.benchmark.entity.bench.BenchTable120MetaInfo.TABLE);
+  }
+}
@@ -0,0 +1,417 @@
+package com.wuda.yhan.code.generator.benchmark.entity.bench;
+
+import com.wuda.yhan.code.generator.lang.TableEntity;
+import java.io.Serializable;
+import java.lang.Integer;
+import java.lang.Long;
+import java.lang.Override;
+import java.lang.String;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.Arrays;
+
+public final class BenchTable30 implements TableEntity, Serializable {
+  private Long id;
+
+  private String name1;
+
+  private Integer quantity2;
+
+  private Timestamp updateTime3;
+
+  private BigDecimal amount4;
+
+  private Long refId5;
+
+  private Integer status6;
+
+  private String name7;
+
+  private Integer quantity8;
+
+  private Timestamp updateTime9;
+
+  private BigDecimal amount10;
+
+  private Long refId11;
+
+  private Integer status12;
+
+  private String name13;
+
+  private Integer quantity14;
+
+  private Timestamp updateTime15;
+
+  private BigDecimal amount16;
+
+  private Long refId17;
+
+  private Integer status18;
+
+  private String name19;
+
+  private Integer quantity20;
+
+  private Timestamp updateTime21;
+
+  private BigDecimal amount22;
+
+  private Long refId23;
+
+  private Integer status24;
+
+  private String name25;
+
+  private Integer quantity26;
+
+  private Timestamp updateTime27;
+
+  private BigDecimal amount28;
+
+  private Long refId29;
+
+  private long[] dirtyFieldMask = new long[1];
+
+  public Long getId() {
+    return id;
+  }
+
+  public void setId(Long id) {
+    this.id=id;
+    if (dirtyFieldMask != null) {
+      dirtyFieldMask[0] |= 1L << 0;
+    }
+  }
+
+  public String getName1() {
+    return name1;
+  }
+
+  public void setName1(String name1) {
+    this.name1=name1;
+    if (dirtyFieldMask != null) {
+      dirtyFieldMask[0] |= 1L << 1;
+    }
+  }
+
+  public Integer getQuantity2() {
+    return quantity2;
+  }
+
+  public void setQuantity2(Integer quantity2) {
+    this.quantity2=quantity2;
+    if (dirtyFieldMask != null) {
+      dirtyFieldMask[0] |= 1L << 2;
+    }
+  }
+
+  public Timestamp getUpdateTime3() {
+    return updateTime3;
+  }
+
+  public void setUpdateTime3(Timestamp updateTime3) {
+    this.updateTime3=updateTime3;
+    if (dirtyFieldMask != null) {
+      dirtyFieldMask[0] |= 1L << 3;
+    }
+  }
+
+  public BigDecimal getAmount4() {
+    return amount4;
+  }
+
+  public void setAmount4(BigDecimal amount4) {
+    this.amount4=amount4;
+    if (dirtyFieldMask != null) {
+      dirtyFieldMask[0] |= 1L << 4;
+    }
+  }
+
+  public Long getRefId5() {
+    return refId5;
+  }
+
+  public void setRefId5(Long refId5) {
+    this.refId5=refId5;
+    if (dirtyFieldMask != null) {
+      dirtyFieldMask[0] |= 1L << 5;
+    }
+  }
+
+  public Integer getStatus6() {
+    return status6;
+  }
+
+  public void setStatus6(Integer status6) {
+    this.status6=status6;
+    if (dirtyFieldMask != null) {
+      dirtyFieldMask[0] |= 1L << 6;
+    }
+  }
+
+  public String getName7() {
+    return name7;
+  }
+
+  public void setName7(String name7) {
+    this.name7=name7;
+    if (dirtyFieldMask != null) {
+      dirtyFieldMask[0] |= 1L << 7;
+    }
+  }
+
+  public Integer getQuantity8() {
+    return quantity8;
+  }
+
+  public void setQuantity8(Integer quantity8) {
+    this.quantity8=quantity8;
+    if (dirtyFieldMask != null) {
+      dirtyFieldMask[0] |= 1L << 8;
+    }
+  }
+
+  public Timestamp getUpdateTime9() {
+    return updateTime9;
+  }
+
+  public void setUpdateTime9(Timestamp updateTime9) {
+    this.updateTime9=updateTime9;
+    if (dirtyFieldMask != null) {
+      dirtyFieldMask[0] |= 1L << 9;
+    }
+  }
+
+  public BigDecimal getAmount10() {
+    return amount10;
+  }
+
+  public void setAmount10(BigDecimal amount10) {
+    this.amount10=amount10;
+    if (dirtyFieldMask != null) {
+      dirtyFieldMask[0] |= 1L << 10;
+    }
+  }
+
+  public Long getRefId11() {
+    return refId11;
+  }
+
+  public void setRefId11(Long refId11) {
+    this.refId11=refId11;
+    if (dirtyFieldMask != null) {
+      dirtyFieldMask[0] |= 1L << 11;
+    }
+  }
+
+  public Integer getStatus12() {
+    return status12;
+  }
+
+  public void setStatus12(Integer status12) {
+    this.status12=status12;
+    if (dirtyFieldMask != null) {
+      dirtyFieldMask[0] |= 1L << 12;
+    }
+  }
+
+  public String getName13() {
+    return name13;
+  }
+
+  public void setName13(String name13) {
+    this.name13=name13;
+    if (dirtyFieldMask != null) {
+      dirtyFieldMask[0] |= 1L << 13;
+    }
+  }
+
+  public Integer getQuantity14() {
+    return quantity14;
+  }
+
+  public void setQuantity14(Integer quantity14) {
+    this.quantity14=quantity14;
+    if (dirtyFieldMask != null) {
+      dirtyFieldMask[0] |= 1L << 14;
+    }
+  }
+
+  public Timestamp getUpdateTime15() {
+    return updateTime15;
+  }
+
+  public void setUpdateTime15(Timestamp updateTime15) {
+    this.updateTime15=updateTime15;
+    if (dirtyFieldMask != null) {
+      dirtyFieldMask[0] |= 1L << 15;
+    }
+  }
+
+  public BigDecimal getAmount16() {
+    return amount16;
+  }
+
+  public void setAmount16(BigDecimal amount16) {
+    this.amount16=amount16;
+    if (dirtyFieldMask != null) {
+      dirtyFieldMask[0] |= 1L << 16;
+    }
+  }
+
+  public Long getRefId17() {
+    return refId17;
+  }
+
+  public void setRefId17(Long refId17) {
+    this.refId17=refId17;
+    if (dirtyFieldMask != null) {
+      dirtyFieldMask[0] |= 1L << 17;
+    }
+  }
+
+  public Integer getStatus18() {
+    return status18;
+  }
+
+  public void setStatus18(Integer status18) {
+    this.status18=status18;
+    if (dirtyFieldMask != null) {
+      dirtyFieldMask[0] |= 1L << 18;
+    }
+  }
+
+  public String getName19() {
+    return name19;
+  }
+
+  public void setName19(String name19) {
+    this.name19=name19;
+    if (dirtyFieldMask != null) {
+      dirtyFieldMask[0] |= 1L << 19;
+    }
+  }
+
+  public Integer getQuantity20() {
+    return quantity20;
+  }
+
+  public void setQuantity20(Integer quantity20) {
+    this.quantity20=quantity20;
+    if (dirtyFieldMask != null) {
+      dirtyFieldMask[0] |= 1L << 20;
+    }
+  }
+
+  public Timestamp getUpdateTime21() {
+    return updateTime21;
+  }
+
+  public void setUpdateTime21(Timestamp updateTime21) {
+    this.updateTime21=updateTime21;
+    if (dirtyFieldMask != null) {
+      dirtyFieldMask[0] |= 1L << 21;
+    }
+  }
+
+  public BigDecimal getAmount22() {
+    return amount22;
+  }
+
+  public void setAmount22(BigDecimal amount22) {
+    this.amount22=amount22;
+    if (dirtyFieldMask != null) {
+      dirtyFieldMask[0] |= 1L << 22;
+    }
+  }
+
+  public Long getRefId23() {
+    return refId23;
+  }
+
+  public void setRefId23(Long refId23) {
+    this.refId23=refId23;
+    if (dirtyFieldMask != null) {
+      dirtyFieldMask[0] |= 1L << 23;
+    }
+  }
+
+  public Integer getStatus24() {
+    return status24;
+  }
+
+  public void setStatus24(Integer status24) {
+    this.status24=status24;
+    if (dirtyFieldMask != null) {
+      dirtyFieldMask[0] |= 1L << 24;
+    }
+  }
+
+  public String getName25() {
+    return name25;
+  }
+
+  public void setName25(String name25) {
+    this.name25=name25;
+    if (dirtyFieldMask != null) {
+      dirtyFieldMask[0] |= 1L << 25;
+    }
+  }
+
+  public Integer getQuantity26() {
+    return quantity26;
+  }
+
+  public void setQuantity26(Integer quantity26) {
+    this.quantity26=quantity26;
+    if (dirtyFieldMask != null) {
+      dirtyFieldMask[0] |= 1L << 26;
+    }
+  }
+
+  public Timestamp getUpdateTime27() {
+    return updateTime27;
+  }
+
+  public void setUpdateTime27(Timestamp updateTime27) {
+    this.updateTime27=updateTime27;
+    if (dirtyFieldMask != null) {
+      dirtyFieldMask[0] |= 1L << 27;
+    }
+  }
+
+  public BigDecimal getAmount28() {
+    return amount28;
+  }
+
+  public void setAmount28(BigDecimal amount28) {
+    this.amount28=amount28;
+    if (dirtyFieldMask != null) {
+      dirtyFieldMask[0] |= 1L << 28;
+    }
+  }
+
+  public Long getRefId29() {
+    return refId29;
+  }
+
+  public void setRefId29(Long refId29) {
+    this.refId29=refId29;
+    if (dirtyFieldMask != null) {
+      dirtyFieldMask[0] |= 1L << 29;
+    }
+  }
+
+  @Override
+  public long[] dirtyFieldMask() {
+    return dirtyFieldMask;
+  }
+
+  @Override
+  public void clearDirtyFieldMask() {
+    if (dirtyFieldMask != null) {
+      Arrays.fill(dirtyFieldMask, 0L);
+    }
+  }
+}
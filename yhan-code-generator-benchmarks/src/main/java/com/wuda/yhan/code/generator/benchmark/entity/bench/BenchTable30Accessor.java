@@ -0,0 +1,156 @@
+package com.wuda.yhan.code.generator.benchmark.entity.bench;
+
+import com.wuda.yhan.code.generator.lang.TableEntityAccessor;
+import java.lang.IndexOutOfBoundsException;
+import java.lang.Object;
+import java.lang.Override;
+import java.lang.String;
+
+public final class BenchTable30Accessor implements TableEntityAccessor<BenchTable30> {
+  private static final String[] FIELD_NAMES = {"id", "name1", "quantity2", "updateTime3", "amount4", "refId5", "status6", "name7", "quantity8", "updateTime9", "amount10", "refId11", "status12", "name13", "quantity14", "updateTime15", "amount16", "refId17", "status18", "name19", "quantity20", "updateTime21", "amount22", "refId23", "status24", "name25", "quantity26", "updateTime27", "amount28", "refId29"};
+
+  private static final String[] COLUMN_NAMES = {"id", "name_1", "quantity_2", "update_time_3", "amount_4", "ref_id_5", "status_6", "name_7", "quantity_8", "update_time_9", "amount_10", "ref_id_11", "status_12", "name_13", "quantity_14", "update_time_15", "amount_16", "ref_id_17", "status_18", "name_19", "quantity_20", "update_time_21", "amount_22", "ref_id_23", "status_24", "name_25", "quantity_26", "update_time_27", "amount_28", "ref_id_29"};
+
+  @Override
+  public String[] fieldNames() {
+    return FIELD_NAMES;
+  }
+
+  @Override
+  public String[] columnNames() {
+    return COLUMN_NAMES;
+  }
+
+  @Override
+  public Object getValue(BenchTable30 entity, int index) {
+    switch (index) {
+      case 0: return entity.getId();
+      case 1: return entity.getName1();
+      case 2: return entity.getQuantity2();
+      case 3: return entity.getUpdateTime3();
+      case 4: return entity.getAmount4();
+      case 5: return entity.getRefId5();
+      case 6: return entity.getStatus6();
+      case 7: return entity.getName7();
+      case 8: return entity.getQuantity8();
+      case 9: return entity.getUpdateTime9();
+      case 10: return entity.getAmount10();
+      case 11: return entity.getRefId11();
+      case 12: return entity.getStatus12();
+      case 13: return entity.getName13();
+      case 14: return entity.getQuantity14();
+      case 15: return entity.getUpdateTime15();
+      case 16: return entity.getAmount16();
+      case 17: return entity.getRefId17();
+      case 18: return entity.getStatus18();
+      case 19: return entity.getName19();
+      case 20: return entity.getQuantity20();
+      case 21: return entity.getUpdateTime21();
+      case 22: return entity.getAmount22();
+      case 23: return entity.getRefId23();
+      case 24: return entity.getStatus24();
+      case 25: return entity.getName25();
+      case 26: return entity.getQuantity26();
+      case 27: return entity.getUpdateTime27();
+      case 28: return entity.getAmount28();
+      case 29: return entity.getRefId29();
+      default: throw new IndexOutOfBoundsException("index=" + index);
+    }
+  }
+
+  @Override
+  public long[] nonNullMask(BenchTable30 entity) {
+    long[] mask = new long[1];
+    if (entity.getId() != null) {
+      mask[0] |= 1L << 0;
+    }
+    if (entity.getName1() != null) {
+      mask[0] |= 1L << 1;
+    }
+    if (entity.getQuantity2() != null) {
+      mask[0] |= 1L << 2;
+    }
+    if (entity.getUpdateTime3() != null) {
+      mask[0] |= 1L << 3;
+    }
+    if (entity.getAmount4() != null) {
+      mask[0] |= 1L << 4;
+    }
+    if (entity.getRefId5() != null) {
+      mask[0] |= 1L << 5;
+    }
+    if (entity.getStatus6() != null) {
+      mask[0] |= 1L << 6;
+    }
+    if (entity.getName7() != null) {
+      mask[0] |= 1L << 7;
+    }
+    if (entity.getQuantity8() != null) {
+      mask[0] |= 1L << 8;
+    }
+    if (entity.getUpdateTime9() != null) {
+      mask[0] |= 1L << 9;
+    }
+    if (entity.getAmount10() != null) {
+      mask[0] |= 1L << 10;
+    }
+    if (entity.getRefId11() != null) {
+      mask[0] |= 1L << 11;
+    }
+    if (entity.getStatus12() != null) {
+      mask[0] |= 1L << 12;
+    }
+    if (entity.getName13() != null) {
+      mask[0] |= 1L << 13;
+    }
+    if (entity.getQuantity14() != null) {
+      mask[0] |= 1L << 14;
+    }
+    if (entity.getUpdateTime15() != null) {
+      mask[0] |= 1L << 15;
+    }
+    if (entity.getAmount16() != null) {
+      mask[0] |= 1L << 16;
+    }
+    if (entity.getRefId17() != null) {
+      mask[0] |= 1L << 17;
+    }
+    if (entity.getStatus18() != null) {
+      mask[0] |= 1L << 18;
+    }
+    if (entity.getName19() != null) {
+      mask[0] |= 1L << 19;
+    }
+    if (entity.getQuantity20() != null) {
+      mask[0] |= 1L << 20;
+    }
+    if (entity.getUpdateTime21() != null) {
+      mask[0] |= 1L << 21;
+    }
+    if (entity.getAmount22() != null) {
+      mask[0] |= 1L << 22;
+    }
+    if (entity.getRefId23() != null) {
+      mask[0] |= 1L << 23;
+    }
+    if (entity.getStatus24() != null) {
+      mask[0] |= 1L << 24;
+    }
+    if (entity.getName25() != null) {
+      mask[0] |= 1L << 25;
+    }
+    if (entity.getQuantity26() != null) {
+      mask[0] |= 1L << 26;
+    }
+    if (entity.getUpdateTime27() != null) {
+      mask[0] |= 1L << 27;
+    }
+    if (entity.getAmount28() != null) {
+      mask[0] |= 1L << 28;
+    }
+    if (entity.getRefId29() != null) {
+      mask[0] |= 1L << 29;
+    }
+    return mask;
+  }
+}
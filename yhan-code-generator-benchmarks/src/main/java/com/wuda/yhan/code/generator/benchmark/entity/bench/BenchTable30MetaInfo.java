@@ -0,0 +1,195 @@
+package com.wuda.yhan.code.generator.benchmark.entity.bench;
+
+import java.lang.String;
+
+public final class BenchTable30MetaInfo {
+  public static final String SCHEMA = "bench";
+
+  public static final String TABLE = "bench_table_30";
+
+  public static final String SCHEMA_DOT_TABLE = "`bench`.`bench_table_30`";
+
+  public static final String[] PRIMARY_KEY = new String[]{"id"};
+
+  public static final String AUTO_INCREMENT_COLUMN = "id";
+
+  public static final String ID = "`bench`.`bench_table_30`.id";
+
+  public static final String ID_AS = "id";
+
+  public static final String ID_CONCAT_TABLE_AS = "benchTable30Id";
+
+  public static final String NAME_1 = "`bench`.`bench_table_30`.name_1";
+
+  public static final String NAME_1_AS = "name1";
+
+  public static final String NAME_1_CONCAT_TABLE_AS = "benchTable30Name1";
+
+  public static final String QUANTITY_2 = "`bench`.`bench_table_30`.quantity_2";
+
+  public static final String QUANTITY_2_AS = "quantity2";
+
+  public static final String QUANTITY_2_CONCAT_TABLE_AS = "benchTable30Quantity2";
+
+  public static final String UPDATE_TIME_3 = "`bench`.`bench_table_30`.update_time_3";
+
+  public static final String UPDATE_TIME_3_AS = "updateTime3";
+
+  public static final String UPDATE_TIME_3_CONCAT_TABLE_AS = "benchTable30UpdateTime3";
+
+  public static final String AMOUNT_4 = "`bench`.`bench_table_30`.amount_4";
+
+  public static final String AMOUNT_4_AS = "amount4";
+
+  public static final String AMOUNT_4_CONCAT_TABLE_AS = "benchTable30Amount4";
+
+  public static final String REF_ID_5 = "`bench`.`bench_table_30`.ref_id_5";
+
+  public static final String REF_ID_5_AS = "refId5";
+
+  public static final String REF_ID_5_CONCAT_TABLE_AS = "benchTable30RefId5";
+
+  public static final String STATUS_6 = "`bench`.`bench_table_30`.status_6";
+
+  public static final String STATUS_6_AS = "status6";
+
+  public static final String STATUS_6_CONCAT_TABLE_AS = "benchTable30Status6";
+
+  public static final String NAME_7 = "`bench`.`bench_table_30`.name_7";
+
+  public static final String NAME_7_AS = "name7";
+
+  public static final String NAME_7_CONCAT_TABLE_AS = "benchTable30Name7";
+
+  public static final String QUANTITY_8 = "`bench`.`bench_table_30`.quantity_8";
+
+  public static final String QUANTITY_8_AS = "quantity8";
+
+  public static final String QUANTITY_8_CONCAT_TABLE_AS = "benchTable30Quantity8";
+
+  public static final String UPDATE_TIME_9 = "`bench`.`bench_table_30`.update_time_9";
+
+  public static final String UPDATE_TIME_9_AS = "updateTime9";
+
+  public static final String UPDATE_TIME_9_CONCAT_TABLE_AS = "benchTable30UpdateTime9";
+
+  public static final String AMOUNT_10 = "`bench`.`bench_table_30`.amount_10";
+
+  public static final String AMOUNT_10_AS = "amount10";
+
+  public static final String AMOUNT_10_CONCAT_TABLE_AS = "benchTable30Amount10";
+
+  public static final String REF_ID_11 = "`bench`.`bench_table_30`.ref_id_11";
+
+  public static final String REF_ID_11_AS = "refId11";
+
+  public static final String REF_ID_11_CONCAT_TABLE_AS = "benchTable30RefId11";
+
+  public static final String STATUS_12 = "`bench`.`bench_table_30`.status_12";
+
+  public static final String STATUS_12_AS = "status12";
+
+  public static final String STATUS_12_CONCAT_TABLE_AS = "benchTable30Status12";
+
+  public static final String NAME_13 = "`bench`.`bench_table_30`.name_13";
+
+  public static final String NAME_13_AS = "name13";
+
+  public static final String NAME_13_CONCAT_TABLE_AS = "benchTable30Name13";
+
+  public static final String QUANTITY_14 = "`bench`.`bench_table_30`.quantity_14";
+
+  public static final String QUANTITY_14_AS = "quantity14";
+
+  public static final String QUANTITY_14_CONCAT_TABLE_AS = "benchTable30Quantity14";
+
+  public static final String UPDATE_TIME_15 = "`bench`.`bench_table_30`.update_time_15";
+
+  public static final String UPDATE_TIME_15_AS = "updateTime15";
+
+  public static final String UPDATE_TIME_15_CONCAT_TABLE_AS = "benchTable30UpdateTime15";
+
+  public static final String AMOUNT_16 = "`bench`.`bench_table_30`.amount_16";
+
+  public static final String AMOUNT_16_AS = "amount16";
+
+  public static final String AMOUNT_16_CONCAT_TABLE_AS = "benchTable30Amount16";
+
+  public static final String REF_ID_17 = "`bench`.`bench_table_30`.ref_id_17";
+
+  public static final String REF_ID_17_AS = "refId17";
+
+  public static final String REF_ID_17_CONCAT_TABLE_AS = "benchTable30RefId17";
+
+  public static final String STATUS_18 = "`bench`.`bench_table_30`.status_18";
+
+  public static final String STATUS_18_AS = "status18";
+
+  public static final String STATUS_18_CONCAT_TABLE_AS = "benchTable30Status18";
+
+  public static final String NAME_19 = "`bench`.`bench_table_30`.name_19";
+
+  public static final String NAME_19_AS = "name19";
+
+  public static final String NAME_19_CONCAT_TABLE_AS = "benchTable30Name19";
+
+  public static final String QUANTITY_20 = "`bench`.`bench_table_30`.quantity_20";
+
+  public static final String QUANTITY_20_AS = "quantity20";
+
+  public static final String QUANTITY_20_CONCAT_TABLE_AS = "benchTable30Quantity20";
+
+  public static final String UPDATE_TIME_21 = "`bench`.`bench_table_30`.update_time_21";
+
+  public static final String UPDATE_TIME_21_AS = "updateTime21";
+
+  public static final String UPDATE_TIME_21_CONCAT_TABLE_AS = "benchTable30UpdateTime21";
+
+  public static final String AMOUNT_22 = "`bench`.`bench_table_30`.amount_22";
+
+  public static final String AMOUNT_22_AS = "amount22";
+
+  public static final String AMOUNT_22_CONCAT_TABLE_AS = "benchTable30Amount22";
+
+  public static final String REF_ID_23 = "`bench`.`bench_table_30`.ref_id_23";
+
+  public static final String REF_ID_23_AS = "refId23";
+
+  public static final String REF_ID_23_CONCAT_TABLE_AS = "benchTable30RefId23";
+
+  public static final String STATUS_24 = "`bench`.`bench_table_30`.status_24";
+
+  public static final String STATUS_24_AS = "status24";
+
+  public static final String STATUS_24_CONCAT_TABLE_AS = "benchTable30Status24";
+
+  public static final String NAME_25 = "`bench`.`bench_table_30`.name_25";
+
+  public static final String NAME_25_AS = "name25";
+
+  public static final String NAME_25_CONCAT_TABLE_AS = "benchTable30Name25";
+
+  public static final String QUANTITY_26 = "`bench`.`bench_table_30`.quantity_26";
+
+  public static final String QUANTITY_26_AS = "quantity26";
+
+  public static final String QUANTITY_26_CONCAT_TABLE_AS = "benchTable30Quantity26";
+
+  public static final String UPDATE_TIME_27 = "`bench`.`bench_table_30`.update_time_27";
+
+  public static final String UPDATE_TIME_27_AS = "updateTime27";
+
+  public static final String UPDATE_TIME_27_CONCAT_TABLE_AS = "benchTable30UpdateTime27";
+
+  public static final String AMOUNT_28 = "`bench`.`bench_table_30`.amount_28";
+
+  public static final String AMOUNT_28_AS = "amount28";
+
+  public static final String AMOUNT_28_CONCAT_TABLE_AS = "benchTable30Amount28";
+
+  public static final String REF_ID_29 = "`bench`.`bench_table_30`.ref_id_29";
+
+  public static final String REF_ID_29_AS = "refId29";
+
+  public static final String REF_ID_29_CONCAT_TABLE_AS = "benchTable30RefId29";
+}
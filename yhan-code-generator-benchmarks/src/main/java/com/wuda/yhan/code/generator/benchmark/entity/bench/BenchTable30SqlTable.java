@@ -0,0 +1,77 @@
+package com.wuda.yhan.code.generator.benchmark.entity.bench;
+
+import java.lang.Integer;
+import java.lang.Long;
+import java.lang.String;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import org.mybatis.dynamic.sql.SqlColumn;
+import org.mybatis.dynamic.sql.SqlTable;
+
+public final class BenchTable30SqlTable extends SqlTable {
+  public static final BenchTable30SqlTable instance = new BenchTable30SqlTable();
+
+  public final SqlColumn<Long> ID = column(com.wuda.yhan.code.generator.benchmark.entity.bench.BenchTable30MetaInfo.ID);
+
+  public final SqlColumn<String> NAME_1 = column(com.wuda.yhan.code.generator.benchmark.entity.bench.BenchTable30MetaInfo.NAME_1);
+
+  public final SqlColumn<Integer> QUANTITY_2 = column(com.wuda.yhan.code.generator.benchmark.entity.bench.BenchTable30MetaInfo.QUANTITY_2);
+
+  public final SqlColumn<Timestamp> UPDATE_TIME_3 = column(com.wuda.yhan.code.generator.benchmark.entity.bench.BenchTable30MetaInfo.UPDATE_TIME_3);
+
+  public final SqlColumn<BigDecimal> AMOUNT_4 = column(com.wuda.yhan.code.generator.benchmark.entity.bench.BenchTable30MetaInfo.AMOUNT_4);
+
+  public final SqlColumn<Long> REF_ID_5 = column(com.wuda.yhan.code.generator.benchmark.entity.bench.BenchTable30MetaInfo.REF_ID_5);
+
+  public final SqlColumn<Integer> STATUS_6 = column(com.wuda.yhan.code.generator.benchmark.entity.bench.BenchTable30MetaInfo.STATUS_6);
+
+  public final SqlColumn<String> NAME_7 = column(com.wuda.yhan.code.generator.benchmark.entity.bench.BenchTable30MetaInfo.NAME_7);
+
+  public final SqlColumn<Integer> QUANTITY_8 = column(com.wuda.yhan.code.generator.benchmark.entity.bench.BenchTable30MetaInfo.QUANTITY_8);
+
+  public final SqlColumn<Timestamp> UPDATE_TIME_9 = column(com.wuda.yhan.code.generator.benchmark.entity.bench.BenchTable30MetaInfo.UPDATE_TIME_9);
+
+  public final SqlColumn<BigDecimal> AMOUNT_10 = column(com.wuda.yhan.code.generator.benchmark.entity.bench.BenchTable30MetaInfo.AMOUNT_10);
+
+  public final SqlColumn<Long> REF_ID_11 = column(com.wuda.yhan.code.generator.benchmark.entity.bench.BenchTable30MetaInfo.REF_ID_11);
+
+  public final SqlColumn<Integer> STATUS_12 = column(com.wuda.yhan.code.generator.benchmark.entity.bench.BenchTable30MetaInfo.STATUS_12);
+
+  public final SqlColumn<String> NAME_13 = column(com.wuda.yhan.code.generator.benchmark.entity.bench.BenchTable30MetaInfo.NAME_13);
+
+  public final SqlColumn<Integer> QUANTITY_14 = column(com.wuda.yhan.code.generator.benchmark.entity.bench.BenchTable30MetaInfo.QUANTITY_14);
+
+  public final SqlColumn<Timestamp> UPDATE_TIME_15 = column(com.wuda.yhan.code.generator.benchmark.entity.bench.BenchTable30MetaInfo.UPDATE_TIME_15);
+
+  public final SqlColumn<BigDecimal> AMOUNT_16 = column(com.wuda.yhan.code.generator.benchmark.entity.bench.BenchTable30MetaInfo.AMOUNT_16);
+
+  public final SqlColumn<Long> REF_ID_17 = column(com.wuda.yhan.code.generator.benchmark.entity.bench.BenchTable30MetaInfo.REF_ID_17);
+
+  public final SqlColumn<Integer> STATUS_18 = column(com.wuda.yhan.code.generator.benchmark.entity.bench.BenchTable30MetaInfo.STATUS_18);
+
+  public final SqlColumn<String> NAME_19 = column(com.wuda.yhan.code.generator.benchmark.entity.bench.BenchTable30MetaInfo.NAME_19);
+
+  public final SqlColumn<Integer> QUANTITY_20 = column(com.wuda.yhan.code.generator.benchmark.entity.bench.BenchTable30MetaInfo.QUANTITY_20);
+
+  public final SqlColumn<Timestamp> UPDATE_TIME_21 = column(com.wuda.yhan.code.generator.benchmark.entity.bench.BenchTable30MetaInfo.UPDATE_TIME_21);
+
+  public final SqlColumn<BigDecimal> AMOUNT_22 = column(com.wuda.yhan.code.generator.benchmark.entity.bench.BenchTable30MetaInfo.AMOUNT_22);
+
+  public final SqlColumn<Long> REF_ID_23 = column(com.wuda.yhan.code.generator.benchmark.entity.bench.BenchTable30MetaInfo.REF_ID_23);
+
+  public final SqlColumn<Integer> STATUS_24 = column(com.wuda.yhan.code.generator.benchmark.entity.bench.BenchTable30MetaInfo.STATUS_24);
+
+  public final SqlColumn<String> NAME_25 = column(com.wuda.yhan.code.generator.benchmark.entity.bench.BenchTable30MetaInfo.NAME_25);
+
+  public final SqlColumn<Integer> QUANTITY_26 = column(com.wuda.yhan.code.generator.benchmark.entity.bench.BenchTable30MetaInfo.QUANTITY_26);
+
+  public final SqlColumn<Timestamp> UPDATE_TIME_27 = column(com.wuda.yhan.code.generator.benchmark.entity.bench.BenchTable30MetaInfo.UPDATE_TIME_27);
+
+  public final SqlColumn<BigDecimal> AMOUNT_28 = column(com.wuda.yhan.code.generator.benchmark.entity.bench.BenchTable30MetaInfo.AMOUNT_28);
+
+  public final SqlColumn<Long> REF_ID_29 = column(com.wuda.yhan.code.generator.benchmark.entity.bench.BenchTable30MetaInfo.REF_ID_29);
+
+  public BenchTable30SqlTable() {
+    super(com.wuda.yhan.code.generator.benchmark.entity.bench.BenchTable30MetaInfo.TABLE);
+  }
+}
@@ -0,0 +1,92 @@
+package com.wuda.yhan.code.generator.benchmark.entity.bench;
+
+import com.wuda.yhan.code.generator.lang.TableEntity;
+import java.io.Serializable;
+import java.lang.Integer;
+import java.lang.Long;
+import java.lang.Override;
+import java.lang.String;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.Arrays;
+
+public final class BenchTable5 implements TableEntity, Serializable {
+  private Long id;
+
+  private String name1;
+
+  private Integer quantity2;
+
+  private Timestamp updateTime3;
+
+  private BigDecimal amount4;
+
+  private long[] dirtyFieldMask = new long[1];
+
+  public Long getId() {
+    return id;
+  }
+
+  public void setId(Long id) {
+    this.id=id;
+    if (dirtyFieldMask != null) {
+      dirtyFieldMask[0] |= 1L << 0;
+    }
+  }
+
+  public String getName1() {
+    return name1;
+  }
+
+  public void setName1(String name1) {
+    this.name1=name1;
+    if (dirtyFieldMask != null) {
+      dirtyFieldMask[0] |= 1L << 1;
+    }
+  }
+
+  public Integer getQuantity2() {
+    return quantity2;
+  }
+
+  public void setQuantity2(Integer quantity2) {
+    this.quantity2=quantity2;
+    if (dirtyFieldMask != null) {
+      dirtyFieldMask[0] |= 1L << 2;
+    }
+  }
+
+  public Timestamp getUpdateTime3() {
+    return updateTime3;
+  }
+
+  public void setUpdateTime3(Timestamp updateTime3) {
+    this.updateTime3=updateTime3;
+    if (dirtyFieldMask != null) {
+      dirtyFieldMask[0] |= 1L << 3;
+    }
+  }
+
+  public BigDecimal getAmount4() {
+    return amount4;
+  }
+
+  public void setAmount4(BigDecimal amount4) {
+    this.amount4=amount4;
+    if (dirtyFieldMask != null) {
+      dirtyFieldMask[0] |= 1L << 4;
+    }
+  }
+
+  @Override
+  public long[] dirtyFieldMask() {
+    return dirtyFieldMask;
+  }
+
+  @Override
+  public void clearDirtyFieldMask() {
+    if (dirtyFieldMask != null) {
+      Arrays.fill(dirtyFieldMask, 0L);
+    }
+  }
+}
@@ -0,0 +1,56 @@
+package com.wuda.yhan.code.generator.benchmark.entity.bench;
+
+import com.wuda.yhan.code.generator.lang.TableEntityAccessor;
+import java.lang.IndexOutOfBoundsException;
+import java.lang.Object;
+import java.lang.Override;
+import java.lang.String;
+
+public final class BenchTable5Accessor implements TableEntityAccessor<BenchTable5> {
+  private static final String[] FIELD_NAMES = {"id", "name1", "quantity2", "updateTime3", "amount4"};
+
+  private static final String[] COLUMN_NAMES = {"id", "name_1", "quantity_2", "update_time_3", "amount_4"};
+
+  @Override
+  public String[] fieldNames() {
+    return FIELD_NAMES;
+  }
+
+  @Override
+  public String[] columnNames() {
+    return COLUMN_NAMES;
+  }
+
+  @Override
+  public Object getValue(BenchTable5 entity, int index) {
+    switch (index) {
+      case 0: return entity.getId();
+      case 1: return entity.getName1();
+      case 2: return entity.getQuantity2();
+      case 3: return entity.getUpdateTime3();
+      case 4: return entity.getAmount4();
+      default: throw new IndexOutOfBoundsException("index=" + index);
+    }
+  }
+
+  @Override
+  public long[] nonNullMask(BenchTable5 entity) {
+    long[] mask = new long[1];
+    if (entity.getId() != null) {
+      mask[0] |= 1L << 0;
+    }
+    if (entity.getName1() != null) {
+      mask[0] |= 1L << 1;
+    }
+    if (entity.getQuantity2() != null) {
+      mask[0] |= 1L << 2;
+    }
+    if (entity.getUpdateTime3() != null) {
+      mask[0] |= 1L << 3;
+    }
+    if (entity.getAmount4() != null) {
+      mask[0] |= 1L << 4;
+    }
+    return mask;
+  }
+}
@@ -0,0 +1,45 @@
+package com.wuda.yhan.code.generator.benchmark.entity.bench;
+
+import java.lang.String;
+
+public final class BenchTable5MetaInfo {
+  public static final String SCHEMA = "bench";
+
+  public static final String TABLE = "bench_table_5";
+
+  public static final String SCHEMA_DOT_TABLE = "`bench`.`bench_table_5`";
+
+  public static final String[] PRIMARY_KEY = new String[]{"id"};
+
+  public static final String AUTO_INCREMENT_COLUMN = "id";
+
+  public static final String ID = "`bench`.`bench_table_5`.id";
+
+  public static final String ID_AS = "id";
+
+  public static final String ID_CONCAT_TABLE_AS = "benchTable5Id";
+
+  public static final String NAME_1 = "`bench`.`bench_table_5`.name_1";
+
+  public static final String NAME_1_AS = "name1";
+
+  public static final String NAME_1_CONCAT_TABLE_AS = "benchTable5Name1";
+
+  public static final String QUANTITY_2 = "`bench`.`bench_table_5`.quantity_2";
+
+  public static final String QUANTITY_2_AS = "quantity2";
+
+  public static final String QUANTITY_2_CONCAT_TABLE_AS = "benchTable5Quantity2";
+
+  public static final String UPDATE_TIME_3 = "`bench`.`bench_table_5`.update_time_3";
+
+  public static final String UPDATE_TIME_3_AS = "updateTime3";
+
+  public static final String UPDATE_TIME_3_CONCAT_TABLE_AS = "benchTable5UpdateTime3";
+
+  public static final String AMOUNT_4 = "`bench`.`bench_table_5`.amount_4";
+
+  public static final String AMOUNT_4_AS = "amount4";
+
+  public static final String AMOUNT_4_CONCAT_TABLE_AS = "benchTable5Amount4";
+}
@@ -0,0 +1,27 @@
+package com.wuda.yhan.code.generator.benchmark.entity.bench;
+
+import java.lang.Integer;
+import java.lang.Long;
+import java.lang.String;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import org.mybatis.dynamic.sql.SqlColumn;
+import org.mybatis.dynamic.sql.SqlTable;
+
+public final class BenchTable5SqlTable extends SqlTable {
+  public static final BenchTable5SqlTable instance = new BenchTable5SqlTable();
+
+  public final SqlColumn<Long> ID = column(com.wuda.yhan.code.generator.benchmark.entity.bench.BenchTable5MetaInfo.ID);
+
+  public final SqlColumn<String> NAME_1 = column(com.wuda.yhan.code.generator.benchmark.entity.bench.BenchTable5MetaInfo.NAME_1);
+
+  public final SqlColumn<Integer> QUANTITY_2 = column(com.wuda.yhan.code.generator.benchmark.entity.bench.BenchTable5MetaInfo.QUANTITY_2);
+
+  public final SqlColumn<Timestamp> UPDATE_TIME_3 = column(com.wuda.yhan.code.generator.benchmark.entity.bench.BenchTable5MetaInfo.UPDATE_TIME_3);
+
+  public final SqlColumn<BigDecimal> AMOUNT_4 = column(com.wuda.yhan.code.generator.benchmark.entity.bench.BenchTable5MetaInfo.AMOUNT_4);
+
+  public BenchTable5SqlTable() {
+    super(com.wuda.yhan.code.generator.benchmark.entity.bench.BenchTable5MetaInfo.TABLE);
+  }
+}
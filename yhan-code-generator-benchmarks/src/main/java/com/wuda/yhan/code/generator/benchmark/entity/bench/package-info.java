@@ -0,0 +1,16 @@
+/**
+ * 基准测试使用的表,由core模块的EntityGenerator(跟踪set方法的调用),TableMetaInfoGenerator,
+ * SqlTableGenerator生成,不要手工修改.表<code>bench.bench_table_N</code>一共有N列,第一列是
+ * <code>id BIGINT(20) UNSIGNED NOT NULL AUTO_INCREMENT</code>主键,之后的第i列按照下面的类型轮流出现:
+ * <ul>
+ * <li><code>name_i VARCHAR(64) NULL</code></li>
+ * <li><code>quantity_i INT(11) NULL</code></li>
+ * <li><code>update_time_i DATETIME NULL</code></li>
+ * <li><code>amount_i DECIMAL(12,2) NULL</code></li>
+ * <li><code>ref_id_i BIGINT(20) UNSIGNED NULL</code></li>
+ * <li><code>status_i TINYINT(4) NULL</code></li>
+ * </ul>
+ * DDL和生成的方式在BenchEntitySources中,修改生成器之后运行它的main方法重新生成这些类,
+ * 基准测试的结果才能反映生成的代码的变化;这些类和生成器的输出不一致时BenchEntitySourcesTest会失败.
+ */
+package com.wuda.yhan.code.generator.benchmark.entity.bench;
@@ -0,0 +1,28 @@
+package com.wuda.yhan.code.generator.benchmark;
+
+import com.squareup.javapoet.JavaFile;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import static org.junit.Assert.assertEquals;
+
+public class BenchEntitySourcesTest {
+
+    /**
+     * 提交的类必须和生成器当前的输出一致,否则基准测试测量的不是生成器现在生成的代码.
+     * 不一致时运行BenchEntitySources#main重新生成.
+     */
+    @Test
+    public void testSourcesUpToDate() throws IOException {
+        for (JavaFile javaFile : BenchEntitySources.javaFiles()) {
+            Path path = Paths.get("src/main/java", javaFile.packageName.replace('.', '/'), javaFile.typeSpec.name + ".java");
+            String source = new String(Files.readAllBytes(path), StandardCharsets.UTF_8);
+            assertEquals(path + "已经过期,运行BenchEntitySources#main重新生成", javaFile.toString(), source);
+        }
+    }
+}
@@ -2,13 +2,17 @@ package com.wuda.code.generator.db.mysql;
 
 import com.squareup.javapoet.*;
 import com.wuda.code.generator.MethodSpecUtil;
+import com.wuda.yhan.code.generator.lang.Constant;
 import com.wuda.yhan.code.generator.lang.TableEntity;
+import com.wuda.yhan.code.generator.lang.TableEntityAccessor;
 import com.wuda.yhan.code.generator.lang.relational.Column;
 import com.wuda.yhan.code.generator.lang.relational.Table;
+import com.wuda.yhan.code.generator.lang.util.JavaNamingUtils;
 
 import javax.lang.model.element.Modifier;
 import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 /**
@@ -27,6 +31,23 @@ public class EntityGenerator {
      * @return java file
      */
     public JavaFile genJavaFile(Table table, String packageName, boolean jpa) {
+        return genJavaFile(table, packageName, jpa, false);
+    }
+
+    /**
+     * 生成java class文件.
+     *
+     * @param table              表的基本信息
+     * @param packageName        生成的类所属的包
+     * @param jpa                是否生成jap相关的注解
+     * @param dirtyFieldTracking 是否跟踪set方法的调用.如果开启,每个set方法都会在dirty field mask中标记该属性,
+     *                           insert,update等方法只操作被标记的属性,因此可以通过set null把列更新为<code>NULL</code>,
+     *                           参考{@link TableEntity#dirtyFieldMask()}.mybatis通过set方法填充查询结果,
+     *                           需要注册{@link com.wuda.yhan.code.generator.lang.util.DirtyFieldMaskInterceptor},
+     *                           或者在update之前调用{@link TableEntity#clearDirtyFieldMask()},否则查询出的所有列都会被写回
+     * @return java file
+     */
+    public JavaFile genJavaFile(Table table, String packageName, boolean jpa, boolean dirtyFieldTracking) {
         String className = EntityGeneratorUtil.toClassName(table.id().table());
         TypeSpec.Builder classBuilder = TypeSpec.classBuilder(className);
         classBuilder.addModifiers(Modifier.PUBLIC, Modifier.FINAL);
@@ -38,12 +59,139 @@ public class EntityGenerator {
         Iterable<FieldSpec> fieldSpecs = genFields(table.columns(), jpa);
         if (fieldSpecs != null) {
             classBuilder.addFields(fieldSpecs);
-            classBuilder.addMethods(genGetterAndSetter(fieldSpecs));
+            if (dirtyFieldTracking) {
+                classBuilder.addField(genDirtyFieldMaskField(table.columns().size()));
+                classBuilder.addMethods(genGetterAndTrackingSetter(fieldSpecs));
+                classBuilder.addMethod(genDirtyFieldMaskMethod());
+                classBuilder.addMethod(genClearDirtyFieldMaskMethod());
+            } else {
+                classBuilder.addMethods(genGetterAndSetter(fieldSpecs));
+            }
         }
         String finalPackageName = PackageNameUtil.getEntityPackageName(packageName, table.id().schema());
         return JavaFile.builder(finalPackageName, classBuilder.build()).build();
     }
 
+    /**
+     * 生成实体对应的{@link TableEntityAccessor}实现类,和实体在同一个包中.
+     * 通过直接调用getter访问属性,从而避免在insert,update等方法中使用反射.
+     *
+     * @param table       表的基本信息
+     * @param packageName 生成的类所属的包
+     * @return java file
+     */
+    public JavaFile genAccessorJavaFile(Table table, String packageName) {
+        String className = EntityGeneratorUtil.toAccessorClassName(table.id().table());
+        TypeName entityTypeName = EntityGeneratorUtil.getTypeName(table, packageName);
+        TypeSpec.Builder classBuilder = TypeSpec.classBuilder(className);
+        classBuilder.addModifiers(Modifier.PUBLIC, Modifier.FINAL);
+        classBuilder.addSuperinterface(ParameterizedTypeName.get(ClassName.get(TableEntityAccessor.class), entityTypeName));
+        List<Column> columns = table.columns();
+        classBuilder.addField(genNamesField("FIELD_NAMES", columns, true));
+        classBuilder.addField(genNamesField("COLUMN_NAMES", columns, false));
+        classBuilder.addMethod(genNamesMethod("fieldNames", "FIELD_NAMES"));
+        classBuilder.addMethod(genNamesMethod("columnNames", "COLUMN_NAMES"));
+        classBuilder.addMethod(genGetValueMethod(columns, entityTypeName));
+        classBuilder.addMethod(genNonNullMaskMethod(columns, entityTypeName));
+        String finalPackageName = PackageNameUtil.getEntityPackageName(packageName, table.id().schema());
+        return JavaFile.builder(finalPackageName, classBuilder.build()).build();
+    }
+
+    /**
+     * 生成保存属性名称或者列名的数组常量.
+     *
+     * @param name      常量名称
+     * @param columns   列
+     * @param fieldName true-数组元素是属性名称,false-数组元素是列名
+     * @return 常量
+     */
+    private FieldSpec genNamesField(String name, List<Column> columns, boolean fieldName) {
+        CodeBlock.Builder initializer = CodeBlock.builder().add("{");
+        for (int i = 0; i < columns.size(); i++) {
+            if (i > 0) {
+                initializer.add(", ");
+            }
+            String columnName = columns.get(i).name();
+            initializer.add("$S", fieldName ? EntityGeneratorUtil.toFieldName(columnName) : columnName);
+        }
+        initializer.add("}");
+        return FieldSpec.builder(String[].class, name, Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL)
+                .initializer(initializer.build())
+                .build();
+    }
+
+    /**
+     * 生成返回名称数组的方法.
+     *
+     * @param methodName 方法名称
+     * @param fieldName  数组常量的名称
+     * @return 方法
+     */
+    private MethodSpec genNamesMethod(String methodName, String fieldName) {
+        return MethodSpec.methodBuilder(methodName)
+                .addAnnotation(Override.class)
+                .addModifiers(Modifier.PUBLIC)
+                .returns(String[].class)
+                .addStatement("return $L", fieldName)
+                .build();
+    }
+
+    /**
+     * 生成{@link TableEntityAccessor#getValue(TableEntity, int)}方法.
+     *
+     * @param columns        列
+     * @param entityTypeName 实体类型
+     * @return 方法
+     */
+    private MethodSpec genGetValueMethod(List<Column> columns, TypeName entityTypeName) {
+        MethodSpec.Builder builder = MethodSpec.methodBuilder("getValue")
+                .addAnnotation(Override.class)
+                .addModifiers(Modifier.PUBLIC)
+                .returns(Object.class)
+                .addParameter(entityTypeName, "entity")
+                .addParameter(int.class, "index");
+        builder.beginControlFlow("switch (index)");
+        for (int i = 0; i < columns.size(); i++) {
+            builder.addStatement("case $L: return entity.$L()", i, getterName(columns.get(i)));
+        }
+        builder.addStatement("default: throw new $T($S + index)", IndexOutOfBoundsException.class, "index=");
+        builder.endControlFlow();
+        return builder.build();
+    }
+
+    /**
+     * 生成{@link TableEntityAccessor#nonNullMask(TableEntity)}方法.
+     *
+     * @param columns        列
+     * @param entityTypeName 实体类型
+     * @return 方法
+     */
+    private MethodSpec genNonNullMaskMethod(List<Column> columns, TypeName entityTypeName) {
+        MethodSpec.Builder builder = MethodSpec.methodBuilder("nonNullMask")
+                .addAnnotation(Override.class)
+                .addModifiers(Modifier.PUBLIC)
+                .returns(long[].class)
+                .addParameter(entityTypeName, "entity");
+        builder.addStatement("long[] mask = new long[$L]", (columns.size() + 63) >>> 6);
+        for (int i = 0; i < columns.size(); i++) {
+            builder.beginControlFlow("if (entity.$L() != null)", getterName(columns.get(i)));
+            builder.addStatement("mask[$L] |= 1L << $L", i >>> 6, i & 63);
+            builder.endControlFlow();
+        }
+        builder.addStatement("return mask");
+        return builder.build();
+    }
+
+    /**
+     * 列对应的属性的getter方法名称.
+     *
+     * @param column 列
+     * @return getter方法名称
+     */
+    private String getterName(Column column) {
+        return JavaNamingUtils.genGetterMethodName(EntityGeneratorUtil.toFieldName(column.name()));
+    }
+
     /**
      * class级别的注解.
      *
@@ -123,4 +271,69 @@ public class EntityGenerator {
         return list;
     }
 
+    /**
+     * 为给定的field生成getter/setter,setter会在dirty field mask中标记该属性.
+     *
+     * @param fieldSpecs field
+     * @return getter/setter
+     */
+    private Iterable<MethodSpec> genGetterAndTrackingSetter(Iterable<FieldSpec> fieldSpecs) {
+        List<MethodSpec> list = new ArrayList<>();
+        int index = 0;
+        for (FieldSpec fieldSpec : fieldSpecs) {
+            list.add(MethodSpecUtil.genGetter(fieldSpec));
+            MethodSpec setter = MethodSpecUtil.genSetter(fieldSpec).toBuilder()
+                    .beginControlFlow("if ($L != null)", Constant.DIRTY_FIELD_MASK)
+                    .addStatement("$L[$L] |= 1L << $L", Constant.DIRTY_FIELD_MASK, index >>> 6, index & 63)
+                    .endControlFlow()
+                    .build();
+            list.add(setter);
+            index++;
+        }
+        return list;
+    }
+
+    /**
+     * 生成保存dirty field mask的属性.和其他属性一起序列化,反序列化后的实体继续跟踪set方法的调用.
+     * 如果序列化的数据中没有这个属性(比如由不跟踪set方法调用的实体序列化而来),反序列化后是null,
+     * set方法不再标记,insert,update等方法使用值不为null的属性.
+     *
+     * @param fieldCount 属性的数量
+     * @return 属性
+     */
+    private FieldSpec genDirtyFieldMaskField(int fieldCount) {
+        return FieldSpec.builder(long[].class, Constant.DIRTY_FIELD_MASK, Modifier.PRIVATE)
+                .initializer("new long[$L]", (fieldCount + 63) >>> 6)
+                .build();
+    }
+
+    /**
+     * 生成{@link TableEntity#dirtyFieldMask()}方法.
+     *
+     * @return 方法
+     */
+    private MethodSpec genDirtyFieldMaskMethod() {
+        return MethodSpec.methodBuilder("dirtyFieldMask")
+                .addAnnotation(Override.class)
+                .addModifiers(Modifier.PUBLIC)
+                .returns(long[].class)
+                .addStatement("return $L", Constant.DIRTY_FIELD_MASK)
+                .build();
+    }
+
+    /**
+     * 生成{@link TableEntity#clearDirtyFieldMask()}方法.
+     *
+     * @return 方法
+     */
+    private MethodSpec genClearDirtyFieldMaskMethod() {
+        return MethodSpec.methodBuilder("clearDirtyFieldMask")
+                .addAnnotation(Override.class)
+                .addModifiers(Modifier.PUBLIC)
+                .beginControlFlow("if ($L != null)", Constant.DIRTY_FIELD_MASK)
+                .addStatement("$T.fill($L, 0L)", Arrays.class, Constant.DIRTY_FIELD_MASK)
+                .endControlFlow()
+                .build();
+    }
+
 }
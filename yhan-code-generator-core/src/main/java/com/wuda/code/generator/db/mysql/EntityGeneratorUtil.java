@@ -27,6 +27,16 @@ class EntityGeneratorUtil {
         return className;
     }
 
+    /**
+     * 根据表名生成{@link com.wuda.yhan.code.generator.lang.TableEntityAccessor}实现类的类名.
+     *
+     * @param tableName 表名称
+     * @return 类名
+     */
+    static String toAccessorClassName(String tableName) {
+        return StringUtils.addSuffix(toClassName(tableName), Constant.ACCESSOR_CLASS_NAME_SUFFIX);
+    }
+
     /**
      * 根据列名生成字段名称.
      *
@@ -0,0 +1,134 @@
+package com.wuda.code.generator.db.mysql;
+
+import com.squareup.javapoet.ClassName;
+import com.squareup.javapoet.CodeBlock;
+import com.squareup.javapoet.JavaFile;
+import com.squareup.javapoet.MethodSpec;
+import com.squareup.javapoet.ParameterSpec;
+import com.squareup.javapoet.ParameterizedTypeName;
+import com.squareup.javapoet.TypeName;
+import com.squareup.javapoet.TypeSpec;
+import com.wuda.yhan.code.generator.lang.Constant;
+import com.wuda.yhan.code.generator.lang.relational.Table;
+import com.wuda.yhan.code.generator.lang.util.AsyncMapperUtils;
+import org.apache.ibatis.cursor.Cursor;
+import org.apache.ibatis.session.SqlSessionFactory;
+
+import javax.lang.model.element.Modifier;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * 生成异步的mapper,比如MessageItemAsyncMapper.mapper中的每个方法对应一个返回{@link CompletableFuture}的方法,
+ * 通过{@link AsyncMapperUtils}在executor中执行,每次调用使用一个新的session.
+ * 返回{@link Cursor}的方法和selectForUpdate方法依赖于调用方的session或者事务,不生成对应的异步方法.
+ *
+ * @author wuda
+ */
+public class MyBatisAsyncMapperGenerator {
+
+    /**
+     * mapper的生成器,决定异步mapper中有哪些方法.
+     */
+    private MyBatisMapperGenerator mapperGenerator = new MyBatisMapperGenerator();
+
+    /**
+     * 设置mapper的生成器,必须和生成mapper时使用的配置一样.
+     *
+     * @param mapperGenerator mapper generator
+     */
+    public void setMapperGenerator(MyBatisMapperGenerator mapperGenerator) {
+        this.mapperGenerator = mapperGenerator;
+    }
+
+    /**
+     * 生成java class文件.
+     *
+     * @param table       表的基本信息
+     * @param packageName 生成的类所属的包
+     * @return java file
+     */
+    public JavaFile genJavaFile(Table table, String packageName) {
+        JavaFile mapperJavaFile = mapperGenerator.genJavaFile(table, packageName);
+        TypeSpec mapperTypeSpec = mapperJavaFile.typeSpec;
+        ClassName mapperType = ClassName.get(mapperJavaFile.packageName, mapperTypeSpec.name);
+
+        String className = MyBatisMapperGeneratorUtil.toAsyncClassName(table.id().table());
+        TypeSpec.Builder classBuilder = TypeSpec.classBuilder(className)
+                .addJavadoc("异步执行{@link $T}中的方法,每次调用都在executor中打开一个新的session,执行完成后提交并关闭,\n", mapperType)
+                .addJavadoc("因此不会参与调用方的事务.多个查询可以并发执行,然后通过{@link $T#allOf}等待结果.\n", CompletableFuture.class)
+                .addModifiers(Modifier.PUBLIC, Modifier.FINAL);
+        classBuilder.addField(SqlSessionFactory.class, "sqlSessionFactory", Modifier.PRIVATE, Modifier.FINAL);
+        classBuilder.addField(Executor.class, "executor", Modifier.PRIVATE, Modifier.FINAL);
+        classBuilder.addMethod(MethodSpec.constructorBuilder()
+                .addJavadoc("使用{@link $T#defaultExecutor()}构造异步mapper.\n\n", AsyncMapperUtils.class)
+                .addJavadoc("@param sqlSessionFactory sql session factory\n")
+                .addModifiers(Modifier.PUBLIC)
+                .addParameter(SqlSessionFactory.class, "sqlSessionFactory")
+                .addStatement("this(sqlSessionFactory, $T.defaultExecutor())", AsyncMapperUtils.class)
+                .build());
+        classBuilder.addMethod(MethodSpec.constructorBuilder()
+                .addJavadoc("构造异步mapper.\n\n")
+                .addJavadoc("@param sqlSessionFactory sql session factory\n")
+                .addJavadoc("@param executor          执行mapper中的方法的executor\n")
+                .addModifiers(Modifier.PUBLIC)
+                .addParameter(SqlSessionFactory.class, "sqlSessionFactory")
+                .addParameter(Executor.class, "executor")
+                .addStatement("this.sqlSessionFactory = sqlSessionFactory")
+                .addStatement("this.executor = executor")
+                .build());
+        for (MethodSpec methodSpec : mapperTypeSpec.methodSpecs) {
+            if (isSessionBound(methodSpec)) {
+                continue;
+            }
+            classBuilder.addMethod(genAsyncMethod(methodSpec, mapperType));
+        }
+        return JavaFile.builder(mapperJavaFile.packageName, classBuilder.build()).build();
+    }
+
+    /**
+     * 方法的返回值或者锁依赖于调用方的session,不能在新的session中异步执行.
+     *
+     * @param methodSpec mapper中的方法
+     * @return <code>true</code>-如果依赖于调用方的session
+     */
+    private boolean isSessionBound(MethodSpec methodSpec) {
+        if (methodSpec.name.endsWith(Constant.FOR_UPDATE_SUFFIX)) {
+            return true;
+        }
+        TypeName returnType = methodSpec.returnType;
+        return returnType instanceof ParameterizedTypeName
+                && ((ParameterizedTypeName) returnType).rawType.equals(ClassName.get(Cursor.class));
+    }
+
+    /**
+     * 生成异步方法.
+     *
+     * @param methodSpec mapper中的方法
+     * @param mapperType mapper type
+     * @return method
+     */
+    private MethodSpec genAsyncMethod(MethodSpec methodSpec, ClassName mapperType) {
+        TypeName returnType = methodSpec.returnType;
+        TypeName resultType = returnType.equals(TypeName.VOID) ? ClassName.get(Void.class) : returnType.box();
+        MethodSpec.Builder builder = MethodSpec.methodBuilder(methodSpec.name)
+                .addJavadoc("异步执行{@link $T#$L}.\n", mapperType, methodSpec.name)
+                .addModifiers(Modifier.PUBLIC)
+                .returns(ParameterizedTypeName.get(ClassName.get(CompletableFuture.class), resultType));
+        List<String> arguments = new ArrayList<>(methodSpec.parameters.size());
+        for (ParameterSpec parameterSpec : methodSpec.parameters) {
+            // 去掉@Param注解
+            builder.addParameter(ParameterSpec.builder(parameterSpec.type, parameterSpec.name).build());
+            arguments.add(parameterSpec.name);
+        }
+        CodeBlock call = CodeBlock.of("mapper.$L($L)", methodSpec.name, String.join(", ", arguments));
+        CodeBlock function = returnType.equals(TypeName.VOID)
+                ? CodeBlock.of("mapper -> {\n$>$L;\nreturn null;\n$<}", call)
+                : CodeBlock.of("mapper -> $L", call);
+        builder.addStatement("return $T.supplyAsync(sqlSessionFactory, $T.class, $L, executor)",
+                AsyncMapperUtils.class, mapperType, function);
+        return builder.build();
+    }
+}
@@ -0,0 +1,263 @@
+package com.wuda.code.generator.db.mysql;
+
+import com.squareup.javapoet.ClassName;
+import com.squareup.javapoet.CodeBlock;
+import com.squareup.javapoet.FieldSpec;
+import com.squareup.javapoet.JavaFile;
+import com.squareup.javapoet.MethodSpec;
+import com.squareup.javapoet.ParameterSpec;
+import com.squareup.javapoet.ParameterizedTypeName;
+import com.squareup.javapoet.TypeName;
+import com.squareup.javapoet.TypeSpec;
+import com.wuda.code.generator.TypeNameUtils;
+import com.wuda.yhan.code.generator.lang.relational.Column;
+import com.wuda.yhan.code.generator.lang.relational.Index;
+import com.wuda.yhan.code.generator.lang.relational.Table;
+import com.wuda.yhan.code.generator.lang.util.BatchLoader;
+import com.wuda.yhan.code.generator.lang.util.ColumnUtils;
+import com.wuda.yhan.code.generator.lang.util.JavaNamingUtils;
+import com.wuda.yhan.code.generator.lang.util.SqlProviderUtils;
+import com.wuda.yhan.code.generator.lang.util.TableUtils;
+import org.mybatis.dynamic.sql.SqlColumn;
+
+import javax.lang.model.element.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 生成合并查询的loader,比如MessageItemBatchLoader.主键和每个唯一索引各有一个loadBy方法,
+ * 同一个请求中多次调用loadBy方法时,通过{@link BatchLoader}合并成一次mapper中的batchSelectBy方法.
+ *
+ * @author wuda
+ */
+public class MyBatisBatchLoaderGenerator {
+
+    /**
+     * 生成java class文件.
+     *
+     * @param table       表的基本信息
+     * @param packageName 生成的类所属的包
+     * @return java file
+     */
+    public JavaFile genJavaFile(Table table, String packageName) {
+        String finalPackageName = PackageNameUtil.getMapperPackageName(packageName, table.id().schema());
+        ClassName mapperType = ClassName.get(finalPackageName, MyBatisMapperGeneratorUtil.toClassName(table.id().table()));
+        TypeName entityType = EntityGeneratorUtil.getTypeName(table, packageName);
+
+        String className = MyBatisMapperGeneratorUtil.toBatchLoaderClassName(table.id().table());
+        TypeSpec.Builder classBuilder = TypeSpec.classBuilder(className)
+                .addJavadoc("把多次根据主键或者唯一索引查询一条记录合并成一次{@link $T}中的批量查询.\n", mapperType)
+                .addJavadoc("结果会一直保留在这个对象中,因此每个请求创建一个新的对象.\n")
+                .addModifiers(Modifier.PUBLIC, Modifier.FINAL);
+        classBuilder.addField(mapperType, "mapper", Modifier.PRIVATE, Modifier.FINAL);
+        classBuilder.addField(TypeNameUtils.listOf(SqlColumn.class), "retrieveColumns", Modifier.PRIVATE, Modifier.FINAL);
+
+        List<LoaderIndex> loaderIndices = getLoaderIndices(table);
+        MethodSpec.Builder constructor = MethodSpec.constructorBuilder()
+                .addJavadoc("构造loader.\n\n")
+                .addJavadoc("@param mapper          mapper\n")
+                .addJavadoc("@param retrieveColumns 需要返回的列,必须包含主键和唯一索引中的列,否则查询结果无法对应到key\n")
+                .addJavadoc("@param maxBatchSize    一次批量查询的最大key数量,不会超过{@link $T#MAX_IN_LIST_BUCKET_SIZE}\n", SqlProviderUtils.class)
+                .addJavadoc("@param maxDelay        第一个key放入队列之后最多等待多长时间\n")
+                .addJavadoc("@param unit            maxDelay的单位\n")
+                .addJavadoc("@param scheduler       用于定时执行批量查询,null表示只在达到maxBatchSize或者调用{@link #dispatch()}时执行\n")
+                .addModifiers(Modifier.PUBLIC)
+                .addParameter(mapperType, "mapper")
+                .addParameter(TypeNameUtils.listOf(SqlColumn.class), "retrieveColumns")
+                .addParameter(TypeName.INT, "maxBatchSize")
+                .addParameter(TypeName.LONG, "maxDelay")
+                .addParameter(TimeUnit.class, "unit")
+                .addParameter(ScheduledExecutorService.class, "scheduler")
+                .addStatement("this.mapper = mapper")
+                .addStatement("this.retrieveColumns = retrieveColumns");
+        MethodSpec.Builder dispatch = MethodSpec.methodBuilder("dispatch")
+                .addJavadoc("立即查询所有队列中的key,比如在等待结果之前.\n")
+                .addModifiers(Modifier.PUBLIC);
+        List<MethodSpec> loadMethods = new ArrayList<>();
+        List<MethodSpec> batchSelectMethods = new ArrayList<>();
+        for (LoaderIndex loaderIndex : loaderIndices) {
+            TypeName keyType = loaderIndex.keyType();
+            classBuilder.addField(FieldSpec.builder(ParameterizedTypeName.get(ClassName.get(BatchLoader.class), keyType, entityType),
+                    loaderIndex.fieldName, Modifier.PRIVATE, Modifier.FINAL).build());
+            CodeBlock batchFunction;
+            CodeBlock keyFunction;
+            if (loaderIndex.columns.size() == 1) {
+                batchFunction = CodeBlock.of("keys -> mapper.$L(keys, retrieveColumns)", loaderIndex.batchSelectMethodName);
+                keyFunction = CodeBlock.of("$T::$L", entityType, loaderIndex.getterNames.get(0));
+            } else {
+                MethodSpec batchSelectMethod = genCompositeBatchSelectMethod(loaderIndex, keyType, entityType);
+                batchSelectMethods.add(batchSelectMethod);
+                batchFunction = CodeBlock.of("this::$N", batchSelectMethod);
+                keyFunction = CodeBlock.of("entity -> $T.<Object>asList($L)", Arrays.class, String.join(", ", loaderIndex.getterCalls("entity")));
+            }
+            constructor.addStatement("this.$L = new $T<>($L, $L, maxBatchSize, maxDelay, unit, scheduler)",
+                    loaderIndex.fieldName, BatchLoader.class, batchFunction, keyFunction);
+            dispatch.addStatement("$L.dispatch()", loaderIndex.fieldName);
+            loadMethods.add(genLoadMethod(loaderIndex, mapperType, entityType));
+        }
+        classBuilder.addMethod(MethodSpec.constructorBuilder()
+                .addJavadoc("构造只在达到{@link $T#MAX_IN_LIST_BUCKET_SIZE}个key或者调用{@link #dispatch()}时执行查询的loader.\n\n", SqlProviderUtils.class)
+                .addJavadoc("@param mapper          mapper\n")
+                .addJavadoc("@param retrieveColumns 需要返回的列,必须包含主键和唯一索引中的列\n")
+                .addModifiers(Modifier.PUBLIC)
+                .addParameter(mapperType, "mapper")
+                .addParameter(TypeNameUtils.listOf(SqlColumn.class), "retrieveColumns")
+                .addStatement("this(mapper, retrieveColumns, $T.MAX_IN_LIST_BUCKET_SIZE, 0, $T.MILLISECONDS, null)", SqlProviderUtils.class, TimeUnit.class)
+                .build());
+        classBuilder.addMethod(constructor.build());
+        classBuilder.addMethods(loadMethods);
+        classBuilder.addMethod(dispatch.build());
+        classBuilder.addMethods(batchSelectMethods);
+        return JavaFile.builder(finalPackageName, classBuilder.build()).build();
+    }
+
+    /**
+     * 主键和唯一索引各自对应一个loader.
+     *
+     * @param table table
+     * @return indices
+     */
+    private List<LoaderIndex> getLoaderIndices(Table table) {
+        List<LoaderIndex> loaderIndices = new ArrayList<>();
+        loaderIndices.add(new LoaderIndex(table.primaryKeyColumns(), true));
+        List<Index> uniqueIndices = TableUtils.getUniqueIndices(table);
+        if (uniqueIndices != null) {
+            for (Index index : uniqueIndices) {
+                loaderIndices.add(new LoaderIndex(ColumnUtils.indexColumns(table, index), false));
+            }
+        }
+        return loaderIndices;
+    }
+
+    /**
+     * 生成loadBy方法.
+     *
+     * @param loaderIndex index
+     * @param mapperType  mapper type
+     * @param entityType  entity type
+     * @return method
+     */
+    private MethodSpec genLoadMethod(LoaderIndex loaderIndex, ClassName mapperType, TypeName entityType) {
+        MethodSpec.Builder builder = MethodSpec.methodBuilder(loaderIndex.loadMethodName)
+                .addJavadoc("加载一条记录,和其他key一起通过{@link $T#$L}查询.\n", mapperType, loaderIndex.batchSelectMethodName)
+                .addModifiers(Modifier.PUBLIC)
+                .returns(ParameterizedTypeName.get(ClassName.get(CompletableFuture.class), entityType))
+                .addParameters(MyBatisMapperGeneratorUtil.getParameterSpecs(loaderIndex.columns, false));
+        if (hasStringColumn(loaderIndex.columns)) {
+            builder.addJavadoc("查询结果通过key的equals对应到每个key,如果列的collation不区分大小写(比如utf8_general_ci)或者是PAD SPACE,\n")
+                    .addJavadoc("数据库认为相等而equals不相等的key(比如'abc'和'ABC ')能查询到记录,但是记录无法对应到这个key,结果是null.\n")
+                    .addJavadoc("这种情况下需要先按照数据库的规则规范化key,比如统一大小写并去掉末尾的空格.\n");
+        }
+        List<String> parameterNames = new ArrayList<>();
+        for (ParameterSpec parameterSpec : builder.build().parameters) {
+            parameterNames.add(parameterSpec.name);
+        }
+        if (loaderIndex.columns.size() == 1) {
+            builder.addStatement("return $L.load($L)", loaderIndex.fieldName, parameterNames.get(0));
+        } else {
+            builder.addStatement("return $L.load($T.<Object>asList($L))", loaderIndex.fieldName, Arrays.class, String.join(", ", parameterNames));
+        }
+        return builder.build();
+    }
+
+    /**
+     * 是否有java类型是String的列,这些列的比较规则由collation决定,可能和equals不一样.
+     *
+     * @param columns columns
+     * @return <code>true</code>-如果有String类型的列
+     */
+    private static boolean hasStringColumn(List<Column> columns) {
+        for (Column column : columns) {
+            if (MysqlTypeUtil.mysqlTypeToJavaType(column.typeExpression()) == String.class) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 组合索引上的batchSelectBy方法的参数是实体,把key转换成实体之后再查询.
+     *
+     * @param loaderIndex index
+     * @param keyType     key type
+     * @param entityType  entity type
+     * @return method
+     */
+    private MethodSpec genCompositeBatchSelectMethod(LoaderIndex loaderIndex, TypeName keyType, TypeName entityType) {
+        ParameterizedTypeName listOfEntity = ParameterizedTypeName.get(ClassName.get(List.class), entityType);
+        MethodSpec.Builder builder = MethodSpec.methodBuilder(loaderIndex.batchSelectMethodName)
+                .addModifiers(Modifier.PRIVATE)
+                .returns(listOfEntity)
+                .addParameter(ParameterizedTypeName.get(ClassName.get(List.class), keyType), "keys")
+                .addStatement("$T list = new $T<>(keys.size())", listOfEntity, ArrayList.class)
+                .beginControlFlow("for ($T key : keys)", keyType)
+                .addStatement("$T entity = new $T()", entityType, entityType);
+        for (int i = 0; i < loaderIndex.columns.size(); i++) {
+            Class<?> javaType = MysqlTypeUtil.mysqlTypeToJavaType(loaderIndex.columns.get(i).typeExpression());
+            builder.addStatement("entity.$L(($T) key.get($L))", loaderIndex.setterNames.get(i), javaType, i);
+        }
+        return builder.addStatement("list.add(entity)")
+                .endControlFlow()
+                .addStatement("return mapper.$L(list, retrieveColumns)", loaderIndex.batchSelectMethodName)
+                .build();
+    }
+
+    /**
+     * 一个主键或者唯一索引对应的loader.
+     */
+    private static final class LoaderIndex {
+
+        private final List<Column> columns;
+        /**
+         * loader的属性名称,比如primaryKeyLoader,itemCodeLoader.
+         */
+        private final String fieldName;
+        private final String loadMethodName;
+        private final String batchSelectMethodName;
+        private final List<String> getterNames = new ArrayList<>();
+        private final List<String> setterNames = new ArrayList<>();
+
+        LoaderIndex(List<Column> columns, boolean primaryKey) {
+            this.columns = columns;
+            List<String> columnNames = ColumnUtils.columnNames(columns);
+            this.fieldName = MyBatisMapperGeneratorUtil.getIndexFieldName(columnNames, primaryKey, "Loader");
+            this.loadMethodName = MyBatisMapperGeneratorUtil.getLoadMethodName(columnNames, primaryKey);
+            this.batchSelectMethodName = MyBatisMapperGeneratorUtil.getBatchSelectMethodName(columnNames, primaryKey);
+            for (String columnName : columnNames) {
+                String fieldName = EntityGeneratorUtil.toFieldName(columnName);
+                getterNames.add(JavaNamingUtils.genGetterMethodName(fieldName));
+                setterNames.add(JavaNamingUtils.genSetterMethodName(fieldName));
+            }
+        }
+
+        /**
+         * loader的key的类型,一个列时就是这个列的java类型,多个列时是{@link List}.
+         *
+         * @return key type
+         */
+        TypeName keyType() {
+            if (columns.size() == 1) {
+                return ClassName.get(MysqlTypeUtil.mysqlTypeToJavaType(columns.get(0).typeExpression()));
+            }
+            return ParameterizedTypeName.get(List.class, Object.class);
+        }
+
+        /**
+         * 从实体中读取索引中每个列的值的表达式.
+         *
+         * @param entity 实体变量的名称
+         * @return 表达式
+         */
+        List<String> getterCalls(String entity) {
+            List<String> getterCalls = new ArrayList<>(getterNames.size());
+            for (String getterName : getterNames) {
+                getterCalls.add(entity + "." + getterName + "()");
+            }
+            return getterCalls;
+        }
+    }
+}
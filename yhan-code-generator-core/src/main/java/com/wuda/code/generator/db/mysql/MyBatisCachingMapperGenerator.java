@@ -0,0 +1,381 @@
+package com.wuda.code.generator.db.mysql;
+
+import com.squareup.javapoet.AnnotationSpec;
+import com.squareup.javapoet.ClassName;
+import com.squareup.javapoet.CodeBlock;
+import com.squareup.javapoet.FieldSpec;
+import com.squareup.javapoet.JavaFile;
+import com.squareup.javapoet.MethodSpec;
+import com.squareup.javapoet.ParameterSpec;
+import com.squareup.javapoet.ParameterizedTypeName;
+import com.squareup.javapoet.TypeName;
+import com.squareup.javapoet.TypeSpec;
+import com.wuda.yhan.code.generator.lang.Constant;
+import com.wuda.yhan.code.generator.lang.relational.Column;
+import com.wuda.yhan.code.generator.lang.relational.Index;
+import com.wuda.yhan.code.generator.lang.relational.Table;
+import com.wuda.yhan.code.generator.lang.util.ColumnUtils;
+import com.wuda.yhan.code.generator.lang.util.JavaNamingUtils;
+import com.wuda.yhan.code.generator.lang.util.ReadThroughCache;
+import com.wuda.yhan.code.generator.lang.util.TableUtils;
+import org.apache.ibatis.annotations.Delete;
+import org.apache.ibatis.annotations.DeleteProvider;
+import org.apache.ibatis.annotations.Insert;
+import org.apache.ibatis.annotations.InsertProvider;
+import org.apache.ibatis.annotations.Update;
+import org.apache.ibatis.annotations.UpdateProvider;
+
+import javax.lang.model.element.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 生成mapper的装饰类,比如MessageItemCachingMapper.selectByPrimaryKey和唯一索引上的selectBy方法
+ * 从进程内的{@link ReadThroughCache}中读取,每个索引一个缓存,key是索引中的列的值.
+ * insert,updateBy,deleteBy等修改数据的方法执行之后,删除对应的缓存,事务提交之后的再次删除参考
+ * {@link ReadThroughCache#setAfterCommitExecutor};其他方法直接调用被装饰的mapper.
+ *
+ * @author wuda
+ */
+public class MyBatisCachingMapperGenerator {
+
+    /**
+     * 被装饰的mapper的生成器,决定装饰类需要实现哪些方法.
+     */
+    private MyBatisMapperGenerator mapperGenerator = new MyBatisMapperGenerator();
+
+    /**
+     * 设置被装饰的mapper的生成器,必须和生成mapper时使用的配置一样.
+     *
+     * @param mapperGenerator mapper generator
+     */
+    public void setMapperGenerator(MyBatisMapperGenerator mapperGenerator) {
+        this.mapperGenerator = mapperGenerator;
+    }
+
+    /**
+     * 生成java class文件.
+     *
+     * @param table       表的基本信息
+     * @param packageName 生成的类所属的包
+     * @return java file
+     */
+    public JavaFile genJavaFile(Table table, String packageName) {
+        JavaFile mapperJavaFile = mapperGenerator.genJavaFile(table, packageName);
+        TypeSpec mapperTypeSpec = mapperJavaFile.typeSpec;
+        ClassName mapperType = ClassName.get(mapperJavaFile.packageName, mapperTypeSpec.name);
+        TypeName entityType = EntityGeneratorUtil.getTypeName(table, packageName);
+        List<IndexCache> indexCaches = getIndexCaches(table);
+
+        String className = MyBatisMapperGeneratorUtil.toCachingClassName(table.id().table());
+        TypeSpec.Builder classBuilder = TypeSpec.classBuilder(className)
+                .addJavadoc("{@link $T}的装饰类,根据主键和唯一索引查询的方法优先从进程内的缓存读取.\n", mapperType)
+                .addJavadoc("通过这个类执行的insert,update,delete会删除对应的缓存,其他进程或者直接通过{@link $T}的修改不会,\n", mapperType)
+                .addJavadoc("只能依靠过期时间.在事务中修改时,提交之前其他线程仍然可能把旧的记录放入缓存,\n")
+                .addJavadoc("因此需要设置{@link $T#setAfterCommitExecutor}在事务提交之后再删除一次,或者指定过期时间.\n", ReadThroughCache.class)
+                .addJavadoc("返回的对象和缓存中的是同一个,调用方不能修改.\n")
+                .addModifiers(Modifier.PUBLIC)
+                .addSuperinterface(mapperType);
+        classBuilder.addField(mapperType, "delegate", Modifier.PRIVATE, Modifier.FINAL);
+        ParameterizedTypeName cacheType = ParameterizedTypeName.get(ClassName.get(ReadThroughCache.class), entityType);
+        for (IndexCache indexCache : indexCaches) {
+            classBuilder.addField(FieldSpec.builder(cacheType, indexCache.fieldName, Modifier.PRIVATE, Modifier.FINAL).build());
+        }
+        classBuilder.addMethod(genConstructor(mapperType));
+        classBuilder.addMethod(genConstructor(mapperType, cacheType, indexCaches));
+        classBuilder.addMethod(genInvalidateAllMethod(indexCaches));
+
+        for (MethodSpec methodSpec : mapperTypeSpec.methodSpecs) {
+            if (!methodSpec.hasModifier(Modifier.ABSTRACT)) {
+                // default方法会调用装饰类中实现的abstract方法
+                continue;
+            }
+            classBuilder.addMethod(genOverrideMethod(methodSpec, indexCaches));
+        }
+        String finalPackageName = PackageNameUtil.getMapperPackageName(packageName, table.id().schema());
+        return JavaFile.builder(finalPackageName, classBuilder.build()).build();
+    }
+
+    /**
+     * 主键和唯一索引各自对应一个缓存.
+     *
+     * @param table table
+     * @return caches
+     */
+    private List<IndexCache> getIndexCaches(Table table) {
+        List<IndexCache> indexCaches = new ArrayList<>();
+        indexCaches.add(new IndexCache(table.primaryKeyColumns(), true));
+        List<Index> uniqueIndices = TableUtils.getUniqueIndices(table);
+        if (uniqueIndices != null) {
+            for (Index index : uniqueIndices) {
+                indexCaches.add(new IndexCache(ColumnUtils.indexColumns(table, index), false));
+            }
+        }
+        return indexCaches;
+    }
+
+    /**
+     * 不过期的缓存的构造函数.
+     *
+     * @param mapperType mapper type
+     * @return constructor
+     */
+    private MethodSpec genConstructor(ClassName mapperType) {
+        return MethodSpec.constructorBuilder()
+                .addJavadoc("构造不过期的缓存,需要先设置{@link $T#setAfterCommitExecutor}.\n\n", ReadThroughCache.class)
+                .addJavadoc("@param delegate 被装饰的mapper\n")
+                .addJavadoc("@param capacity 每个索引最多缓存的记录数\n")
+                .addModifiers(Modifier.PUBLIC)
+                .addParameter(mapperType, "delegate")
+                .addParameter(TypeName.INT, "capacity")
+                .addStatement("this(delegate, capacity, 0, $T.MILLISECONDS)", TimeUnit.class)
+                .build();
+    }
+
+    /**
+     * 构造函数.
+     *
+     * @param mapperType  mapper type
+     * @param cacheType   缓存的类型
+     * @param indexCaches caches
+     * @return constructor
+     */
+    private MethodSpec genConstructor(ClassName mapperType, ParameterizedTypeName cacheType, List<IndexCache> indexCaches) {
+        MethodSpec.Builder builder = MethodSpec.constructorBuilder()
+                .addJavadoc("构造缓存.\n\n")
+                .addJavadoc("@param delegate 被装饰的mapper\n")
+                .addJavadoc("@param capacity 每个索引最多缓存的记录数\n")
+                .addJavadoc("@param ttl      放入缓存之后多长时间过期,0表示不过期,需要先设置{@link $T#setAfterCommitExecutor}\n", ReadThroughCache.class)
+                .addJavadoc("@param unit     ttl的单位\n")
+                .addModifiers(Modifier.PUBLIC)
+                .addParameter(mapperType, "delegate")
+                .addParameter(TypeName.INT, "capacity")
+                .addParameter(TypeName.LONG, "ttl")
+                .addParameter(TimeUnit.class, "unit")
+                .addStatement("this.delegate = delegate");
+        for (IndexCache indexCache : indexCaches) {
+            builder.addStatement("this.$L = new $T<>(capacity, ttl, unit)", indexCache.fieldName, cacheType.rawType);
+        }
+        return builder.build();
+    }
+
+    /**
+     * 删除所有缓存的方法.
+     *
+     * @param indexCaches caches
+     * @return method
+     */
+    private MethodSpec genInvalidateAllMethod(List<IndexCache> indexCaches) {
+        MethodSpec.Builder builder = MethodSpec.methodBuilder("invalidateAll")
+                .addJavadoc("删除所有缓存,比如在其他地方批量修改了数据之后.\n")
+                .addModifiers(Modifier.PUBLIC);
+        for (IndexCache indexCache : indexCaches) {
+            builder.addStatement("$L.invalidateAll()", indexCache.fieldName);
+        }
+        return builder.build();
+    }
+
+    /**
+     * 实现mapper中的方法.
+     *
+     * @param methodSpec  mapper中的方法
+     * @param indexCaches caches
+     * @return method
+     */
+    private MethodSpec genOverrideMethod(MethodSpec methodSpec, List<IndexCache> indexCaches) {
+        MethodSpec.Builder builder = MethodSpec.methodBuilder(methodSpec.name)
+                .addAnnotation(Override.class)
+                .addModifiers(Modifier.PUBLIC)
+                .returns(methodSpec.returnType);
+        List<String> arguments = new ArrayList<>(methodSpec.parameters.size());
+        for (ParameterSpec parameterSpec : methodSpec.parameters) {
+            // 去掉@Param注解
+            builder.addParameter(ParameterSpec.builder(parameterSpec.type, parameterSpec.name).build());
+            arguments.add(parameterSpec.name);
+        }
+        String delegateCall = "delegate." + methodSpec.name + "(" + String.join(", ", arguments) + ")";
+
+        for (IndexCache indexCache : indexCaches) {
+            if (methodSpec.name.equals(indexCache.selectMethodName)) {
+                builder.addStatement("return $L.get($L, $L, () -> $L)", indexCache.fieldName,
+                        keyOf(indexCache, arguments.subList(0, indexCache.columnNames.size())),
+                        Constant.RETRIEVE_COLUMNS, delegateCall);
+                return builder.build();
+            }
+        }
+        if (!isWriteMethod(methodSpec)) {
+            if (methodSpec.returnType.equals(TypeName.VOID)) {
+                builder.addStatement(delegateCall);
+            } else {
+                builder.addStatement("return $L", delegateCall);
+            }
+            return builder.build();
+        }
+        builder.addStatement("$T result = $L", methodSpec.returnType, delegateCall);
+        builder.addCode(genInvalidateCode(methodSpec, arguments, indexCaches));
+        builder.addStatement("return result");
+        return builder.build();
+    }
+
+    /**
+     * 修改数据之后删除缓存.
+     * <ul>
+     * <li>insert: 删除新记录的主键和唯一索引的值对应的缓存</li>
+     * <li>根据某个索引update,delete: 删除这个索引的值对应的缓存,其他索引的缓存不知道旧的值,全部删除</li>
+     * <li>其他,比如upsert,非唯一索引上的delete: 删除所有缓存</li>
+     * </ul>
+     *
+     * @param methodSpec  mapper中的方法
+     * @param arguments   参数名称
+     * @param indexCaches caches
+     * @return code
+     */
+    private CodeBlock genInvalidateCode(MethodSpec methodSpec, List<String> arguments, List<IndexCache> indexCaches) {
+        String name = methodSpec.name;
+        CodeBlock.Builder code = CodeBlock.builder();
+        if (name.equals(Constant.MAPPER_INSERT) || name.equals(Constant.MAPPER_INSERT_USE_GENERATED_KEYS)) {
+            for (IndexCache indexCache : indexCaches) {
+                invalidateEntity(code, indexCache, arguments.get(0));
+            }
+            return code.build();
+        }
+        if (name.equals(Constant.MAPPER_BATCH_INSERT) || name.equals(Constant.MAPPER_BATCH_INSERT_USE_GENERATED_KEYS)) {
+            code.beginControlFlow("for ($T entity : $L)", elementType(methodSpec), arguments.get(0));
+            for (IndexCache indexCache : indexCaches) {
+                invalidateEntity(code, indexCache, "entity");
+            }
+            code.endControlFlow();
+            return code.build();
+        }
+        for (IndexCache indexCache : indexCaches) {
+            int keySize = indexCache.columnNames.size();
+            if (name.equals(indexCache.updateMethodName) || name.equals(indexCache.deleteMethodName)) {
+                code.addStatement("$L.invalidate($L)", indexCache.fieldName, keyOf(indexCache, arguments.subList(0, keySize)));
+            } else if (name.equals(indexCache.batchDeleteMethodName)
+                    || (indexCache.primaryKey && name.equals(Constant.MAPPER_BATCH_UPDATE_BY_PRIMARY_KEY))) {
+                if (keySize == 1 && !name.equals(Constant.MAPPER_BATCH_UPDATE_BY_PRIMARY_KEY)) {
+                    code.beginControlFlow("for ($T key : $L)", elementType(methodSpec), arguments.get(0))
+                            .addStatement("$L.invalidate(key)", indexCache.fieldName);
+                } else {
+                    // 组合索引和batchUpdate的参数是实体
+                    code.beginControlFlow("for ($T entity : $L)", elementType(methodSpec), arguments.get(0))
+                            .addStatement("$L.invalidate($L)", indexCache.fieldName, keyOf(indexCache, indexCache.getterCalls("entity")));
+                }
+                code.endControlFlow();
+            } else {
+                continue;
+            }
+            for (IndexCache other : indexCaches) {
+                if (other != indexCache) {
+                    code.addStatement("$L.invalidateAll()", other.fieldName);
+                }
+            }
+            return code.build();
+        }
+        code.addStatement("invalidateAll()");
+        return code.build();
+    }
+
+    /**
+     * 删除实体的索引值对应的缓存,索引中的列有null值时跳过.
+     *
+     * @param code       code
+     * @param indexCache cache
+     * @param entity     实体变量的名称
+     */
+    private void invalidateEntity(CodeBlock.Builder code, IndexCache indexCache, String entity) {
+        List<String> getterCalls = indexCache.getterCalls(entity);
+        List<String> nonNullConditions = new ArrayList<>(getterCalls.size());
+        for (String getterCall : getterCalls) {
+            nonNullConditions.add(getterCall + " != null");
+        }
+        code.beginControlFlow("if ($L)", String.join(" && ", nonNullConditions))
+                .addStatement("$L.invalidate($L)", indexCache.fieldName, keyOf(indexCache, getterCalls))
+                .endControlFlow();
+    }
+
+    /**
+     * 缓存的key,一个列时直接使用这个列的值.
+     *
+     * @param indexCache cache
+     * @param values     索引中每个列的值的表达式
+     * @return key的表达式
+     */
+    private CodeBlock keyOf(IndexCache indexCache, List<String> values) {
+        if (indexCache.columnNames.size() == 1) {
+            return CodeBlock.of("$L", values.get(0));
+        }
+        return CodeBlock.of("$T.key($L)", ReadThroughCache.class, String.join(", ", values));
+    }
+
+    /**
+     * list参数中元素的类型.
+     *
+     * @param methodSpec 第一个参数是list的方法
+     * @return 元素的类型
+     */
+    private TypeName elementType(MethodSpec methodSpec) {
+        return ((ParameterizedTypeName) methodSpec.parameters.get(0).type).typeArguments.get(0);
+    }
+
+    /**
+     * 是否修改数据的方法.
+     *
+     * @param methodSpec method
+     * @return true-如果是insert,update,delete
+     */
+    private boolean isWriteMethod(MethodSpec methodSpec) {
+        List<TypeName> writeAnnotations = Arrays.asList(ClassName.get(Insert.class), ClassName.get(InsertProvider.class),
+                ClassName.get(Update.class), ClassName.get(UpdateProvider.class),
+                ClassName.get(Delete.class), ClassName.get(DeleteProvider.class));
+        for (AnnotationSpec annotationSpec : methodSpec.annotations) {
+            if (writeAnnotations.contains(annotationSpec.type)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 一个主键或者唯一索引对应的缓存.
+     */
+    private static final class IndexCache {
+
+        private final List<String> columnNames;
+        private final boolean primaryKey;
+        /**
+         * 缓存的属性名称,比如primaryKeyCache,itemCodeCache.
+         */
+        private final String fieldName;
+        private final String selectMethodName;
+        private final String updateMethodName;
+        private final String deleteMethodName;
+        private final String batchDeleteMethodName;
+
+        IndexCache(List<Column> columns, boolean primaryKey) {
+            this.columnNames = ColumnUtils.columnNames(columns);
+            this.primaryKey = primaryKey;
+            this.fieldName = MyBatisMapperGeneratorUtil.getIndexFieldName(columnNames, primaryKey, "Cache");
+            this.selectMethodName = MyBatisMapperGeneratorUtil.getSelectMethodName(columnNames, primaryKey, false);
+            this.updateMethodName = MyBatisMapperGeneratorUtil.getUpdateMethodName(columnNames, primaryKey);
+            this.deleteMethodName = MyBatisMapperGeneratorUtil.getDeleteMethodName(columnNames, primaryKey);
+            this.batchDeleteMethodName = MyBatisMapperGeneratorUtil.getBatchDeleteMethodName(columnNames, primaryKey);
+        }
+
+        /**
+         * 从实体中读取索引中每个列的值的表达式.
+         *
+         * @param entity 实体变量的名称
+         * @return 表达式
+         */
+        List<String> getterCalls(String entity) {
+            List<String> getterCalls = new ArrayList<>(columnNames.size());
+            for (String columnName : columnNames) {
+                getterCalls.add(entity + "." + JavaNamingUtils.genGetterMethodName(EntityGeneratorUtil.toFieldName(columnName)) + "()");
+            }
+            return getterCalls;
+        }
+    }
+}
@@ -5,11 +5,26 @@ import com.wuda.yhan.code.generator.lang.Constant;
 import com.wuda.yhan.code.generator.lang.relational.Column;
 import com.wuda.yhan.code.generator.lang.relational.Index;
 import com.wuda.yhan.code.generator.lang.relational.Table;
+import com.wuda.yhan.code.generator.lang.routing.ReadOnly;
+import com.wuda.yhan.code.generator.lang.sharding.ShardingUtils;
+import com.wuda.yhan.code.generator.lang.util.BatchUtils;
+import com.wuda.yhan.code.generator.lang.util.SqlProviderUtils;
 import com.wuda.yhan.code.generator.lang.util.ColumnUtils;
 import com.wuda.yhan.code.generator.lang.util.TableUtils;
+import org.apache.ibatis.annotations.Select;
+import org.apache.ibatis.annotations.SelectProvider;
+import org.apache.ibatis.cursor.Cursor;
+import org.apache.ibatis.type.JdbcType;
 
 import javax.lang.model.element.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
 
 /**
  * 生成表对应的mybatis mapper接口.
@@ -18,6 +33,71 @@ import java.util.List;
  */
 public class MyBatisMapperGenerator {
 
+    /**
+     * 是否把不随参数变化的sql语句直接生成到{@link org.apache.ibatis.annotations.Delete},
+     * {@link org.apache.ibatis.annotations.Select}注解中.这样Mybatis在启动时就解析好语句,
+     * 而不是每次调用都执行SqlBuilder中的方法再解析.
+     * 目前包括deleteByPrimaryKey,唯一索引上的deleteBy,以及非唯一索引上的countBy方法.
+     */
+    private boolean staticStatement = false;
+
+    /**
+     * 设置是否生成静态sql语句,参考{@link #staticStatement}.
+     *
+     * @param staticStatement true-生成静态sql语句
+     */
+    public void setStaticStatement(boolean staticStatement) {
+        this.staticStatement = staticStatement;
+    }
+
+    /**
+     * 和{@link SqlBuilderGenerator#setBucketedInList(boolean)}配合使用.如果是true,则为每个batchSelectBy方法
+     * 生成一个default方法,把超过{@link SqlProviderUtils#MAX_IN_LIST_BUCKET_SIZE}的集合拆分成多次查询,
+     * 这样每个batchSelectBy方法的sql语句的种类是有限的.
+     */
+    private boolean bucketedInList = false;
+
+    /**
+     * 设置是否生成拆分batchSelectBy集合的方法,参考{@link #bucketedInList}.
+     *
+     * @param bucketedInList true-生成拆分集合的方法
+     */
+    public void setBucketedInList(boolean bucketedInList) {
+        this.bucketedInList = bucketedInList;
+    }
+
+    /**
+     * 和{@link SqlBuilderGenerator#setRollingDelete(boolean)}配合使用.如果是true,则为每个非唯一索引
+     * 生成带有LIMIT的batchDeleteBy方法,以及循环调用它直到删除完所有匹配记录的default方法,
+     * 这样删除大量记录时,每一次delete都是一个小事务.
+     */
+    private boolean rollingDelete = false;
+
+    /**
+     * 设置是否生成分多次删除的方法,参考{@link #rollingDelete}.
+     *
+     * @param rollingDelete true-生成分多次删除的方法
+     */
+    public void setRollingDelete(boolean rollingDelete) {
+        this.rollingDelete = rollingDelete;
+    }
+
+    /**
+     * 和{@link SqlBuilderGenerator#setShardKeyColumns(Map)}配合使用.分表的表不生成静态sql语句,
+     * batchInsert使用sql builder而不是script,Chunked方法先按照物理表分组,每一组再分批执行,
+     * 并且总是生成batchSelectBy的Chunked方法.
+     */
+    private Map<String, String> shardKeyColumns = Collections.emptyMap();
+
+    /**
+     * 设置分表的表和分片键所在的列,参考{@link #shardKeyColumns}.
+     *
+     * @param shardKeyColumns key是表名,value是分片键所在的列
+     */
+    public void setShardKeyColumns(Map<String, String> shardKeyColumns) {
+        this.shardKeyColumns = shardKeyColumns;
+    }
+
     /**
      * 生成java class文件.
      *
@@ -31,34 +111,58 @@ public class MyBatisMapperGenerator {
         classBuilder.addAnnotation(MybatisFrameworkUtils.genMapperAnnotation());
         classBuilder.addModifiers(Modifier.PUBLIC);
 
-        classBuilder.addMethod(genInsertMethod(table, packageName, false));
+        List<MethodSpec> methods = new ArrayList<>();
+        methods.add(genInsertMethod(table, packageName, false));
         MethodSpec insertUseGeneratedKeys = genInsertMethod(table, packageName, true);
         if (insertUseGeneratedKeys != null) {
-            classBuilder.addMethod(insertUseGeneratedKeys);
+            methods.add(insertUseGeneratedKeys);
         }
-        classBuilder.addMethod(genBatchInsertMethod(table, packageName));
+        methods.add(genBatchInsertMethod(table, packageName));
+        methods.addAll(genBatchInsertChunkedMethods(table, packageName, false));
         MethodSpec batchInsertUseGeneratedKeys = genBatchInsertUseGeneratedKeysMethod(table, packageName);
         if (batchInsertUseGeneratedKeys != null) {
-            classBuilder.addMethod(batchInsertUseGeneratedKeys);
+            methods.add(batchInsertUseGeneratedKeys);
+            methods.addAll(genBatchInsertChunkedMethods(table, packageName, true));
+        }
+        if (!SqlBuilderGeneratorUtil.getUpsertKeyColumns(table).isEmpty()) {
+            // 没有主键和唯一索引时不会冲突,不需要upsert
+            methods.add(genUpsertMethod(table, packageName, false));
+            methods.add(genUpsertMethod(table, packageName, true));
         }
         // 主键
         List<Column> primaryKeyColumns = table.primaryKeyColumns();
-        classBuilder.addMethod(genDeleteMethod(table, packageName, primaryKeyColumns, true));
-        classBuilder.addMethod(genUpdateMethod(table, packageName, primaryKeyColumns, true));
-        classBuilder.addMethod(genSelectMethod(table, packageName, primaryKeyColumns, true, false, false));
-        classBuilder.addMethod(genSelectMethod(table, packageName, primaryKeyColumns, true, false, true));
-        classBuilder.addMethod(genBatchSelectMethod(table, packageName, primaryKeyColumns, true));
+        methods.add(genDeleteMethod(table, packageName, primaryKeyColumns, true));
+        methods.add(genBatchDeleteMethod(table, packageName, primaryKeyColumns, true, false));
+        methods.add(genBatchDeleteChunkedMethod(table, packageName, primaryKeyColumns, true));
+        methods.add(genUpdateMethod(table, packageName, primaryKeyColumns, true));
+        methods.add(genBatchUpdateByPrimaryKeyMethod(table, packageName));
+        methods.add(genBatchUpdateByPrimaryKeyChunkedMethod(table, packageName));
+        methods.add(genSelectMethod(table, packageName, primaryKeyColumns, true, false, false));
+        methods.add(genSelectMethod(table, packageName, primaryKeyColumns, true, false, true));
+        methods.add(genBatchSelectMethod(table, packageName, primaryKeyColumns, true));
+        methods.add(genSelectAfterMethod(table, packageName, primaryKeyColumns, true, true));
+        if (bucketedInList || getShardKeyColumn(table) != null) {
+            methods.add(genBatchSelectChunkedMethod(table, packageName, primaryKeyColumns, true));
+        }
 
         // 唯一索引
         List<Index> uniqueIndices = TableUtils.getUniqueIndices(table);
         if (uniqueIndices != null && !uniqueIndices.isEmpty()) {
             for (Index index : uniqueIndices) {
                 List<Column> indexColumns = ColumnUtils.indexColumns(table, index);
-                classBuilder.addMethod(genDeleteMethod(table, packageName, indexColumns, false));
-                classBuilder.addMethod(genUpdateMethod(table, packageName, indexColumns, false));
-                classBuilder.addMethod(genSelectMethod(table, packageName, indexColumns, false, true, false));
-                classBuilder.addMethod(genSelectMethod(table, packageName, indexColumns, false, true, true));
-                classBuilder.addMethod(genBatchSelectMethod(table, packageName, indexColumns, false));
+                methods.add(genDeleteMethod(table, packageName, indexColumns, false));
+                methods.add(genBatchDeleteMethod(table, packageName, indexColumns, false, false));
+                methods.add(genBatchDeleteChunkedMethod(table, packageName, indexColumns, false));
+                methods.add(genUpdateMethod(table, packageName, indexColumns, false));
+                methods.add(genSelectMethod(table, packageName, indexColumns, false, true, false));
+                methods.add(genSelectMethod(table, packageName, indexColumns, false, true, true));
+                methods.add(genBatchSelectMethod(table, packageName, indexColumns, false));
+                if (MyBatisMapperGeneratorUtil.isKeysetPageable(table, indexColumns, true)) {
+                    methods.add(genSelectAfterMethod(table, packageName, indexColumns, false, true));
+                }
+                if (bucketedInList || getShardKeyColumn(table) != null) {
+                    methods.add(genBatchSelectChunkedMethod(table, packageName, indexColumns, false));
+                }
             }
         }
         // 非唯一索引
@@ -66,19 +170,124 @@ public class MyBatisMapperGenerator {
         if (nonUniqueIndices != null && !nonUniqueIndices.isEmpty()) {
             for (Index index : nonUniqueIndices) {
                 List<Column> indexColumns = ColumnUtils.indexColumns(table, index);
-                classBuilder.addMethod(genSelectMethod(table, packageName, indexColumns, false, false, false));
-                classBuilder.addMethod(genSelectCountMethod(table, packageName, indexColumns));
+                methods.add(genSelectMethod(table, packageName, indexColumns, false, false, false));
+                methods.add(genSelectCountMethod(table, packageName, indexColumns));
+                if (MyBatisMapperGeneratorUtil.isKeysetPageable(table, indexColumns, false)) {
+                    methods.add(genSelectAfterMethod(table, packageName, indexColumns, false, false));
+                }
+                methods.add(genStreamMethod(table, packageName, indexColumns));
+                if (rollingDelete) {
+                    methods.add(genBatchDeleteMethod(table, packageName, indexColumns, false, true));
+                    methods.add(genBatchDeleteRollingMethod(table, packageName, indexColumns));
+                }
             }
         }
 
-        classBuilder.addMethod(genSelectByExampleMethod(table, packageName, true));
-        classBuilder.addMethod(genSelectByExampleMethod(table, packageName, false));
-        classBuilder.addMethod(genSelectCountByExampleMethod(table, packageName));
+        methods.add(genSelectByExampleMethod(table, packageName, true));
+        methods.add(genSelectByExampleMethod(table, packageName, false));
+        methods.add(genSelectCountByExampleMethod(table, packageName));
+        methods.add(genStreamByExampleMethod(table, packageName));
+        classBuilder.addMethods(markReadOnlyMethods(methods));
 
         String finalPackageName = PackageNameUtil.getMapperPackageName(packageName, table.id().schema());
         return JavaFile.builder(finalPackageName, classBuilder.build()).build();
     }
 
+    /**
+     * 分表的表和分片键所在的列.
+     *
+     * @param table table
+     * @return 分片键所在的列, null-如果不分表
+     */
+    private Column getShardKeyColumn(Table table) {
+        return ShardingGeneratorUtil.getShardKeyColumn(table, shardKeyColumns);
+    }
+
+    /**
+     * 是否为这个表生成静态sql语句,分表时表名不是固定的,因此不生成.
+     *
+     * @param table table
+     * @return <code>true</code>-如果生成静态sql语句
+     */
+    private boolean isStaticStatement(Table table) {
+        return staticStatement && getShardKeyColumn(table) == null;
+    }
+
+    /**
+     * 分表时,先按照物理表把集合分组,然后每一组执行<i>statement</i>;如果不分表,或者集合的元素中没有分片键,
+     * 则直接执行<i>statement</i>,由sql builder使用{@link ShardingUtils#withShardKey}指定的分片键.
+     *
+     * @param table                  table
+     * @param userSpecifyPackageName package name
+     * @param whereClauseColumns     where条件中的列,null表示集合的元素是实体
+     * @param listParameterSpec      集合参数
+     * @param select                 是否查询,查询时合并每一组的结果,否则累加影响的行数
+     * @param statement              参数是集合的变量名,返回执行语句的表达式
+     * @return 表达式
+     */
+    private CodeBlock byShard(Table table, String userSpecifyPackageName, List<Column> whereClauseColumns, ParameterSpec listParameterSpec,
+                              boolean select, Function<String, CodeBlock> statement) {
+        Column shardKeyColumn = getShardKeyColumn(table);
+        CodeBlock shardKeyFunction = shardKeyColumn == null ? null
+                : ShardingGeneratorUtil.shardKeyFunction(whereClauseColumns, shardKeyColumn, EntityGeneratorUtil.getTypeName(table, userSpecifyPackageName));
+        return byShardKeyFunction(table, userSpecifyPackageName, shardKeyFunction, listParameterSpec, select, statement);
+    }
+
+    /**
+     * 和{@link #byShard(Table, String, List, ParameterSpec, boolean, Function)}一样,但是由调用方给定从元素中获取分片键的function.
+     *
+     * @param table                  table
+     * @param userSpecifyPackageName package name
+     * @param shardKeyFunction       从元素中获取分片键,null表示不分组
+     * @param listParameterSpec      集合参数
+     * @param select                 是否查询,查询时合并每一组的结果,否则累加影响的行数
+     * @param statement              参数是集合的变量名,返回执行语句的表达式
+     * @return 表达式
+     */
+    private CodeBlock byShardKeyFunction(Table table, String userSpecifyPackageName, CodeBlock shardKeyFunction, ParameterSpec listParameterSpec,
+                                         boolean select, Function<String, CodeBlock> statement) {
+        if (shardKeyFunction == null) {
+            return statement.apply(listParameterSpec.name);
+        }
+        return CodeBlock.of("$T.$L($T.$L, $N, $L, shard -> $L)", ShardingUtils.class, select ? "selectByTable" : "executeByTable",
+                TableMetaInfoGeneratorUtil.getTypeName(table, userSpecifyPackageName), TableMetaInfoGeneratorUtil.getSchemaDotTableFieldName(),
+                listParameterSpec, shardKeyFunction, statement.apply("shard"));
+    }
+
+    /**
+     * 给普通的查询方法添加{@link ReadOnly}注解,用于读写分离.selectForUpdate方法需要在主库执行,不添加.
+     *
+     * @param methods mapper中的方法
+     * @return 添加了注解之后的方法
+     */
+    private List<MethodSpec> markReadOnlyMethods(List<MethodSpec> methods) {
+        List<MethodSpec> marked = new ArrayList<>(methods.size());
+        for (MethodSpec methodSpec : methods) {
+            if (methodSpec.name.endsWith(Constant.FOR_UPDATE_SUFFIX) || !isSelect(methodSpec)) {
+                marked.add(methodSpec);
+            } else {
+                marked.add(methodSpec.toBuilder().addAnnotation(ReadOnly.class).build());
+            }
+        }
+        return marked;
+    }
+
+    /**
+     * 是否是查询语句,即有{@link Select}或者{@link SelectProvider}注解.
+     *
+     * @param methodSpec method
+     * @return <code>true</code>-如果是查询语句
+     */
+    private boolean isSelect(MethodSpec methodSpec) {
+        for (AnnotationSpec annotationSpec : methodSpec.annotations) {
+            if (annotationSpec.type.equals(ClassName.get(Select.class))
+                    || annotationSpec.type.equals(ClassName.get(SelectProvider.class))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     /**
      * 生成insert方法.
      *
@@ -141,6 +350,95 @@ public class MyBatisMapperGenerator {
         return builder.build();
     }
 
+    /**
+     * 生成分批执行batch insert的default方法.一个方法使用{@link BatchUtils#getMaxStatementBytes()},
+     * 另一个方法由调用方指定单条语句的最大字节数.每一批的记录数由
+     * {@link BatchUtils#executeInChunks(List, int, long, java.util.function.ToIntFunction, java.util.function.ToIntFunction)}
+     * 根据每一行实际的值计算.
+     *
+     * @param table                  table
+     * @param userSpecifyPackageName package name
+     * @param useGeneratedKeys       是否分批调用batchInsertUseGeneratedKeys,每一批insert后都会回填自增主键
+     * @return methods
+     */
+    private List<MethodSpec> genBatchInsertChunkedMethods(Table table, String userSpecifyPackageName, boolean useGeneratedKeys) {
+        String methodName;
+        String delegateMethodName;
+        if (useGeneratedKeys) {
+            methodName = Constant.MAPPER_BATCH_INSERT_USE_GENERATED_KEYS_CHUNKED;
+            delegateMethodName = Constant.MAPPER_BATCH_INSERT_USE_GENERATED_KEYS;
+        } else {
+            methodName = Constant.MAPPER_BATCH_INSERT_CHUNKED;
+            delegateMethodName = Constant.MAPPER_BATCH_INSERT;
+        }
+        ParameterSpec listParameterSpec = ParameterSpec.builder(EntityGeneratorUtil.listOfTableEntity(table, userSpecifyPackageName),
+                MyBatisMapperGeneratorUtil.getListParamName()).build();
+        ParameterSpec chunkSizeParameterSpec = ParameterSpec.builder(TypeName.INT, "chunkSize").build();
+        ParameterSpec maxStatementBytesParameterSpec = ParameterSpec.builder(TypeName.LONG, "maxStatementBytes").build();
+
+        MethodSpec withDefaultBytes = MethodSpec.methodBuilder(methodName)
+                .addJavadoc("分批执行{@link #$L},单条语句的最大字节数是{@link $T#getMaxStatementBytes()}.\n\n", delegateMethodName, BatchUtils.class)
+                .addJavadoc("@param $N 所有的记录\n", listParameterSpec)
+                .addJavadoc("@param $N 每一批的最大记录数\n", chunkSizeParameterSpec)
+                .addJavadoc("@return 所有批次影响的行数之和\n")
+                .addModifiers(Modifier.PUBLIC, Modifier.DEFAULT)
+                .returns(TypeName.INT)
+                .addParameter(listParameterSpec)
+                .addParameter(chunkSizeParameterSpec)
+                .addStatement("return $L($N, $N, $T.getMaxStatementBytes())", methodName, listParameterSpec, chunkSizeParameterSpec, BatchUtils.class)
+                .build();
+        MethodSpec withMaxBytes = MethodSpec.methodBuilder(methodName)
+                .addJavadoc("分批执行{@link #$L},每一批的记录数不超过$N,并且根据每一行实际的值计算字节数,\n",
+                        delegateMethodName, chunkSizeParameterSpec)
+                .addJavadoc("单条语句不超过$N,参考{@link $T#insertRowBytes}.\n\n", maxStatementBytesParameterSpec, BatchUtils.class)
+                .addJavadoc("@param $N 所有的记录\n", listParameterSpec)
+                .addJavadoc("@param $N 每一批的最大记录数\n", chunkSizeParameterSpec)
+                .addJavadoc("@param $N 单条语句的最大字节数,应该小于数据库的max_allowed_packet\n", maxStatementBytesParameterSpec)
+                .addJavadoc("@return 所有批次影响的行数之和\n")
+                .addModifiers(Modifier.PUBLIC, Modifier.DEFAULT)
+                .returns(TypeName.INT)
+                .addParameter(listParameterSpec)
+                .addParameter(chunkSizeParameterSpec)
+                .addParameter(maxStatementBytesParameterSpec)
+                .addStatement("return $L", byShard(table, userSpecifyPackageName, null, listParameterSpec, false,
+                        list -> CodeBlock.of("$T.executeInChunks($L, $N, $N, $T::insertRowBytes, this::$L)", BatchUtils.class, list,
+                                chunkSizeParameterSpec, maxStatementBytesParameterSpec, BatchUtils.class, delegateMethodName)))
+                .build();
+        return Arrays.asList(withDefaultBytes, withMaxBytes);
+    }
+
+    /**
+     * 生成upsert或者batch upsert方法,即INSERT ... ON DUPLICATE KEY UPDATE.
+     *
+     * @param table                  table
+     * @param userSpecifyPackageName package name
+     * @param batch                  是否batch upsert
+     * @return upsert method
+     */
+    private MethodSpec genUpsertMethod(Table table, String userSpecifyPackageName, boolean batch) {
+        String methodName = batch ? Constant.MAPPER_BATCH_UPSERT : Constant.MAPPER_UPSERT;
+        ParameterSpec parameterSpec = batch
+                ? EntityGeneratorUtil.getEntityListParameter(table, userSpecifyPackageName)
+                : EntityGeneratorUtil.getEntityParameter(table, userSpecifyPackageName, false);
+        AnnotationSpec insertProviderAnnotationSpec = MybatisFrameworkUtils.getInsertProviderAnnotationSpec(SqlBuilderGeneratorUtil.getSqlBuilderTypeName(table, userSpecifyPackageName),
+                methodName);
+        MethodSpec.Builder builder = MethodSpec.methodBuilder(methodName)
+                .addJavadoc("insert记录,如果主键或者唯一索引($L)冲突,则更新其他的列.只包含调用过set方法的属性." +
+                                "\r\n一条语句代替先查询再insert或者update." +
+                                "\r\n返回值是mysql的affected rows,insert的行算1,更新的行算2,值没有变化的行算0.",
+                        String.join(",", SqlBuilderGeneratorUtil.getUpsertKeyColumns(table)));
+        if (batch) {
+            builder.addJavadoc("\r\n只有一部分记录设置了的属性,冲突时值是null的记录保持原值,参考{@link $T#batchUpsertStatement}.",
+                    SqlProviderUtils.class);
+        }
+        return builder
+                .addAnnotation(insertProviderAnnotationSpec)
+                .addModifiers(Modifier.PUBLIC, Modifier.ABSTRACT)
+                .returns(TypeName.INT)
+                .addParameter(parameterSpec)
+                .build();
+    }
+
     /**
      * Mybatis useGeneratedKeys.
      *
@@ -162,7 +460,14 @@ public class MyBatisMapperGenerator {
     private MethodSpec genBatchInsertMethod(Table table, String userSpecifyPackageName) {
         String methodName = Constant.MAPPER_BATCH_INSERT;
         ParameterSpec parameterSpec = EntityGeneratorUtil.getEntityListParameter(table, userSpecifyPackageName);
-        AnnotationSpec insertAnnotationSpec = MybatisFrameworkUtils.getInsertAnnotationSpec(batchInsertScript(table));
+        AnnotationSpec insertAnnotationSpec;
+        if (getShardKeyColumn(table) == null) {
+            insertAnnotationSpec = MybatisFrameworkUtils.getInsertAnnotationSpec(batchInsertScript(table));
+        } else {
+            // script中的表名是固定的
+            insertAnnotationSpec = MybatisFrameworkUtils.getInsertProviderAnnotationSpec(SqlBuilderGeneratorUtil.getSqlBuilderTypeName(table, userSpecifyPackageName),
+                    methodName);
+        }
         MethodSpec.Builder builder = MethodSpec.methodBuilder(methodName);
         builder.addAnnotation(insertAnnotationSpec);
         builder.addModifiers(Modifier.PUBLIC, Modifier.ABSTRACT)
@@ -223,8 +528,13 @@ public class MyBatisMapperGenerator {
     private MethodSpec genDeleteMethod(Table table, String userSpecifyPackageName, List<Column> whereClauseColumns, boolean primaryKey) {
         List<String> columnNames = ColumnUtils.columnNames(whereClauseColumns);
         String methodName = MyBatisMapperGeneratorUtil.getDeleteMethodName(columnNames, primaryKey);
-        AnnotationSpec annotationSpec = MybatisFrameworkUtils.getDeleteProviderAnnotationSpec(SqlBuilderGeneratorUtil.getSqlBuilderTypeName(table, userSpecifyPackageName),
-                methodName);
+        AnnotationSpec annotationSpec;
+        if (isStaticStatement(table)) {
+            annotationSpec = MybatisFrameworkUtils.getDeleteAnnotationSpec(SqlBuilderGeneratorUtil.renderDeleteStatement(table, columnNames));
+        } else {
+            annotationSpec = MybatisFrameworkUtils.getDeleteProviderAnnotationSpec(SqlBuilderGeneratorUtil.getSqlBuilderTypeName(table, userSpecifyPackageName),
+                    methodName);
+        }
         return MethodSpec.methodBuilder(methodName)
                 .addAnnotation(annotationSpec)
                 .addModifiers(Modifier.PUBLIC, Modifier.ABSTRACT)
@@ -233,6 +543,186 @@ public class MyBatisMapperGenerator {
                 .build();
     }
 
+    /**
+     * 生成根据主键批量更新的方法,一条UPDATE ... CASE语句更新多行.
+     *
+     * @param table                  table
+     * @param userSpecifyPackageName package name
+     * @return batch update method
+     */
+    private MethodSpec genBatchUpdateByPrimaryKeyMethod(Table table, String userSpecifyPackageName) {
+        String methodName = Constant.MAPPER_BATCH_UPDATE_BY_PRIMARY_KEY;
+        ParameterSpec parameterSpec = EntityGeneratorUtil.getEntityListParameter(table, userSpecifyPackageName);
+        AnnotationSpec updateProviderAnnotationSpec = MybatisFrameworkUtils.getUpdateProviderAnnotationSpec(SqlBuilderGeneratorUtil.getSqlBuilderTypeName(table, userSpecifyPackageName),
+                methodName);
+        return MethodSpec.methodBuilder(methodName)
+                .addJavadoc("根据主键批量更新,一条语句更新所有记录,每条记录只更新调用过set方法的属性." +
+                        "\r\n所有记录的主键都不能为null.记录很多时使用{@link #$L}分批执行," +
+                        "\r\n或者使用{@link $T#executeBatch}通过JDBC batch逐条执行{@link #$L}.",
+                        Constant.MAPPER_BATCH_UPDATE_BY_PRIMARY_KEY_CHUNKED, BatchUtils.class, Constant.MAPPER_UPDATE_BY_PRIMARY_KEY)
+                .addAnnotation(updateProviderAnnotationSpec)
+                .addModifiers(Modifier.PUBLIC, Modifier.ABSTRACT)
+                .returns(TypeName.INT)
+                .addParameter(parameterSpec)
+                .build();
+    }
+
+    /**
+     * 生成分批执行batchUpdateByPrimaryKey的default方法.每一批的记录数不超过调用方指定的数量,
+     * 并且由{@link BatchUtils#updateRowBytes}根据每一行实际的值计算CASE WHEN语句中的字节数.
+     * 每个列的<code>col = CASE ... ELSE col END</code>和行数无关,生成代码时计算,从单条语句的最大字节数中扣除.
+     *
+     * @param table                  table
+     * @param userSpecifyPackageName package name
+     * @return method
+     */
+    private MethodSpec genBatchUpdateByPrimaryKeyChunkedMethod(Table table, String userSpecifyPackageName) {
+        String delegateMethodName = Constant.MAPPER_BATCH_UPDATE_BY_PRIMARY_KEY;
+        ParameterSpec listParameterSpec = ParameterSpec.builder(EntityGeneratorUtil.listOfTableEntity(table, userSpecifyPackageName),
+                MyBatisMapperGeneratorUtil.getListParamName()).build();
+        ParameterSpec chunkSizeParameterSpec = ParameterSpec.builder(TypeName.INT, "chunkSize").build();
+        // 只有主键中的分片键才是这一行当前所在的物理表,参考SqlBuilderGenerator
+        Column shardKeyColumn = getShardKeyColumn(table);
+        CodeBlock shardKeyFunction = shardKeyColumn == null ? null
+                : ShardingGeneratorUtil.keyShardKeyFunction(table.primaryKeyColumns(), shardKeyColumn, EntityGeneratorUtil.getTypeName(table, userSpecifyPackageName));
+        List<Column> primaryKeyColumns = table.primaryKeyColumns();
+        CodeBlock.Builder keyColumnNames = CodeBlock.builder();
+        for (Column column : primaryKeyColumns) {
+            keyColumnNames.add(", $S", column.name());
+        }
+        return MethodSpec.methodBuilder(Constant.MAPPER_BATCH_UPDATE_BY_PRIMARY_KEY_CHUNKED)
+                .addJavadoc("分批执行{@link #$L},每一批的记录数不超过$N,并且根据每一行实际的值计算字节数,\n",
+                        delegateMethodName, chunkSizeParameterSpec)
+                .addJavadoc("单条语句不超过{@link $T#getMaxStatementBytes()},参考{@link $T#updateRowBytes}.\n\n", BatchUtils.class, BatchUtils.class)
+                .addJavadoc("@param $N 所有的记录\n", listParameterSpec)
+                .addJavadoc("@param $N 每一批的最大记录数\n", chunkSizeParameterSpec)
+                .addJavadoc("@return 所有批次影响的行数之和\n")
+                .addModifiers(Modifier.PUBLIC, Modifier.DEFAULT)
+                .returns(TypeName.INT)
+                .addParameter(listParameterSpec)
+                .addParameter(chunkSizeParameterSpec)
+                .addComment("每个列的col = CASE ... ELSE col END")
+                .addStatement("long maxStatementBytes = $T.getMaxStatementBytes() - $L", BatchUtils.class,
+                        caseColumnsBytes(table, primaryKeyColumns, shardKeyColumn))
+                .addStatement("return $L", byShardKeyFunction(table, userSpecifyPackageName, shardKeyFunction, listParameterSpec, false,
+                        list -> CodeBlock.of("$T.executeInChunks($L, $N, maxStatementBytes, entity -> $T.updateRowBytes(entity$L), this::$L)",
+                                BatchUtils.class, list, chunkSizeParameterSpec, BatchUtils.class, keyColumnNames.build(), delegateMethodName)))
+                .build();
+    }
+
+    /**
+     * batchUpdateByPrimaryKey的语句中,和行数无关的每个列的<code>col = CASE key ... ELSE col END</code>的字节数之和.
+     * 所有可以更新的列都计算在内,即除了主键和分片键之外的列.
+     *
+     * @param table             table
+     * @param primaryKeyColumns 主键的列
+     * @param shardKeyColumn    分片键,没有分表时是null
+     * @return 字节数
+     */
+    private static int caseColumnsBytes(Table table, List<Column> primaryKeyColumns, Column shardKeyColumn) {
+        // 单列主键时是CASE key
+        int caseBytes = " = CASE".length() + " ELSE ".length() + " END".length() + ",\n    ".length();
+        if (primaryKeyColumns.size() == 1) {
+            caseBytes += primaryKeyColumns.get(0).name().length() + 1;
+        }
+        Set<String> exclusiveColumns = new HashSet<>(ColumnUtils.columnNames(primaryKeyColumns));
+        if (shardKeyColumn != null) {
+            exclusiveColumns.add(shardKeyColumn.name());
+        }
+        int bytes = 0;
+        for (Column column : table.columns()) {
+            if (!exclusiveColumns.contains(column.name())) {
+                bytes += caseBytes + column.name().length() * 2;
+            }
+        }
+        return bytes;
+    }
+
+    /**
+     * 生成批量delete方法,即<code>DELETE FROM t WHERE col IN (...)</code>.
+     *
+     * @param table                  table
+     * @param userSpecifyPackageName package name
+     * @param whereClauseColumns     删除条件的列
+     * @param primaryKey             <i>whereClauseColumns</i>是否主键
+     * @param limit                  是否带有<code>LIMIT #{rowCount}</code>
+     * @return method
+     */
+    private MethodSpec genBatchDeleteMethod(Table table, String userSpecifyPackageName, List<Column> whereClauseColumns, boolean primaryKey, boolean limit) {
+        String methodName = MyBatisMapperGeneratorUtil.getBatchDeleteMethodName(ColumnUtils.columnNames(whereClauseColumns), primaryKey);
+        if (limit) {
+            methodName = MyBatisMapperGeneratorUtil.toLimitMethodName(methodName);
+        }
+        AnnotationSpec annotationSpec = MybatisFrameworkUtils.getDeleteProviderAnnotationSpec(SqlBuilderGeneratorUtil.getSqlBuilderTypeName(table, userSpecifyPackageName),
+                methodName);
+        MethodSpec.Builder builder = MethodSpec.methodBuilder(methodName)
+                .addAnnotation(annotationSpec)
+                .addModifiers(Modifier.PUBLIC, Modifier.ABSTRACT)
+                .returns(TypeName.INT)
+                .addParameter(MyBatisMapperGeneratorUtil.getBatchSelectParameterSpec(whereClauseColumns, true, table, userSpecifyPackageName));
+        if (limit) {
+            builder.addParameter(MyBatisMapperGeneratorUtil.getPagingRowCountParameterSpec(true));
+        }
+        return builder.build();
+    }
+
+    /**
+     * 生成分批执行batchDeleteBy的default方法,每一批的IN列表不超过调用方指定的大小.
+     * 主键和唯一索引上每个元素最多匹配一行,因此每一批删除的行数也不超过这个大小.
+     *
+     * @param table                  table
+     * @param userSpecifyPackageName package name
+     * @param whereClauseColumns     删除条件的列
+     * @param primaryKey             <i>whereClauseColumns</i>是否主键
+     * @return method
+     */
+    private MethodSpec genBatchDeleteChunkedMethod(Table table, String userSpecifyPackageName, List<Column> whereClauseColumns, boolean primaryKey) {
+        String batchDeleteMethodName = MyBatisMapperGeneratorUtil.getBatchDeleteMethodName(ColumnUtils.columnNames(whereClauseColumns), primaryKey);
+        ParameterSpec parameterSpec = MyBatisMapperGeneratorUtil.getBatchSelectParameterSpec(whereClauseColumns, false, table, userSpecifyPackageName);
+        ParameterSpec chunkSizeParameterSpec = ParameterSpec.builder(TypeName.INT, "chunkSize").build();
+        return MethodSpec.methodBuilder(MyBatisMapperGeneratorUtil.toChunkedMethodName(batchDeleteMethodName))
+                .addJavadoc("分批执行{@link #$L},每一批最多$N个元素,如果没有外部事务,每一批都是一个单独的事务.\n\n",
+                        batchDeleteMethodName, chunkSizeParameterSpec)
+                .addJavadoc("@param $N 删除条件\n", parameterSpec)
+                .addJavadoc("@param $N 每一批的最大元素数\n", chunkSizeParameterSpec)
+                .addJavadoc("@return 所有批次删除的行数之和\n")
+                .addModifiers(Modifier.PUBLIC, Modifier.DEFAULT)
+                .returns(TypeName.INT)
+                .addParameter(parameterSpec)
+                .addParameter(chunkSizeParameterSpec)
+                .addStatement("return $L", byShard(table, userSpecifyPackageName, whereClauseColumns, parameterSpec, false,
+                        list -> CodeBlock.of("$T.executeInChunks($L, $N, this::$L)", BatchUtils.class, list, chunkSizeParameterSpec, batchDeleteMethodName)))
+                .build();
+    }
+
+    /**
+     * 生成循环调用带有LIMIT的batchDeleteBy的default方法,直到删除完所有匹配的记录.
+     *
+     * @param table                  table
+     * @param userSpecifyPackageName package name
+     * @param whereClauseColumns     删除条件的列
+     * @return method
+     */
+    private MethodSpec genBatchDeleteRollingMethod(Table table, String userSpecifyPackageName, List<Column> whereClauseColumns) {
+        String batchDeleteMethodName = MyBatisMapperGeneratorUtil.getBatchDeleteMethodName(ColumnUtils.columnNames(whereClauseColumns), false);
+        String limitMethodName = MyBatisMapperGeneratorUtil.toLimitMethodName(batchDeleteMethodName);
+        ParameterSpec parameterSpec = MyBatisMapperGeneratorUtil.getBatchSelectParameterSpec(whereClauseColumns, false, table, userSpecifyPackageName);
+        ParameterSpec rowCountParameterSpec = MyBatisMapperGeneratorUtil.getPagingRowCountParameterSpec(false);
+        return MethodSpec.methodBuilder(MyBatisMapperGeneratorUtil.toRollingMethodName(batchDeleteMethodName))
+                .addJavadoc("重复执行{@link #$L},每次最多删除$N行,直到删除完所有匹配的记录.\n", limitMethodName, rowCountParameterSpec)
+                .addJavadoc("如果没有外部事务,每一次delete都是一个单独的小事务,不会长时间持有大量的锁.\n\n")
+                .addJavadoc("@param $N 删除条件\n", parameterSpec)
+                .addJavadoc("@param $N 每一次最多删除的行数\n", rowCountParameterSpec)
+                .addJavadoc("@return 删除的总行数\n")
+                .addModifiers(Modifier.PUBLIC, Modifier.DEFAULT)
+                .returns(TypeName.INT)
+                .addParameter(parameterSpec)
+                .addParameter(rowCountParameterSpec)
+                .addStatement("return $T.executeRolling($N, () -> $L($N, $N))", BatchUtils.class, rowCountParameterSpec,
+                        limitMethodName, parameterSpec, rowCountParameterSpec)
+                .build();
+    }
+
     /**
      * 生成update方法.
      *
@@ -249,7 +739,16 @@ public class MyBatisMapperGenerator {
         ParameterSpec updateParameterSpec = EntityGeneratorUtil.getEntityParameter(table, userSpecifyPackageName, true);
         AnnotationSpec updateProviderAnnotationSpec = MybatisFrameworkUtils.getUpdateProviderAnnotationSpec(SqlBuilderGeneratorUtil.getSqlBuilderTypeName(table, userSpecifyPackageName),
                 methodName);
-        return MethodSpec.methodBuilder(methodName)
+        MethodSpec.Builder builder = MethodSpec.methodBuilder(methodName);
+        Column shardKeyColumn = getShardKeyColumn(table);
+        if (shardKeyColumn != null) {
+            builder.addJavadoc("分片键$L不会被更新.", shardKeyColumn.name());
+            if (ShardingGeneratorUtil.parameterShardKey(whereClauseColumns, shardKeyColumn) == null) {
+                builder.addJavadoc("条件中没有分片键,需要通过{@link $T#withShardKey}指定记录所在的物理表.", ShardingUtils.class);
+            }
+            builder.addJavadoc("\n");
+        }
+        return builder
                 .addAnnotation(updateProviderAnnotationSpec)
                 .addModifiers(Modifier.PUBLIC, Modifier.ABSTRACT)
                 .returns(TypeName.INT)
@@ -282,8 +781,11 @@ public class MyBatisMapperGenerator {
             returns = EntityGeneratorUtil.listOfTableEntity(table, userSpecifyPackageName);
             paging = true;
         }
+        // result map只在selectByPrimaryKey上声明一次,其他方法都引用它
+        AnnotationSpec resultMapAnnotation = primaryKey && !forUpdate ? genResultsAnnotation(table) : genResultMapAnnotation(table);
         MethodSpec.Builder builder = MethodSpec.methodBuilder(methodName)
                 .addAnnotation(sqlBuilderAnnotation)
+                .addAnnotation(resultMapAnnotation)
                 .addModifiers(Modifier.PUBLIC, Modifier.ABSTRACT)
                 .returns(returns)
                 .addParameters(MyBatisMapperGeneratorUtil.getParameterSpecs(whereClauseColumns, true))
@@ -292,6 +794,106 @@ public class MyBatisMapperGenerator {
         return builder.build();
     }
 
+    /**
+     * 生成keyset(seek)分页的查询方法.和<code>LIMIT offset,rowCount</code>不同,
+     * 不管翻到多深,每一页的代价都是一样的.只在排序的列都是NOT NULL时生成,
+     * 参考{@link MyBatisMapperGeneratorUtil#isKeysetPageable}.
+     *
+     * @param table                  table
+     * @param userSpecifyPackageName package name
+     * @param indexColumns           索引中的列
+     * @param primaryKey             <i>indexColumns</i>是否主键
+     * @param unique                 <i>indexColumns</i>是否能唯一确定一条记录,即主键或者唯一索引
+     * @return method
+     */
+    private MethodSpec genSelectAfterMethod(Table table, String userSpecifyPackageName, List<Column> indexColumns, boolean primaryKey, boolean unique) {
+        String methodName = MyBatisMapperGeneratorUtil.getSelectAfterMethodName(ColumnUtils.columnNames(indexColumns), primaryKey);
+        TypeName sqlBuilderType = SqlBuilderGeneratorUtil.getSqlBuilderTypeName(table, userSpecifyPackageName);
+        AnnotationSpec sqlBuilderAnnotation = MybatisFrameworkUtils.getSelectProviderAnnotationSpec(sqlBuilderType, methodName);
+        List<Column> keysetColumns = MyBatisMapperGeneratorUtil.getKeysetColumns(table, indexColumns, unique);
+        return MethodSpec.methodBuilder(methodName)
+                .addJavadoc("keyset分页,按照$L排序,查询排在给定的值之后的最多rowCount条记录.\n", String.join(",", ColumnUtils.columnNames(keysetColumns)))
+                .addJavadoc("查询第一页时参数传null,之后每次传入上一页最后一条记录的这些属性的值.\n")
+                .addAnnotation(sqlBuilderAnnotation)
+                .addAnnotation(genResultMapAnnotation(table))
+                .addModifiers(Modifier.PUBLIC, Modifier.ABSTRACT)
+                .returns(EntityGeneratorUtil.listOfTableEntity(table, userSpecifyPackageName))
+                .addParameters(MyBatisMapperGeneratorUtil.getParameterSpecs(keysetColumns, true))
+                .addParameter(MyBatisMapperGeneratorUtil.getPagingRowCountParameterSpec(true))
+                .addParameter(MyBatisMapperGeneratorUtil.getRetrieveColumnsParameterSpec(true))
+                .build();
+    }
+
+    /**
+     * 生成非唯一索引上的streamBy方法.返回{@link org.apache.ibatis.cursor.Cursor},
+     * mysql驱动逐行返回结果,不管结果有多少,占用的内存都是固定的.
+     *
+     * @param table                  table
+     * @param userSpecifyPackageName package name
+     * @param whereClauseColumns     where条件的列
+     * @return method
+     */
+    private MethodSpec genStreamMethod(Table table, String userSpecifyPackageName, List<Column> whereClauseColumns) {
+        String methodName = MyBatisMapperGeneratorUtil.getStreamMethodName(ColumnUtils.columnNames(whereClauseColumns));
+        TypeName sqlBuilderType = SqlBuilderGeneratorUtil.getSqlBuilderTypeName(table, userSpecifyPackageName);
+        return MethodSpec.methodBuilder(methodName)
+                .addJavadoc(streamJavadoc())
+                .addAnnotation(MybatisFrameworkUtils.getSelectProviderAnnotationSpec(sqlBuilderType, methodName))
+                .addAnnotation(MybatisFrameworkUtils.getStreamingOptionsAnnotationSpec())
+                .addAnnotation(genResultMapAnnotation(table))
+                .addModifiers(Modifier.PUBLIC, Modifier.ABSTRACT)
+                .returns(cursorOfTableEntity(table, userSpecifyPackageName))
+                .addParameters(MyBatisMapperGeneratorUtil.getParameterSpecs(whereClauseColumns, true))
+                .addParameter(MyBatisMapperGeneratorUtil.getRetrieveColumnsParameterSpec(true))
+                .build();
+    }
+
+    /**
+     * 生成streamByExample方法,参考{@link #genStreamMethod}.
+     *
+     * @param table                  table
+     * @param userSpecifyPackageName package name
+     * @return method
+     */
+    private MethodSpec genStreamByExampleMethod(Table table, String userSpecifyPackageName) {
+        String methodName = Constant.STREAM_BY_EXAMPLE;
+        TypeName sqlBuilderType = SqlBuilderGeneratorUtil.getSqlBuilderTypeName(table, userSpecifyPackageName);
+        return MethodSpec.methodBuilder(methodName)
+                .addJavadoc(streamJavadoc())
+                .addAnnotation(MybatisFrameworkUtils.getSelectProviderAnnotationSpec(sqlBuilderType, methodName))
+                .addAnnotation(MybatisFrameworkUtils.getStreamingOptionsAnnotationSpec())
+                .addAnnotation(genResultMapAnnotation(table))
+                .addModifiers(Modifier.PUBLIC, Modifier.ABSTRACT)
+                .returns(cursorOfTableEntity(table, userSpecifyPackageName))
+                .addParameter(MyBatisMapperGeneratorUtil.getRetrieveColumnsParameterSpec(true))
+                .addParameter(MyBatisMapperGeneratorUtil.getWhereClauseProviderParameterSpec(true))
+                .build();
+    }
+
+    /**
+     * streamBy方法的javadoc.
+     *
+     * @return javadoc
+     */
+    private CodeBlock streamJavadoc() {
+        return CodeBlock.builder()
+                .add("逐行读取查询结果,不管结果有多少,占用的内存都是固定的,适合导出,对账等场景.\n")
+                .add("返回的{@link $T}必须在SqlSession(或者事务)关闭之前遍历完,并且遍历完之后需要关闭.\n", Cursor.class)
+                .add("遍历期间同一个连接不能执行其他的语句.\n")
+                .build();
+    }
+
+    /**
+     * 元素类型是当前表对应的实体的{@link Cursor}.
+     *
+     * @param table                  table
+     * @param userSpecifyPackageName package name
+     * @return type name
+     */
+    private ParameterizedTypeName cursorOfTableEntity(Table table, String userSpecifyPackageName) {
+        return ParameterizedTypeName.get(ClassName.get(Cursor.class), EntityGeneratorUtil.getTypeName(table, userSpecifyPackageName));
+    }
+
     /**
      * 自定义sql where的查询方法.
      *
@@ -320,6 +922,7 @@ public class MyBatisMapperGenerator {
         ParameterSpec whereClauseProvider = MyBatisMapperGeneratorUtil.getWhereClauseProviderParameterSpec(true);
         MethodSpec.Builder builder = MethodSpec.methodBuilder(methodName)
                 .addAnnotation(sqlBuilderAnnotation)
+                .addAnnotation(genResultMapAnnotation(table))
                 .addModifiers(Modifier.PUBLIC, Modifier.ABSTRACT)
                 .returns(returns)
                 .addParameter(MyBatisMapperGeneratorUtil.getRetrieveColumnsParameterSpec(true))
@@ -359,8 +962,13 @@ public class MyBatisMapperGenerator {
     private MethodSpec genSelectCountMethod(Table table, String userSpecifyPackageName, List<Column> whereClauseColumns) {
         List<String> columnNames = ColumnUtils.columnNames(whereClauseColumns);
         String methodName = MyBatisMapperGeneratorUtil.getSelectCountMethodName(columnNames);
-        TypeName sqlBuilderType = SqlBuilderGeneratorUtil.getSqlBuilderTypeName(table, userSpecifyPackageName);
-        AnnotationSpec sqlBuilderAnnotation = MybatisFrameworkUtils.getSelectProviderAnnotationSpec(sqlBuilderType, methodName);
+        AnnotationSpec sqlBuilderAnnotation;
+        if (isStaticStatement(table)) {
+            sqlBuilderAnnotation = MybatisFrameworkUtils.getSelectAnnotationSpec(SqlBuilderGeneratorUtil.renderSelectCountStatement(table, columnNames));
+        } else {
+            TypeName sqlBuilderType = SqlBuilderGeneratorUtil.getSqlBuilderTypeName(table, userSpecifyPackageName);
+            sqlBuilderAnnotation = MybatisFrameworkUtils.getSelectProviderAnnotationSpec(sqlBuilderType, methodName);
+        }
         MethodSpec.Builder builder = MethodSpec.methodBuilder(methodName)
                 .addAnnotation(sqlBuilderAnnotation)
                 .addModifiers(Modifier.PUBLIC, Modifier.ABSTRACT)
@@ -388,6 +996,7 @@ public class MyBatisMapperGenerator {
         ParameterSpec retrieveColumns = MyBatisMapperGeneratorUtil.getRetrieveColumnsParameterSpec(true);
         MethodSpec.Builder builder = MethodSpec.methodBuilder(methodName)
                 .addAnnotation(sqlBuilderAnnotation)
+                .addAnnotation(genResultMapAnnotation(table))
                 .addModifiers(Modifier.PUBLIC, Modifier.ABSTRACT)
                 .returns(returns)
                 .addParameter(parameterSpec)
@@ -395,6 +1004,69 @@ public class MyBatisMapperGenerator {
         return builder.build();
     }
 
+    /**
+     * 生成拆分集合的batchSelectBy default方法,每一批最多{@link SqlProviderUtils#MAX_IN_LIST_BUCKET_SIZE}个元素,
+     * 然后按照顺序合并查询结果.
+     *
+     * @param table                  table
+     * @param userSpecifyPackageName package name
+     * @param whereClauseColumns     where条件的列
+     * @param primaryKey             <i>whereClauseColumns</i>是否主键
+     * @return method
+     */
+    private MethodSpec genBatchSelectChunkedMethod(Table table, String userSpecifyPackageName, List<Column> whereClauseColumns, boolean primaryKey) {
+        String batchSelectMethodName = MyBatisMapperGeneratorUtil.getBatchSelectMethodName(ColumnUtils.columnNames(whereClauseColumns), primaryKey);
+        String methodName = MyBatisMapperGeneratorUtil.toChunkedMethodName(batchSelectMethodName);
+        ParameterizedTypeName returns = EntityGeneratorUtil.listOfTableEntity(table, userSpecifyPackageName);
+        ParameterSpec parameterSpec = MyBatisMapperGeneratorUtil.getBatchSelectParameterSpec(whereClauseColumns, false, table, userSpecifyPackageName);
+        ParameterSpec retrieveColumns = MyBatisMapperGeneratorUtil.getRetrieveColumnsParameterSpec(false);
+        return MethodSpec.methodBuilder(methodName)
+                .addJavadoc("分批执行{@link #$L},每一批最多{@link $T#MAX_IN_LIST_BUCKET_SIZE}个元素,\n", batchSelectMethodName, SqlProviderUtils.class)
+                .addJavadoc("使得IN列表的大小总是有限的几种,然后按照顺序合并查询结果.\n\n")
+                .addJavadoc("@param $N 查询条件\n", parameterSpec)
+                .addJavadoc("@param $N 需要返回的列\n", retrieveColumns)
+                .addJavadoc("@return 所有批次的查询结果\n")
+                .addModifiers(Modifier.PUBLIC, Modifier.DEFAULT)
+                .returns(returns)
+                .addParameter(parameterSpec)
+                .addParameter(retrieveColumns)
+                .addStatement("return $L", byShard(table, userSpecifyPackageName, whereClauseColumns, parameterSpec, true,
+                        list -> CodeBlock.of("$T.selectInChunks($L, $T.MAX_IN_LIST_BUCKET_SIZE, chunk -> $L(chunk, $N))",
+                                BatchUtils.class, list, SqlProviderUtils.class, batchSelectMethodName, retrieveColumns)))
+                .build();
+    }
+
+    /**
+     * 表对应的{@link org.apache.ibatis.annotations.Results}注解,明确指定每个列对应的属性,java类型和jdbc类型,
+     * 这样Mybatis在启动时就建立好映射,而不是在处理结果集时通过auto-mapping查找属性.
+     *
+     * @param table table
+     * @return 注解
+     */
+    private AnnotationSpec genResultsAnnotation(Table table) {
+        List<String> primaryKeyColumnNames = table.primaryKeyColumnNames();
+        List<AnnotationSpec> results = new ArrayList<>(table.columns().size());
+        for (Column column : table.columns()) {
+            String columnName = column.name();
+            Class<?> javaType = MysqlTypeUtil.mysqlTypeToJavaType(column.typeExpression());
+            // BIGINT UNSIGNED的java类型是Long,但jdbc类型仍然是BIGINT,不能转换成INT UNSIGNED对应的INTEGER
+            JdbcType jdbcType = JdbcType.forCode(MysqlTypeUtil.toJDBCType(column.typeExpression(), false).getVendorTypeNumber());
+            results.add(MybatisFrameworkUtils.getResultAnnotationSpec(columnName, EntityGeneratorUtil.toFieldName(columnName),
+                    javaType, jdbcType, primaryKeyColumnNames.contains(columnName)));
+        }
+        return MybatisFrameworkUtils.getResultsAnnotationSpec(MyBatisMapperGeneratorUtil.getResultMapId(table), results);
+    }
+
+    /**
+     * 引用{@link #genResultsAnnotation(Table)}声明的result map.
+     *
+     * @param table table
+     * @return 注解
+     */
+    private AnnotationSpec genResultMapAnnotation(Table table) {
+        return MybatisFrameworkUtils.getResultMapAnnotationSpec(MyBatisMapperGeneratorUtil.getResultMapId(table));
+    }
+
     private void ifPaging(boolean paging, MethodSpec.Builder builder) {
         if (paging) {
             builder.addParameter(MyBatisMapperGeneratorUtil.getOrderByParameterSpec(true));
@@ -9,6 +9,7 @@ import com.wuda.yhan.code.generator.lang.Constant;
 import com.wuda.yhan.code.generator.lang.OrderBy;
 import com.wuda.yhan.code.generator.lang.relational.Column;
 import com.wuda.yhan.code.generator.lang.relational.Table;
+import com.wuda.yhan.code.generator.lang.util.ColumnUtils;
 import com.wuda.yhan.code.generator.lang.util.JavaNamingUtils;
 import com.wuda.yhan.code.generator.lang.util.StringUtils;
 import org.apache.ibatis.annotations.Param;
@@ -41,6 +42,42 @@ class MyBatisMapperGeneratorUtil {
         return className;
     }
 
+    /**
+     * 根据表名生成带有缓存的mapper装饰类的类名.
+     *
+     * @param tableName 表名称
+     * @return 类名
+     */
+    static String toCachingClassName(String tableName) {
+        String className = JavaNamingUtils.toCamelCase(tableName, Constant.underscore);
+        className = StringUtils.firstCharToUpperCase(className);
+        return StringUtils.addSuffix(className, Constant.CACHING_MAPPER_CLASS_NAME_SUFFIX);
+    }
+
+    /**
+     * 根据表名生成合并查询的loader的类名.
+     *
+     * @param tableName 表名称
+     * @return 类名
+     */
+    static String toBatchLoaderClassName(String tableName) {
+        String className = JavaNamingUtils.toCamelCase(tableName, Constant.underscore);
+        className = StringUtils.firstCharToUpperCase(className);
+        return StringUtils.addSuffix(className, Constant.BATCH_LOADER_CLASS_NAME_SUFFIX);
+    }
+
+    /**
+     * 根据表名生成异步mapper的类名.
+     *
+     * @param tableName 表名称
+     * @return 类名
+     */
+    static String toAsyncClassName(String tableName) {
+        String className = JavaNamingUtils.toCamelCase(tableName, Constant.underscore);
+        className = StringUtils.firstCharToUpperCase(className);
+        return StringUtils.addSuffix(className, Constant.ASYNC_MAPPER_CLASS_NAME_SUFFIX);
+    }
+
     /**
      * 获取list参数对应的名称.
      *
@@ -173,6 +210,82 @@ class MyBatisMapperGeneratorUtil {
         return methodName.toString();
     }
 
+    /**
+     * 表对应的result map的id,比如MessageItemResultMap.
+     *
+     * @param table table
+     * @return result map id
+     */
+    static String getResultMapId(Table table) {
+        return EntityGeneratorUtil.toClassName(table.id().table()) + Constant.RESULT_MAP_ID_SUFFIX;
+    }
+
+    /**
+     * 根据<i>WHERE</i>条件中的列生成streamBy方法名.
+     *
+     * @param whereClauseColumns where条件中的所有column
+     * @return 对应的方法名
+     */
+    static String getStreamMethodName(List<String> whereClauseColumns) {
+        StringBuilder builder = new StringBuilder(Constant.STREAM_BY_PREFIX);
+        andSeparated(whereClauseColumns, builder);
+        return builder.toString();
+    }
+
+    /**
+     * keyset分页方法的名称,比如selectByPrimaryKeyAfter.
+     *
+     * @param indexColumns 索引中的所有column
+     * @param primaryKey   这些column是否组成主键
+     * @return 对应的方法名
+     */
+    static String getSelectAfterMethodName(List<String> indexColumns, boolean primaryKey) {
+        return getSelectMethodName(indexColumns, primaryKey, false) + Constant.KEYSET_AFTER_SUFFIX;
+    }
+
+    /**
+     * keyset分页中排序的列.主键和唯一索引可以唯一确定一条记录,直接使用索引的列;
+     * 非唯一索引则追加主键中不在索引里的列,这样才能唯一确定一条记录,
+     * 而InnoDB的二级索引本来就包含主键,因此还是可以只扫描索引.
+     *
+     * @param table        table
+     * @param indexColumns 索引中的列
+     * @param unique       是否主键或者唯一索引
+     * @return 排序的列
+     */
+    static List<Column> getKeysetColumns(Table table, List<Column> indexColumns, boolean unique) {
+        if (unique) {
+            return indexColumns;
+        }
+        List<Column> keysetColumns = new ArrayList<>(indexColumns);
+        List<String> indexColumnNames = ColumnUtils.columnNames(indexColumns);
+        for (Column primaryKeyColumn : table.primaryKeyColumns()) {
+            if (!indexColumnNames.contains(primaryKeyColumn.name())) {
+                keysetColumns.add(primaryKeyColumn);
+            }
+        }
+        return keysetColumns;
+    }
+
+    /**
+     * 是否生成keyset分页的查询方法.分页方法用null表示查询第一页,并且<code>(a,b) &gt; (...)</code>
+     * 比较不到值是NULL的行,所以排序的列中只要有一个可以是NULL,就不生成.主键的列在mysql中总是NOT NULL.
+     *
+     * @param table        table
+     * @param indexColumns 索引中的列
+     * @param unique       是否主键或者唯一索引
+     * @return <code>true</code>-如果排序的列都是NOT NULL
+     */
+    static boolean isKeysetPageable(Table table, List<Column> indexColumns, boolean unique) {
+        List<String> primaryKeyColumnNames = table.primaryKeyColumnNames();
+        for (Column column : getKeysetColumns(table, indexColumns, unique)) {
+            if (column.isOptional() && !primaryKeyColumnNames.contains(column.name())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     /**
      * 根据<i>WHERE</i>条件中的列生成方法名.
      *
@@ -237,6 +350,55 @@ class MyBatisMapperGeneratorUtil {
         return methodName.toString();
     }
 
+    /**
+     * 根据<i>WHERE</i>条件中的列生成批量删除的方法名.
+     *
+     * @param whereClauseColumns where条件中的所有column
+     * @param primaryKey         这些column是否组成主键
+     * @return 对应的方法名
+     */
+    static String getBatchDeleteMethodName(List<String> whereClauseColumns, boolean primaryKey) {
+        if (primaryKey) {
+            return Constant.MAPPER_BATCH_DELETE_BY_PRIMARY_KEY;
+        }
+        StringBuilder builder = new StringBuilder(Constant.BATCH_DELETE_BY_PREFIX);
+        andSeparated(whereClauseColumns, builder);
+        return builder.toString();
+    }
+
+    /**
+     * loader中根据主键或者唯一索引加载记录的方法名.
+     *
+     * @param indexColumns 索引中的所有column
+     * @param primaryKey   这些column是否组成主键
+     * @return 对应的方法名
+     */
+    static String getLoadMethodName(List<String> indexColumns, boolean primaryKey) {
+        if (primaryKey) {
+            return Constant.LOAD_BY_PRIMARY_KEY;
+        }
+        StringBuilder builder = new StringBuilder(Constant.LOAD_BY_PREFIX);
+        andSeparated(indexColumns, builder);
+        return builder.toString();
+    }
+
+    /**
+     * 每个主键或者唯一索引对应一个属性时,属性的名称,比如primaryKeyCache,itemCodeCache.
+     *
+     * @param indexColumns 索引中的所有column
+     * @param primaryKey   这些column是否组成主键
+     * @param suffix       属性名称的后缀
+     * @return 属性名称
+     */
+    static String getIndexFieldName(List<String> indexColumns, boolean primaryKey, String suffix) {
+        if (primaryKey) {
+            return "primaryKey" + suffix;
+        }
+        StringBuilder builder = new StringBuilder();
+        andSeparated(indexColumns, builder);
+        return StringUtils.firstCharToLowerCase(builder.toString()) + suffix;
+    }
+
     private static void andSeparated(List<String> whereClauseColumns, StringBuilder appender) {
         int last = whereClauseColumns.size() - 1;
         String column;
@@ -251,6 +413,36 @@ class MyBatisMapperGeneratorUtil {
         }
     }
 
+    /**
+     * 分批执行的方法的名称.
+     *
+     * @param methodName 被分批执行的方法的名称
+     * @return 方法名称
+     */
+    static String toChunkedMethodName(String methodName) {
+        return methodName + "Chunked";
+    }
+
+    /**
+     * 带有LIMIT的方法的名称.
+     *
+     * @param methodName 不带LIMIT的方法的名称
+     * @return 方法名称
+     */
+    static String toLimitMethodName(String methodName) {
+        return methodName + Constant.LIMIT_SUFFIX;
+    }
+
+    /**
+     * 循环执行带有LIMIT的方法的名称.
+     *
+     * @param methodName 不带LIMIT的方法的名称
+     * @return 方法名称
+     */
+    static String toRollingMethodName(String methodName) {
+        return methodName + Constant.ROLLING_SUFFIX;
+    }
+
     /**
      * where clause provider.
      *
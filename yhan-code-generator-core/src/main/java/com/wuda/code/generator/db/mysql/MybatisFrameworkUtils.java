@@ -3,6 +3,10 @@ package com.wuda.code.generator.db.mysql;
 import com.squareup.javapoet.AnnotationSpec;
 import com.squareup.javapoet.TypeName;
 import org.apache.ibatis.annotations.*;
+import org.apache.ibatis.mapping.ResultSetType;
+import org.apache.ibatis.type.JdbcType;
+
+import java.util.List;
 
 /**
  * Mybatis framework utils.
@@ -100,6 +104,30 @@ class MybatisFrameworkUtils {
                 .build();
     }
 
+    /**
+     * {@link Delete}注解.
+     *
+     * @param value value
+     * @return 注解
+     */
+    static AnnotationSpec getDeleteAnnotationSpec(String value) {
+        return AnnotationSpec.builder(Delete.class)
+                .addMember("value", "$S", value)
+                .build();
+    }
+
+    /**
+     * {@link Select}注解.
+     *
+     * @param value value
+     * @return 注解
+     */
+    static AnnotationSpec getSelectAnnotationSpec(String value) {
+        return AnnotationSpec.builder(Select.class)
+                .addMember("value", "$S", value)
+                .build();
+    }
+
     /**
      * {@link SelectKey}注解.
      *
@@ -132,4 +160,70 @@ class MybatisFrameworkUtils {
                 .build();
     }
 
+    /**
+     * {@link Options}注解中,让mysql驱动逐行返回结果的相关内容,即<code>fetchSize = Integer.MIN_VALUE</code>
+     * 并且<code>resultSetType = FORWARD_ONLY</code>.
+     * <a href="https://dev.mysql.com/doc/connector-j/8.0/en/connector-j-reference-implementation-notes.html">ResultSet</a>
+     *
+     * @return 注解
+     */
+    static AnnotationSpec getStreamingOptionsAnnotationSpec() {
+        return AnnotationSpec.builder(Options.class)
+                .addMember("fetchSize", "$T.MIN_VALUE", Integer.class)
+                .addMember("resultSetType", "$T.FORWARD_ONLY", ResultSetType.class)
+                .build();
+    }
+
+    /**
+     * {@link Results}注解,声明一个可以被{@link ResultMap}引用的result map.
+     *
+     * @param id      result map id
+     * @param results 每个列对应的{@link Result}注解
+     * @return 注解
+     */
+    static AnnotationSpec getResultsAnnotationSpec(String id, List<AnnotationSpec> results) {
+        AnnotationSpec.Builder builder = AnnotationSpec.builder(Results.class)
+                .addMember("id", "$S", id);
+        for (AnnotationSpec result : results) {
+            builder.addMember("value", "$L", result);
+        }
+        return builder.build();
+    }
+
+    /**
+     * {@link Result}注解.
+     *
+     * @param column   列名
+     * @param property 属性名
+     * @param javaType 属性的java类型
+     * @param jdbcType 列的jdbc类型,null表示不指定
+     * @param id       是否主键
+     * @return 注解
+     */
+    static AnnotationSpec getResultAnnotationSpec(String column, String property, Class<?> javaType, JdbcType jdbcType, boolean id) {
+        AnnotationSpec.Builder builder = AnnotationSpec.builder(Result.class);
+        if (id) {
+            builder.addMember("id", "$L", true);
+        }
+        builder.addMember("column", "$S", column)
+                .addMember("property", "$S", property)
+                .addMember("javaType", "$T.class", javaType);
+        if (jdbcType != null) {
+            builder.addMember("jdbcType", "$T.$L", JdbcType.class, jdbcType.name());
+        }
+        return builder.build();
+    }
+
+    /**
+     * {@link ResultMap}注解.
+     *
+     * @param id result map id
+     * @return 注解
+     */
+    static AnnotationSpec getResultMapAnnotationSpec(String id) {
+        return AnnotationSpec.builder(ResultMap.class)
+                .addMember("value", "$S", id)
+                .build();
+    }
+
 }
@@ -0,0 +1,204 @@
+package com.wuda.code.generator.db.mysql;
+
+import com.squareup.javapoet.CodeBlock;
+import com.squareup.javapoet.TypeName;
+import com.wuda.code.generator.CodeGenerateException;
+import com.wuda.yhan.code.generator.lang.relational.Column;
+import com.wuda.yhan.code.generator.lang.relational.Table;
+import com.wuda.yhan.code.generator.lang.sharding.ShardingUtils;
+import com.wuda.yhan.code.generator.lang.util.JavaNamingUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 分表时,生成代码的工具类.在分表模式下,sql builder中的表名不再是MetaInfo中的SCHEMA_DOT_TABLE常量,
+ * 而是每次调用时通过{@link ShardingUtils}根据参数中分片键的值得到的物理表.
+ *
+ * @author wuda
+ */
+class ShardingGeneratorUtil {
+
+    /**
+     * 获取表的分片键所在的列.
+     *
+     * @param table           table
+     * @param shardKeyColumns key是表名,value是分片键所在的列
+     * @return 分片键所在的列, null-如果不分表
+     */
+    static Column getShardKeyColumn(Table table, Map<String, String> shardKeyColumns) {
+        if (shardKeyColumns == null || shardKeyColumns.isEmpty()) {
+            return null;
+        }
+        String columnName = shardKeyColumns.get(table.id().table());
+        if (columnName == null) {
+            return null;
+        }
+        Column column = table.columnWithName(columnName);
+        if (column == null) {
+            throw new CodeGenerateException("表" + table.id().table() + "中没有分片键所在的列" + columnName);
+        }
+        return column;
+    }
+
+    /**
+     * 表名的表达式.
+     *
+     * @param tableMetaInfo  MetaInfo类
+     * @param shardKeyColumn 分片键所在的列,null表示不分表
+     * @param shardKeyArgs   传给{@link ShardingUtils#physicalTable}的分片键参数,比如<code>id</code>或者
+     *                       <code>list, MessageItem::getId</code>,null表示使用
+     *                       {@link ShardingUtils#withShardKey}指定的分片键
+     * @return 表名的表达式
+     */
+    static CodeBlock schemaDotTable(TypeName tableMetaInfo, Column shardKeyColumn, CodeBlock shardKeyArgs) {
+        String schemaDotTable = TableMetaInfoGeneratorUtil.getSchemaDotTableFieldName();
+        if (shardKeyColumn == null) {
+            return CodeBlock.of("$T.$L", tableMetaInfo, schemaDotTable);
+        }
+        if (shardKeyArgs == null) {
+            return CodeBlock.of("$T.physicalTable($T.$L)", ShardingUtils.class, tableMetaInfo, schemaDotTable);
+        }
+        return CodeBlock.of("$T.physicalTable($T.$L, $L)", ShardingUtils.class, tableMetaInfo, schemaDotTable, shardKeyArgs);
+    }
+
+    /**
+     * 从实体中获取分片键时,表名的表达式.
+     *
+     * @param tableMetaInfo  MetaInfo类
+     * @param shardKeyColumn 分片键所在的列,null表示不分表
+     * @param entityName     实体的参数名称
+     * @return 表名的表达式
+     */
+    static CodeBlock entitySchemaDotTable(TypeName tableMetaInfo, Column shardKeyColumn, String entityName) {
+        CodeBlock shardKey = shardKeyColumn == null ? null : entityShardKey(entityName, shardKeyColumn);
+        return schemaDotTable(tableMetaInfo, shardKeyColumn, shardKey);
+    }
+
+    /**
+     * 从where条件的参数中获取分片键时,表名的表达式.
+     *
+     * @param tableMetaInfo      MetaInfo类
+     * @param shardKeyColumn     分片键所在的列,null表示不分表
+     * @param whereClauseColumns where条件中的列
+     * @return 表名的表达式
+     */
+    static CodeBlock parameterSchemaDotTable(TypeName tableMetaInfo, Column shardKeyColumn, List<Column> whereClauseColumns) {
+        CodeBlock shardKey = shardKeyColumn == null ? null : parameterShardKey(whereClauseColumns, shardKeyColumn);
+        return schemaDotTable(tableMetaInfo, shardKeyColumn, shardKey);
+    }
+
+    /**
+     * 从批量方法的集合元素中获取分片键时,表名的表达式.集合中所有元素必须属于同一个物理表.
+     *
+     * @param tableMetaInfo      MetaInfo类
+     * @param shardKeyColumn     分片键所在的列,null表示不分表
+     * @param listName           集合的参数名称
+     * @param whereClauseColumns where条件中的列,null表示集合的元素是实体
+     * @param entityType         实体的类型
+     * @return 表名的表达式
+     */
+    static CodeBlock listSchemaDotTable(TypeName tableMetaInfo, Column shardKeyColumn, String listName,
+                                        List<Column> whereClauseColumns, TypeName entityType) {
+        CodeBlock shardKey = null;
+        if (shardKeyColumn != null) {
+            CodeBlock shardKeyFunction = shardKeyFunction(whereClauseColumns, shardKeyColumn, entityType);
+            if (shardKeyFunction != null) {
+                shardKey = CodeBlock.of("$L, $L", listName, shardKeyFunction);
+            }
+        }
+        return schemaDotTable(tableMetaInfo, shardKeyColumn, shardKey);
+    }
+
+    /**
+     * 从实体中获取分片键.
+     *
+     * @param entityName     实体的参数名称
+     * @param shardKeyColumn 分片键所在的列
+     * @return 分片键的表达式
+     */
+    static CodeBlock entityShardKey(String entityName, Column shardKeyColumn) {
+        return CodeBlock.of("$L.$L()", entityName, getterName(shardKeyColumn));
+    }
+
+    /**
+     * 如果where条件中包含分片键所在的列,则分片键就是对应的参数.
+     *
+     * @param whereClauseColumns where条件中的列
+     * @param shardKeyColumn     分片键所在的列
+     * @return 分片键的表达式, null-如果where条件中不包含分片键所在的列
+     */
+    static CodeBlock parameterShardKey(List<Column> whereClauseColumns, Column shardKeyColumn) {
+        if (!contains(whereClauseColumns, shardKeyColumn)) {
+            return null;
+        }
+        return CodeBlock.of("$L", EntityGeneratorUtil.toFieldName(shardKeyColumn.name()));
+    }
+
+    /**
+     * 从批量方法的集合元素中获取分片键的function,集合的类型参考
+     * {@link MyBatisMapperGeneratorUtil#getBatchSelectParameterSpec}.
+     *
+     * @param whereClauseColumns where条件中的列,null表示集合的元素是实体
+     * @param shardKeyColumn     分片键所在的列
+     * @param entityType         实体的类型
+     * @return function, null-如果集合的元素中没有分片键
+     */
+    static CodeBlock shardKeyFunction(List<Column> whereClauseColumns, Column shardKeyColumn, TypeName entityType) {
+        if (whereClauseColumns == null || whereClauseColumns.size() > 1 && contains(whereClauseColumns, shardKeyColumn)) {
+            return CodeBlock.of("$T::$L", entityType, getterName(shardKeyColumn));
+        }
+        if (whereClauseColumns.get(0).name().equals(shardKeyColumn.name())) {
+            return CodeBlock.of("key -> key");
+        }
+        return null;
+    }
+
+    /**
+     * 集合的元素是实体,但是只有<i>keyColumns</i>是where条件时,从元素中获取分片键的function.
+     * 实体中其他列的值是要更新的值,不是这一行当前所在的物理表,因此不能用来得到物理表.
+     *
+     * @param keyColumns     where条件中的列
+     * @param shardKeyColumn 分片键所在的列
+     * @param entityType     实体的类型
+     * @return function, null-如果where条件中不包含分片键所在的列
+     */
+    static CodeBlock keyShardKeyFunction(List<Column> keyColumns, Column shardKeyColumn, TypeName entityType) {
+        if (!contains(keyColumns, shardKeyColumn)) {
+            return null;
+        }
+        return CodeBlock.of("$T::$L", entityType, getterName(shardKeyColumn));
+    }
+
+    /**
+     * 分表时update语句不更新的列.分片键决定了行所在的物理表,更新分片键需要把行移动到另一个物理表,
+     * 一条UPDATE语句做不到,因此即使调用过set方法也不更新分片键.
+     *
+     * @param exclusiveColumns 原本就不更新的列,比如where条件中的列
+     * @param shardKeyColumn   分片键所在的列,null表示不分表
+     * @return 不更新的列
+     */
+    static List<String> updateExclusiveColumns(List<String> exclusiveColumns, Column shardKeyColumn) {
+        if (shardKeyColumn == null || exclusiveColumns.contains(shardKeyColumn.name())) {
+            return exclusiveColumns;
+        }
+        List<String> columns = new ArrayList<>(exclusiveColumns.size() + 1);
+        columns.addAll(exclusiveColumns);
+        columns.add(shardKeyColumn.name());
+        return columns;
+    }
+
+    private static boolean contains(List<Column> columns, Column column) {
+        for (Column c : columns) {
+            if (c.name().equals(column.name())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String getterName(Column column) {
+        return JavaNamingUtils.genGetterMethodName(EntityGeneratorUtil.toFieldName(column.name()));
+    }
+}
@@ -2,16 +2,15 @@ package com.wuda.code.generator.db.mysql;
 
 import com.squareup.javapoet.*;
 import com.wuda.code.generator.CodeGenerateException;
-import com.wuda.code.generator.TypeNameUtils;
 import com.wuda.yhan.code.generator.lang.Constant;
 import com.wuda.yhan.code.generator.lang.OrderBy;
 import com.wuda.yhan.code.generator.lang.TableEntity;
 import com.wuda.yhan.code.generator.lang.relational.Column;
 import com.wuda.yhan.code.generator.lang.relational.Index;
 import com.wuda.yhan.code.generator.lang.relational.Table;
+import com.wuda.yhan.code.generator.lang.sharding.ShardingUtils;
 import com.wuda.yhan.code.generator.lang.util.ColumnUtils;
 import com.wuda.yhan.code.generator.lang.util.SqlProviderUtils;
-import com.wuda.yhan.code.generator.lang.util.TableEntityUtils;
 import com.wuda.yhan.code.generator.lang.util.TableUtils;
 import org.apache.ibatis.jdbc.SQL;
 import org.mybatis.dynamic.sql.SqlColumn;
@@ -19,6 +18,7 @@ import org.mybatis.dynamic.sql.where.render.WhereClauseProvider;
 
 import javax.lang.model.element.Modifier;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 
@@ -29,6 +29,83 @@ import java.util.Map;
  */
 public class SqlBuilderGenerator {
 
+    /**
+     * 是否在生成代码时就渲染出不随参数变化的sql语句,保存在<code>static final String</code>常量中,
+     * 对应的方法直接返回常量,而不是每次调用都重新构造sql.
+     * 目前包括deleteByPrimaryKey,唯一索引上的deleteBy,以及非唯一索引上的countBy方法.
+     */
+    private boolean staticStatement = false;
+
+    /**
+     * 设置是否生成静态sql语句,参考{@link #staticStatement}.
+     *
+     * @param staticStatement true-生成静态sql语句
+     */
+    public void setStaticStatement(boolean staticStatement) {
+        this.staticStatement = staticStatement;
+    }
+
+    /**
+     * batchSelectBy和batchDeleteBy方法的IN列表是否按照{@link SqlProviderUtils#inListBucketSize(int)}向上取整,
+     * 使得不同大小的集合只产生少数几种sql语句,参考{@link SqlProviderUtils#whereConditionsForeachBucketed}.
+     */
+    private boolean bucketedInList = false;
+
+    /**
+     * 设置IN列表是否向上取整,参考{@link #bucketedInList}.
+     *
+     * @param bucketedInList true-向上取整
+     */
+    public void setBucketedInList(boolean bucketedInList) {
+        this.bucketedInList = bucketedInList;
+    }
+
+    /**
+     * 组合主键或者组合唯一索引上的batchSelectBy方法是否使用row constructor形式的IN条件,
+     * 即<code>(a,b) IN ((?,?),(?,?))</code>,参考{@link SqlProviderUtils#whereConditionsRowConstructorIn}.
+     * 如果是false,则使用<code>(a=? AND b=?) OR (a=? AND b=?)</code>.
+     */
+    private boolean rowConstructorInList = true;
+
+    /**
+     * 设置组合列是否使用row constructor形式的IN条件,参考{@link #rowConstructorInList}.
+     *
+     * @param rowConstructorInList true-使用row constructor
+     */
+    public void setRowConstructorInList(boolean rowConstructorInList) {
+        this.rowConstructorInList = rowConstructorInList;
+    }
+
+    /**
+     * 是否为非唯一索引生成带有<code>LIMIT #{rowCount}</code>的batchDeleteBy方法,
+     * 配合mapper中的Rolling方法分多次删除大量记录.
+     */
+    private boolean rollingDelete = false;
+
+    /**
+     * 设置是否生成带有LIMIT的delete方法,参考{@link #rollingDelete}.
+     *
+     * @param rollingDelete true-生成带有LIMIT的delete方法
+     */
+    public void setRollingDelete(boolean rollingDelete) {
+        this.rollingDelete = rollingDelete;
+    }
+
+    /**
+     * 分表的表和分片键所在的列,key是表名,value是列名.这些表的sql builder中的表名在每次调用时
+     * 通过{@link ShardingUtils}根据分片键的值得到,并且不生成静态sql语句.
+     */
+    private Map<String, String> shardKeyColumns = Collections.emptyMap();
+
+    /**
+     * 设置分表的表和分片键所在的列,参考{@link #shardKeyColumns}.
+     *
+     * @param shardKeyColumns key是表名,value是分片键所在的列
+     */
+    public void setShardKeyColumns(Map<String, String> shardKeyColumns) {
+        this.shardKeyColumns = shardKeyColumns;
+    }
+
     /**
      * 生成java class文件.
      *
@@ -42,27 +119,49 @@ public class SqlBuilderGenerator {
         classBuilder.addModifiers(Modifier.PUBLIC, Modifier.FINAL);
 
         classBuilder.addMethod(genInsertMethod(table, packageName));
+        if (getShardKeyColumn(table) != null) {
+            // 不分表时,batchInsert使用mapper中的script
+            classBuilder.addMethod(genBatchInsertMethod(table, packageName));
+        }
         MethodSpec batchInsertUseGeneratedKeys = genBatchInsertUseGeneratedKeysMethod(table, packageName);
         if (batchInsertUseGeneratedKeys != null) {
             classBuilder.addMethod(batchInsertUseGeneratedKeys);
         }
+        if (!SqlBuilderGeneratorUtil.getUpsertKeyColumns(table).isEmpty()) {
+            // 没有主键和唯一索引时不会冲突,不需要upsert
+            classBuilder.addMethod(genUpsertMethod(table, packageName));
+            classBuilder.addMethod(genBatchUpsertMethod(table, packageName));
+        }
         // 主键
         List<Column> primaryKeyColumns = table.primaryKeyColumns();
+        if (isStaticStatement(table)) {
+            classBuilder.addField(genDeleteStatementField(table, primaryKeyColumns, true));
+        }
         classBuilder.addMethod(genDeleteMethod(table, packageName, primaryKeyColumns, true));
+        classBuilder.addMethod(genBatchDeleteMethod(table, packageName, primaryKeyColumns, true, false));
         classBuilder.addMethod(genUpdateMethod(table, packageName, primaryKeyColumns, true));
+        classBuilder.addMethod(genBatchUpdateByPrimaryKeyMethod(table, packageName));
         classBuilder.addMethod(genSelectMethod(table, packageName, primaryKeyColumns, true, false, false));
         classBuilder.addMethod(genSelectMethod(table, packageName, primaryKeyColumns, true, false, true));
         classBuilder.addMethod(genBatchSelectMethod(table, packageName, primaryKeyColumns, true));
+        classBuilder.addMethod(genSelectAfterMethod(table, packageName, primaryKeyColumns, true, true));
         // 唯一索引
         List<Index> uniqueIndices = TableUtils.getUniqueIndices(table);
         if (uniqueIndices != null && !uniqueIndices.isEmpty()) {
             for (Index index : uniqueIndices) {
                 List<Column> indexColumns = ColumnUtils.indexColumns(table, index);
+                if (isStaticStatement(table)) {
+                    classBuilder.addField(genDeleteStatementField(table, indexColumns, false));
+                }
                 classBuilder.addMethod(genDeleteMethod(table, packageName, indexColumns, false));
+                classBuilder.addMethod(genBatchDeleteMethod(table, packageName, indexColumns, false, false));
                 classBuilder.addMethod(genUpdateMethod(table, packageName, indexColumns, false));
                 classBuilder.addMethod(genSelectMethod(table, packageName, indexColumns, false, true, false));
                 classBuilder.addMethod(genSelectMethod(table, packageName, indexColumns, false, true, true));
                 classBuilder.addMethod(genBatchSelectMethod(table, packageName, indexColumns, false));
+                if (MyBatisMapperGeneratorUtil.isKeysetPageable(table, indexColumns, true)) {
+                    classBuilder.addMethod(genSelectAfterMethod(table, packageName, indexColumns, false, true));
+                }
             }
         }
         // 非唯一索引
@@ -71,18 +170,63 @@ public class SqlBuilderGenerator {
             for (Index index : nonUniqueIndices) {
                 List<Column> indexColumns = ColumnUtils.indexColumns(table, index);
                 classBuilder.addMethod(genSelectMethod(table, packageName, indexColumns, false, false, false));
+                if (isStaticStatement(table)) {
+                    classBuilder.addField(genSelectCountStatementField(table, indexColumns));
+                }
                 classBuilder.addMethod(genSelectCountMethod(table, packageName, indexColumns));
+                if (MyBatisMapperGeneratorUtil.isKeysetPageable(table, indexColumns, false)) {
+                    classBuilder.addMethod(genSelectAfterMethod(table, packageName, indexColumns, false, false));
+                }
+                classBuilder.addMethod(genStreamMethod(table, packageName, indexColumns));
+                if (rollingDelete) {
+                    classBuilder.addMethod(genBatchDeleteMethod(table, packageName, indexColumns, false, true));
+                }
             }
         }
 
         classBuilder.addMethod(genSelectByExampleMethod(table, packageName, true));
         classBuilder.addMethod(genSelectByExampleMethod(table, packageName, false));
         classBuilder.addMethod(genSelectCountByExampleMethod(table, packageName));
+        classBuilder.addMethod(genStreamByExampleMethod(table, packageName));
 
         String finalPackageName = PackageNameUtil.getMapperPackageName(packageName, table.id().schema());
         return JavaFile.builder(finalPackageName, classBuilder.build()).build();
     }
 
+    /**
+     * 分表的表和分片键所在的列.
+     *
+     * @param table table
+     * @return 分片键所在的列, null-如果不分表
+     */
+    private Column getShardKeyColumn(Table table) {
+        return ShardingGeneratorUtil.getShardKeyColumn(table, shardKeyColumns);
+    }
+
+    /**
+     * 批量方法的表名的表达式,参考{@link ShardingGeneratorUtil#listSchemaDotTable}.
+     *
+     * @param table                  table
+     * @param userSpecifyPackageName 用户指定的包名
+     * @param listName               集合的参数名称
+     * @param whereClauseColumns     where条件中的列,null表示集合的元素是实体
+     * @return 表名的表达式
+     */
+    private CodeBlock listSchemaDotTable(Table table, String userSpecifyPackageName, String listName, List<Column> whereClauseColumns) {
+        return ShardingGeneratorUtil.listSchemaDotTable(TableMetaInfoGeneratorUtil.getTypeName(table, userSpecifyPackageName),
+                getShardKeyColumn(table), listName, whereClauseColumns, EntityGeneratorUtil.getTypeName(table, userSpecifyPackageName));
+    }
+
+    /**
+     * 是否为这个表生成静态sql语句,分表时表名不是固定的,因此不生成.
+     *
+     * @param table table
+     * @return <code>true</code>-如果生成静态sql语句
+     */
+    private boolean isStaticStatement(Table table) {
+        return staticStatement && getShardKeyColumn(table) == null;
+    }
+
     /**
      * generate insert method.
      *
@@ -95,21 +239,70 @@ public class SqlBuilderGenerator {
         ParameterSpec parameterSpec = EntityGeneratorUtil.getEntityParameter(table, userSpecifyPackageName, false);
 
         TypeName tableMetaInfo = TableMetaInfoGeneratorUtil.getTypeName(table, userSpecifyPackageName);
-        String schemaDotTable = TableMetaInfoGeneratorUtil.getSchemaDotTableFieldName();
-
-        ParameterizedTypeName mapOfString = TypeNameUtils.mapOf(String.class, String.class);
 
         return MethodSpec.methodBuilder(methodName)
                 .addModifiers(Modifier.PUBLIC, Modifier.STATIC)
                 .returns(String.class)
                 .addParameter(parameterSpec)
-                .addStatement("$T.validate($L)", SqlProviderUtils.class, parameterSpec.name)
-                .addStatement("$T nonNullFieldToColumnMap = $T.fieldToColumn($L,$L)", mapOfString, TableEntityUtils.class, parameterSpec.name, true)
-                .addStatement("$T.noneNullFieldValidate($L, nonNullFieldToColumnMap)", SqlProviderUtils.class, parameterSpec.name)
-                .addStatement("$T sql = new $T()", SQL.class, SQL.class)
-                .addStatement("sql.INSERT_INTO($T.$L)", tableMetaInfo, schemaDotTable)
-                .addStatement("$T.insertColumnsAndValues(sql,nonNullFieldToColumnMap)", SqlProviderUtils.class)
-                .addStatement("return sql.toString()")
+                .addStatement("return $T.insertStatement($L, $L)", SqlProviderUtils.class,
+                        ShardingGeneratorUtil.entitySchemaDotTable(tableMetaInfo, getShardKeyColumn(table), parameterSpec.name), parameterSpec.name)
+                .build();
+    }
+
+    /**
+     * generate batch insert method,只在分表时生成,不分表时batchInsert使用mapper中的script.
+     *
+     * @param table                  表的基本信息
+     * @param userSpecifyPackageName 用户指定的包
+     * @return batch insert method
+     */
+    private MethodSpec genBatchInsertMethod(Table table, String userSpecifyPackageName) {
+        ParameterSpec parameterSpec = EntityGeneratorUtil.getEntityListParameter(table, userSpecifyPackageName);
+        return MethodSpec.methodBuilder(Constant.MAPPER_BATCH_INSERT)
+                .addModifiers(Modifier.PUBLIC, Modifier.STATIC)
+                .returns(String.class)
+                .addParameter(parameterSpec)
+                .addStatement("return $T.batchInsertStatement($L, $L, $S)", SqlProviderUtils.class,
+                        listSchemaDotTable(table, userSpecifyPackageName, parameterSpec.name, null), parameterSpec.name, parameterSpec.name)
+                .build();
+    }
+
+    /**
+     * generate upsert method,即INSERT ... ON DUPLICATE KEY UPDATE.
+     *
+     * @param table                  表的基本信息
+     * @param userSpecifyPackageName 用户指定的包
+     * @return upsert method
+     */
+    private MethodSpec genUpsertMethod(Table table, String userSpecifyPackageName) {
+        ParameterSpec parameterSpec = EntityGeneratorUtil.getEntityParameter(table, userSpecifyPackageName, false);
+        TypeName tableMetaInfo = TableMetaInfoGeneratorUtil.getTypeName(table, userSpecifyPackageName);
+        String keyColumns = SqlProviderUtils.toDoubleQuotedString(SqlBuilderGeneratorUtil.getUpsertKeyColumns(table));
+        return MethodSpec.methodBuilder(Constant.MAPPER_UPSERT)
+                .addModifiers(Modifier.PUBLIC, Modifier.STATIC)
+                .returns(String.class)
+                .addParameter(parameterSpec)
+                .addStatement("return $T.upsertStatement($L, $L, $L)", SqlProviderUtils.class,
+                        ShardingGeneratorUtil.entitySchemaDotTable(tableMetaInfo, getShardKeyColumn(table), parameterSpec.name), parameterSpec.name, keyColumns)
+                .build();
+    }
+
+    /**
+     * generate batch upsert method.
+     *
+     * @param table                  表的基本信息
+     * @param userSpecifyPackageName 用户指定的包
+     * @return batch upsert method
+     */
+    private MethodSpec genBatchUpsertMethod(Table table, String userSpecifyPackageName) {
+        ParameterSpec parameterSpec = EntityGeneratorUtil.getEntityListParameter(table, userSpecifyPackageName);
+        String keyColumns = SqlProviderUtils.toDoubleQuotedString(SqlBuilderGeneratorUtil.getUpsertKeyColumns(table));
+        return MethodSpec.methodBuilder(Constant.MAPPER_BATCH_UPSERT)
+                .addModifiers(Modifier.PUBLIC, Modifier.STATIC)
+                .returns(String.class)
+                .addParameter(parameterSpec)
+                .addStatement("return $T.batchUpsertStatement($L, $L, $S, $L)", SqlProviderUtils.class,
+                        listSchemaDotTable(table, userSpecifyPackageName, parameterSpec.name, null), parameterSpec.name, parameterSpec.name, keyColumns)
                 .build();
     }
 
@@ -122,13 +315,7 @@ public class SqlBuilderGenerator {
      */
     @SuppressWarnings("unused")
     private String insertMethodStatementTemplate(String schemaDotTable, TableEntity entity) {
-        SqlProviderUtils.validate(entity);
-        Map<String, String> nonNullFieldToColumnMap = TableEntityUtils.fieldToColumn(entity, true);
-        SqlProviderUtils.noneNullFieldValidate(entity, nonNullFieldToColumnMap);
-        SQL sql = new SQL();
-        sql.INSERT_INTO(schemaDotTable);
-        SqlProviderUtils.insertColumnsAndValues(sql, nonNullFieldToColumnMap);
-        return sql.toString();
+        return SqlProviderUtils.insertStatement(schemaDotTable, entity);
     }
 
 
@@ -147,17 +334,15 @@ public class SqlBuilderGenerator {
         ParameterSpec parameterSpec = EntityGeneratorUtil.getEntityListParameter(table, userSpecifyPackageName);
 
         TypeName tableMetaInfo = TableMetaInfoGeneratorUtil.getTypeName(table, userSpecifyPackageName);
-        String schemaDotTable = TableMetaInfoGeneratorUtil.getSchemaDotTableFieldName();
         String autoIncrementColumn = TableMetaInfoGeneratorUtil.getAutoIncrementColumn();
 
         return MethodSpec.methodBuilder(methodName)
                 .addModifiers(Modifier.PUBLIC, Modifier.STATIC)
                 .returns(String.class)
                 .addParameter(parameterSpec)
-                .addStatement("$T sql = new $T()", SQL.class, SQL.class)
-                .addStatement("sql.INSERT_INTO($T.$L)", tableMetaInfo, schemaDotTable)
-                .addStatement("$T.batchInsertUseGeneratedKeysColumnsAndValues(sql,$L,$S,$T.$L)", SqlProviderUtils.class, parameterSpec.name, parameterSpec.name, tableMetaInfo, autoIncrementColumn)
-                .addStatement("return sql.toString()")
+                .addStatement("return $T.batchInsertUseGeneratedKeysStatement($L, $L, $S, $T.$L)", SqlProviderUtils.class,
+                        listSchemaDotTable(table, userSpecifyPackageName, parameterSpec.name, null), parameterSpec.name, parameterSpec.name,
+                        tableMetaInfo, autoIncrementColumn)
                 .build();
     }
 
@@ -172,10 +357,53 @@ public class SqlBuilderGenerator {
      */
     @SuppressWarnings("unused")
     private String batchInsertUseGeneratedKeysMethodStatementTemplate(String schemaDotTable, List<TableEntity> list, String collectionName, String autoIncrementColumn) {
-        SQL sql = new SQL();
-        sql.INSERT_INTO(schemaDotTable);
-        SqlProviderUtils.batchInsertUseGeneratedKeysColumnsAndValues(sql, list, collectionName, autoIncrementColumn);
-        return sql.toString();
+        return SqlProviderUtils.batchInsertUseGeneratedKeysStatement(schemaDotTable, list, collectionName, autoIncrementColumn);
+    }
+
+    /**
+     * generate batch delete method.
+     *
+     * @param table                  table
+     * @param userSpecifyPackageName 用户指定的包名
+     * @param whereClauseColumns     删除条件的列
+     * @param primaryKey             <i>whereClauseColumns</i>是否主键
+     * @param limit                  是否带有<code>LIMIT #{rowCount}</code>
+     * @return batch delete method
+     */
+    private MethodSpec genBatchDeleteMethod(Table table, String userSpecifyPackageName, List<Column> whereClauseColumns, boolean primaryKey, boolean limit) {
+        List<String> columnNames = ColumnUtils.columnNames(whereClauseColumns);
+        String methodName = MyBatisMapperGeneratorUtil.getBatchDeleteMethodName(columnNames, primaryKey);
+        if (limit) {
+            methodName = MyBatisMapperGeneratorUtil.toLimitMethodName(methodName);
+        }
+        ParameterSpec parameterSpec = MyBatisMapperGeneratorUtil.getBatchSelectParameterSpec(whereClauseColumns, true, table, userSpecifyPackageName);
+
+        TypeName tableMetaInfo = TableMetaInfoGeneratorUtil.getTypeName(table, userSpecifyPackageName);
+        String collectionName = MyBatisMapperGeneratorUtil.getListParamName();
+
+        MethodSpec.Builder builder = MethodSpec.methodBuilder(methodName)
+                .addModifiers(Modifier.PUBLIC, Modifier.STATIC)
+                .returns(String.class)
+                .addParameter(parameterSpec);
+        if (limit) {
+            builder.addParameter(MyBatisMapperGeneratorUtil.getPagingRowCountParameterSpec(true));
+        }
+        builder.addStatement("$T sql = new $T()", SQL.class, SQL.class)
+                .addStatement("sql.DELETE_FROM($L)", listSchemaDotTable(table, userSpecifyPackageName, parameterSpec.name, whereClauseColumns));
+        String foreachMethodName = getForeachMethodName(whereClauseColumns.size() > 1 && rowConstructorInList);
+        if (primaryKey) {
+            builder.addStatement("$T.$L(sql,$S,$L.size(), $T.$L)", SqlProviderUtils.class, foreachMethodName, collectionName, parameterSpec.name, tableMetaInfo, TableMetaInfoGeneratorUtil.getPrimaryKeyFieldName());
+        } else {
+            String whereClauseColumnQuotingString = SqlProviderUtils.toDoubleQuotedString(columnNames);
+            builder.addStatement("$T.$L(sql,$S,$L.size(), $L)", SqlProviderUtils.class, foreachMethodName, collectionName, parameterSpec.name, whereClauseColumnQuotingString);
+        }
+        builder.addStatement("$T builder = new $T()", StringBuilder.class, StringBuilder.class)
+                .addStatement("sql.usingAppender(builder)");
+        if (limit) {
+            builder.addStatement("$T.appendLimit(builder)", SqlProviderUtils.class);
+        }
+        builder.addStatement("return builder.toString()");
+        return builder.build();
     }
 
     /**
@@ -193,14 +421,17 @@ public class SqlBuilderGenerator {
         Iterable<ParameterSpec> parameterSpecs = MyBatisMapperGeneratorUtil.getParameterSpecs(whereClauseColumns, true);
 
         TypeName tableMetaInfo = TableMetaInfoGeneratorUtil.getTypeName(table, userSpecifyPackageName);
-        String schemaDotTable = TableMetaInfoGeneratorUtil.getSchemaDotTableFieldName();
 
         MethodSpec.Builder builder = MethodSpec.methodBuilder(methodName);
         builder.addModifiers(Modifier.PUBLIC, Modifier.STATIC);
         builder.returns(String.class);
         builder.addParameters(parameterSpecs);
+        if (isStaticStatement(table)) {
+            builder.addStatement("return $L", SqlBuilderGeneratorUtil.getStatementConstantName(methodName));
+            return builder.build();
+        }
         builder.addStatement("$T sql = new $T()", SQL.class, SQL.class);
-        builder.addStatement("sql.DELETE_FROM($T.$L)", tableMetaInfo, schemaDotTable);
+        builder.addStatement("sql.DELETE_FROM($L)", ShardingGeneratorUtil.parameterSchemaDotTable(tableMetaInfo, getShardKeyColumn(table), whereClauseColumns));
         if (primaryKey) {
             String primaryKeyFieldName = TableMetaInfoGeneratorUtil.getPrimaryKeyFieldName();
             builder.addStatement("$T.whereConditions(sql, $T.$L)", SqlProviderUtils.class, tableMetaInfo, primaryKeyFieldName);
@@ -212,6 +443,47 @@ public class SqlBuilderGenerator {
         return builder.build();
     }
 
+    /**
+     * 静态sql模式下,保存delete语句的常量.
+     *
+     * @param table              table
+     * @param whereClauseColumns 删除条件的列
+     * @param primaryKey         <i>whereClauseColumns</i>是否主键
+     * @return field
+     */
+    private FieldSpec genDeleteStatementField(Table table, List<Column> whereClauseColumns, boolean primaryKey) {
+        List<String> columnNames = ColumnUtils.columnNames(whereClauseColumns);
+        String methodName = MyBatisMapperGeneratorUtil.getDeleteMethodName(columnNames, primaryKey);
+        return genStatementField(methodName, SqlBuilderGeneratorUtil.renderDeleteStatement(table, columnNames));
+    }
+
+    /**
+     * 静态sql模式下,保存select count语句的常量.
+     *
+     * @param table              table
+     * @param whereClauseColumns where条件中的列
+     * @return field
+     */
+    private FieldSpec genSelectCountStatementField(Table table, List<Column> whereClauseColumns) {
+        List<String> columnNames = ColumnUtils.columnNames(whereClauseColumns);
+        String methodName = MyBatisMapperGeneratorUtil.getSelectCountMethodName(columnNames);
+        return genStatementField(methodName, SqlBuilderGeneratorUtil.renderSelectCountStatement(table, columnNames));
+    }
+
+    /**
+     * 保存渲染好的sql语句的常量.
+     *
+     * @param methodName 使用此语句的方法
+     * @param statement  sql
+     * @return field
+     */
+    private FieldSpec genStatementField(String methodName, String statement) {
+        return FieldSpec.builder(String.class, SqlBuilderGeneratorUtil.getStatementConstantName(methodName),
+                Modifier.PUBLIC, Modifier.STATIC, Modifier.FINAL)
+                .initializer("$S", statement)
+                .build();
+    }
+
     /**
      * 为{@link #genDeleteMethod(Table, String, List, boolean)}提供方法提的模板.
      *
@@ -245,55 +517,85 @@ public class SqlBuilderGenerator {
         ParameterSpec updateParameterSpec = EntityGeneratorUtil.getEntityParameter(table, userSpecifyPackageName, true);
 
         TypeName tableMetaInfo = TableMetaInfoGeneratorUtil.getTypeName(table, userSpecifyPackageName);
-        String schemaDotTable = TableMetaInfoGeneratorUtil.getSchemaDotTableFieldName();
         String primaryKeyFieldName = TableMetaInfoGeneratorUtil.getPrimaryKeyFieldName();
 
-        ParameterizedTypeName mapOfString = TypeNameUtils.mapOf(String.class, String.class);
-
         builder.addModifiers(Modifier.PUBLIC, Modifier.STATIC);
         builder.returns(String.class);
         builder.addParameters(conditionsParameterSpec);
         builder.addParameter(updateParameterSpec);
-        builder.addStatement("$T.validate($L)", SqlProviderUtils.class, updateParameterSpec.name);
-        builder.addStatement("$T nonNullFieldToColumnMap = $T.fieldToColumn($L,$L)", mapOfString, TableEntityUtils.class, updateParameterSpec.name, true);
-        builder.addStatement("$T.noneNullFieldValidate($L,nonNullFieldToColumnMap)", SqlProviderUtils.class, updateParameterSpec.name);
-        builder.addStatement("$T sql = new $T()", SQL.class, SQL.class);
-        builder.addStatement("sql.UPDATE($T.$L)", tableMetaInfo, schemaDotTable);
-        if (primaryKey) {
-            builder.addStatement("$T.updateSetColumnsAndValues(sql,nonNullFieldToColumnMap,$S,$T.$L)", SqlProviderUtils.class, updateParameterSpec.name, tableMetaInfo, primaryKeyFieldName);
-            builder.addStatement("$T.whereConditions(sql, $T.$L)", SqlProviderUtils.class, tableMetaInfo, primaryKeyFieldName);
+        Column shardKeyColumn = getShardKeyColumn(table);
+        // 实体中分片键的值是要更新的值,不是这一行当前所在的物理表,所以where条件中没有分片键时,
+        // 使用withShardKey指定的分片键,并且分片键不更新
+        CodeBlock schemaDotTable = ShardingGeneratorUtil.parameterSchemaDotTable(tableMetaInfo, shardKeyColumn, whereClauseColumns);
+        List<String> primaryKeyExclusiveColumns = ShardingGeneratorUtil.updateExclusiveColumns(table.primaryKeyColumnNames(), shardKeyColumn);
+        if (primaryKey && primaryKeyExclusiveColumns.size() == table.primaryKeyColumnNames().size()) {
+            builder.addStatement("return $T.updateStatement($S, $L, $L, $S, $T.$L, $T.$L)", SqlProviderUtils.class, methodName,
+                    schemaDotTable, updateParameterSpec.name, updateParameterSpec.name,
+                    tableMetaInfo, primaryKeyFieldName, tableMetaInfo, primaryKeyFieldName);
+        } else if (primaryKey) {
+            builder.addStatement("return $T.updateStatement($S, $L, $L, $S, new String[]{$L}, $T.$L)", SqlProviderUtils.class, methodName,
+                    schemaDotTable, updateParameterSpec.name, updateParameterSpec.name,
+                    SqlProviderUtils.toDoubleQuotedString(primaryKeyExclusiveColumns), tableMetaInfo, primaryKeyFieldName);
         } else {
             List<String> list = new ArrayList<>(table.primaryKeyColumnNames().size() + columnNames.size());
             list.addAll(table.primaryKeyColumnNames());
             list.addAll(columnNames);
-            String exclusiveColumnQuotingString = SqlProviderUtils.toDoubleQuotedString(list);
-            builder.addStatement("$T.updateSetColumnsAndValues(sql,nonNullFieldToColumnMap,$S,$L)", SqlProviderUtils.class, updateParameterSpec.name, exclusiveColumnQuotingString);
+            String exclusiveColumnQuotingString = SqlProviderUtils.toDoubleQuotedString(ShardingGeneratorUtil.updateExclusiveColumns(list, shardKeyColumn));
             String whereClauseColumnQuotingString = SqlProviderUtils.toDoubleQuotedString(columnNames);
-            builder.addStatement("$T.whereConditions(sql, $L)", SqlProviderUtils.class, whereClauseColumnQuotingString);
+            builder.addStatement("return $T.updateStatement($S, $L, $L, $S, new String[]{$L}, $L)", SqlProviderUtils.class, methodName,
+                    schemaDotTable, updateParameterSpec.name, updateParameterSpec.name,
+                    exclusiveColumnQuotingString, whereClauseColumnQuotingString);
         }
-        builder.addStatement("return sql.toString()");
         return builder.build();
     }
 
+    /**
+     * generate batch update by primary key method.
+     *
+     * @param table                  table
+     * @param userSpecifyPackageName package name
+     * @return batch update method
+     */
+    private MethodSpec genBatchUpdateByPrimaryKeyMethod(Table table, String userSpecifyPackageName) {
+        ParameterSpec parameterSpec = EntityGeneratorUtil.getEntityListParameter(table, userSpecifyPackageName);
+        TypeName tableMetaInfo = TableMetaInfoGeneratorUtil.getTypeName(table, userSpecifyPackageName);
+        String primaryKeyFieldName = TableMetaInfoGeneratorUtil.getPrimaryKeyFieldName();
+        MethodSpec.Builder builder = MethodSpec.methodBuilder(Constant.MAPPER_BATCH_UPDATE_BY_PRIMARY_KEY)
+                .addModifiers(Modifier.PUBLIC, Modifier.STATIC)
+                .returns(String.class)
+                .addParameter(parameterSpec);
+        Column shardKeyColumn = getShardKeyColumn(table);
+        if (shardKeyColumn == null) {
+            CodeBlock schemaDotTable = ShardingGeneratorUtil.schemaDotTable(tableMetaInfo, null, null);
+            return builder.addStatement("return $T.batchUpdateStatement($L, $L, $S, $T.$L)", SqlProviderUtils.class, schemaDotTable,
+                    parameterSpec.name, parameterSpec.name, tableMetaInfo, primaryKeyFieldName)
+                    .build();
+        }
+        // 只有主键中的分片键才是这一行当前所在的物理表,否则使用withShardKey指定的分片键,并且分片键不更新
+        CodeBlock shardKeyFunction = ShardingGeneratorUtil.keyShardKeyFunction(table.primaryKeyColumns(), shardKeyColumn,
+                EntityGeneratorUtil.getTypeName(table, userSpecifyPackageName));
+        CodeBlock schemaDotTable = ShardingGeneratorUtil.schemaDotTable(tableMetaInfo, shardKeyColumn,
+                shardKeyFunction == null ? null : CodeBlock.of("$L, $L", parameterSpec.name, shardKeyFunction));
+        List<String> exclusiveColumns = ShardingGeneratorUtil.updateExclusiveColumns(table.primaryKeyColumnNames(), shardKeyColumn);
+        return builder.addStatement("return $T.batchUpdateStatement($L, $L, $S, new String[]{$L}, $T.$L)", SqlProviderUtils.class, schemaDotTable,
+                parameterSpec.name, parameterSpec.name, SqlProviderUtils.toDoubleQuotedString(exclusiveColumns), tableMetaInfo, primaryKeyFieldName)
+                .build();
+    }
+
     /**
      * 为{@link #genUpdateMethod(Table, String, List, boolean)}提供方法体模板.
      *
-     * @param schemaDotTable     schema.table
-     * @param entity             表对应的实体
-     * @param parameterName      参数名称,Mybatis的参数名称
-     * @param whereClauseColumns 更新条件的列
+     * @param statementId          方法名称
+     * @param schemaDotTable       schema.table
+     * @param entity               表对应的实体
+     * @param parameterName        参数名称,Mybatis的参数名称
+     * @param exclusiveWhereClause 排除更新的列
+     * @param whereClauseColumns   更新条件的列
      * @return sql
      */
     @SuppressWarnings("unused")
-    private String updateMethodStatementTemplate(String schemaDotTable, TableEntity entity, String parameterName, String... whereClauseColumns) {
-        SqlProviderUtils.validate(entity);
-        Map<String, String> nonNullFieldToColumnMap = TableEntityUtils.fieldToColumn(entity, true);
-        SqlProviderUtils.noneNullFieldValidate(entity, nonNullFieldToColumnMap);
-        SQL sql = new SQL();
-        sql.UPDATE(schemaDotTable);
-        SqlProviderUtils.updateSetColumnsAndValues(sql, nonNullFieldToColumnMap, parameterName, whereClauseColumns);
-        SqlProviderUtils.whereConditions(sql, whereClauseColumns);
-        return sql.toString();
+    private String updateMethodStatementTemplate(String statementId, String schemaDotTable, TableEntity entity, String parameterName, String[] exclusiveWhereClause, String... whereClauseColumns) {
+        return SqlProviderUtils.updateStatement(statementId, schemaDotTable, entity, parameterName, exclusiveWhereClause, whereClauseColumns);
     }
 
     /**
@@ -321,7 +623,7 @@ public class SqlBuilderGenerator {
         ParameterSpec retrieveColumnParameter = MyBatisMapperGeneratorUtil.getRetrieveColumnsParameterSpec(true);
 
         TypeName tableMetaInfo = TableMetaInfoGeneratorUtil.getTypeName(table, userSpecifyPackageName);
-        String schemaDotTable = TableMetaInfoGeneratorUtil.getSchemaDotTableFieldName();
+        CodeBlock schemaDotTable = ShardingGeneratorUtil.parameterSchemaDotTable(tableMetaInfo, getShardKeyColumn(table), whereClauseColumns);
 
         MethodSpec.Builder builder = MethodSpec.methodBuilder(methodName)
                 .addModifiers(Modifier.PUBLIC, Modifier.STATIC)
@@ -336,7 +638,7 @@ public class SqlBuilderGenerator {
                 .addStatement("$T.selectColumnsValidate($L)", SqlProviderUtils.class, Constant.RETRIEVE_COLUMN_ARRAY)
                 .addStatement("$T sql = new $T()", SQL.class, SQL.class)
                 .addStatement("sql.SELECT($L)", Constant.RETRIEVE_COLUMN_ARRAY)
-                .addStatement("sql.FROM($T.$L)", tableMetaInfo, schemaDotTable);
+                .addStatement("sql.FROM($L)", schemaDotTable);
         if (primaryKey) {
             builder.addStatement("$T.whereConditions(sql, $T.$L)", SqlProviderUtils.class, tableMetaInfo, TableMetaInfoGeneratorUtil.getPrimaryKeyFieldName());
         } else {
@@ -353,6 +655,92 @@ public class SqlBuilderGenerator {
         return builder.build();
     }
 
+    /**
+     * 生成keyset(seek)分页的查询方法,即<code>WHERE (key columns) &gt; (...) ORDER BY key columns LIMIT #{rowCount}</code>,
+     * 不管翻到多深,每一页的代价都是一样的.key columns参考{@link MyBatisMapperGeneratorUtil#getKeysetColumns}.
+     * 如果参数中有任何一个是null,则表示查询第一页,不生成WHERE条件,因此只在排序的列都是NOT NULL时才生成这个方法,
+     * 参考{@link MyBatisMapperGeneratorUtil#isKeysetPageable}.
+     *
+     * @param table                  table
+     * @param userSpecifyPackageName 用户指定的包名称
+     * @param indexColumns           索引中的列
+     * @param primaryKey             给定的这些列是否组成主键
+     * @param unique                 给定的这些列是否能唯一确定一条记录,即主键或者唯一索引
+     * @return 查询方法
+     */
+    private MethodSpec genSelectAfterMethod(Table table, String userSpecifyPackageName, List<Column> indexColumns, boolean primaryKey, boolean unique) {
+        String methodName = MyBatisMapperGeneratorUtil.getSelectAfterMethodName(ColumnUtils.columnNames(indexColumns), primaryKey);
+        List<Column> keysetColumns = MyBatisMapperGeneratorUtil.getKeysetColumns(table, indexColumns, unique);
+        Iterable<ParameterSpec> keyParameterSpecs = MyBatisMapperGeneratorUtil.getParameterSpecs(keysetColumns, true);
+        ParameterSpec retrieveColumnParameter = MyBatisMapperGeneratorUtil.getRetrieveColumnsParameterSpec(true);
+
+        TypeName tableMetaInfo = TableMetaInfoGeneratorUtil.getTypeName(table, userSpecifyPackageName);
+        CodeBlock schemaDotTable = ShardingGeneratorUtil.parameterSchemaDotTable(tableMetaInfo, getShardKeyColumn(table), keysetColumns);
+
+        MethodSpec.Builder builder = MethodSpec.methodBuilder(methodName)
+                .addModifiers(Modifier.PUBLIC, Modifier.STATIC)
+                .returns(String.class)
+                .addParameters(keyParameterSpecs)
+                .addParameter(MyBatisMapperGeneratorUtil.getPagingRowCountParameterSpec(true))
+                .addParameter(retrieveColumnParameter);
+        builder.addStatement("String[] $L = $T.sqlColumnsToArray($L)", Constant.RETRIEVE_COLUMN_ARRAY, SqlProviderUtils.class, retrieveColumnParameter.name)
+                .addStatement("$T.selectColumnsValidate($L)", SqlProviderUtils.class, Constant.RETRIEVE_COLUMN_ARRAY)
+                .addStatement("$T sql = new $T()", SQL.class, SQL.class)
+                .addStatement("sql.SELECT($L)", Constant.RETRIEVE_COLUMN_ARRAY)
+                .addStatement("sql.FROM($L)", schemaDotTable);
+        if (primaryKey) {
+            builder.addStatement("String[] keyColumns = $T.$L", tableMetaInfo, TableMetaInfoGeneratorUtil.getPrimaryKeyFieldName());
+        } else {
+            builder.addStatement("String[] keyColumns = new String[]{$L}", SqlProviderUtils.toDoubleQuotedString(ColumnUtils.columnNames(keysetColumns)));
+        }
+        StringBuilder notNullCondition = new StringBuilder();
+        for (ParameterSpec keyParameterSpec : keyParameterSpecs) {
+            if (notNullCondition.length() > 0) {
+                notNullCondition.append(" && ");
+            }
+            notNullCondition.append(keyParameterSpec.name).append(" != null");
+        }
+        builder.beginControlFlow("if ($L)", notNullCondition)
+                .addStatement("$T.whereKeyAfter(sql, keyColumns)", SqlProviderUtils.class)
+                .endControlFlow();
+        builder.addStatement("sql.ORDER_BY(keyColumns)")
+                .addStatement("$T builder = new $T()", StringBuilder.class, StringBuilder.class)
+                .addStatement("sql.usingAppender(builder)")
+                .addStatement("$T.appendLimit(builder)", SqlProviderUtils.class)
+                .addStatement("return builder.toString()");
+        return builder.build();
+    }
+
+    /**
+     * 生成非唯一索引上的streamBy方法,和selectBy方法一样,只是不分页.
+     *
+     * @param table                  table
+     * @param userSpecifyPackageName 用户指定的包名称
+     * @param whereClauseColumns     sql查询语句中where条件的列
+     * @return 查询方法
+     */
+    private MethodSpec genStreamMethod(Table table, String userSpecifyPackageName, List<Column> whereClauseColumns) {
+        List<String> columnNames = ColumnUtils.columnNames(whereClauseColumns);
+        String methodName = MyBatisMapperGeneratorUtil.getStreamMethodName(columnNames);
+        ParameterSpec retrieveColumnParameter = MyBatisMapperGeneratorUtil.getRetrieveColumnsParameterSpec(true);
+        TypeName tableMetaInfo = TableMetaInfoGeneratorUtil.getTypeName(table, userSpecifyPackageName);
+        CodeBlock schemaDotTable = ShardingGeneratorUtil.parameterSchemaDotTable(tableMetaInfo, getShardKeyColumn(table), whereClauseColumns);
+        String whereClauseColumnQuotingString = SqlProviderUtils.toDoubleQuotedString(columnNames);
+        return MethodSpec.methodBuilder(methodName)
+                .addModifiers(Modifier.PUBLIC, Modifier.STATIC)
+                .returns(String.class)
+                .addParameters(MyBatisMapperGeneratorUtil.getParameterSpecs(whereClauseColumns, true))
+                .addParameter(retrieveColumnParameter)
+                .addStatement("String[] $L = $T.sqlColumnsToArray($L)", Constant.RETRIEVE_COLUMN_ARRAY, SqlProviderUtils.class, retrieveColumnParameter.name)
+                .addStatement("$T.selectColumnsValidate($L)", SqlProviderUtils.class, Constant.RETRIEVE_COLUMN_ARRAY)
+                .addStatement("$T sql = new $T()", SQL.class, SQL.class)
+                .addStatement("sql.SELECT($L)", Constant.RETRIEVE_COLUMN_ARRAY)
+                .addStatement("sql.FROM($L)", schemaDotTable)
+                .addStatement("$T.whereConditions(sql, $L)", SqlProviderUtils.class, whereClauseColumnQuotingString)
+                .addStatement("return sql.toString()")
+                .build();
+    }
+
     /**
      * 为{@link #genSelectMethod}提供方法体模板.
      *
@@ -404,15 +792,19 @@ public class SqlBuilderGenerator {
         Iterable<ParameterSpec> whereClauseParameterSpecs = MyBatisMapperGeneratorUtil.getParameterSpecs(whereClauseColumns, true);
 
         TypeName tableMetaInfo = TableMetaInfoGeneratorUtil.getTypeName(table, userSpecifyPackageName);
-        String schemaDotTable = TableMetaInfoGeneratorUtil.getSchemaDotTableFieldName();
+        CodeBlock schemaDotTable = ShardingGeneratorUtil.parameterSchemaDotTable(tableMetaInfo, getShardKeyColumn(table), whereClauseColumns);
 
         MethodSpec.Builder builder = MethodSpec.methodBuilder(methodName)
                 .addModifiers(Modifier.PUBLIC, Modifier.STATIC)
                 .returns(String.class)
                 .addParameters(whereClauseParameterSpecs);
+        if (isStaticStatement(table)) {
+            builder.addStatement("return $L", SqlBuilderGeneratorUtil.getStatementConstantName(methodName));
+            return builder.build();
+        }
         builder.addStatement("$T sql = new $T()", SQL.class, SQL.class)
                 .addStatement("sql.SELECT($T.COUNT_STATEMENT)", Constant.class)
-                .addStatement("sql.FROM($T.$L)", tableMetaInfo, schemaDotTable);
+                .addStatement("sql.FROM($L)", schemaDotTable);
         String whereClauseColumnQuotingString = SqlProviderUtils.toDoubleQuotedString(columnNames);
         builder.addStatement("$T.whereConditions(sql, $L)", SqlProviderUtils.class, whereClauseColumnQuotingString);
         builder.addStatement("$T builder = new $T()", StringBuilder.class, StringBuilder.class)
@@ -459,7 +851,7 @@ public class SqlBuilderGenerator {
         ParameterSpec retrieveColumnParameter = MyBatisMapperGeneratorUtil.getRetrieveColumnsParameterSpec(true);
 
         TypeName tableMetaInfo = TableMetaInfoGeneratorUtil.getTypeName(table, userSpecifyPackageName);
-        String schemaDotTable = TableMetaInfoGeneratorUtil.getSchemaDotTableFieldName();
+        CodeBlock schemaDotTable = listSchemaDotTable(table, userSpecifyPackageName, parameterSpec.name, whereClauseColumns);
 
         String collectionName = MyBatisMapperGeneratorUtil.getListParamName();
 
@@ -472,12 +864,13 @@ public class SqlBuilderGenerator {
                 .addStatement("$T.selectColumnsValidate($L)", SqlProviderUtils.class, Constant.RETRIEVE_COLUMN_ARRAY)
                 .addStatement("$T sql = new $T()", SQL.class, SQL.class)
                 .addStatement("sql.SELECT($L)", Constant.RETRIEVE_COLUMN_ARRAY)
-                .addStatement("sql.FROM($T.$L)", tableMetaInfo, schemaDotTable);
+                .addStatement("sql.FROM($L)", schemaDotTable);
+        String foreachMethodName = getForeachMethodName(whereClauseColumns.size() > 1 && rowConstructorInList);
         if (primaryKey) {
-            builder.addStatement("$T.whereConditionsForeach(sql,$S,$L.size(), $T.$L)", SqlProviderUtils.class, collectionName, parameterSpec.name, tableMetaInfo, TableMetaInfoGeneratorUtil.getPrimaryKeyFieldName());
+            builder.addStatement("$T.$L(sql,$S,$L.size(), $T.$L)", SqlProviderUtils.class, foreachMethodName, collectionName, parameterSpec.name, tableMetaInfo, TableMetaInfoGeneratorUtil.getPrimaryKeyFieldName());
         } else {
             String whereClauseColumnQuotingString = SqlProviderUtils.toDoubleQuotedString(columnNames);
-            builder.addStatement("$T.whereConditionsForeach(sql,$S,$L.size(), $L)", SqlProviderUtils.class, collectionName, parameterSpec.name, whereClauseColumnQuotingString);
+            builder.addStatement("$T.$L(sql,$S,$L.size(), $L)", SqlProviderUtils.class, foreachMethodName, collectionName, parameterSpec.name, whereClauseColumnQuotingString);
         }
         builder.addStatement("$T builder = new $T()", StringBuilder.class, StringBuilder.class)
                 .addStatement("sql.usingAppender(builder)");
@@ -485,6 +878,17 @@ public class SqlBuilderGenerator {
         return builder.build();
     }
 
+    /**
+     * batchSelectBy和batchDeleteBy方法中生成where条件的{@link SqlProviderUtils}方法.
+     *
+     * @param rowConstructor 是否使用row constructor形式的IN条件
+     * @return method name
+     */
+    private String getForeachMethodName(boolean rowConstructor) {
+        String methodName = rowConstructor ? "whereConditionsRowConstructorIn" : "whereConditionsForeach";
+        return bucketedInList ? methodName + "Bucketed" : methodName;
+    }
+
     /**
      * 为{@link #genBatchSelectMethod}提供方法体模板.
      *
@@ -528,7 +932,7 @@ public class SqlBuilderGenerator {
         ParameterSpec retrieveColumnParameter = MyBatisMapperGeneratorUtil.getRetrieveColumnsParameterSpec(true);
 
         TypeName tableMetaInfo = TableMetaInfoGeneratorUtil.getTypeName(table, userSpecifyPackageName);
-        String schemaDotTable = TableMetaInfoGeneratorUtil.getSchemaDotTableFieldName();
+        CodeBlock schemaDotTable = ShardingGeneratorUtil.schemaDotTable(tableMetaInfo, getShardKeyColumn(table), null);
 
         MethodSpec.Builder builder = MethodSpec.methodBuilder(methodName)
                 .addModifiers(Modifier.PUBLIC, Modifier.STATIC)
@@ -543,7 +947,7 @@ public class SqlBuilderGenerator {
                 .addStatement("$T.selectColumnsValidate($L)", SqlProviderUtils.class, Constant.RETRIEVE_COLUMN_ARRAY)
                 .addStatement("$T sql = new $T()", SQL.class, SQL.class)
                 .addStatement("sql.SELECT($L)", Constant.RETRIEVE_COLUMN_ARRAY)
-                .addStatement("sql.FROM($T.$L)", tableMetaInfo, schemaDotTable);
+                .addStatement("sql.FROM($L)", schemaDotTable);
         builder.addStatement("$T builder = new $T()", StringBuilder.class, StringBuilder.class)
                 .addStatement("sql.usingAppender(builder)");
         builder.addStatement("builder.append($L).append($L.getWhereClause())", SqlProviderUtils.toDoubleQuotedString(" "), whereClauseProvider.name);
@@ -552,6 +956,35 @@ public class SqlBuilderGenerator {
         return builder.build();
     }
 
+    /**
+     * stream by example,和selectListByExample一样,只是不分页.
+     *
+     * @param table                  table
+     * @param userSpecifyPackageName 用户指定的包名称
+     * @return 查询方法
+     */
+    private MethodSpec genStreamByExampleMethod(Table table, String userSpecifyPackageName) {
+        ParameterSpec whereClauseProvider = MyBatisMapperGeneratorUtil.getWhereClauseProviderParameterSpec(true);
+        ParameterSpec retrieveColumnParameter = MyBatisMapperGeneratorUtil.getRetrieveColumnsParameterSpec(true);
+        TypeName tableMetaInfo = TableMetaInfoGeneratorUtil.getTypeName(table, userSpecifyPackageName);
+        CodeBlock schemaDotTable = ShardingGeneratorUtil.schemaDotTable(tableMetaInfo, getShardKeyColumn(table), null);
+        return MethodSpec.methodBuilder(Constant.STREAM_BY_EXAMPLE)
+                .addModifiers(Modifier.PUBLIC, Modifier.STATIC)
+                .returns(String.class)
+                .addParameter(retrieveColumnParameter)
+                .addParameter(whereClauseProvider)
+                .addStatement("String[] $L = SqlProviderUtils.sqlColumnsToArray($L)", Constant.RETRIEVE_COLUMN_ARRAY, retrieveColumnParameter.name)
+                .addStatement("$T.selectColumnsValidate($L)", SqlProviderUtils.class, Constant.RETRIEVE_COLUMN_ARRAY)
+                .addStatement("$T sql = new $T()", SQL.class, SQL.class)
+                .addStatement("sql.SELECT($L)", Constant.RETRIEVE_COLUMN_ARRAY)
+                .addStatement("sql.FROM($L)", schemaDotTable)
+                .addStatement("$T builder = new $T()", StringBuilder.class, StringBuilder.class)
+                .addStatement("sql.usingAppender(builder)")
+                .addStatement("builder.append($L).append($L.getWhereClause())", SqlProviderUtils.toDoubleQuotedString(" "), whereClauseProvider.name)
+                .addStatement("return builder.toString()")
+                .build();
+    }
+
     /**
      * 为{@link #genSelectByExampleMethod}提供方法体模板.
      *
@@ -592,7 +1025,7 @@ public class SqlBuilderGenerator {
         ParameterSpec whereClauseProvider = MyBatisMapperGeneratorUtil.getWhereClauseProviderParameterSpec(true);
 
         TypeName tableMetaInfo = TableMetaInfoGeneratorUtil.getTypeName(table, userSpecifyPackageName);
-        String schemaDotTable = TableMetaInfoGeneratorUtil.getSchemaDotTableFieldName();
+        CodeBlock schemaDotTable = ShardingGeneratorUtil.schemaDotTable(tableMetaInfo, getShardKeyColumn(table), null);
 
         MethodSpec.Builder builder = MethodSpec.methodBuilder(methodName)
                 .addModifiers(Modifier.PUBLIC, Modifier.STATIC)
@@ -600,7 +1033,7 @@ public class SqlBuilderGenerator {
                 .addParameter(whereClauseProvider);
         builder.addStatement("$T sql = new $T()", SQL.class, SQL.class)
                 .addStatement("sql.SELECT($T.COUNT_STATEMENT)", Constant.class)
-                .addStatement("sql.FROM($T.$L)", tableMetaInfo, schemaDotTable);
+                .addStatement("sql.FROM($L)", schemaDotTable);
         builder.addStatement("$T builder = new $T()", StringBuilder.class, StringBuilder.class)
                 .addStatement("sql.usingAppender(builder)");
         builder.addStatement("builder.append($L).append($L.getWhereClause())", SqlProviderUtils.toDoubleQuotedString(" "), whereClauseProvider.name);
@@ -3,9 +3,19 @@ package com.wuda.code.generator.db.mysql;
 import com.squareup.javapoet.ClassName;
 import com.squareup.javapoet.TypeName;
 import com.wuda.yhan.code.generator.lang.Constant;
+import com.wuda.yhan.code.generator.lang.relational.Index;
+import com.wuda.yhan.code.generator.lang.util.ColumnUtils;
 import com.wuda.yhan.code.generator.lang.util.JavaNamingUtils;
+import com.wuda.yhan.code.generator.lang.util.SqlProviderUtils;
 import com.wuda.yhan.code.generator.lang.util.StringUtils;
+import com.wuda.yhan.code.generator.lang.util.TableUtils;
 import com.wuda.yhan.code.generator.lang.relational.Table;
+import org.apache.ibatis.jdbc.SQL;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
 
 /**
  * {@link SqlBuilderGenerator}生成代码时,命名工具类.
@@ -45,4 +55,59 @@ class SqlBuilderGeneratorUtil {
         return ClassName.get(finalPackageName, className);
     }
 
+    /**
+     * 生成代码时就渲染出<code>DELETE</code>语句,适用于语句不随参数变化的方法.
+     *
+     * @param table              table
+     * @param whereClauseColumns where条件中的列
+     * @return sql
+     */
+    static String renderDeleteStatement(Table table, List<String> whereClauseColumns) {
+        SQL sql = new SQL();
+        sql.DELETE_FROM(TableMetaInfoGeneratorUtil.getSchemaDotTableFieldValue(table));
+        SqlProviderUtils.whereConditions(sql, whereClauseColumns.toArray(new String[0]));
+        return sql.toString();
+    }
+
+    /**
+     * 生成代码时就渲染出<code>SELECT COUNT</code>语句,适用于语句不随参数变化的方法.
+     *
+     * @param table              table
+     * @param whereClauseColumns where条件中的列
+     * @return sql
+     */
+    static String renderSelectCountStatement(Table table, List<String> whereClauseColumns) {
+        SQL sql = new SQL();
+        sql.SELECT(Constant.COUNT_STATEMENT);
+        sql.FROM(TableMetaInfoGeneratorUtil.getSchemaDotTableFieldValue(table));
+        SqlProviderUtils.whereConditions(sql, whereClauseColumns.toArray(new String[0]));
+        return sql.toString();
+    }
+
+    /**
+     * 保存渲染好的sql语句的常量名称,比如: deleteByPrimaryKey对应DELETE_BY_PRIMARY_KEY_STATEMENT.
+     *
+     * @param methodName 方法名称
+     * @return 常量名称
+     */
+    static String getStatementConstantName(String methodName) {
+        return JavaNamingUtils.toUnderscoreCase(methodName).toUpperCase() + "_STATEMENT";
+    }
+
+    /**
+     * upsert语句中冲突时不更新的列,即主键和所有唯一索引中的列.
+     *
+     * @param table table
+     * @return 列名
+     */
+    static List<String> getUpsertKeyColumns(Table table) {
+        Set<String> keyColumns = new LinkedHashSet<>(table.primaryKeyColumnNames());
+        List<Index> uniqueIndices = TableUtils.getUniqueIndices(table);
+        if (uniqueIndices != null) {
+            for (Index index : uniqueIndices) {
+                keyColumns.addAll(ColumnUtils.columnNames(ColumnUtils.indexColumns(table, index)));
+            }
+        }
+        return new ArrayList<>(keyColumns);
+    }
 }
@@ -19,4 +19,26 @@ public class EntityGeneratorTest extends GeneratorTestBase {
         }
 
     }
+
+    @Test
+    public void testGenJavaFileWithDirtyFieldTracking() {
+        EntityGenerator entityGenerator = new EntityGenerator();
+        TableTest tableTest = new TableTest();
+        List<Table> tables = tableTest.getTable();
+        for (Table table : tables) {
+            JavaFile javaFile = entityGenerator.genJavaFile(table, packageName, false, true);
+            printAndWrite(javaFile);
+        }
+    }
+
+    @Test
+    public void testGenAccessorJavaFile() {
+        EntityGenerator entityGenerator = new EntityGenerator();
+        TableTest tableTest = new TableTest();
+        List<Table> tables = tableTest.getTable();
+        for (Table table : tables) {
+            JavaFile javaFile = entityGenerator.genAccessorJavaFile(table, packageName);
+            printAndWrite(javaFile);
+        }
+    }
 }
@@ -2,10 +2,14 @@ package com.wuda.code.generator.db.mysql;
 
 import com.squareup.javapoet.JavaFile;
 import com.wuda.yhan.code.generator.lang.relational.Table;
+import com.wuda.yhan.code.generator.parser.mysql.MySqlCreateTableStatementParser;
 import org.junit.Test;
 
+import java.util.Collections;
 import java.util.List;
 
+import static org.junit.Assert.assertTrue;
+
 public class MybatisMapperGeneratorTest extends GeneratorTestBase {
 
     @Test
@@ -18,4 +22,64 @@ public class MybatisMapperGeneratorTest extends GeneratorTestBase {
             printAndWrite(javaFile);
         }
     }
+
+    @Test
+    public void testGenJavaFileWithStaticStatement() {
+        TableTest tableTest = new TableTest();
+        MyBatisMapperGenerator myBatisMapperGenerator = new MyBatisMapperGenerator();
+        myBatisMapperGenerator.setStaticStatement(true);
+        List<Table> tables = tableTest.getTable();
+        for (Table table : tables) {
+            JavaFile javaFile = myBatisMapperGenerator.genJavaFile(table, packageName);
+            printAndWrite(javaFile);
+        }
+    }
+
+    @Test
+    public void testGenJavaFileWithBucketedInList() {
+        TableTest tableTest = new TableTest();
+        MyBatisMapperGenerator myBatisMapperGenerator = new MyBatisMapperGenerator();
+        myBatisMapperGenerator.setBucketedInList(true);
+        List<Table> tables = tableTest.getTable();
+        for (Table table : tables) {
+            JavaFile javaFile = myBatisMapperGenerator.genJavaFile(table, packageName);
+            printAndWrite(javaFile);
+        }
+    }
+
+    @Test
+    public void testGenJavaFileWithRollingDelete() {
+        TableTest tableTest = new TableTest();
+        MyBatisMapperGenerator myBatisMapperGenerator = new MyBatisMapperGenerator();
+        myBatisMapperGenerator.setRollingDelete(true);
+        List<Table> tables = tableTest.getTable();
+        for (Table table : tables) {
+            JavaFile javaFile = myBatisMapperGenerator.genJavaFile(table, packageName);
+            printAndWrite(javaFile);
+        }
+    }
+
+    @Test
+    public void testGenJavaFileWithShardKeyColumns() {
+        TableTest tableTest = new TableTest();
+        MyBatisMapperGenerator myBatisMapperGenerator = new MyBatisMapperGenerator();
+        myBatisMapperGenerator.setShardKeyColumns(Collections.singletonMap("message_item", "message_category_id"));
+        List<Table> tables = tableTest.getTable();
+        for (Table table : tables) {
+            JavaFile javaFile = myBatisMapperGenerator.genJavaFile(table, packageName);
+            printAndWrite(javaFile);
+        }
+    }
+
+    @Test
+    public void testBigintUnsignedResultJdbcType() {
+        String ddl = "CREATE TABLE cmp.`message_log` (\n" +
+                "\t`id` BIGINT(20) UNSIGNED NOT NULL AUTO_INCREMENT COMMENT '主键',\n" +
+                "\t`content` VARCHAR(45) NOT NULL COMMENT '内容',\n" +
+                "\tPRIMARY KEY (`id`)\n" +
+                ")";
+        Table table = new MySqlCreateTableStatementParser().parse(ddl).get(0);
+        String code = new MyBatisMapperGenerator().genJavaFile(table, packageName).toString();
+        assertTrue(code, code.contains("column = \"id\", property = \"id\", javaType = Long.class, jdbcType = JdbcType.BIGINT)"));
+    }
 }
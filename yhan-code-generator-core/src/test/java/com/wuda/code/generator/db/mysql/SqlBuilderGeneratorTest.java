@@ -4,6 +4,7 @@ import com.squareup.javapoet.JavaFile;
 import com.wuda.yhan.code.generator.lang.relational.Table;
 import org.junit.Test;
 
+import java.util.Collections;
 import java.util.List;
 
 public class SqlBuilderGeneratorTest extends GeneratorTestBase{
@@ -18,4 +19,52 @@ public class SqlBuilderGeneratorTest extends GeneratorTestBase{
             printAndWrite(javaFile);
         }
     }
+
+    @Test
+    public void testGenJavaFileWithStaticStatement() {
+        TableTest tableTest = new TableTest();
+        SqlBuilderGenerator generator = new SqlBuilderGenerator();
+        generator.setStaticStatement(true);
+        List<Table> tables = tableTest.getTable();
+        for (Table table : tables) {
+            JavaFile javaFile = generator.genJavaFile(table, packageName);
+            printAndWrite(javaFile);
+        }
+    }
+
+    @Test
+    public void testGenJavaFileWithBucketedInList() {
+        TableTest tableTest = new TableTest();
+        SqlBuilderGenerator generator = new SqlBuilderGenerator();
+        generator.setBucketedInList(true);
+        List<Table> tables = tableTest.getTable();
+        for (Table table : tables) {
+            JavaFile javaFile = generator.genJavaFile(table, packageName);
+            printAndWrite(javaFile);
+        }
+    }
+
+    @Test
+    public void testGenJavaFileWithRollingDelete() {
+        TableTest tableTest = new TableTest();
+        SqlBuilderGenerator generator = new SqlBuilderGenerator();
+        generator.setRollingDelete(true);
+        List<Table> tables = tableTest.getTable();
+        for (Table table : tables) {
+            JavaFile javaFile = generator.genJavaFile(table, packageName);
+            printAndWrite(javaFile);
+        }
+    }
+
+    @Test
+    public void testGenJavaFileWithShardKeyColumns() {
+        TableTest tableTest = new TableTest();
+        SqlBuilderGenerator generator = new SqlBuilderGenerator();
+        generator.setShardKeyColumns(Collections.singletonMap("message_item", "message_category_id"));
+        List<Table> tables = tableTest.getTable();
+        for (Table table : tables) {
+            JavaFile javaFile = generator.genJavaFile(table, packageName);
+            printAndWrite(javaFile);
+        }
+    }
 }
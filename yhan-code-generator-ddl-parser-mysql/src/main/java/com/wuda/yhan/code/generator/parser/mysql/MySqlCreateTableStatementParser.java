@@ -10,10 +10,13 @@ import com.alibaba.druid.sql.ast.statement.SQLColumnDefinition;
 import com.alibaba.druid.sql.ast.statement.SQLExprTableSource;
 import com.alibaba.druid.sql.ast.statement.SQLSelectOrderByItem;
 import com.alibaba.druid.sql.ast.statement.SQLTableElement;
+import com.alibaba.druid.sql.ast.statement.SQLUseStatement;
 import com.alibaba.druid.sql.dialect.mysql.ast.MySqlUnique;
 import com.alibaba.druid.sql.dialect.mysql.ast.statement.MySqlCreateTableStatement;
 import com.alibaba.druid.sql.dialect.mysql.ast.statement.MySqlTableIndex;
 import com.alibaba.druid.sql.dialect.mysql.parser.MySqlStatementParser;
+import com.alibaba.druid.sql.parser.Lexer;
+import com.alibaba.druid.sql.parser.Token;
 import com.wuda.yhan.code.generator.lang.relational.Column;
 import com.wuda.yhan.code.generator.lang.relational.Index;
 import com.wuda.yhan.code.generator.lang.relational.Table;
@@ -29,7 +32,10 @@ import java.util.stream.Collectors;
  * 包装了其他两个Parser,其中{@link MySqlDdlParser Debezium MySqlDdlParser}
  * 用于解析<i>Create Table</i>中的主要信息,比如表名,列,主键等,但是不包含索引信息;
  * {@link MySqlStatementParser Druid MySqlStatementParser}作为补充,
- * 用于解析表中的索引信息.
+ * 用于解析表中的索引信息和列的注释.
+ * <p>
+ * Druid只解析一次DDL,同时得到每个语句的结束位置,然后按照这些位置把DDL切分成单个的语句,
+ * 逐个交给Debezium解析,索引和列的注释都从Druid解析出的同一个语法树中获取.
  *
  * @author wuda
  */
@@ -50,12 +56,13 @@ public class MySqlCreateTableStatementParser {
         if (createTableContent == null || createTableContent.isEmpty()) {
             return null;
         }
-        Map<String, Table> tableMap = mainParse(createTableContent);
+        Map<String, MySqlCreateTableStatement> createTableStatements = new LinkedHashMap<>();
+        Map<String, Table> tableMap = mainParse(createTableContent, createTableStatements);
         if (tableMap == null || tableMap.isEmpty()) {
             return null;
         }
-        Map<String, List<Index>> indexMap = indexParse(createTableContent);
-        columnDefinitionParse(createTableContent, tableMap);
+        Map<String, List<Index>> indexMap = indexParse(createTableStatements);
+        columnDefinitionParse(createTableStatements, tableMap);
         tableAppendIndex(tableMap, indexMap);
         return toTableList(tableMap);
     }
@@ -70,72 +77,112 @@ public class MySqlCreateTableStatementParser {
 
     /**
      * key是schemaDotTable,value是{@link Table}.
+     * 用Druid解析所有的语句,其中的Create Table语句放入<i>createTableStatements</i>,
+     * 同时把每个语句单独交给{@link MySqlDdlParser Debezium MySqlDdlParser}.
+     * 如果语句之间没有用<code>;</code>分隔,无法确定语句的边界,则把整个DDL交给Debezium.
      *
-     * @param createTableContent Create Table DDL 语句
+     * @param createTableContent    Create Table DDL 语句
+     * @param createTableStatements 用于保存解析出的Create Table语句,key是schemaDotTable
      * @return name and table mapping
      */
-    private Map<String, Table> mainParse(String createTableContent) {
+    private Map<String, Table> mainParse(String createTableContent, Map<String, MySqlCreateTableStatement> createTableStatements) {
+        MySqlStatementParser parser = new MySqlStatementParser(createTableContent);
+        Lexer lexer = parser.getLexer();
+        List<SQLStatement> statements = new ArrayList<>(1);
+        List<Integer> statementEnds = new ArrayList<>();
+        boolean sliceable = true;
+        String currentSchema = null;
+        for (; ; ) {
+            statements.clear();
+            parser.parseStatementList(statements, 1);
+            if (statements.isEmpty()) {
+                break;
+            }
+            SQLStatement statement = statements.get(0);
+            if (statement instanceof SQLUseStatement) {
+                currentSchema = SQLUtils.normalize(((SQLUseStatement) statement).getDatabase().getSimpleName());
+            } else if (statement instanceof MySqlCreateTableStatement) {
+                MySqlCreateTableStatement createTableStatement = (MySqlCreateTableStatement) statement;
+                createTableStatements.put(getSchemaDotTable(createTableStatement, currentSchema), createTableStatement);
+            }
+            // 语句之后是分隔符或者结束,lexer的位置就是语句的结束位置
+            if (lexer.token() == Token.SEMI || lexer.token() == Token.EOF) {
+                statementEnds.add(Math.min(lexer.pos(), createTableContent.length()));
+            } else {
+                sliceable = false;
+            }
+        }
         Tables tables = new Tables();
-        mainParser.parse(createTableContent, tables);
+        if (sliceable) {
+            int start = 0;
+            for (int end : statementEnds) {
+                mainParser.parse(statementSlice(createTableContent, start, end), tables);
+                start = end;
+            }
+        } else {
+            mainParser.parse(createTableContent, tables);
+        }
         return tableMap(tables);
     }
 
+    /**
+     * 获取一个语句,去掉开头的空白和多余的<code>;</code>,Debezium不接受空的语句.
+     *
+     * @param ddlContent DDL
+     * @param start      语句的开始位置,包含
+     * @param end        语句的结束位置,不包含
+     * @return 语句
+     */
+    private String statementSlice(String ddlContent, int start, int end) {
+        while (start < end) {
+            char c = ddlContent.charAt(start);
+            if (!Character.isWhitespace(c) && c != ';') {
+                break;
+            }
+            start++;
+        }
+        return ddlContent.substring(start, end);
+    }
+
     /**
      * key是schemaDotTable,value是这个表中的索引,不包含主键.
      *
-     * @param createTableContent Create Table DDL 语句
+     * @param createTableStatements key是schemaDotTable,value是Create Table语句
      * @return table name and table indices mapping
      */
-    private Map<String, List<Index>> indexParse(String createTableContent) {
-        List<SQLStatement> statements = parseStatementList(createTableContent);
-        if (statements == null || statements.isEmpty()) {
-            return null;
-        }
-        List<MySqlCreateTableStatement> createTableStatements = filterCreateTableStatement(statements);
-        if (createTableStatements == null || createTableStatements.isEmpty()) {
-            return null;
-        }
+    private Map<String, List<Index>> indexParse(Map<String, MySqlCreateTableStatement> createTableStatements) {
         Map<String, List<Index>> tableIndex = new HashMap<>(createTableStatements.size());
-        for (MySqlCreateTableStatement statement : createTableStatements) {
+        createTableStatements.forEach((schemaDotTable, statement) -> {
             List<Index> indices = parseIndex(statement);
-            String schemaDotTable = getSchemaDotTable(statement);
             if (indices != null && !indices.isEmpty()) {
                 tableIndex.put(schemaDotTable, indices);
             }
-        }
+        });
         return tableIndex;
     }
 
     /**
      * schema.table
      *
-     * @param statement {@link MySqlCreateTableStatement}
+     * @param statement     {@link MySqlCreateTableStatement}
+     * @param currentSchema 之前的<i>USE</i>语句指定的schema,表名中没有schema时使用
      * @return schema.table
      */
-    private String getSchemaDotTable(MySqlCreateTableStatement statement) {
+    private String getSchemaDotTable(MySqlCreateTableStatement statement, String currentSchema) {
         SQLExprTableSource tableSource = statement.getTableSource();
         StringBuilder builder = new StringBuilder();
         String schema = tableSource.getSchema();
         if (schema != null && !schema.isEmpty()) {
             schema = SQLUtils.normalize(schema);
             builder.append(schema).append(".");
+        } else if (currentSchema != null && !currentSchema.isEmpty()) {
+            builder.append(currentSchema).append(".");
         }
         String table = SQLUtils.normalize(tableSource.getName().getSimpleName());
         builder.append(table);
         return builder.toString();
     }
 
-    /**
-     * 解析任意DDL语句,不止Create Table语句.
-     *
-     * @param ddlContent DDL
-     * @return list of statement
-     */
-    private List<SQLStatement> parseStatementList(String ddlContent) {
-        MySqlStatementParser parser = new MySqlStatementParser(ddlContent);
-        return parser.parseStatementList();
-    }
-
     /**
      * 过滤出{@link MySqlCreateTableStatement}.
      *
@@ -183,30 +230,20 @@ public class MySqlCreateTableStatementParser {
     }
 
     /**
-     * 解析column definition.
+     * 解析column definition,把列的注释设置到对应的{@link Table}实例中.
      *
-     * @param createTableContent Create Table DDL 语句,包含多个Create Table语句
-     * @param tableMap           由<i>createTableContent</i>已经解析出来的{@link Table}
-     * @return table name and table indices mapping
+     * @param createTableStatements key是schemaDotTable,value是Create Table语句
+     * @param tableMap              由Debezium已经解析出来的{@link Table}
      */
-    private void columnDefinitionParse(String createTableContent, Map<String, Table> tableMap) {
-        List<SQLStatement> statements = parseStatementList(createTableContent);
-        if (statements == null || statements.isEmpty()) {
-            return;
-        }
-        List<MySqlCreateTableStatement> createTableStatements = filterCreateTableStatement(statements);
-        if (createTableStatements == null || createTableStatements.isEmpty()) {
-            return;
-        }
-        for (MySqlCreateTableStatement statement : createTableStatements) {
-            String schemeDotTable = getSchemaDotTable(statement);
-            Table table = tableMap.get(schemeDotTable);
+    private void columnDefinitionParse(Map<String, MySqlCreateTableStatement> createTableStatements, Map<String, Table> tableMap) {
+        createTableStatements.forEach((schemaDotTable, statement) -> {
+            Table table = tableMap.get(schemaDotTable);
             List<ColumnDefinition> columnDefinitions = parseColumnDefinition(statement);
             for (ColumnDefinition columnDefinition : columnDefinitions) {
                 Column column = table.columnWithName(columnDefinition.getColumnName());
                 column.setComment(columnDefinition.getComment());
             }
-        }
+        });
     }
 
     /**
@@ -1,10 +1,20 @@
 package com.wuda.yhan;
 
+import com.wuda.yhan.code.generator.lang.relational.Index;
 import com.wuda.yhan.code.generator.lang.relational.Table;
 import com.wuda.yhan.code.generator.parser.mysql.MySqlCreateTableStatementParser;
 import org.junit.Test;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
 
 public class MysqlDDLParserTest extends TestBase {
 
@@ -19,4 +29,81 @@ public class MysqlDDLParserTest extends TestBase {
         }
     }
 
+    @Test
+    public void testParseStatementList() {
+        String ddl = "USE shop_db;\n"
+                + "-- 注释中的; 不是语句的结束\n"
+                + "CREATE TABLE `item` (\n"
+                + "\t`id` INT(10) UNSIGNED NOT NULL AUTO_INCREMENT COMMENT '主键;自增',\n"
+                + "\t`item_name` VARCHAR(45) NOT NULL COMMENT '名称',\n"
+                + "\tPRIMARY KEY (`id`),\n"
+                + "\tINDEX `idx_item_name` (`item_name`)\n"
+                + ");;\n"
+                + "/* 另一个schema中的表 */\n"
+                + "CREATE TABLE other.`item_tag` (\n"
+                + "\t`item_id` INT(10) UNSIGNED NOT NULL COMMENT '商品',\n"
+                + "\t`tag` VARCHAR(20) NOT NULL COMMENT '标签',\n"
+                + "\tPRIMARY KEY (`item_id`, `tag`)\n"
+                + ")";
+        Map<String, Table> tables = parse(ddl);
+        assertEquals(Arrays.asList("other.item_tag", "shop_db.item"), new ArrayList<>(tables.keySet()));
+        // 没有schema的表使用USE指定的schema,注释和字符串中的;以及;;都不影响语句的切分
+        Table item = tables.get("shop_db.item");
+        assertEquals(Arrays.asList("id", "item_name"), item.retrieveColumnNames());
+        assertEquals("主键;自增", item.columnWithName("id").getComment());
+        assertEquals("名称", item.columnWithName("item_name").getComment());
+        assertEquals(Collections.singletonList("id"), item.primaryKeyColumnNames());
+        assertEquals(1, item.getIndices().size());
+        assertIndex(item.getIndices().get(0), "idx_item_name", Index.Type.KEY, "item_name");
+
+        Table itemTag = tables.get("other.item_tag");
+        assertEquals("商品", itemTag.columnWithName("item_id").getComment());
+        assertEquals("标签", itemTag.columnWithName("tag").getComment());
+        assertEquals(Arrays.asList("item_id", "tag"), itemTag.primaryKeyColumnNames());
+        assertNull(itemTag.getIndices());
+    }
+
+    @Test
+    public void testParseWithoutSeparator() {
+        // 语句之间没有;,无法切分,整个DDL交给Debezium
+        String ddl = "CREATE TABLE shop_db.`item` (\n"
+                + "\t`id` INT(10) UNSIGNED NOT NULL COMMENT '主键',\n"
+                + "\tPRIMARY KEY (`id`)\n"
+                + ")\n"
+                + "CREATE TABLE shop_db.`item_tag` (\n"
+                + "\t`item_id` INT(10) UNSIGNED NOT NULL COMMENT '商品',\n"
+                + "\t`tag` VARCHAR(20) NOT NULL COMMENT '标签',\n"
+                + "\tPRIMARY KEY (`item_id`, `tag`),\n"
+                + "\tUNIQUE INDEX `idx_tag` (`tag`, `item_id`)\n"
+                + ")";
+        Map<String, Table> tables = parse(ddl);
+        assertEquals(Arrays.asList("shop_db.item", "shop_db.item_tag"), new ArrayList<>(tables.keySet()));
+        Table item = tables.get("shop_db.item");
+        assertEquals("主键", item.columnWithName("id").getComment());
+        assertNull(item.getIndices());
+        Table itemTag = tables.get("shop_db.item_tag");
+        assertEquals("商品", itemTag.columnWithName("item_id").getComment());
+        assertEquals("标签", itemTag.columnWithName("tag").getComment());
+        assertEquals(1, itemTag.getIndices().size());
+        assertIndex(itemTag.getIndices().get(0), "idx_tag", Index.Type.UNIQUE, "tag", "item_id");
+    }
+
+    /**
+     * 解析DDL,key是schema.table,按照key排序.
+     */
+    private static Map<String, Table> parse(String ddl) {
+        List<Table> list = new MySqlCreateTableStatementParser().parse(ddl);
+        Map<String, Table> tables = new TreeMap<>();
+        for (Table table : list) {
+            tables.put(table.id().toString(), table);
+        }
+        return tables;
+    }
+
+    private static void assertIndex(Index index, String name, Index.Type type, String... columns) {
+        assertEquals(name, index.getName());
+        assertEquals(type, index.getType());
+        assertArrayEquals(columns, index.getColumns());
+    }
+
 }
@@ -31,14 +31,46 @@ public class Constant {
      * mapper中batch insert方法的名称.
      */
     public final static String MAPPER_BATCH_INSERT_USE_GENERATED_KEYS = "batchInsertUseGeneratedKeys";
+
+    /**
+     * mapper中upsert方法的名称,即INSERT ... ON DUPLICATE KEY UPDATE.
+     */
+    public final static String MAPPER_UPSERT = "upsert";
+
+    /**
+     * mapper中batch upsert方法的名称.
+     */
+    public final static String MAPPER_BATCH_UPSERT = "batchUpsert";
+
+    /**
+     * mapper中分批执行batch insert方法的名称.
+     */
+    public final static String MAPPER_BATCH_INSERT_CHUNKED = "batchInsertChunked";
+
+    /**
+     * mapper中分批执行batch insert UseGeneratedKeys方法的名称.
+     */
+    public final static String MAPPER_BATCH_INSERT_USE_GENERATED_KEYS_CHUNKED = "batchInsertUseGeneratedKeysChunked";
     /**
      * mapper中deleteByPrimaryKey方法的名称.
      */
     public final static String MAPPER_DELETE_BY_PRIMARY_KEY = "deleteByPrimaryKey";
+    /**
+     * mapper中batchDeleteByPrimaryKey方法的名称.
+     */
+    public final static String MAPPER_BATCH_DELETE_BY_PRIMARY_KEY = "batchDeleteByPrimaryKey";
     /**
      * mapper中updateByPrimaryKey方法的名称.
      */
     public final static String MAPPER_UPDATE_BY_PRIMARY_KEY = "updateByPrimaryKey";
+    /**
+     * mapper中batchUpdateByPrimaryKey方法的名称,一条语句根据主键更新多行.
+     */
+    public final static String MAPPER_BATCH_UPDATE_BY_PRIMARY_KEY = "batchUpdateByPrimaryKey";
+    /**
+     * mapper中分批执行batchUpdateByPrimaryKey的方法名称.
+     */
+    public final static String MAPPER_BATCH_UPDATE_BY_PRIMARY_KEY_CHUNKED = "batchUpdateByPrimaryKeyChunked";
     /**
      * mapper中selectByPrimaryKey方法的名称.
      */
@@ -53,6 +85,46 @@ public class Constant {
      * mapper类名称的后缀.
      */
     public final static String MAPPER_CLASS_NAME_SUFFIX = "Mapper";
+
+    /**
+     * 带有缓存的mapper装饰类名称的后缀.
+     */
+    public final static String CACHING_MAPPER_CLASS_NAME_SUFFIX = "CachingMapper";
+
+    /**
+     * 合并查询的loader类名称的后缀.
+     */
+    public final static String BATCH_LOADER_CLASS_NAME_SUFFIX = "BatchLoader";
+
+    /**
+     * 异步mapper类名称的后缀.
+     */
+    public final static String ASYNC_MAPPER_CLASS_NAME_SUFFIX = "AsyncMapper";
+
+    /**
+     * loader中loadBy方法的前缀.
+     */
+    public final static String LOAD_BY_PREFIX = "loadBy";
+
+    /**
+     * loader中根据主键加载的方法的名称.
+     */
+    public final static String LOAD_BY_PRIMARY_KEY = "loadByPrimaryKey";
+
+    /**
+     * mapper中result map id的后缀,前缀是实体的类名.
+     */
+    public final static String RESULT_MAP_ID_SUFFIX = "ResultMap";
+
+    /**
+     * {@link TableEntityAccessor}实现类名称的后缀.
+     */
+    public final static String ACCESSOR_CLASS_NAME_SUFFIX = "Accessor";
+
+    /**
+     * 开启dirty field跟踪时,实体中保存dirty field mask的属性名称,参考{@link TableEntity#dirtyFieldMask()}.
+     */
+    public final static String DIRTY_FIELD_MASK = "dirtyFieldMask";
     /**
      * 分页中的offset.
      */
@@ -76,6 +148,11 @@ public class Constant {
      */
     public final static String BATCH_SELECT_BY_PREFIX = "batchSelectBy";
 
+    /**
+     * streamBy前缀.
+     */
+    public final static String STREAM_BY_PREFIX = "streamBy";
+
     /**
      * countBy前缀.
      */
@@ -96,6 +173,11 @@ public class Constant {
      */
     public final static String FOR_UPDATE_SUFFIX = "ForUpdate";
 
+    /**
+     * keyset分页方法的后缀,比如selectByPrimaryKeyAfter.
+     */
+    public final static String KEYSET_AFTER_SUFFIX = "After";
+
     /**
      * for update.
      */
@@ -111,6 +193,21 @@ public class Constant {
      */
     public final static String DELETE_BY_PREFIX = "deleteBy";
 
+    /**
+     * batchDeleteBy前缀.
+     */
+    public final static String BATCH_DELETE_BY_PREFIX = "batchDeleteBy";
+
+    /**
+     * 带有LIMIT的delete方法的后缀,比如batchDeleteByMessageCategoryIdLimit.
+     */
+    public final static String LIMIT_SUFFIX = "Limit";
+
+    /**
+     * 循环执行带有LIMIT的delete,直到删除完所有匹配的记录的方法的后缀.
+     */
+    public final static String ROLLING_SUFFIX = "Rolling";
+
     /**
      * Dynamic SQL where clause provider.
      */
@@ -125,6 +222,11 @@ public class Constant {
      */
     public final static String SELECT_ONE_BY_EXAMPLE = "selectOneByExample";
 
+    /**
+     * stream by example.
+     */
+    public final static String STREAM_BY_EXAMPLE = "streamByExample";
+
     /**
      * count by example.
      */
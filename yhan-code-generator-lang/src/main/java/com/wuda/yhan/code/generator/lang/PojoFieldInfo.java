@@ -7,6 +7,8 @@ import java.lang.annotation.Annotation;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
 
 /**
  * 描述POJO中属性的信息.
@@ -29,6 +31,14 @@ public class PojoFieldInfo {
      * 属性的set方法.
      */
     private Method setter;
+    /**
+     * 属性的get方法绑定后的function,参考{@link com.wuda.yhan.code.generator.lang.util.BeanUtils#getterFunction(Class, String)}.
+     */
+    private Function<Object, Object> getterFunction;
+    /**
+     * 属性的set方法绑定后的consumer,参考{@link com.wuda.yhan.code.generator.lang.util.BeanUtils#setterFunction(Class, String)}.
+     */
+    private BiConsumer<Object, Object> setterFunction;
     /**
      * 注解.
      */
@@ -8,4 +8,23 @@ package com.wuda.yhan.code.generator.lang;
  */
 public interface TableEntity {
 
+    /**
+     * 调用过set方法的属性的bit mask,bit的位置和{@link TableEntityAccessor#fieldNames()}中的下标一致.
+     * 生成实体时如果开启了dirty field跟踪,insert,update等方法会根据这个mask决定操作哪些列,
+     * 因此可以通过set null把列更新为<code>NULL</code>.返回的可能是实体内部的数组,调用方不能修改.
+     *
+     * @return dirty field mask, null-如果实体没有跟踪set方法的调用,此时使用值不为null的属性
+     */
+    default long[] dirtyFieldMask() {
+        return null;
+    }
+
+    /**
+     * 清除所有属性的dirty标记,比如从数据库查询出实体后,只想更新之后修改过的属性.
+     * mybatis通过set方法填充查询结果,注册{@link com.wuda.yhan.code.generator.lang.util.DirtyFieldMaskInterceptor}后,
+     * 查询结果映射完成时自动调用这个方法.
+     */
+    default void clearDirtyFieldMask() {
+    }
+
 }
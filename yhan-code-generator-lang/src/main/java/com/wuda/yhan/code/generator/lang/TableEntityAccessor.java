@@ -0,0 +1,46 @@
+package com.wuda.yhan.code.generator.lang;
+
+/**
+ * 不通过反射访问{@link TableEntity}属性的工具.
+ * 代码生成器为每个实体生成一个实现类,类名是实体类名加上{@link Constant#ACCESSOR_CLASS_NAME_SUFFIX},
+ * 并且和实体在同一个包中.属性的下标就是它在field mask中的bit位置,
+ * 第i个属性在mask中对应<code>mask[i / 64]</code>的第<code>i % 64</code>个bit.
+ *
+ * @param <T> 实体类型
+ * @author wuda
+ */
+public interface TableEntityAccessor<T extends TableEntity> {
+
+    /**
+     * 所有属性的名称,下标就是属性在field mask中的bit位置.
+     * 返回的是内部数组,调用方不能修改.
+     *
+     * @return 属性名称
+     */
+    String[] fieldNames();
+
+    /**
+     * 所有属性对应的数据库表的列名,下标和{@link #fieldNames()}一一对应.
+     * 返回的是内部数组,调用方不能修改.
+     *
+     * @return 列名
+     */
+    String[] columnNames();
+
+    /**
+     * 获取属性的值.
+     *
+     * @param entity 实体
+     * @param index  属性的下标
+     * @return 属性的值
+     */
+    Object getValue(T entity, int index);
+
+    /**
+     * 计算实体中值不为<code>null</code>的属性的bit mask.
+     *
+     * @param entity 实体
+     * @return field mask
+     */
+    long[] nonNullMask(T entity);
+}
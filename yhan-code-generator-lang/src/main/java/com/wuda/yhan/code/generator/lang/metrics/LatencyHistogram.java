@@ -0,0 +1,156 @@
+package com.wuda.yhan.code.generator.lang.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 无锁的耗时分布,和HdrHistogram一样按照对数再线性划分bucket:每个2的n次方区间分成{@link #SUB_BUCKET_COUNT}个等宽的bucket,
+ * 所以任何值的相对误差都不超过1/{@link #SUB_BUCKET_COUNT}.bucket的数量是固定的,记录时只对一个bucket做原子加,
+ * 不加锁,也不创建对象.
+ * <p>
+ * 读取的时候不会暂停记录,因此百分位数等统计值是近似的,可能包含读取过程中新记录的值.
+ *
+ * @author wuda
+ */
+public class LatencyHistogram {
+
+    /**
+     * 每个2的n次方区间的bucket数量的位数.
+     */
+    private final static int SUB_BUCKET_BITS = 5;
+
+    /**
+     * 每个2的n次方区间的bucket数量,决定了精度.
+     */
+    public final static int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+
+    /**
+     * bucket的数量,可以表示所有非负的long.
+     */
+    private final static int BUCKET_COUNT = bucketIndex(Long.MAX_VALUE) + 1;
+
+    /**
+     * 每个bucket中的值的数量.
+     */
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+
+    /**
+     * 所有值的数量.
+     */
+    private final AtomicLong totalCount = new AtomicLong();
+
+    /**
+     * 所有值的和.
+     */
+    private final AtomicLong totalValue = new AtomicLong();
+
+    /**
+     * 最大值.
+     */
+    private final AtomicLong maxValue = new AtomicLong();
+
+    /**
+     * 记录一个值,负数按照0记录.
+     *
+     * @param value 值,比如耗时的纳秒数
+     */
+    public void record(long value) {
+        if (value < 0) {
+            value = 0;
+        }
+        counts.incrementAndGet(bucketIndex(value));
+        totalCount.incrementAndGet();
+        totalValue.addAndGet(value);
+        long max = maxValue.get();
+        while (value > max && !maxValue.compareAndSet(max, value)) {
+            max = maxValue.get();
+        }
+    }
+
+    /**
+     * 值的数量.
+     *
+     * @return count
+     */
+    public long getTotalCount() {
+        return totalCount.get();
+    }
+
+    /**
+     * 最大值.
+     *
+     * @return 最大值, 没有值时是0
+     */
+    public long getMaxValue() {
+        return maxValue.get();
+    }
+
+    /**
+     * 平均值.
+     *
+     * @return 平均值, 没有值时是0
+     */
+    public double getMean() {
+        long count = totalCount.get();
+        return count == 0 ? 0 : (double) totalValue.get() / count;
+    }
+
+    /**
+     * 百分位数,比如<code>getValueAtPercentile(99)</code>表示99%的值都不超过返回值.
+     * 返回值是对应的bucket的上限,并且不超过{@link #getMaxValue()}.
+     *
+     * @param percentile 百分位,范围是[0, 100]
+     * @return 百分位数, 没有值时是0
+     */
+    public long getValueAtPercentile(double percentile) {
+        if (percentile < 0 || percentile > 100) {
+            throw new IllegalArgumentException("percentile的范围是[0, 100],percentile=" + percentile);
+        }
+        long count = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            count += counts.get(i);
+        }
+        if (count == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100 * count));
+        long seen = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += counts.get(i);
+            if (seen >= rank) {
+                return Math.min(highestValueInBucket(i), maxValue.get());
+            }
+        }
+        return maxValue.get();
+    }
+
+    /**
+     * 值所在的bucket.小于2*{@link #SUB_BUCKET_COUNT}的值每个值一个bucket,
+     * 更大的值按照最高位的位置确定2的n次方区间,再按照最高位之后的{@link #SUB_BUCKET_BITS}位确定区间内的bucket.
+     *
+     * @param value 非负的值
+     * @return bucket的下标
+     */
+    static int bucketIndex(long value) {
+        int shift = 63 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+        if (shift <= 0) {
+            return (int) value;
+        }
+        return (shift << SUB_BUCKET_BITS) + (int) (value >>> shift);
+    }
+
+    /**
+     * bucket中的最大值.
+     *
+     * @param index bucket的下标
+     * @return 最大值
+     */
+    static long highestValueInBucket(int index) {
+        if (index < 2 * SUB_BUCKET_COUNT) {
+            return index;
+        }
+        int shift = (index >>> SUB_BUCKET_BITS) - 1;
+        long subBucket = index - ((long) shift << SUB_BUCKET_BITS);
+        return ((subBucket + 1) << shift) - 1;
+    }
+}
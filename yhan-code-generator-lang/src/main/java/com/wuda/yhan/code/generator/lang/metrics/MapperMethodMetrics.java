@@ -0,0 +1,150 @@
+package com.wuda.yhan.code.generator.lang.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * mapper中一个方法的运行指标.所有的值都是从创建开始累计的,调用方可以定期读取,然后计算两次读取之间的差值.
+ *
+ * @author wuda
+ */
+public class MapperMethodMetrics {
+
+    /**
+     * {@link org.apache.ibatis.mapping.MappedStatement#getId()}.
+     */
+    private final String statementId;
+
+    /**
+     * mapper的简单类名加方法名,比如<code>MessageItemMapper.selectByPrimaryKey</code>.
+     */
+    private final String mapperMethod;
+
+    /**
+     * 耗时的分布,单位是纳秒,包括执行失败的调用.
+     */
+    private final LatencyHistogram latency = new LatencyHistogram();
+
+    /**
+     * 执行失败的次数.
+     */
+    private final AtomicLong failures = new AtomicLong();
+
+    /**
+     * 返回或者影响的行数之和.
+     */
+    private final AtomicLong rows = new AtomicLong();
+
+    /**
+     * 批量语句的执行次数.
+     */
+    private final AtomicLong batchCalls = new AtomicLong();
+
+    /**
+     * 批量语句的元素数量之和.
+     */
+    private final AtomicLong batchElements = new AtomicLong();
+
+    /**
+     * 批量语句的最大元素数量.
+     */
+    private final AtomicLong maxBatchSize = new AtomicLong();
+
+    /**
+     * 构造实例.
+     *
+     * @param statementId statement id
+     */
+    public MapperMethodMetrics(String statementId) {
+        this.statementId = statementId;
+        int methodIndex = statementId.lastIndexOf('.');
+        int classIndex = methodIndex <= 0 ? -1 : statementId.lastIndexOf('.', methodIndex - 1);
+        this.mapperMethod = statementId.substring(classIndex + 1);
+    }
+
+    /**
+     * 记录一次执行.
+     *
+     * @param elapsedNanos 耗时,单位是纳秒
+     * @param rows         返回或者影响的行数
+     * @param batchSize    批量语句的元素数量,不是批量语句时是0
+     * @param failed       是否执行失败
+     */
+    public void record(long elapsedNanos, int rows, int batchSize, boolean failed) {
+        latency.record(elapsedNanos);
+        if (failed) {
+            failures.incrementAndGet();
+        }
+        if (rows > 0) {
+            this.rows.addAndGet(rows);
+        }
+        if (batchSize > 0) {
+            batchCalls.incrementAndGet();
+            batchElements.addAndGet(batchSize);
+            long max = maxBatchSize.get();
+            while (batchSize > max && !maxBatchSize.compareAndSet(max, batchSize)) {
+                max = maxBatchSize.get();
+            }
+        }
+    }
+
+    public String getStatementId() {
+        return statementId;
+    }
+
+    public String getMapperMethod() {
+        return mapperMethod;
+    }
+
+    /**
+     * 耗时的分布,单位是纳秒.
+     *
+     * @return histogram
+     */
+    public LatencyHistogram getLatency() {
+        return latency;
+    }
+
+    /**
+     * 调用次数.
+     *
+     * @return calls
+     */
+    public long getCalls() {
+        return latency.getTotalCount();
+    }
+
+    public long getFailures() {
+        return failures.get();
+    }
+
+    public long getRows() {
+        return rows.get();
+    }
+
+    public long getBatchCalls() {
+        return batchCalls.get();
+    }
+
+    public long getBatchElements() {
+        return batchElements.get();
+    }
+
+    public long getMaxBatchSize() {
+        return maxBatchSize.get();
+    }
+
+    @Override
+    public String toString() {
+        return mapperMethod + "{calls=" + getCalls()
+                + ", failures=" + getFailures()
+                + ", rows=" + getRows()
+                + ", batchCalls=" + getBatchCalls()
+                + ", batchElements=" + getBatchElements()
+                + ", maxBatchSize=" + getMaxBatchSize()
+                + ", meanNanos=" + (long) latency.getMean()
+                + ", p50Nanos=" + latency.getValueAtPercentile(50)
+                + ", p99Nanos=" + latency.getValueAtPercentile(99)
+                + ", maxNanos=" + latency.getMaxValue()
+                + "}";
+    }
+}
@@ -0,0 +1,135 @@
+package com.wuda.yhan.code.generator.lang.metrics;
+
+import org.apache.ibatis.cache.CacheKey;
+import org.apache.ibatis.executor.Executor;
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.plugin.Interceptor;
+import org.apache.ibatis.plugin.Intercepts;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.plugin.Plugin;
+import org.apache.ibatis.plugin.Signature;
+import org.apache.ibatis.session.ResultHandler;
+import org.apache.ibatis.session.RowBounds;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * 记录每条语句的耗时,返回或者影响的行数,以及批量语句的元素数量,交给{@link MapperMetricsRecorder}.
+ * 生成的mapper中批量方法的集合参数的名称是{@link #LIST_PARAM_NAME},根据它得到批量语句的元素数量.
+ * <p>
+ * 返回{@link org.apache.ibatis.cursor.Cursor}的方法在遍历时才读取数据,因此不记录.
+ * 使用{@link org.apache.ibatis.session.ExecutorType#BATCH}时,update在flush之前不知道影响的行数,按照0记录.
+ *
+ * @author wuda
+ */
+@Intercepts({
+        @Signature(type = Executor.class, method = "update", args = {MappedStatement.class, Object.class}),
+        @Signature(type = Executor.class, method = "query", args = {MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class}),
+        @Signature(type = Executor.class, method = "query", args = {MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class, CacheKey.class, BoundSql.class})
+})
+public class MapperMetricsInterceptor implements Interceptor {
+
+    /**
+     * 生成的mapper中批量方法的集合参数的名称.
+     */
+    public final static String LIST_PARAM_NAME = "list";
+
+    /**
+     * recorder.
+     */
+    private final MapperMetricsRecorder recorder;
+
+    /**
+     * 使用{@link MapperMetricsRegistry}记录,通过{@link #getRecorder()}读取.
+     * 在mybatis的xml配置中使用这个interceptor时调用这个构造函数.
+     */
+    public MapperMetricsInterceptor() {
+        this(new MapperMetricsRegistry());
+    }
+
+    /**
+     * 构造实例.
+     *
+     * @param recorder recorder
+     */
+    public MapperMetricsInterceptor(MapperMetricsRecorder recorder) {
+        if (recorder == null) {
+            throw new IllegalArgumentException("recorder不能为null");
+        }
+        this.recorder = recorder;
+    }
+
+    public MapperMetricsRecorder getRecorder() {
+        return recorder;
+    }
+
+    @Override
+    public Object intercept(Invocation invocation) throws Throwable {
+        Object[] args = invocation.getArgs();
+        MappedStatement mappedStatement = (MappedStatement) args[0];
+        int batchSize = batchSize(args[1]);
+        long start = System.nanoTime();
+        Object result = null;
+        boolean failed = true;
+        try {
+            result = invocation.proceed();
+            failed = false;
+            return result;
+        } finally {
+            recorder.record(mappedStatement.getId(), System.nanoTime() - start, rows(result), batchSize, failed);
+        }
+    }
+
+    @Override
+    public Object plugin(Object target) {
+        return Plugin.wrap(target, this);
+    }
+
+    @Override
+    public void setProperties(Properties properties) {
+    }
+
+    /**
+     * 返回或者影响的行数.
+     *
+     * @param result {@link Executor#update}或者{@link Executor#query}的返回值
+     * @return 行数
+     */
+    private static int rows(Object result) {
+        if (result instanceof List) {
+            return ((List<?>) result).size();
+        }
+        if (result instanceof Integer) {
+            // BATCH模式下是一个负数
+            return Math.max(0, (Integer) result);
+        }
+        return 0;
+    }
+
+    /**
+     * 批量语句的元素数量.
+     *
+     * @param parameter 语句的参数
+     * @return 元素数量, 不是批量语句时是0
+     */
+    static int batchSize(Object parameter) {
+        if (parameter instanceof Collection) {
+            return ((Collection<?>) parameter).size();
+        }
+        if (parameter instanceof Map) {
+            Map<?, ?> map = (Map<?, ?>) parameter;
+            // 不能直接get,mybatis的ParamMap在key不存在时抛出异常
+            if (map.containsKey(LIST_PARAM_NAME)) {
+                Object list = map.get(LIST_PARAM_NAME);
+                if (list instanceof Collection) {
+                    return ((Collection<?>) list).size();
+                }
+            }
+        }
+        return 0;
+    }
+}
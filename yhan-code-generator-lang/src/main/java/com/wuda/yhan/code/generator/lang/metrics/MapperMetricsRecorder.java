@@ -0,0 +1,21 @@
+package com.wuda.yhan.code.generator.lang.metrics;
+
+/**
+ * 记录mapper方法的运行指标.每条语句执行完成后调用一次,因此实现必须是线程安全的,并且应该尽量快,
+ * 比如不要在这里打印日志或者访问网络,而是只更新内存中的计数,由其他线程定期读取.
+ *
+ * @author wuda
+ */
+public interface MapperMetricsRecorder {
+
+    /**
+     * 记录一次语句的执行.
+     *
+     * @param statementId  {@link org.apache.ibatis.mapping.MappedStatement#getId()},即mapper的类名加方法名
+     * @param elapsedNanos 耗时,单位是纳秒
+     * @param rows         查询返回的行数,或者insert,update,delete影响的行数;执行失败或者无法得到行数时是0
+     * @param batchSize    批量语句的集合参数的元素数量,不是批量语句时是0
+     * @param failed       是否抛出了异常
+     */
+    void record(String statementId, long elapsedNanos, int rows, int batchSize, boolean failed);
+}
@@ -0,0 +1,62 @@
+package com.wuda.yhan.code.generator.lang.metrics;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 默认的{@link MapperMetricsRecorder},在内存中按照语句保存{@link MapperMethodMetrics}.
+ * 每个语句第一次执行时创建对应的{@link MapperMethodMetrics},之后记录时不再创建对象.
+ * 调用方通过{@link #getMetrics()}或者{@link #getMetrics(String)}读取,比如定期导出到监控系统.
+ *
+ * @author wuda
+ */
+public class MapperMetricsRegistry implements MapperMetricsRecorder {
+
+    /**
+     * key是{@link org.apache.ibatis.mapping.MappedStatement#getId()}.
+     */
+    private final ConcurrentMap<String, MapperMethodMetrics> metrics = new ConcurrentHashMap<>();
+
+    @Override
+    public void record(String statementId, long elapsedNanos, int rows, int batchSize, boolean failed) {
+        MapperMethodMetrics methodMetrics = metrics.get(statementId);
+        if (methodMetrics == null) {
+            // 只在第一次执行时进入,避免每次都调用computeIfAbsent加锁
+            methodMetrics = metrics.computeIfAbsent(statementId, MapperMethodMetrics::new);
+        }
+        methodMetrics.record(elapsedNanos, rows, batchSize, failed);
+    }
+
+    /**
+     * 获取一个语句的运行指标.
+     *
+     * @param statementId statement id,即mapper的类名加方法名
+     * @return 运行指标, null-如果这个语句还没有执行过
+     */
+    public MapperMethodMetrics getMetrics(String statementId) {
+        return metrics.get(statementId);
+    }
+
+    /**
+     * 获取所有执行过的语句的运行指标,按照{@link MapperMethodMetrics#getStatementId()}排序.
+     * 返回的对象的值会继续变化.
+     *
+     * @return 运行指标
+     */
+    public List<MapperMethodMetrics> getMetrics() {
+        List<MapperMethodMetrics> list = new ArrayList<>(metrics.values());
+        list.sort(Comparator.comparing(MapperMethodMetrics::getStatementId));
+        return Collections.unmodifiableList(list);
+    }
+
+    /**
+     * 清除所有的运行指标.
+     */
+    public void clear() {
+        metrics.clear();
+    }
+}
@@ -0,0 +1,196 @@
+package com.wuda.yhan.code.generator.lang.metrics;
+
+import org.apache.ibatis.executor.statement.StatementHandler;
+import org.apache.ibatis.logging.Log;
+import org.apache.ibatis.logging.LogFactory;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.plugin.Interceptor;
+import org.apache.ibatis.plugin.Intercepts;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.plugin.Plugin;
+import org.apache.ibatis.plugin.Signature;
+import org.apache.ibatis.reflection.MetaObject;
+import org.apache.ibatis.reflection.SystemMetaObject;
+import org.apache.ibatis.session.ResultHandler;
+
+import java.sql.Statement;
+import java.util.Properties;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 慢查询日志.耗时不小于阈值的语句按照采样率交给{@link SlowQuerySink},同时带有sql的指纹,
+ * 这样sql builder根据参数生成的不同的sql可以汇总到一起.
+ * <p>
+ * 拦截{@link StatementHandler},只统计语句在数据库中执行和读取结果的时间.慢查询的sql来自
+ * {@link StatementHandler#getBoundSql()},就是实际执行的sql,不需要再调用一次sql builder,
+ * 生成主键的语句在执行之后回填参数中的主键,也不影响获取到的sql.
+ * 因此正常的语句只多了一次{@link System#nanoTime()}和比较,只有慢查询才计算指纹.
+ * 获取sql,计算指纹和sink中的异常只记录日志,不会掩盖语句本身的异常.
+ * 使用{@link org.apache.ibatis.session.ExecutorType#BATCH}时,语句在flush时才执行,不会被统计.
+ * 在mybatis的xml配置中使用时,可以通过属性{@link #THRESHOLD_MILLIS_PROPERTY}和{@link #SAMPLE_RATE_PROPERTY}配置.
+ *
+ * @author wuda
+ */
+@Intercepts({
+        @Signature(type = StatementHandler.class, method = "query", args = {Statement.class, ResultHandler.class}),
+        @Signature(type = StatementHandler.class, method = "queryCursor", args = {Statement.class}),
+        @Signature(type = StatementHandler.class, method = "update", args = {Statement.class})
+})
+public class SlowQueryInterceptor implements Interceptor {
+
+    /**
+     * 阈值的属性名,单位是毫秒.
+     */
+    public final static String THRESHOLD_MILLIS_PROPERTY = "thresholdMillis";
+
+    /**
+     * 采样率的属性名.
+     */
+    public final static String SAMPLE_RATE_PROPERTY = "sampleRate";
+
+    /**
+     * 默认的阈值,单位是毫秒.
+     */
+    public final static long DEFAULT_THRESHOLD_MILLIS = 1000;
+
+    private final static Log LOG = LogFactory.getLog(SlowQueryInterceptor.class);
+
+    /**
+     * sink.
+     */
+    private final SlowQuerySink sink;
+
+    /**
+     * 阈值,单位是纳秒.
+     */
+    private volatile long thresholdNanos = TimeUnit.MILLISECONDS.toNanos(DEFAULT_THRESHOLD_MILLIS);
+
+    /**
+     * 采样率,范围是(0, 1],1表示所有的慢查询都交给sink.
+     */
+    private volatile double sampleRate = 1;
+
+    /**
+     * 使用{@link SlowQueryLog}作为sink,通过{@link #getSink()}读取汇总.
+     */
+    public SlowQueryInterceptor() {
+        this(new SlowQueryLog());
+    }
+
+    /**
+     * 构造实例.
+     *
+     * @param sink sink
+     */
+    public SlowQueryInterceptor(SlowQuerySink sink) {
+        if (sink == null) {
+            throw new IllegalArgumentException("sink不能为null");
+        }
+        this.sink = sink;
+    }
+
+    public SlowQuerySink getSink() {
+        return sink;
+    }
+
+    /**
+     * 设置阈值,耗时不小于阈值的语句是慢查询.
+     *
+     * @param threshold 阈值
+     * @param unit      阈值的单位
+     */
+    public void setThreshold(long threshold, TimeUnit unit) {
+        if (threshold < 0) {
+            throw new IllegalArgumentException("threshold不能小于0,threshold=" + threshold);
+        }
+        this.thresholdNanos = unit.toNanos(threshold);
+    }
+
+    /**
+     * 设置采样率,慢查询很多时只把一部分交给sink.
+     *
+     * @param sampleRate 采样率,范围是(0, 1]
+     */
+    public void setSampleRate(double sampleRate) {
+        if (!(sampleRate > 0 && sampleRate <= 1)) {
+            throw new IllegalArgumentException("sampleRate的范围是(0, 1],sampleRate=" + sampleRate);
+        }
+        this.sampleRate = sampleRate;
+    }
+
+    @Override
+    public Object intercept(Invocation invocation) throws Throwable {
+        long start = System.nanoTime();
+        try {
+            return invocation.proceed();
+        } finally {
+            long elapsedNanos = System.nanoTime() - start;
+            if (elapsedNanos >= thresholdNanos && sampled()) {
+                report((StatementHandler) invocation.getTarget(), elapsedNanos);
+            }
+        }
+    }
+
+    /**
+     * 把慢查询交给sink.在finally中调用,因此这里的异常只记录日志.
+     *
+     * @param statementHandler 执行语句的handler
+     * @param elapsedNanos     耗时,单位是纳秒
+     */
+    private void report(StatementHandler statementHandler, long elapsedNanos) {
+        String statementId = null;
+        try {
+            statementId = getMappedStatement(statementHandler).getId();
+            String sql = statementHandler.getBoundSql().getSql();
+            sink.accept(statementId, SqlFingerprintUtils.fingerprint(sql), sql, elapsedNanos);
+        } catch (RuntimeException e) {
+            LOG.error("report slow query failed, statement=" + statementId, e);
+        }
+    }
+
+    /**
+     * handler对应的statement.mybatis的handler是{@link org.apache.ibatis.executor.statement.RoutingStatementHandler},
+     * statement在它的delegate中;其他插件可能已经把handler包装成代理.
+     *
+     * @param statementHandler handler
+     * @return statement
+     */
+    private static MappedStatement getMappedStatement(StatementHandler statementHandler) {
+        MetaObject metaObject = SystemMetaObject.forObject(statementHandler);
+        while (metaObject.hasGetter("h") && metaObject.getValue("h") instanceof Plugin) {
+            metaObject = SystemMetaObject.forObject(metaObject.getValue("h.target"));
+        }
+        if (metaObject.hasGetter("delegate")) {
+            metaObject = SystemMetaObject.forObject(metaObject.getValue("delegate"));
+        }
+        return (MappedStatement) metaObject.getValue("mappedStatement");
+    }
+
+    @Override
+    public Object plugin(Object target) {
+        return Plugin.wrap(target, this);
+    }
+
+    @Override
+    public void setProperties(Properties properties) {
+        String thresholdMillis = properties.getProperty(THRESHOLD_MILLIS_PROPERTY);
+        if (thresholdMillis != null) {
+            setThreshold(Long.parseLong(thresholdMillis.trim()), TimeUnit.MILLISECONDS);
+        }
+        String sampleRate = properties.getProperty(SAMPLE_RATE_PROPERTY);
+        if (sampleRate != null) {
+            setSampleRate(Double.parseDouble(sampleRate.trim()));
+        }
+    }
+
+    /**
+     * 这一次是否交给sink.
+     *
+     * @return <code>true</code>-如果交给sink
+     */
+    private boolean sampled() {
+        double rate = sampleRate;
+        return rate >= 1 || ThreadLocalRandom.current().nextDouble() < rate;
+    }
+}
@@ -0,0 +1,186 @@
+package com.wuda.yhan.code.generator.lang.metrics;
+
+import com.wuda.yhan.code.generator.lang.util.ConcurrentLruCache;
+import org.apache.ibatis.logging.Log;
+import org.apache.ibatis.logging.LogFactory;
+
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 默认的{@link SlowQuerySink},打印慢查询的日志,并且按照sql的指纹汇总耗时的分布.
+ * 最多保存{@link #getMaxFingerprints()}个指纹,超过时淘汰最久没有出现的指纹,因此内存是有上限的,
+ * 每个指纹大约占用一个{@link LatencyHistogram},即15KB.
+ * <p>
+ * 和{@link SlowQueryInterceptor}的阈值为0并且采样率较小的配置一起使用时,汇总的就是每类sql的耗时分布的样本,
+ * 可以用来估计每类sql的p99.
+ *
+ * @author wuda
+ */
+public class SlowQueryLog implements SlowQuerySink {
+
+    /**
+     * 默认保存的指纹的最大数量.
+     */
+    public final static int DEFAULT_MAX_FINGERPRINTS = 256;
+
+    /**
+     * 慢查询的日志.
+     */
+    private final static Log LOG = LogFactory.getLog(SlowQueryLog.class);
+
+    /**
+     * key是指纹.
+     */
+    private final ConcurrentLruCache<String, FingerprintStats> stats;
+
+    /**
+     * 是否打印日志.
+     */
+    private volatile boolean logEnabled = true;
+
+    /**
+     * 使用{@link #DEFAULT_MAX_FINGERPRINTS}构造实例.
+     */
+    public SlowQueryLog() {
+        this(DEFAULT_MAX_FINGERPRINTS);
+    }
+
+    /**
+     * 构造实例.
+     *
+     * @param maxFingerprints 保存的指纹的最大数量
+     */
+    public SlowQueryLog(int maxFingerprints) {
+        this.stats = new ConcurrentLruCache<>(maxFingerprints);
+    }
+
+    /**
+     * 设置是否打印日志,如果只需要汇总则关闭.
+     *
+     * @param logEnabled true-打印日志
+     */
+    public void setLogEnabled(boolean logEnabled) {
+        this.logEnabled = logEnabled;
+    }
+
+    @Override
+    public void accept(String statementId, String fingerprint, String sql, long elapsedNanos) {
+        FingerprintStats fingerprintStats = stats.get(fingerprint);
+        if (fingerprintStats == null) {
+            fingerprintStats = stats.computeIfAbsent(fingerprint, key -> new FingerprintStats(statementId, key));
+        }
+        fingerprintStats.record(sql, elapsedNanos);
+        if (logEnabled) {
+            LOG.warn("slow query " + TimeUnit.NANOSECONDS.toMillis(elapsedNanos) + "ms, statement=" + statementId + ", sql=" + sql);
+        }
+    }
+
+    /**
+     * 获取一个指纹的汇总.
+     *
+     * @param fingerprint 指纹
+     * @return 汇总, null-如果没有这个指纹或者已经被淘汰
+     */
+    public FingerprintStats getStats(String fingerprint) {
+        return stats.get(fingerprint);
+    }
+
+    /**
+     * 获取所有指纹的汇总,按照指纹排序.返回的对象的值会继续变化.
+     *
+     * @return 汇总
+     */
+    public List<FingerprintStats> getStats() {
+        List<FingerprintStats> list = stats.values();
+        list.sort(Comparator.comparing(FingerprintStats::getFingerprint));
+        return Collections.unmodifiableList(list);
+    }
+
+    public int getMaxFingerprints() {
+        return stats.capacity();
+    }
+
+    /**
+     * 清除所有的汇总.
+     */
+    public void clear() {
+        stats.clear();
+    }
+
+    /**
+     * 一个指纹的汇总.
+     */
+    public static class FingerprintStats {
+
+        /**
+         * 第一次出现这个指纹的语句.
+         */
+        private final String statementId;
+
+        /**
+         * 指纹.
+         */
+        private final String fingerprint;
+
+        /**
+         * 耗时的分布,单位是纳秒.
+         */
+        private final LatencyHistogram latency = new LatencyHistogram();
+
+        /**
+         * 最慢的一次的sql.
+         */
+        private final AtomicReference<String> slowestSql = new AtomicReference<>();
+
+        /**
+         * 最慢的一次的耗时.
+         */
+        private final AtomicLong slowestNanos = new AtomicLong(-1);
+
+        FingerprintStats(String statementId, String fingerprint) {
+            this.statementId = statementId;
+            this.fingerprint = fingerprint;
+        }
+
+        void record(String sql, long elapsedNanos) {
+            latency.record(elapsedNanos);
+            long slowest = slowestNanos.get();
+            while (elapsedNanos > slowest) {
+                if (slowestNanos.compareAndSet(slowest, elapsedNanos)) {
+                    slowestSql.set(sql);
+                    break;
+                }
+                slowest = slowestNanos.get();
+            }
+        }
+
+        public String getStatementId() {
+            return statementId;
+        }
+
+        public String getFingerprint() {
+            return fingerprint;
+        }
+
+        public LatencyHistogram getLatency() {
+            return latency;
+        }
+
+        public String getSlowestSql() {
+            return slowestSql.get();
+        }
+
+        @Override
+        public String toString() {
+            return fingerprint + "{count=" + latency.getTotalCount()
+                    + ", p99Nanos=" + latency.getValueAtPercentile(99)
+                    + ", maxNanos=" + latency.getMaxValue()
+                    + "}";
+        }
+    }
+}
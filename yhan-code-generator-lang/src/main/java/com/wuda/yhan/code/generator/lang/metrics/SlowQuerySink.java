@@ -0,0 +1,19 @@
+package com.wuda.yhan.code.generator.lang.metrics;
+
+/**
+ * 接收{@link SlowQueryInterceptor}发现的慢查询.实现必须是线程安全的.
+ *
+ * @author wuda
+ */
+public interface SlowQuerySink {
+
+    /**
+     * 接收一条慢查询.
+     *
+     * @param statementId  {@link org.apache.ibatis.mapping.MappedStatement#getId()}
+     * @param fingerprint  sql的指纹,参考{@link SqlFingerprintUtils#fingerprint(String)}
+     * @param sql          mybatis执行的sql,参数是<code>?</code>
+     * @param elapsedNanos 耗时,单位是纳秒
+     */
+    void accept(String statementId, String fingerprint, String sql, long elapsedNanos);
+}
@@ -0,0 +1,206 @@
+package com.wuda.yhan.code.generator.lang.metrics;
+
+import com.wuda.yhan.code.generator.lang.util.ConcurrentLruCache;
+
+import java.util.regex.Pattern;
+
+/**
+ * sql的指纹,把只有参数不同的sql归为同一类.生成的sql builder对不同的非null属性组合和不同大小的IN列表
+ * 生成不同的sql,指纹去掉其中随参数变化的部分:
+ * <ul>
+ * <li>参数占位符<code>#{...}</code>,<code>?</code>以及字符串和数字常量都替换成<code>?</code></li>
+ * <li>连续的空白字符合并成一个空格,<code>(</code>之后,<code>)</code>之前以及<code>,</code>前后的空白去掉</li>
+ * <li><code>IN (?,?,?)</code>合并成<code>IN (...)</code>,<code>IN ((?,?),(?,?))</code>合并成<code>IN ((?,?),...)</code></li>
+ * <li>多行的<code>VALUES (?,?),(?,?)</code>合并成<code>VALUES (?,?),...</code></li>
+ * <li>重复的<code>(a = ? AND b = ?) OR (a = ? AND b = ?)</code>合并成<code>(a = ? AND b = ?) OR ...</code></li>
+ * <li>batchUpdate中重复的<code>WHEN ? THEN ?</code>合并成<code>WHEN ? THEN ? ...</code></li>
+ * </ul>
+ * 不同的非null属性组合仍然是不同的指纹,它们的数量受SqlProviderUtils的语句缓存限制.
+ *
+ * @author wuda
+ */
+public class SqlFingerprintUtils {
+
+    /**
+     * 缓存的sql的最大数量.
+     */
+    public final static int CACHE_CAPACITY = 4096;
+
+    /**
+     * 缓存的sql和指纹的最大长度.multi-row insert和很长的IN列表的sql可能有几百KB,如果缓存它们,
+     * {@link #CACHE_CAPACITY}个sql就会占用几百MB.超过这个长度的sql每次都重新计算指纹,
+     * 因此两个缓存最多占用<code>2 * CACHE_CAPACITY * MAX_CACHED_LENGTH</code>个字符,即32MB.
+     */
+    public final static int MAX_CACHED_LENGTH = 2048;
+
+    /**
+     * <code>IN (?,?)</code>.
+     */
+    private final static Pattern IN_LIST = Pattern.compile("(?i)\\bIN \\(\\?(?:,\\?)*\\)");
+
+    /**
+     * <code>IN ((?,?),(?,?))</code>.
+     */
+    private final static Pattern IN_ROW_LIST = Pattern.compile("(?i)\\bIN \\((\\((?:\\?,)*\\?\\))(?:,\\1)*\\)");
+
+    /**
+     * 多行的<code>VALUES (?,?),(?,?)</code>.
+     */
+    private final static Pattern VALUES_ROWS = Pattern.compile("(?i)\\bVALUES (\\((?:\\?,)*\\?\\))(?:,\\1)+");
+
+    /**
+     * 重复的<code>(a = ? AND b = ?) OR (a = ? AND b = ?)</code>.
+     */
+    private final static Pattern OR_GROUPS = Pattern.compile("(\\([^()]*\\))(?: OR \\1)+");
+
+    /**
+     * 重复的<code>WHEN ? THEN ?</code>.
+     */
+    private final static Pattern CASE_WHEN = Pattern.compile("(?i)(WHEN \\? THEN \\?)(?: \\1)+");
+
+    /**
+     * key是sql,value是指纹.
+     */
+    private final static ConcurrentLruCache<String, String> FINGERPRINTS = new ConcurrentLruCache<>(CACHE_CAPACITY);
+
+    /**
+     * 相同的指纹只保留一个实例,这样大量的慢查询记录共享同一个字符串.
+     */
+    private final static ConcurrentLruCache<String, String> INTERNED = new ConcurrentLruCache<>(CACHE_CAPACITY);
+
+    /**
+     * 获取sql的指纹,长度不超过{@link #MAX_CACHED_LENGTH}的相同的指纹返回同一个实例.
+     *
+     * @param sql sql,可以是mybatis解析之前带有<code>#{...}</code>的sql,也可以是解析之后带有<code>?</code>的sql
+     * @return 指纹
+     */
+    public static String fingerprint(String sql) {
+        boolean cacheable = sql.length() <= MAX_CACHED_LENGTH;
+        String fingerprint = cacheable ? FINGERPRINTS.get(sql) : null;
+        if (fingerprint == null) {
+            fingerprint = normalize(sql);
+            if (fingerprint.length() <= MAX_CACHED_LENGTH) {
+                fingerprint = INTERNED.computeIfAbsent(fingerprint, key -> key);
+            }
+            if (cacheable) {
+                FINGERPRINTS.put(sql, fingerprint);
+            }
+        }
+        return fingerprint;
+    }
+
+    /**
+     * 计算sql的指纹,不使用缓存.
+     *
+     * @param sql sql
+     * @return 指纹
+     */
+    public static String normalize(String sql) {
+        String text = replaceLiterals(sql);
+        text = IN_LIST.matcher(text).replaceAll("IN (...)");
+        text = IN_ROW_LIST.matcher(text).replaceAll("IN ($1,...)");
+        text = VALUES_ROWS.matcher(text).replaceAll("VALUES $1,...");
+        text = OR_GROUPS.matcher(text).replaceAll("$1 OR ...");
+        text = CASE_WHEN.matcher(text).replaceAll("$1 ...");
+        return text;
+    }
+
+    /**
+     * 把占位符和常量替换成<code>?</code>,并且合并空白字符.
+     *
+     * @param sql sql
+     * @return 替换后的sql
+     */
+    private static String replaceLiterals(String sql) {
+        StringBuilder builder = new StringBuilder(sql.length());
+        boolean pendingSpace = false;
+        int length = sql.length();
+        int i = 0;
+        while (i < length) {
+            char c = sql.charAt(i);
+            if (Character.isWhitespace(c)) {
+                pendingSpace = true;
+                i++;
+                continue;
+            }
+            int end;
+            String token;
+            if (c == '\'' || c == '"') {
+                end = skipQuoted(sql, i, c);
+                token = "?";
+            } else if (c == '`') {
+                end = sql.indexOf('`', i + 1);
+                end = end < 0 ? length : end + 1;
+                token = sql.substring(i, end);
+            } else if ((c == '#' || c == '$') && i + 1 < length && sql.charAt(i + 1) == '{') {
+                end = sql.indexOf('}', i + 2);
+                end = end < 0 ? length : end + 1;
+                token = "?";
+            } else if (Character.isDigit(c) && (pendingSpace || !isIdentifierPart(builder))) {
+                end = i + 1;
+                while (end < length && (Character.isLetterOrDigit(sql.charAt(end)) || sql.charAt(end) == '.')) {
+                    end++;
+                }
+                token = "?";
+            } else {
+                end = i + 1;
+                token = null;
+            }
+            if (pendingSpace && builder.length() > 0) {
+                char last = builder.charAt(builder.length() - 1);
+                if (last != '(' && last != ',' && c != ')' && c != ',') {
+                    builder.append(' ');
+                }
+            }
+            pendingSpace = false;
+            if (token == null) {
+                builder.append(c);
+            } else {
+                builder.append(token);
+            }
+            i = end;
+        }
+        return builder.toString();
+    }
+
+    /**
+     * 跳过引号中的字符串,支持两个引号和反斜杠转义.
+     *
+     * @param sql   sql
+     * @param start 开始的引号的位置
+     * @param quote 引号
+     * @return 结束的引号之后的位置
+     */
+    private static int skipQuoted(String sql, int start, char quote) {
+        int i = start + 1;
+        while (i < sql.length()) {
+            char c = sql.charAt(i);
+            if (c == '\\') {
+                i += 2;
+            } else if (c == quote) {
+                if (i + 1 < sql.length() && sql.charAt(i + 1) == quote) {
+                    i += 2;
+                } else {
+                    return i + 1;
+                }
+            } else {
+                i++;
+            }
+        }
+        return sql.length();
+    }
+
+    /**
+     * 已经输出的最后一个字符是否是标识符的一部分,比如<code>message_item_01</code>中的数字不是常量.
+     *
+     * @param builder 已经输出的字符
+     * @return <code>true</code>-如果是标识符的一部分
+     */
+    private static boolean isIdentifierPart(StringBuilder builder) {
+        if (builder.length() == 0) {
+            return false;
+        }
+        char last = builder.charAt(builder.length() - 1);
+        return Character.isLetterOrDigit(last) || last == '_' || last == '$';
+    }
+}
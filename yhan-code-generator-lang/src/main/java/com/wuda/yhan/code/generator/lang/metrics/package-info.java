@@ -0,0 +1,10 @@
+/**
+ * mapper方法的运行指标.{@link com.wuda.yhan.code.generator.lang.metrics.MapperMetricsInterceptor}在每条语句执行完成后,
+ * 把耗时,返回或者影响的行数,批量语句的元素数量交给{@link com.wuda.yhan.code.generator.lang.metrics.MapperMetricsRecorder},
+ * 默认的实现{@link com.wuda.yhan.code.generator.lang.metrics.MapperMetricsRegistry}按照mapper中的方法汇总,
+ * 调用方随时通过它读取每个方法的调用次数和耗时分布.
+ * {@link com.wuda.yhan.code.generator.lang.metrics.SlowQueryInterceptor}把慢查询连同
+ * {@link com.wuda.yhan.code.generator.lang.metrics.SqlFingerprintUtils}计算的sql指纹交给
+ * {@link com.wuda.yhan.code.generator.lang.metrics.SlowQuerySink},按照指纹汇总同一类sql.
+ */
+package com.wuda.yhan.code.generator.lang.metrics;
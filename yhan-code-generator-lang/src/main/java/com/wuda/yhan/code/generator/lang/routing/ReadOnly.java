@@ -0,0 +1,19 @@
+package com.wuda.yhan.code.generator.lang.routing;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 标记mapper中的方法是只读的查询,可以在从库执行.
+ * 生成mapper时自动添加到普通的查询方法上,selectForUpdate方法不会有这个注解.
+ *
+ * @author wuda
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface ReadOnly {
+}
@@ -0,0 +1,141 @@
+package com.wuda.yhan.code.generator.lang.routing;
+
+import javax.sql.DataSource;
+import java.io.PrintWriter;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Logger;
+
+/**
+ * 读写分离的{@link DataSource}.需要和{@link ReadWriteRoutingInterceptor}一起使用.
+ * 返回的连接直到创建语句时才决定使用主库还是从库,参考{@link RoutingConnection}:
+ * 自动提交模式下,当前线程正在执行{@link ReadOnly}的语句时,轮流从从库获取连接,其他语句使用主库;
+ * 非自动提交模式下,即事务中,所有语句都使用主库.
+ * 从库的连接会被设置为只读,避免因为连接被复用而把修改发送到从库.
+ * 从库获取连接失败时使用主库.
+ *
+ * @author wuda
+ */
+public class ReadWriteRoutingDataSource implements DataSource {
+
+    /**
+     * 主库.
+     */
+    private final DataSource primary;
+
+    /**
+     * 从库.
+     */
+    private final List<DataSource> replicas;
+
+    /**
+     * 用于轮流选择从库.
+     */
+    private final AtomicInteger next = new AtomicInteger();
+
+    /**
+     * 构造读写分离的data source.
+     *
+     * @param primary  主库
+     * @param replicas 从库,为空时全部使用主库
+     */
+    public ReadWriteRoutingDataSource(DataSource primary, List<DataSource> replicas) {
+        if (primary == null) {
+            throw new IllegalArgumentException("primary不能为null");
+        }
+        this.primary = primary;
+        this.replicas = replicas == null ? new ArrayList<>() : new ArrayList<>(replicas);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (replicas.isEmpty()) {
+            return primary.getConnection();
+        }
+        return RoutingConnection.newConnection(primary::getConnection, this::getReplicaConnection);
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return primary.getConnection(username, password);
+    }
+
+    /**
+     * 轮流从从库获取连接.
+     *
+     * @return 只读并且自动提交的连接, 如果所有从库都获取失败则返回null
+     */
+    private Connection getReplicaConnection() {
+        int size = replicas.size();
+        int start = (next.getAndIncrement() & Integer.MAX_VALUE) % size;
+        for (int i = 0; i < size; i++) {
+            DataSource replica = replicas.get((start + i) % size);
+            Connection connection = null;
+            try {
+                connection = replica.getConnection();
+                connection.setReadOnly(true);
+                if (!connection.getAutoCommit()) {
+                    connection.setAutoCommit(true);
+                }
+                return connection;
+            } catch (SQLException e) {
+                // 尝试下一个从库
+                closeQuietly(connection);
+            }
+        }
+        return null;
+    }
+
+    private static void closeQuietly(Connection connection) {
+        if (connection == null) {
+            return;
+        }
+        try {
+            connection.close();
+        } catch (SQLException e) {
+            // ignore
+        }
+    }
+
+    @Override
+    public <T> T unwrap(Class<T> iface) throws SQLException {
+        if (iface.isInstance(this)) {
+            return iface.cast(this);
+        }
+        return primary.unwrap(iface);
+    }
+
+    @Override
+    public boolean isWrapperFor(Class<?> iface) throws SQLException {
+        return iface.isInstance(this) || primary.isWrapperFor(iface);
+    }
+
+    @Override
+    public PrintWriter getLogWriter() throws SQLException {
+        return primary.getLogWriter();
+    }
+
+    @Override
+    public void setLogWriter(PrintWriter out) throws SQLException {
+        primary.setLogWriter(out);
+    }
+
+    @Override
+    public void setLoginTimeout(int seconds) throws SQLException {
+        primary.setLoginTimeout(seconds);
+    }
+
+    @Override
+    public int getLoginTimeout() throws SQLException {
+        return primary.getLoginTimeout();
+    }
+
+    @Override
+    public Logger getParentLogger() throws SQLFeatureNotSupportedException {
+        return primary.getParentLogger();
+    }
+}
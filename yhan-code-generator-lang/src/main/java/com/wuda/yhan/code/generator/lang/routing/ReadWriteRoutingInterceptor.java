@@ -0,0 +1,105 @@
+package com.wuda.yhan.code.generator.lang.routing;
+
+import org.apache.ibatis.cache.CacheKey;
+import org.apache.ibatis.executor.Executor;
+import org.apache.ibatis.io.Resources;
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.mapping.SqlCommandType;
+import org.apache.ibatis.plugin.Interceptor;
+import org.apache.ibatis.plugin.Intercepts;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.plugin.Plugin;
+import org.apache.ibatis.plugin.Signature;
+import org.apache.ibatis.session.ResultHandler;
+import org.apache.ibatis.session.RowBounds;
+
+import java.lang.reflect.Method;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 执行语句时,根据mapper中的方法是否有{@link ReadOnly}注解标记当前线程,
+ * 由{@link ReadWriteRoutingDataSource}决定从主库还是从库获取连接.
+ * 没有{@link ReadOnly}注解的语句,包括手写的mapper中的语句,都使用主库.
+ * <p>
+ * 一个{@link org.apache.ibatis.session.SqlSession}在执行第一条语句时获取连接,之后的语句都使用这个连接,
+ * 因此{@link ReadWriteRoutingDataSource}返回的连接在创建每条语句时才决定使用主库还是从库,
+ * 非自动提交的session中所有语句都使用主库.
+ *
+ * @author wuda
+ */
+@Intercepts({
+        @Signature(type = Executor.class, method = "update", args = {MappedStatement.class, Object.class}),
+        @Signature(type = Executor.class, method = "query", args = {MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class}),
+        @Signature(type = Executor.class, method = "query", args = {MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class, CacheKey.class, BoundSql.class}),
+        @Signature(type = Executor.class, method = "queryCursor", args = {MappedStatement.class, Object.class, RowBounds.class})
+})
+public class ReadWriteRoutingInterceptor implements Interceptor {
+
+    /**
+     * key是{@link MappedStatement#getId()},value是这个语句是否是只读的.
+     */
+    private final ConcurrentMap<String, Boolean> readOnlyStatements = new ConcurrentHashMap<>();
+
+    @Override
+    public Object intercept(Invocation invocation) throws Throwable {
+        MappedStatement mappedStatement = (MappedStatement) invocation.getArgs()[0];
+        Boolean previous = RoutingContext.mark(isReadOnly(mappedStatement));
+        try {
+            return invocation.proceed();
+        } finally {
+            RoutingContext.restore(previous);
+        }
+    }
+
+    @Override
+    public Object plugin(Object target) {
+        return Plugin.wrap(target, this);
+    }
+
+    @Override
+    public void setProperties(Properties properties) {
+    }
+
+    /**
+     * 语句是否是只读的.
+     *
+     * @param mappedStatement mapped statement
+     * @return <code>true</code>-如果是只读的
+     */
+    private boolean isReadOnly(MappedStatement mappedStatement) {
+        if (mappedStatement.getSqlCommandType() != SqlCommandType.SELECT) {
+            return false;
+        }
+        return readOnlyStatements.computeIfAbsent(mappedStatement.getId(), ReadWriteRoutingInterceptor::hasReadOnlyAnnotation);
+    }
+
+    /**
+     * 语句对应的mapper中的方法是否有{@link ReadOnly}注解.语句的id是mapper的类名加方法名.
+     *
+     * @param statementId statement id
+     * @return <code>true</code>-如果有{@link ReadOnly}注解
+     */
+    private static boolean hasReadOnlyAnnotation(String statementId) {
+        int index = statementId.lastIndexOf('.');
+        if (index <= 0) {
+            return false;
+        }
+        Class<?> mapperType;
+        try {
+            mapperType = Resources.classForName(statementId.substring(0, index));
+        } catch (ClassNotFoundException e) {
+            // xml中定义的namespace不一定是类名
+            return false;
+        }
+        String methodName = statementId.substring(index + 1);
+        for (Method method : mapperType.getMethods()) {
+            if (method.getName().equals(methodName) && method.isAnnotationPresent(ReadOnly.class)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,250 @@
+package com.wuda.yhan.code.generator.lang.routing;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.function.Supplier;
+
+/**
+ * {@link ReadWriteRoutingDataSource}返回的连接.获取连接时还不知道之后要执行什么语句,
+ * 因此直到创建{@link java.sql.Statement}时才决定使用主库还是从库,并且在那时才真正获取物理连接:
+ * <ul>
+ * <li>自动提交模式下,{@link ReadOnly}的查询使用从库,其他语句使用主库,每条语句单独决定</li>
+ * <li>非自动提交模式下,所有语句都使用主库,这样事务中的查询可以看到事务中的修改,修改也不会被发送到从库</li>
+ * </ul>
+ * 在获取物理连接之前设置的autoCommit,readOnly和事务隔离级别会被记录下来,获取主库的连接时再设置,
+ * 没有调用过setAutoCommit时主库的连接也被设置成自动提交.
+ * 从库的连接总是只读并且自动提交的.
+ *
+ * @author wuda
+ */
+class RoutingConnection implements InvocationHandler {
+
+    /**
+     * 获取主库的连接.
+     */
+    private final ConnectionFactory primary;
+
+    /**
+     * 获取从库的连接,返回null表示从库不可用.
+     */
+    private final Supplier<Connection> replica;
+
+    /**
+     * 主库的物理连接,第一次使用时获取.
+     */
+    private Connection primaryConnection;
+
+    /**
+     * 从库的物理连接,第一次使用时获取.
+     */
+    private Connection replicaConnection;
+
+    /**
+     * 从库不可用,之后不再尝试.
+     */
+    private boolean replicaUnavailable;
+
+    /**
+     * 当前是否是自动提交模式,和JDBC规范一样,新的连接默认是自动提交的.
+     * 连接池可能把物理连接配置成非自动提交,因此获取主库的连接时总是设置成这个值,
+     * 否则调用方认为是自动提交而不会commit,修改在连接归还时被回滚.
+     */
+    private boolean autoCommit = true;
+
+    /**
+     * 通过setReadOnly设置的值,null表示没有设置.
+     */
+    private Boolean readOnly;
+
+    /**
+     * 通过setTransactionIsolation设置的值,null表示没有设置.
+     */
+    private Integer transactionIsolation;
+
+    private boolean closed;
+
+    /**
+     * 获取物理连接.
+     */
+    interface ConnectionFactory {
+
+        /**
+         * 获取物理连接.
+         *
+         * @return connection
+         * @throws SQLException 获取连接失败
+         */
+        Connection getConnection() throws SQLException;
+    }
+
+    private RoutingConnection(ConnectionFactory primary, Supplier<Connection> replica) {
+        this.primary = primary;
+        this.replica = replica;
+    }
+
+    /**
+     * 创建连接.
+     *
+     * @param primary 获取主库的连接
+     * @param replica 获取从库的连接,返回null表示从库不可用
+     * @return 连接
+     */
+    static Connection newConnection(ConnectionFactory primary, Supplier<Connection> replica) {
+        return (Connection) Proxy.newProxyInstance(RoutingConnection.class.getClassLoader(), new Class<?>[]{Connection.class},
+                new RoutingConnection(primary, replica));
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+        switch (method.getName()) {
+            case "equals":
+                return proxy == args[0];
+            case "hashCode":
+                return System.identityHashCode(proxy);
+            case "toString":
+                return "RoutingConnection[primary=" + primaryConnection + ", replica=" + replicaConnection + "]";
+            case "isClosed":
+                return closed;
+            case "close":
+                close();
+                return null;
+            case "getAutoCommit":
+                return autoCommit;
+            case "setAutoCommit":
+                autoCommit = (Boolean) args[0];
+                if (primaryConnection != null) {
+                    primaryConnection.setAutoCommit(autoCommit);
+                }
+                return null;
+            case "setReadOnly":
+                readOnly = (Boolean) args[0];
+                if (primaryConnection != null) {
+                    primaryConnection.setReadOnly(readOnly);
+                }
+                return null;
+            case "isReadOnly":
+                if (readOnly != null) {
+                    return readOnly;
+                }
+                break;
+            case "setTransactionIsolation":
+                transactionIsolation = (Integer) args[0];
+                if (primaryConnection != null) {
+                    primaryConnection.setTransactionIsolation(transactionIsolation);
+                }
+                return null;
+            case "getTransactionIsolation":
+                if (transactionIsolation != null) {
+                    return transactionIsolation;
+                }
+                break;
+            case "commit":
+            case "rollback":
+            case "setSavepoint":
+            case "releaseSavepoint":
+                // 从库只执行自动提交的查询,没有需要提交的事务
+                if (primaryConnection == null && !"setSavepoint".equals(method.getName())) {
+                    return null;
+                }
+                break;
+            case "createStatement":
+            case "prepareStatement":
+            case "prepareCall":
+                return invoke(statementTarget(), method, args);
+            default:
+                break;
+        }
+        return invoke(primaryConnection(), method, args);
+    }
+
+    private static Object invoke(Connection target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+
+    /**
+     * 创建语句时使用的物理连接.
+     *
+     * @return 物理连接
+     * @throws SQLException 获取连接失败
+     */
+    private Connection statementTarget() throws SQLException {
+        if (closed) {
+            throw new SQLException("连接已经关闭");
+        }
+        if (autoCommit && RoutingContext.isReplicaPreferred()) {
+            Connection connection = replicaConnection();
+            if (connection != null) {
+                return connection;
+            }
+        }
+        return primaryConnection();
+    }
+
+    private Connection primaryConnection() throws SQLException {
+        if (primaryConnection == null) {
+            if (closed) {
+                throw new SQLException("连接已经关闭");
+            }
+            Connection connection = primary.getConnection();
+            try {
+                if (connection.getAutoCommit() != autoCommit) {
+                    connection.setAutoCommit(autoCommit);
+                }
+                if (readOnly != null) {
+                    connection.setReadOnly(readOnly);
+                }
+                if (transactionIsolation != null) {
+                    connection.setTransactionIsolation(transactionIsolation);
+                }
+            } catch (SQLException e) {
+                connection.close();
+                throw e;
+            }
+            primaryConnection = connection;
+        }
+        return primaryConnection;
+    }
+
+    private Connection replicaConnection() {
+        if (replicaConnection == null && !replicaUnavailable) {
+            replicaConnection = replica.get();
+            replicaUnavailable = replicaConnection == null;
+        }
+        return replicaConnection;
+    }
+
+    private void close() throws SQLException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        SQLException exception = null;
+        for (Connection connection : new Connection[]{replicaConnection, primaryConnection}) {
+            if (connection == null) {
+                continue;
+            }
+            try {
+                connection.close();
+            } catch (SQLException e) {
+                if (exception == null) {
+                    exception = e;
+                } else {
+                    exception.addSuppressed(e);
+                }
+            }
+        }
+        replicaConnection = null;
+        primaryConnection = null;
+        if (exception != null) {
+            throw exception;
+        }
+    }
+}
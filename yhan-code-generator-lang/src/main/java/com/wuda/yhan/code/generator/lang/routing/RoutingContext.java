@@ -0,0 +1,72 @@
+package com.wuda.yhan.code.generator.lang.routing;
+
+import java.util.function.Supplier;
+
+/**
+ * 保存当前线程正在执行的语句是否可以在从库执行.
+ *
+ * @author wuda
+ */
+public class RoutingContext {
+
+    /**
+     * 当前线程正在执行的语句是否是只读的.
+     */
+    private final static ThreadLocal<Boolean> READ_ONLY = new ThreadLocal<>();
+
+    /**
+     * 当前线程嵌套调用{@link #usePrimary(Supplier)}的层数.
+     */
+    private final static ThreadLocal<int[]> PRIMARY_DEPTH = ThreadLocal.withInitial(() -> new int[1]);
+
+    /**
+     * 当前线程获取连接时是否应该使用从库.
+     *
+     * @return <code>true</code>-如果应该使用从库
+     */
+    public static boolean isReplicaPreferred() {
+        return Boolean.TRUE.equals(READ_ONLY.get()) && PRIMARY_DEPTH.get()[0] == 0;
+    }
+
+    /**
+     * 在给定的action中,所有语句都使用主库,比如需要读取刚刚写入的数据.
+     *
+     * @param action action
+     * @param <T>    返回值的类型
+     * @return action的返回值
+     */
+    public static <T> T usePrimary(Supplier<T> action) {
+        int[] depth = PRIMARY_DEPTH.get();
+        depth[0]++;
+        try {
+            return action.get();
+        } finally {
+            depth[0]--;
+        }
+    }
+
+    /**
+     * 标记当前线程正在执行的语句是否是只读的.
+     *
+     * @param readOnly 是否是只读的
+     * @return 之前的标记, 用于{@link #restore(Boolean)}
+     */
+    static Boolean mark(boolean readOnly) {
+        Boolean previous = READ_ONLY.get();
+        READ_ONLY.set(readOnly);
+        return previous;
+    }
+
+    /**
+     * 恢复之前的标记.
+     *
+     * @param previous {@link #mark(boolean)}的返回值
+     */
+    static void restore(Boolean previous) {
+        if (previous == null) {
+            READ_ONLY.remove();
+        } else {
+            READ_ONLY.set(previous);
+        }
+    }
+}
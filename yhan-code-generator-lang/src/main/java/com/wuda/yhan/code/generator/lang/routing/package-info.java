@@ -0,0 +1,7 @@
+/**
+ * 读写分离.生成的mapper中普通的查询方法带有{@link com.wuda.yhan.code.generator.lang.routing.ReadOnly}注解,
+ * {@link com.wuda.yhan.code.generator.lang.routing.ReadWriteRoutingInterceptor}在执行这些方法时标记当前线程,
+ * {@link com.wuda.yhan.code.generator.lang.routing.ReadWriteRoutingDataSource}根据标记从从库获取连接,
+ * 其他语句,包括insert,update,delete和<code>SELECT ... FOR UPDATE</code>,都使用主库.
+ */
+package com.wuda.yhan.code.generator.lang.routing;
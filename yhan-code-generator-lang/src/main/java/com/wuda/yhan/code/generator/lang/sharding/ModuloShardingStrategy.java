@@ -0,0 +1,89 @@
+package com.wuda.yhan.code.generator.lang.sharding;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 按照分片键的值取模的分表策略,物理表是逻辑表加上补0的下标,比如<code>`shop`.`order`</code>分成64个表时,
+ * 物理表是<code>`shop`.`order_00`</code>到<code>`shop`.`order_63`</code>.
+ * 整数类型的分片键直接取模,其他类型使用{@link Object#hashCode()}取模.
+ *
+ * @author wuda
+ */
+public class ModuloShardingStrategy implements ShardingStrategy {
+
+    /**
+     * 物理表的数量.
+     */
+    private final int shardCount;
+
+    /**
+     * 下标的位数,不足时补0.
+     */
+    private final int suffixWidth;
+
+    /**
+     * key是逻辑表,value是按照下标排列的物理表.
+     */
+    private final ConcurrentMap<String, String[]> physicalTables = new ConcurrentHashMap<>();
+
+    /**
+     * 构造分表策略.
+     *
+     * @param shardCount 物理表的数量
+     */
+    public ModuloShardingStrategy(int shardCount) {
+        if (shardCount <= 0) {
+            throw new IllegalArgumentException("shardCount必须大于0,shardCount=" + shardCount);
+        }
+        this.shardCount = shardCount;
+        this.suffixWidth = Math.max(2, String.valueOf(shardCount - 1).length());
+    }
+
+    @Override
+    public String physicalTable(String schemaDotTable, Object shardKey) {
+        return physicalTables.computeIfAbsent(schemaDotTable, this::physicalTables)[shardIndex(shardKey)];
+    }
+
+    /**
+     * 分片键对应的物理表的下标.
+     *
+     * @param shardKey 分片键的值
+     * @return 下标
+     */
+    public int shardIndex(Object shardKey) {
+        long value;
+        if (shardKey instanceof Long || shardKey instanceof Integer || shardKey instanceof Short || shardKey instanceof Byte) {
+            value = ((Number) shardKey).longValue();
+        } else {
+            value = shardKey.hashCode();
+        }
+        return (int) Math.floorMod(value, (long) shardCount);
+    }
+
+    /**
+     * 逻辑表对应的所有物理表.
+     *
+     * @param schemaDotTable 逻辑表
+     * @return 按照下标排列的物理表
+     */
+    private String[] physicalTables(String schemaDotTable) {
+        String[] tables = new String[shardCount];
+        // `schema`.`table`的形式时,后缀加在最后一个反引号之前
+        boolean quoted = schemaDotTable.endsWith("`");
+        String prefix = quoted ? schemaDotTable.substring(0, schemaDotTable.length() - 1) : schemaDotTable;
+        for (int i = 0; i < shardCount; i++) {
+            StringBuilder builder = new StringBuilder(prefix).append('_');
+            String index = String.valueOf(i);
+            for (int j = index.length(); j < suffixWidth; j++) {
+                builder.append('0');
+            }
+            builder.append(index);
+            if (quoted) {
+                builder.append('`');
+            }
+            tables[i] = builder.toString();
+        }
+        return tables;
+    }
+}
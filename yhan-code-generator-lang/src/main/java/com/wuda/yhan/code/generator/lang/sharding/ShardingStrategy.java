@@ -0,0 +1,21 @@
+package com.wuda.yhan.code.generator.lang.sharding;
+
+/**
+ * 分表策略,根据分片键的值得到物理表.
+ * 同一个逻辑表的物理表的数量应该是有限的,这样每个物理表上的语句的种类也是有限的,
+ * 可以被{@link com.wuda.yhan.code.generator.lang.util.SqlProviderUtils}的语句缓存和prepared statement cache重复使用.
+ *
+ * @author wuda
+ */
+@FunctionalInterface
+public interface ShardingStrategy {
+
+    /**
+     * 得到物理表.
+     *
+     * @param schemaDotTable 逻辑表,即生成的MetaInfo类中的SCHEMA_DOT_TABLE
+     * @param shardKey       分片键的值,不为null
+     * @return 物理表, 格式和<i>schemaDotTable</i>一样
+     */
+    String physicalTable(String schemaDotTable, Object shardKey);
+}
@@ -0,0 +1,180 @@
+package com.wuda.yhan.code.generator.lang.sharding;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
+
+/**
+ * 分表的工具类.保存每个逻辑表的{@link ShardingStrategy},生成的sql builder通过这个类得到物理表.
+ * <p>
+ * 参数中包含分片键时,比如insert的实体,或者where条件中包含分片键的列,根据参数得到物理表;
+ * 否则,比如ByExample方法,或者分片键的值是null时,使用{@link #withShardKey(Object, Supplier)}指定的分片键,
+ * 如果都没有则抛出异常.
+ *
+ * @author wuda
+ */
+public class ShardingUtils {
+
+    /**
+     * key是逻辑表.
+     */
+    private final static ConcurrentMap<String, ShardingStrategy> STRATEGIES = new ConcurrentHashMap<>();
+
+    /**
+     * 通过{@link #withShardKey(Object, Supplier)}指定的分片键.
+     */
+    private final static ThreadLocal<Object> SHARD_KEY = new ThreadLocal<>();
+
+    /**
+     * 注册逻辑表的分表策略.
+     *
+     * @param schemaDotTable 逻辑表,即生成的MetaInfo类中的SCHEMA_DOT_TABLE
+     * @param strategy       分表策略
+     */
+    public static void register(String schemaDotTable, ShardingStrategy strategy) {
+        if (strategy == null) {
+            throw new IllegalArgumentException("strategy不能为null");
+        }
+        STRATEGIES.put(schemaDotTable, strategy);
+    }
+
+    /**
+     * 在给定的action中,参数中没有分片键的语句使用<i>shardKey</i>得到物理表.
+     *
+     * @param shardKey 分片键的值
+     * @param action   action
+     * @param <T>      返回值的类型
+     * @return action的返回值
+     */
+    public static <T> T withShardKey(Object shardKey, Supplier<T> action) {
+        Object previous = SHARD_KEY.get();
+        SHARD_KEY.set(shardKey);
+        try {
+            return action.get();
+        } finally {
+            if (previous == null) {
+                SHARD_KEY.remove();
+            } else {
+                SHARD_KEY.set(previous);
+            }
+        }
+    }
+
+    /**
+     * 使用{@link #withShardKey(Object, Supplier)}指定的分片键得到物理表.
+     *
+     * @param schemaDotTable 逻辑表
+     * @return 物理表
+     */
+    public static String physicalTable(String schemaDotTable) {
+        return physicalTable(schemaDotTable, (Object) null);
+    }
+
+    /**
+     * 得到物理表.
+     *
+     * @param schemaDotTable 逻辑表
+     * @param shardKey       分片键的值,null表示使用{@link #withShardKey(Object, Supplier)}指定的分片键
+     * @return 物理表
+     */
+    public static String physicalTable(String schemaDotTable, Object shardKey) {
+        ShardingStrategy strategy = STRATEGIES.get(schemaDotTable);
+        if (strategy == null) {
+            throw new RuntimeException("表" + schemaDotTable + "没有注册分表策略");
+        }
+        if (shardKey == null) {
+            shardKey = SHARD_KEY.get();
+            if (shardKey == null) {
+                throw new RuntimeException("无法确定" + schemaDotTable + "的物理表,参数中没有分片键,也没有通过withShardKey指定");
+            }
+        }
+        return strategy.physicalTable(schemaDotTable, shardKey);
+    }
+
+    /**
+     * 得到一条批量语句的物理表,集合中所有元素必须属于同一个物理表.
+     *
+     * @param schemaDotTable   逻辑表
+     * @param list             批量语句的参数
+     * @param shardKeyFunction 从元素中获取分片键
+     * @param <T>              元素的类型
+     * @return 物理表
+     */
+    public static <T> String physicalTable(String schemaDotTable, List<T> list, Function<? super T, ?> shardKeyFunction) {
+        if (list == null || list.isEmpty()) {
+            return physicalTable(schemaDotTable);
+        }
+        String table = physicalTable(schemaDotTable, shardKeyFunction.apply(list.get(0)));
+        for (int i = 1; i < list.size(); i++) {
+            String other = physicalTable(schemaDotTable, shardKeyFunction.apply(list.get(i)));
+            if (!table.equals(other)) {
+                throw new RuntimeException("一条语句中的元素必须属于同一个物理表,但是同时包含" + table + "和" + other
+                        + ",请使用对应的Chunked方法");
+            }
+        }
+        return table;
+    }
+
+    /**
+     * 按照物理表分组,保持每组中元素的顺序.
+     *
+     * @param schemaDotTable   逻辑表
+     * @param list             元素
+     * @param shardKeyFunction 从元素中获取分片键
+     * @param <T>              元素的类型
+     * @return key是物理表
+     */
+    public static <T> Map<String, List<T>> groupByTable(String schemaDotTable, List<T> list, Function<? super T, ?> shardKeyFunction) {
+        Map<String, List<T>> groups = new LinkedHashMap<>();
+        for (T element : list) {
+            String table = physicalTable(schemaDotTable, shardKeyFunction.apply(element));
+            groups.computeIfAbsent(table, key -> new ArrayList<>()).add(element);
+        }
+        return groups;
+    }
+
+    /**
+     * 按照物理表分组,每组执行一次action.
+     *
+     * @param schemaDotTable   逻辑表
+     * @param list             元素
+     * @param shardKeyFunction 从元素中获取分片键
+     * @param action           参数是同一个物理表的元素,返回影响的行数
+     * @param <T>              元素的类型
+     * @return 所有action的返回值之和
+     */
+    public static <T> int executeByTable(String schemaDotTable, List<T> list, Function<? super T, ?> shardKeyFunction,
+                                         ToIntFunction<List<T>> action) {
+        int rows = 0;
+        for (List<T> group : groupByTable(schemaDotTable, list, shardKeyFunction).values()) {
+            rows += action.applyAsInt(group);
+        }
+        return rows;
+    }
+
+    /**
+     * 按照物理表分组,每组执行一次查询,然后合并查询结果.结果按照物理表的顺序排列,而不是参数的顺序.
+     *
+     * @param schemaDotTable   逻辑表
+     * @param list             查询条件
+     * @param shardKeyFunction 从查询条件中获取分片键
+     * @param query            参数是同一个物理表的查询条件
+     * @param <T>              查询条件的类型
+     * @param <R>              查询结果的类型
+     * @return 所有查询的结果
+     */
+    public static <T, R> List<R> selectByTable(String schemaDotTable, List<T> list, Function<? super T, ?> shardKeyFunction,
+                                               Function<List<T>, List<R>> query) {
+        List<R> result = new ArrayList<>(list.size());
+        for (List<T> group : groupByTable(schemaDotTable, list, shardKeyFunction).values()) {
+            result.addAll(query.apply(group));
+        }
+        return result;
+    }
+}
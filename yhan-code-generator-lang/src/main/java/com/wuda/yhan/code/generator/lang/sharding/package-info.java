@@ -0,0 +1,6 @@
+/**
+ * 水平分表.一个逻辑表,比如<code>`shop`.`order`</code>,对应多个结构相同的物理表,比如<code>`shop`.`order_00`</code>
+ * 到<code>`shop`.`order_63`</code>.生成代码时为表指定分片键所在的列,生成的sql builder在每次调用时
+ * 根据参数中分片键的值,通过{@link com.wuda.yhan.code.generator.lang.sharding.ShardingStrategy}得到物理表.
+ */
+package com.wuda.yhan.code.generator.lang.sharding;
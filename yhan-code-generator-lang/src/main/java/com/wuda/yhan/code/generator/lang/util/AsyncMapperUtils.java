@@ -0,0 +1,124 @@
+package com.wuda.yhan.code.generator.lang.util;
+
+import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.SqlSessionFactory;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * 异步执行mapper中的方法的工具类.
+ * 每次调用都在executor的线程中打开一个新的{@link SqlSession},执行完成后提交并关闭,
+ * 因为{@link SqlSession}不是线程安全的,不能在多个线程之间共享,也不能参与调用方的事务.
+ *
+ * @author wuda
+ */
+public class AsyncMapperUtils {
+
+    /**
+     * 配置默认线程池的线程数量的system property,只在不支持虚拟线程时使用.
+     */
+    public final static String POOL_SIZE_PROPERTY = "yhan.async.pool.size";
+
+    /**
+     * 默认线程池的队列长度,队列满了之后在调用方的线程中执行.
+     */
+    public final static int DEFAULT_QUEUE_CAPACITY = 1024;
+
+    /**
+     * 默认的executor,第一次使用时创建.
+     */
+    private static volatile ExecutorService defaultExecutor;
+
+    /**
+     * 默认的executor.JDK 21及以上版本使用虚拟线程,每个任务一个虚拟线程;
+     * 否则使用有界的线程池,线程数量由{@link #POOL_SIZE_PROPERTY}指定,默认是cpu核数的2倍,
+     * 通常应该和数据库连接池的大小一样.
+     *
+     * @return executor
+     */
+    public static ExecutorService defaultExecutor() {
+        ExecutorService executor = defaultExecutor;
+        if (executor == null) {
+            synchronized (AsyncMapperUtils.class) {
+                executor = defaultExecutor;
+                if (executor == null) {
+                    executor = newVirtualThreadExecutor();
+                    if (executor == null) {
+                        executor = newBoundedExecutor(Integer.getInteger(POOL_SIZE_PROPERTY, Runtime.getRuntime().availableProcessors() * 2));
+                    }
+                    defaultExecutor = executor;
+                }
+            }
+        }
+        return executor;
+    }
+
+    /**
+     * 在executor中打开一个新的{@link SqlSession},获取mapper并执行给定的function.
+     * function正常返回时提交,最后关闭session.
+     *
+     * @param sqlSessionFactory sql session factory
+     * @param mapperType        mapper的类型
+     * @param function          调用mapper中的方法,返回值不能是{@link org.apache.ibatis.cursor.Cursor}等依赖于session的对象
+     * @param executor          executor
+     * @param <M>               mapper的类型
+     * @param <R>               返回值的类型
+     * @return future
+     */
+    public static <M, R> CompletableFuture<R> supplyAsync(SqlSessionFactory sqlSessionFactory, Class<M> mapperType,
+                                                          Function<M, R> function, Executor executor) {
+        return CompletableFuture.supplyAsync(() -> {
+            try (SqlSession sqlSession = sqlSessionFactory.openSession()) {
+                R result = function.apply(sqlSession.getMapper(mapperType));
+                sqlSession.commit();
+                return result;
+            }
+        }, executor);
+    }
+
+    /**
+     * 通过反射调用{@code Executors.newVirtualThreadPerTaskExecutor()},这样在JDK 8下也可以编译.
+     *
+     * @return executor, 如果当前JDK不支持虚拟线程则返回null
+     */
+    private static ExecutorService newVirtualThreadExecutor() {
+        try {
+            Method method = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return (ExecutorService) method.invoke(null);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    /**
+     * 有界的线程池.
+     *
+     * @param poolSize 线程数量
+     * @return executor
+     */
+    private static ExecutorService newBoundedExecutor(int poolSize) {
+        if (poolSize <= 0) {
+            throw new IllegalArgumentException(POOL_SIZE_PROPERTY + "必须大于0,poolSize=" + poolSize);
+        }
+        AtomicInteger threadNumber = new AtomicInteger();
+        ThreadFactory threadFactory = runnable -> {
+            Thread thread = new Thread(runnable, "yhan-async-mapper-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(poolSize, poolSize, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(DEFAULT_QUEUE_CAPACITY), threadFactory, new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+}
@@ -0,0 +1,214 @@
+package com.wuda.yhan.code.generator.lang.util;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * 把多次根据key查询一条记录合并成一次批量查询,类似于DataLoader.
+ * {@link #load(Object)}只是把key放入队列并返回{@link CompletableFuture},满足以下任意一个条件时,
+ * 队列中的所有key通过一次批量查询完成:
+ * <ul>
+ * <li>队列中的key的数量达到<i>maxBatchSize</i></li>
+ * <li>第一个key放入队列之后经过了<i>maxDelay</i>,需要指定{@link ScheduledExecutorService}</li>
+ * <li>调用{@link #dispatch()}</li>
+ * </ul>
+ * 同一个key只查询一次,结果会一直保留在这个对象中,因此通常每个请求创建一个新的对象.
+ * 查询失败时这一批的key都以异常完成,之后再次加载时重新查询.
+ * 查询结果通过<i>keyFunction</i>返回的key的equals对应到每个key,数据库认为相等而equals不相等的key,
+ * 比如不区分大小写的collation中的'abc'和'ABC',对应不到记录,结果是null.
+ * 线程安全.
+ *
+ * @param <K> key的类型
+ * @param <V> 记录的类型
+ * @author wuda
+ */
+public class BatchLoader<K, V> {
+
+    /**
+     * 批量查询,返回的记录的顺序可以和key的顺序不一样,不存在的key可以没有对应的记录.
+     */
+    private final Function<List<K>, List<V>> batchFunction;
+
+    /**
+     * 从记录中获取key,用于把批量查询的结果对应到每个key.
+     */
+    private final Function<V, K> keyFunction;
+
+    /**
+     * 一次批量查询的最大key数量.
+     */
+    private final int maxBatchSize;
+
+    /**
+     * 第一个key放入队列之后最多等待多长时间,单位纳秒.
+     */
+    private final long maxDelayNanos;
+
+    /**
+     * 用于定时执行批量查询,null表示不定时执行.
+     */
+    private final ScheduledExecutorService scheduler;
+
+    /**
+     * 所有key对应的future,包括已经完成的.
+     */
+    private final Map<K, CompletableFuture<V>> futures = new HashMap<>();
+
+    /**
+     * 还没有执行查询的key.
+     */
+    private Map<K, CompletableFuture<V>> pending = new LinkedHashMap<>();
+
+    /**
+     * 构造只在达到<i>maxBatchSize</i>或者调用{@link #dispatch()}时执行查询的loader.
+     *
+     * @param batchFunction 批量查询
+     * @param keyFunction   从记录中获取key
+     * @param maxBatchSize  一次批量查询的最大key数量
+     */
+    public BatchLoader(Function<List<K>, List<V>> batchFunction, Function<V, K> keyFunction, int maxBatchSize) {
+        this(batchFunction, keyFunction, maxBatchSize, 0, TimeUnit.MILLISECONDS, null);
+    }
+
+    /**
+     * 构造loader.
+     *
+     * @param batchFunction 批量查询
+     * @param keyFunction   从记录中获取key
+     * @param maxBatchSize  一次批量查询的最大key数量,不会超过{@link SqlProviderUtils#MAX_IN_LIST_BUCKET_SIZE}
+     * @param maxDelay      第一个key放入队列之后最多等待多长时间
+     * @param unit          maxDelay的单位
+     * @param scheduler     用于定时执行批量查询,null表示不定时执行
+     */
+    public BatchLoader(Function<List<K>, List<V>> batchFunction, Function<V, K> keyFunction, int maxBatchSize,
+                       long maxDelay, TimeUnit unit, ScheduledExecutorService scheduler) {
+        if (maxBatchSize <= 0) {
+            throw new IllegalArgumentException("maxBatchSize必须大于0,maxBatchSize=" + maxBatchSize);
+        }
+        this.batchFunction = batchFunction;
+        this.keyFunction = keyFunction;
+        this.maxBatchSize = Math.min(maxBatchSize, SqlProviderUtils.MAX_IN_LIST_BUCKET_SIZE);
+        this.maxDelayNanos = unit.toNanos(maxDelay);
+        this.scheduler = scheduler;
+    }
+
+    /**
+     * 加载key对应的记录.
+     *
+     * @param key key,不能为null
+     * @return future, 记录不存在时结果为null
+     */
+    public CompletableFuture<V> load(K key) {
+        if (key == null) {
+            throw new NullPointerException("key不能为null");
+        }
+        Map<K, CompletableFuture<V>> batch = null;
+        CompletableFuture<V> future;
+        synchronized (this) {
+            future = futures.get(key);
+            if (future != null) {
+                return future;
+            }
+            future = new CompletableFuture<>();
+            futures.put(key, future);
+            pending.put(key, future);
+            if (pending.size() >= maxBatchSize) {
+                batch = takePending();
+            } else if (pending.size() == 1 && scheduler != null) {
+                scheduler.schedule(this::dispatch, maxDelayNanos, TimeUnit.NANOSECONDS);
+            }
+        }
+        if (batch != null) {
+            execute(batch);
+        }
+        return future;
+    }
+
+    /**
+     * 加载多个key对应的记录.
+     *
+     * @param keys keys
+     * @return future, 结果中记录的顺序和key的顺序一样, 不存在的记录是null
+     */
+    public CompletableFuture<List<V>> loadMany(List<K> keys) {
+        List<CompletableFuture<V>> list = new ArrayList<>(keys.size());
+        for (K key : keys) {
+            list.add(load(key));
+        }
+        return CompletableFuture.allOf(list.toArray(new CompletableFuture[0])).thenApply(ignore -> {
+            List<V> values = new ArrayList<>(list.size());
+            for (CompletableFuture<V> future : list) {
+                values.add(future.join());
+            }
+            return values;
+        });
+    }
+
+    /**
+     * 立即查询队列中所有的key,比如在等待结果之前.
+     */
+    public void dispatch() {
+        Map<K, CompletableFuture<V>> batch;
+        synchronized (this) {
+            if (pending.isEmpty()) {
+                return;
+            }
+            batch = takePending();
+        }
+        execute(batch);
+    }
+
+    /**
+     * 取出队列中所有的key.
+     *
+     * @return key和future
+     */
+    private Map<K, CompletableFuture<V>> takePending() {
+        Map<K, CompletableFuture<V>> batch = pending;
+        pending = new LinkedHashMap<>();
+        return batch;
+    }
+
+    /**
+     * 执行批量查询,完成每个key对应的future.
+     *
+     * @param batch key和future
+     */
+    private void execute(Map<K, CompletableFuture<V>> batch) {
+        List<V> values;
+        try {
+            values = batchFunction.apply(new ArrayList<>(batch.keySet()));
+        } catch (Throwable e) {
+            // 失败的key下次重新查询
+            synchronized (this) {
+                futures.keySet().removeAll(batch.keySet());
+            }
+            for (CompletableFuture<V> future : batch.values()) {
+                future.completeExceptionally(e);
+            }
+            return;
+        }
+        if (values != null) {
+            for (V value : values) {
+                if (value == null) {
+                    continue;
+                }
+                CompletableFuture<V> future = batch.get(keyFunction.apply(value));
+                if (future != null) {
+                    future.complete(value);
+                }
+            }
+        }
+        // 不存在的记录
+        for (CompletableFuture<V> future : batch.values()) {
+            future.complete(null);
+        }
+    }
+}
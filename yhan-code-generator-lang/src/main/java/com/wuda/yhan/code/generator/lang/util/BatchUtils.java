@@ -0,0 +1,365 @@
+package com.wuda.yhan.code.generator.lang.util;
+
+import com.wuda.yhan.code.generator.lang.TableEntity;
+import com.wuda.yhan.code.generator.lang.TableEntityAccessor;
+import org.apache.ibatis.executor.BatchResult;
+import org.apache.ibatis.session.ExecutorType;
+import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.SqlSessionFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.IntSupplier;
+import java.util.function.ToIntFunction;
+
+/**
+ * 批量操作的工具类.把一个大的list拆分成多批执行,避免一条语句超过mysql的
+ * <a href="https://dev.mysql.com/doc/refman/8.0/en/server-system-variables.html#sysvar_max_allowed_packet">max_allowed_packet</a>,
+ * 同时也避免一个过大的事务.
+ *
+ * @author wuda
+ */
+public class BatchUtils {
+
+    /**
+     * 配置单条语句最大字节数的system property.
+     */
+    public final static String MAX_STATEMENT_BYTES_PROPERTY = "yhan.batch.max.statement.bytes";
+
+    /**
+     * 单条语句默认的最大字节数,和mysql 5.7的max_allowed_packet默认值一样.
+     */
+    public final static long DEFAULT_MAX_STATEMENT_BYTES = 4L * 1024 * 1024;
+
+    /**
+     * 为语句中除了VALUES之外的部分预留的字节数,比如INSERT INTO table(columns).
+     */
+    public final static int STATEMENT_HEADER_BYTES = 1024;
+
+    /**
+     * 单条语句的最大字节数.
+     */
+    private static volatile long maxStatementBytes = Long.getLong(MAX_STATEMENT_BYTES_PROPERTY, DEFAULT_MAX_STATEMENT_BYTES);
+
+    /**
+     * 设置单条语句的最大字节数,应该小于数据库的max_allowed_packet.
+     *
+     * @param maxStatementBytes 最大字节数,必须大于0
+     */
+    public static void setMaxStatementBytes(long maxStatementBytes) {
+        if (maxStatementBytes <= 0) {
+            throw new RuntimeException("maxStatementBytes必须大于0");
+        }
+        BatchUtils.maxStatementBytes = maxStatementBytes;
+    }
+
+    /**
+     * 单条语句的最大字节数.
+     *
+     * @return 最大字节数
+     */
+    public static long getMaxStatementBytes() {
+        return maxStatementBytes;
+    }
+
+    /**
+     * 把list按照<i>chunkSize</i>拆分,每一批执行一次<i>action</i>.
+     * 每一批都是原list的{@link List#subList(int, int)},因此元素还是原来的对象,
+     * 比如insert之后数据库生成的主键会回填到原来的对象中.
+     *
+     * @param list      所有的记录
+     * @param chunkSize 每一批的记录数
+     * @param action    执行一批记录,返回影响的行数
+     * @param <T>       记录的类型
+     * @return 所有批次影响的行数之和, 如果list为空, 则返回0并且不执行<i>action</i>
+     */
+    public static <T> int executeInChunks(List<T> list, int chunkSize, ToIntFunction<List<T>> action) {
+        if (chunkSize <= 0) {
+            throw new RuntimeException("chunkSize必须大于0");
+        }
+        if (list == null || list.isEmpty()) {
+            return 0;
+        }
+        int size = list.size();
+        if (size <= chunkSize) {
+            return action.applyAsInt(list);
+        }
+        int affectedRows = 0;
+        for (int from = 0; from < size; from += chunkSize) {
+            int to = Math.min(from + chunkSize, size);
+            affectedRows += action.applyAsInt(list.subList(from, to));
+        }
+        return affectedRows;
+    }
+
+    /**
+     * 把list拆分成多批,每一批执行一次<i>action</i>.每一批的记录数不超过<i>chunkSize</i>,
+     * 并且根据每一行实际的值计算字节数,一批的字节数加上{@link #STATEMENT_HEADER_BYTES}不超过<i>maxStatementBytes</i>.
+     * 一行本身就超过<i>maxStatementBytes</i>时,这一行单独作为一批,由数据库决定是否能执行.
+     * 和{@link #executeInChunks(List, int, ToIntFunction)}一样,每一批都是原list的{@link List#subList(int, int)}.
+     *
+     * @param list              所有的记录
+     * @param chunkSize         每一批的最大记录数
+     * @param maxStatementBytes 单条语句的最大字节数
+     * @param rowBytes          一行在语句中占用的字节数,比如{@link #insertRowBytes(TableEntity)}
+     * @param action            执行一批记录,返回影响的行数
+     * @param <T>               记录的类型
+     * @return 所有批次影响的行数之和, 如果list为空, 则返回0并且不执行<i>action</i>
+     */
+    public static <T> int executeInChunks(List<T> list, int chunkSize, long maxStatementBytes,
+                                          ToIntFunction<? super T> rowBytes, ToIntFunction<List<T>> action) {
+        if (chunkSize <= 0) {
+            throw new RuntimeException("chunkSize必须大于0");
+        }
+        if (list == null || list.isEmpty()) {
+            return 0;
+        }
+        long budget = maxStatementBytes - STATEMENT_HEADER_BYTES;
+        int size = list.size();
+        int affectedRows = 0;
+        int from = 0;
+        long bytes = 0;
+        for (int i = 0; i < size; i++) {
+            long row = rowBytes.applyAsInt(list.get(i));
+            if (i > from && (i - from >= chunkSize || bytes + row > budget)) {
+                affectedRows += action.applyAsInt(list.subList(from, i));
+                from = i;
+                bytes = 0;
+            }
+            bytes += row;
+        }
+        affectedRows += action.applyAsInt(from == 0 ? list : list.subList(from, size));
+        return affectedRows;
+    }
+
+    /**
+     * 一行记录在multi-row insert语句的VALUES中占用的字节数,根据实际的值计算.mysql驱动默认在客户端把参数替换成字面量,
+     * 因此按照字面量计算:字符串按照UTF-8编码,加上引号和需要转义的字符;二进制数据按照最坏的情况,即每个字节都需要转义;
+     * 其他类型按照{@link String#valueOf(Object)}的长度.另外还包含每个值之间的逗号和一行的括号.
+     *
+     * @param entity 实体
+     * @return 字节数
+     */
+    public static int insertRowBytes(TableEntity entity) {
+        @SuppressWarnings("unchecked")
+        TableEntityAccessor<TableEntity> accessor = TableEntityUtils.getAccessor((Class<TableEntity>) entity.getClass());
+        int fields = accessor.fieldNames().length;
+        // 括号,值之间的逗号和行之间的逗号
+        int bytes = 2 + fields;
+        for (int i = 0; i < fields; i++) {
+            bytes += literalBytes(accessor.getValue(entity, i));
+        }
+        return bytes;
+    }
+
+    /**
+     * 一行记录在{@link SqlProviderUtils#batchUpdateStatement(String, List, String, String...)}生成的语句中占用的字节数,
+     * 根据实际的值计算,字面量的计算方式和{@link #insertRowBytes(TableEntity)}一样.这一行每个需要更新的列都在该列的CASE中
+     * 出现一次<code>WHEN 主键 THEN 值</code>,因此主键的值重复出现的次数等于需要更新的列数,另外主键还出现在IN条件中.
+     * 每个列的<code>col = CASE ... ELSE col END</code>和行数无关,不包含在内.
+     *
+     * @param entity     实体
+     * @param keyColumns 主键的列
+     * @return 字节数
+     */
+    public static int updateRowBytes(TableEntity entity, String... keyColumns) {
+        @SuppressWarnings("unchecked")
+        TableEntityAccessor<TableEntity> accessor = TableEntityUtils.getAccessor((Class<TableEntity>) entity.getClass());
+        String[] columnNames = accessor.columnNames();
+        long[] fieldMask = TableEntityUtils.fieldMask(entity);
+        boolean[] key = new boolean[columnNames.length];
+        int keyValueBytes = 0;
+        int whenBytes = 0;
+        for (String keyColumn : keyColumns) {
+            for (int i = 0; i < columnNames.length; i++) {
+                if (columnNames[i].equals(keyColumn)) {
+                    key[i] = true;
+                    int bytes = literalBytes(accessor.getValue(entity, i));
+                    keyValueBytes += bytes;
+                    // 复合主键时是col=值,之间是AND
+                    whenBytes += keyColumns.length == 1 ? bytes : keyColumn.length() + 1 + bytes;
+                    break;
+                }
+            }
+        }
+        if (keyColumns.length > 1) {
+            whenBytes += (keyColumns.length - 1) * 5;
+            // IN条件中的括号和逗号
+            keyValueBytes += keyColumns.length + 1;
+        }
+        // IN条件中的值和逗号
+        int bytes = keyValueBytes + 1;
+        for (int i = 0; i < columnNames.length; i++) {
+            if (!key[i] && (fieldMask[i >>> 6] & (1L << i)) != 0) {
+                // " WHEN " 主键 " THEN " 值
+                bytes += 12 + whenBytes + literalBytes(accessor.getValue(entity, i));
+            }
+        }
+        return bytes;
+    }
+
+    /**
+     * 值在sql语句中的字面量占用的字节数.
+     *
+     * @param value 值
+     * @return 字节数
+     */
+    static int literalBytes(Object value) {
+        if (value == null) {
+            return 4;
+        }
+        if (value instanceof CharSequence) {
+            return quotedStringBytes((CharSequence) value);
+        }
+        if (value instanceof byte[]) {
+            // _binary'...'
+            return ((byte[]) value).length * 2 + 10;
+        }
+        if (value instanceof Number || value instanceof Boolean) {
+            return String.valueOf(value).length();
+        }
+        // 日期,时间等,加上引号
+        return quotedStringBytes(String.valueOf(value));
+    }
+
+    /**
+     * 加上引号并且转义之后,字符串按照UTF-8编码的字节数.
+     *
+     * @param value 字符串
+     * @return 字节数
+     */
+    private static int quotedStringBytes(CharSequence value) {
+        int bytes = 2;
+        int length = value.length();
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if (c < 0x80) {
+                // 驱动会转义这些字符
+                bytes += c == '\'' || c == '"' || c == '\\' || c == '\n' || c == '\r' || c == 0 || c == 0x1a ? 2 : 1;
+            } else if (c < 0x800) {
+                bytes += 2;
+            } else if (Character.isHighSurrogate(c)) {
+                // 代理对一共4个字节
+                bytes += 2;
+            } else {
+                bytes += Character.isLowSurrogate(c) ? 2 : 3;
+            }
+        }
+        return bytes;
+    }
+
+    /**
+     * 把list按照<i>chunkSize</i>拆分,每一批执行一次查询,然后按照顺序合并所有的查询结果.
+     *
+     * @param list      所有的查询条件
+     * @param chunkSize 每一批的记录数
+     * @param query     执行一批查询
+     * @param <T>       查询条件的类型
+     * @param <R>       查询结果的类型
+     * @return 所有批次的查询结果, 如果list为空, 则返回空list并且不执行<i>query</i>
+     */
+    public static <T, R> List<R> selectInChunks(List<T> list, int chunkSize, Function<List<T>, List<R>> query) {
+        if (chunkSize <= 0) {
+            throw new RuntimeException("chunkSize必须大于0");
+        }
+        if (list == null || list.isEmpty()) {
+            return new ArrayList<>();
+        }
+        int size = list.size();
+        if (size <= chunkSize) {
+            return query.apply(list);
+        }
+        List<R> result = new ArrayList<>(size);
+        for (int from = 0; from < size; from += chunkSize) {
+            int to = Math.min(from + chunkSize, size);
+            List<R> chunkResult = query.apply(list.subList(from, to));
+            if (chunkResult != null) {
+                result.addAll(chunkResult);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 循环执行带有<code>LIMIT rowCount</code>的语句,直到某一次影响的行数小于<i>rowCount</i>,
+     * 比如分多次删除一个非唯一索引上的大量记录.如果没有外部事务,每一次执行都是一个单独的事务,
+     * 因此锁和undo log的大小都被限制在<i>rowCount</i>行之内.
+     *
+     * @param rowCount 每一次执行最多影响的行数,即LIMIT
+     * @param action   执行一次带有LIMIT的语句,返回影响的行数
+     * @return 所有次数影响的行数之和
+     */
+    public static int executeRolling(int rowCount, IntSupplier action) {
+        if (rowCount <= 0) {
+            throw new RuntimeException("rowCount必须大于0");
+        }
+        int affectedRows = 0;
+        int rows;
+        do {
+            rows = action.getAsInt();
+            affectedRows += rows;
+        } while (rows >= rowCount);
+        return affectedRows;
+    }
+
+    /**
+     * 使用{@link ExecutorType#BATCH}执行,即JDBC batch.每一条记录调用一次<i>action</i>,比如
+     * <code>(mapper, entity) -&gt; mapper.updateByPrimaryKey(entity.getId(), entity)</code>,
+     * 连续的相同sql复用同一个{@link java.sql.PreparedStatement},每<i>flushSize</i>条记录发送一次.
+     * 和一条语句更新多行相比,每一行的sql都很简单,但是每一行还是一次单独的执行;
+     * 如果jdbc url中设置了<code>rewriteBatchedStatements=true</code>,mysql驱动会把多条语句合并发送.
+     * 在一个新的{@link SqlSession}中执行,全部成功后commit.
+     *
+     * @param sqlSessionFactory sql session factory
+     * @param mapperType        mapper class
+     * @param list              所有的记录
+     * @param flushSize         每多少条记录调用一次{@link SqlSession#flushStatements()}
+     * @param action            对一条记录调用mapper方法
+     * @param <M>               mapper的类型
+     * @param <T>               记录的类型
+     * @return 所有语句影响的行数之和, 驱动没有返回行数({@link java.sql.Statement#SUCCESS_NO_INFO})的语句不计算在内
+     */
+    public static <M, T> int executeBatch(SqlSessionFactory sqlSessionFactory, Class<M> mapperType, List<T> list,
+                                          int flushSize, BiConsumer<M, T> action) {
+        if (flushSize <= 0) {
+            throw new RuntimeException("flushSize必须大于0");
+        }
+        if (list == null || list.isEmpty()) {
+            return 0;
+        }
+        try (SqlSession sqlSession = sqlSessionFactory.openSession(ExecutorType.BATCH, false)) {
+            M mapper = sqlSession.getMapper(mapperType);
+            int affectedRows = 0;
+            int size = list.size();
+            for (int i = 0; i < size; i++) {
+                action.accept(mapper, list.get(i));
+                if ((i + 1) % flushSize == 0 && i + 1 < size) {
+                    affectedRows += affectedRows(sqlSession.flushStatements());
+                }
+            }
+            affectedRows += affectedRows(sqlSession.flushStatements());
+            sqlSession.commit();
+            return affectedRows;
+        }
+    }
+
+    /**
+     * batch执行结果中影响的行数之和.
+     *
+     * @param batchResults {@link SqlSession#flushStatements()}的返回值
+     * @return 影响的行数
+     */
+    private static int affectedRows(List<BatchResult> batchResults) {
+        int affectedRows = 0;
+        for (BatchResult batchResult : batchResults) {
+            for (int updateCount : batchResult.getUpdateCounts()) {
+                if (updateCount > 0) {
+                    affectedRows += updateCount;
+                }
+            }
+        }
+        return affectedRows;
+    }
+}
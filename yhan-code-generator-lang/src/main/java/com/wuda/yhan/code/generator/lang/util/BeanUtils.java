@@ -3,12 +3,21 @@ package com.wuda.yhan.code.generator.lang.util;
 import com.wuda.yhan.code.generator.lang.PojoFieldInfo;
 
 import java.lang.annotation.Annotation;
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
 
 /**
  * bean utils.
@@ -17,6 +26,22 @@ import java.util.Set;
  */
 public class BeanUtils {
 
+    /**
+     * 用于绑定get/set方法.
+     */
+    private final static MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+    /**
+     * 每个class的属性的get/set方法,key是属性名称.只在第一次访问时查找和绑定,之后直接使用.
+     */
+    private final static ClassValue<ConcurrentMap<String, PropertyAccessor>> PROPERTY_CACHE =
+            new ClassValue<ConcurrentMap<String, PropertyAccessor>>() {
+                @Override
+                protected ConcurrentMap<String, PropertyAccessor> computeValue(Class<?> type) {
+                    return new ConcurrentHashMap<>();
+                }
+            };
+
     /**
      * 注解包含策略.
      *
@@ -63,19 +88,19 @@ public class BeanUtils {
                     continue;
                 }
             }
-            String fieldName = field.getName();
-            Method getter = getter(clazz, fieldName);
-            if (getter == null && mustHasGetter) {
+            PropertyAccessor property = property(clazz, field.getName());
+            if (property.getter == null && mustHasGetter) {
                 continue;
             }
-            Method setter = setter(clazz, fieldName);
-            if (setter == null && mustHasSetter) {
+            if (property.setter == null && mustHasSetter) {
                 continue;
             }
             PojoFieldInfo pojoFieldInfo = new PojoFieldInfo();
             pojoFieldInfo.setField(field);
-            pojoFieldInfo.setGetter(getter);
-            pojoFieldInfo.setSetter(setter);
+            pojoFieldInfo.setGetter(property.getter);
+            pojoFieldInfo.setSetter(property.setter);
+            pojoFieldInfo.setGetterFunction(property.getterFunction);
+            pojoFieldInfo.setSetterFunction(property.setterFunction);
             pojoFieldInfo.setAnnotations(annotations);
             list.add(pojoFieldInfo);
         }
@@ -90,14 +115,31 @@ public class BeanUtils {
      * @return get方法, 如果没有该属性, 或者该属性没有get方法, 则返回null.
      */
     public static Method getter(Class<?> clazz, String fieldName) {
-        String getterName = JavaNamingUtils.genGetterMethodName(fieldName);
-        Method getter;
-        try {
-            getter = clazz.getMethod(getterName);
-        } catch (NoSuchMethodException e) {
-            getter = null;
-        }
-        return getter;
+        return property(clazz, fieldName).getter;
+    }
+
+    /**
+     * 返回属性的get方法绑定后的{@link Function},参数是java bean,返回值是属性的值.
+     * 通过{@link LambdaMetafactory}绑定,调用的性能和直接调用get方法接近.
+     *
+     * @param clazz     clazz
+     * @param fieldName 属性名称
+     * @return function, 如果没有该属性, 或者该属性没有get方法, 则返回null.
+     */
+    public static Function<Object, Object> getterFunction(Class<?> clazz, String fieldName) {
+        return property(clazz, fieldName).getterFunction;
+    }
+
+    /**
+     * 返回属性的set方法绑定后的{@link BiConsumer},第一个参数是java bean,第二个参数是属性的值.
+     * 通过{@link LambdaMetafactory}绑定,调用的性能和直接调用set方法接近.
+     *
+     * @param clazz     clazz
+     * @param fieldName 属性名称
+     * @return consumer, 如果没有该属性, 或者该属性没有set方法, 则返回null.
+     */
+    public static BiConsumer<Object, Object> setterFunction(Class<?> clazz, String fieldName) {
+        return property(clazz, fieldName).setterFunction;
     }
 
     /**
@@ -108,11 +150,26 @@ public class BeanUtils {
      * @return 属性值
      */
     public static Object getValue(Object bean, String fieldName) {
-        Method getter = getter(bean.getClass(), fieldName);
+        Function<Object, Object> getter = getterFunction(bean.getClass(), fieldName);
         if (getter == null) {
             throw new RuntimeException(bean.getClass().getCanonicalName() + ",field=" + fieldName + ",没有getter");
         }
-        return getValue(bean, getter);
+        return getter.apply(bean);
+    }
+
+    /**
+     * 设置java bean中属性的值.
+     *
+     * @param bean      java bean
+     * @param fieldName 属性
+     * @param value     属性值
+     */
+    public static void setValue(Object bean, String fieldName, Object value) {
+        BiConsumer<Object, Object> setter = setterFunction(bean.getClass(), fieldName);
+        if (setter == null) {
+            throw new RuntimeException(bean.getClass().getCanonicalName() + ",field=" + fieldName + ",没有setter");
+        }
+        setter.accept(bean, value);
     }
 
     /**
@@ -138,15 +195,168 @@ public class BeanUtils {
      * @return set方法, 如果没有该属性, 或者该属性没有set方法, 则返回null.
      */
     public static Method setter(Class<?> clazz, String fieldName) {
-        Method setter;
+        return property(clazz, fieldName).setter;
+    }
+
+    /**
+     * 从缓存中获取属性的描述,如果没有则查找get/set方法并绑定.
+     *
+     * @param clazz     clazz
+     * @param fieldName 属性名称
+     * @return 属性描述, 不会为null
+     */
+    private static PropertyAccessor property(Class<?> clazz, String fieldName) {
+        return PROPERTY_CACHE.get(clazz).computeIfAbsent(fieldName, name -> new PropertyAccessor(clazz, name));
+    }
+
+    /**
+     * 查找属性的get方法.
+     *
+     * @param clazz     clazz
+     * @param fieldName 属性名称
+     * @return get方法, 如果没有则返回null
+     */
+    private static Method findGetter(Class<?> clazz, String fieldName) {
+        String getterName = JavaNamingUtils.genGetterMethodName(fieldName);
+        try {
+            return clazz.getMethod(getterName);
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+
+    /**
+     * 查找属性的set方法.
+     *
+     * @param clazz     clazz
+     * @param fieldName 属性名称
+     * @return set方法, 如果没有则返回null
+     */
+    private static Method findSetter(Class<?> clazz, String fieldName) {
         try {
             Field field = clazz.getDeclaredField(fieldName);
             String setterName = JavaNamingUtils.genSetterMethodName(fieldName);
-            setter = clazz.getMethod(setterName, field.getType());
+            return clazz.getMethod(setterName, field.getType());
         } catch (NoSuchFieldException | NoSuchMethodException e) {
-            setter = null;
+            return null;
+        }
+    }
+
+    /**
+     * 把get方法绑定成{@link Function}.优先使用{@link LambdaMetafactory}生成实现类,
+     * 如果不能生成(比如class不可访问),则使用{@link MethodHandle},最后使用反射.
+     *
+     * @param getter get方法
+     * @return function
+     */
+    @SuppressWarnings("unchecked")
+    private static Function<Object, Object> bindGetter(Method getter) {
+        MethodHandle handle;
+        try {
+            handle = LOOKUP.unreflect(getter);
+        } catch (IllegalAccessException e) {
+            return bean -> getValue(bean, getter);
+        }
+        if (visible(getter.getDeclaringClass())) {
+            try {
+                CallSite callSite = LambdaMetafactory.metafactory(LOOKUP, "apply",
+                        MethodType.methodType(Function.class),
+                        MethodType.methodType(Object.class, Object.class),
+                        handle,
+                        handle.type().wrap());
+                return (Function<Object, Object>) callSite.getTarget().invokeExact();
+            } catch (Throwable e) {
+                // 使用MethodHandle
+            }
+        }
+        MethodHandle genericHandle = handle.asType(MethodType.methodType(Object.class, Object.class));
+        return bean -> {
+            try {
+                return genericHandle.invokeExact(bean);
+            } catch (Throwable e) {
+                throw new RuntimeException(e);
+            }
+        };
+    }
+
+    /**
+     * 把set方法绑定成{@link BiConsumer}.优先使用{@link LambdaMetafactory}生成实现类,
+     * 如果不能生成(比如class不可访问),则使用{@link MethodHandle},最后使用反射.
+     *
+     * @param setter set方法
+     * @return consumer
+     */
+    @SuppressWarnings("unchecked")
+    private static BiConsumer<Object, Object> bindSetter(Method setter) {
+        MethodHandle handle;
+        try {
+            handle = LOOKUP.unreflect(setter);
+        } catch (IllegalAccessException e) {
+            return (bean, value) -> {
+                try {
+                    setter.invoke(bean, value);
+                } catch (Exception ex) {
+                    throw new RuntimeException(ex);
+                }
+            };
+        }
+        Class<?> parameterType = setter.getParameterTypes()[0];
+        if (visible(setter.getDeclaringClass()) && visible(parameterType)) {
+            try {
+                CallSite callSite = LambdaMetafactory.metafactory(LOOKUP, "accept",
+                        MethodType.methodType(BiConsumer.class),
+                        MethodType.methodType(void.class, Object.class, Object.class),
+                        handle,
+                        MethodType.methodType(void.class, setter.getDeclaringClass(), MethodType.methodType(parameterType).wrap().returnType()));
+                return (BiConsumer<Object, Object>) callSite.getTarget().invokeExact();
+            } catch (Throwable e) {
+                // 使用MethodHandle
+            }
+        }
+        MethodHandle genericHandle = handle.asType(MethodType.methodType(void.class, Object.class, Object.class));
+        return (bean, value) -> {
+            try {
+                genericHandle.invokeExact(bean, value);
+            } catch (Throwable e) {
+                throw new RuntimeException(e);
+            }
+        };
+    }
+
+    /**
+     * {@link LambdaMetafactory}生成的类由{@link BeanUtils}的class loader加载,
+     * 因此只有从这个class loader能够找到的类才能使用.
+     *
+     * @param type class
+     * @return true-如果可见
+     */
+    private static boolean visible(Class<?> type) {
+        if (type.isPrimitive()) {
+            return true;
+        }
+        try {
+            return Class.forName(type.getName(), false, BeanUtils.class.getClassLoader()) == type;
+        } catch (ClassNotFoundException e) {
+            return false;
+        }
+    }
+
+    /**
+     * 属性的get/set方法,以及绑定后的{@link Function}/{@link BiConsumer}.
+     */
+    private static final class PropertyAccessor {
+
+        private final Method getter;
+        private final Method setter;
+        private final Function<Object, Object> getterFunction;
+        private final BiConsumer<Object, Object> setterFunction;
+
+        PropertyAccessor(Class<?> clazz, String fieldName) {
+            this.getter = findGetter(clazz, fieldName);
+            this.setter = findSetter(clazz, fieldName);
+            this.getterFunction = getter == null ? null : bindGetter(getter);
+            this.setterFunction = setter == null ? null : bindSetter(setter);
         }
-        return setter;
     }
 
     public static <T extends Annotation> List<Annotation> getAnnotations(Field field, Set<Class<T>> annotationClassSet,
@@ -0,0 +1,249 @@
+package com.wuda.yhan.code.generator.lang.util;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * 有容量上限的线程安全LRU缓存.
+ * 内部按key的hash分成多个segment,每个segment是一个access-order的{@link LinkedHashMap},
+ * 各自加锁并各自淘汰最久未被访问的元素,从而降低并发访问时的锁竞争.
+ * 因为是按segment淘汰,所以LRU是近似的,但是总容量不会超过给定的上限.
+ *
+ * @param <K> key的类型
+ * @param <V> value的类型
+ * @author wuda
+ */
+public class ConcurrentLruCache<K, V> {
+
+    /**
+     * 默认的segment数量.
+     */
+    private final static int DEFAULT_CONCURRENCY_LEVEL = 16;
+
+    /**
+     * 缓存的容量上限.
+     */
+    private final int capacity;
+
+    /**
+     * segments,数量一定是2的n次方.
+     */
+    private final Segment<K, V>[] segments;
+
+    /**
+     * 用于定位segment.
+     */
+    private final int segmentMask;
+
+    /**
+     * 构造缓存.
+     *
+     * @param capacity 容量上限,必须大于0
+     */
+    public ConcurrentLruCache(int capacity) {
+        this(capacity, DEFAULT_CONCURRENCY_LEVEL);
+    }
+
+    /**
+     * 构造缓存.
+     *
+     * @param capacity         容量上限,必须大于0
+     * @param concurrencyLevel 预估的并发访问线程数,用于决定segment的数量
+     */
+    @SuppressWarnings("unchecked")
+    public ConcurrentLruCache(int capacity, int concurrencyLevel) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity必须大于0,capacity=" + capacity);
+        }
+        if (concurrencyLevel <= 0) {
+            throw new IllegalArgumentException("concurrencyLevel必须大于0,concurrencyLevel=" + concurrencyLevel);
+        }
+        this.capacity = capacity;
+        // segment数量不超过容量,否则每个segment的容量会是0
+        int segmentCount = 1;
+        while (segmentCount < concurrencyLevel && segmentCount * 2 <= capacity) {
+            segmentCount <<= 1;
+        }
+        this.segmentMask = segmentCount - 1;
+        this.segments = new Segment[segmentCount];
+        int segmentCapacity = capacity / segmentCount;
+        int remainder = capacity % segmentCount;
+        for (int i = 0; i < segmentCount; i++) {
+            // 余数分摊到前面的segment,保证总容量正好是capacity
+            segments[i] = new Segment<>(i < remainder ? segmentCapacity + 1 : segmentCapacity);
+        }
+    }
+
+    /**
+     * 获取缓存的值.
+     *
+     * @param key key
+     * @return value, 如果不存在则返回null
+     */
+    public V get(K key) {
+        Segment<K, V> segment = segmentFor(key);
+        synchronized (segment) {
+            return segment.get(key);
+        }
+    }
+
+    /**
+     * 获取缓存的值,如果不存在,则用给定的function生成值并放入缓存.
+     * function在锁外执行,因此并发时同一个key的值可能被生成多次,但是只有第一个放入缓存的值会被保留并返回.
+     *
+     * @param key             key
+     * @param mappingFunction 生成value的function,不能返回null
+     * @return 缓存中的值
+     */
+    public V computeIfAbsent(K key, Function<? super K, ? extends V> mappingFunction) {
+        Segment<K, V> segment = segmentFor(key);
+        V value;
+        synchronized (segment) {
+            value = segment.get(key);
+        }
+        if (value != null) {
+            return value;
+        }
+        V newValue = mappingFunction.apply(key);
+        if (newValue == null) {
+            throw new NullPointerException("mappingFunction返回了null,key=" + key);
+        }
+        synchronized (segment) {
+            value = segment.putIfAbsent(key, newValue);
+        }
+        return value != null ? value : newValue;
+    }
+
+    /**
+     * 放入缓存.
+     *
+     * @param key   key
+     * @param value value,不能为null
+     */
+    public void put(K key, V value) {
+        if (value == null) {
+            throw new NullPointerException("value不能为null,key=" + key);
+        }
+        Segment<K, V> segment = segmentFor(key);
+        synchronized (segment) {
+            segment.put(key, value);
+        }
+    }
+
+    /**
+     * 在segment的锁内根据旧值计算新值,和判断条件再放入缓存的操作是原子的.
+     * function在锁内执行,因此不能耗时,也不能再访问这个缓存.
+     *
+     * @param key               key
+     * @param remappingFunction 参数是key和旧值(不存在时为null),返回新值,返回null表示删除
+     * @return 新值
+     */
+    public V compute(K key, BiFunction<? super K, ? super V, ? extends V> remappingFunction) {
+        Segment<K, V> segment = segmentFor(key);
+        synchronized (segment) {
+            V newValue = remappingFunction.apply(key, segment.get(key));
+            if (newValue == null) {
+                segment.remove(key);
+            } else {
+                segment.put(key, newValue);
+            }
+            return newValue;
+        }
+    }
+
+    /**
+     * 删除缓存.
+     *
+     * @param key key
+     * @return 被删除的值, 如果不存在则返回null
+     */
+    public V remove(K key) {
+        Segment<K, V> segment = segmentFor(key);
+        synchronized (segment) {
+            return segment.remove(key);
+        }
+    }
+
+    /**
+     * 清空缓存.
+     */
+    public void clear() {
+        for (Segment<K, V> segment : segments) {
+            synchronized (segment) {
+                segment.clear();
+            }
+        }
+    }
+
+    /**
+     * 当前缓存的元素数量.
+     *
+     * @return size
+     */
+    public int size() {
+        int size = 0;
+        for (Segment<K, V> segment : segments) {
+            synchronized (segment) {
+                size += segment.size();
+            }
+        }
+        return size;
+    }
+
+    /**
+     * 当前缓存的所有值的快照,不改变元素的访问顺序.
+     *
+     * @return values
+     */
+    public List<V> values() {
+        List<V> values = new ArrayList<>();
+        for (Segment<K, V> segment : segments) {
+            synchronized (segment) {
+                values.addAll(segment.values());
+            }
+        }
+        return values;
+    }
+
+    /**
+     * 容量上限.
+     *
+     * @return capacity
+     */
+    public int capacity() {
+        return capacity;
+    }
+
+    private Segment<K, V> segmentFor(Object key) {
+        int h = key.hashCode();
+        h ^= (h >>> 16);
+        return segments[h & segmentMask];
+    }
+
+    /**
+     * access-order的{@link LinkedHashMap},超过容量时淘汰最久未被访问的元素.
+     */
+    private static final class Segment<K, V> extends LinkedHashMap<K, V> {
+
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * 此segment的容量.
+         */
+        private final int maxSize;
+
+        Segment(int maxSize) {
+            super(16, 0.75f, true);
+            this.maxSize = maxSize;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+            return size() > maxSize;
+        }
+    }
+}
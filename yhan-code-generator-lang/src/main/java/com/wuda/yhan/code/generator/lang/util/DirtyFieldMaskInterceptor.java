@@ -0,0 +1,125 @@
+package com.wuda.yhan.code.generator.lang.util;
+
+import com.wuda.yhan.code.generator.lang.TableEntity;
+import org.apache.ibatis.cursor.Cursor;
+import org.apache.ibatis.executor.resultset.ResultSetHandler;
+import org.apache.ibatis.plugin.Interceptor;
+import org.apache.ibatis.plugin.Intercepts;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.plugin.Plugin;
+import org.apache.ibatis.plugin.Signature;
+
+import java.io.IOException;
+import java.sql.Statement;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Properties;
+
+/**
+ * mybatis通过set方法填充查询结果,跟踪set方法调用的实体查询出来之后所有的属性都被标记为dirty,
+ * 如果直接用来update,所有的列都会被写回.这个插件在结果映射完成之后调用{@link TableEntity#clearDirtyFieldMask()},
+ * 这样查询出来的实体只有之后调用过set方法的属性才会被update.
+ * <p>
+ * 支持返回list的查询和返回{@link Cursor}的查询,使用自定义的{@link org.apache.ibatis.session.ResultHandler}时,
+ * 结果在交给handler之前还没有被清除,需要调用方自己调用{@link TableEntity#clearDirtyFieldMask()}.
+ *
+ * @author wuda
+ */
+@Intercepts({
+        @Signature(type = ResultSetHandler.class, method = "handleResultSets", args = {Statement.class}),
+        @Signature(type = ResultSetHandler.class, method = "handleCursorResultSets", args = {Statement.class})
+})
+public class DirtyFieldMaskInterceptor implements Interceptor {
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Object intercept(Invocation invocation) throws Throwable {
+        Object result = invocation.proceed();
+        if (result instanceof List) {
+            clear((List<Object>) result);
+        } else if (result instanceof Cursor) {
+            return new ClearingCursor<>((Cursor<Object>) result);
+        }
+        return result;
+    }
+
+    @Override
+    public Object plugin(Object target) {
+        return Plugin.wrap(target, this);
+    }
+
+    @Override
+    public void setProperties(Properties properties) {
+    }
+
+    /**
+     * 清除结果中所有实体的dirty标记.多个结果集时,list中的元素是每个结果集的list.
+     *
+     * @param list 结果
+     */
+    @SuppressWarnings("unchecked")
+    private static void clear(List<Object> list) {
+        for (Object element : list) {
+            if (element instanceof TableEntity) {
+                ((TableEntity) element).clearDirtyFieldMask();
+            } else if (element instanceof List) {
+                clear((List<Object>) element);
+            }
+        }
+    }
+
+    /**
+     * 在遍历时清除实体的dirty标记.
+     *
+     * @param <T> 元素的类型
+     */
+    private static class ClearingCursor<T> implements Cursor<T> {
+
+        private final Cursor<T> delegate;
+
+        ClearingCursor(Cursor<T> delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public boolean isOpen() {
+            return delegate.isOpen();
+        }
+
+        @Override
+        public boolean isConsumed() {
+            return delegate.isConsumed();
+        }
+
+        @Override
+        public int getCurrentIndex() {
+            return delegate.getCurrentIndex();
+        }
+
+        @Override
+        public void close() throws IOException {
+            delegate.close();
+        }
+
+        @Override
+        public Iterator<T> iterator() {
+            Iterator<T> iterator = delegate.iterator();
+            return new Iterator<T>() {
+
+                @Override
+                public boolean hasNext() {
+                    return iterator.hasNext();
+                }
+
+                @Override
+                public T next() {
+                    T element = iterator.next();
+                    if (element instanceof TableEntity) {
+                        ((TableEntity) element).clearDirtyFieldMask();
+                    }
+                    return element;
+                }
+            };
+        }
+    }
+}
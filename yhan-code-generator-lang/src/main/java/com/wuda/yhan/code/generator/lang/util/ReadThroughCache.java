@@ -0,0 +1,257 @@
+package com.wuda.yhan.code.generator.lang.util;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 进程内的read-through缓存,用于缓存根据主键或者唯一索引查询到的记录.
+ * 基于{@link ConcurrentLruCache},有容量上限,可选的过期时间.
+ * <p>
+ * 同一个key(即主键或者唯一索引的值)下可以缓存多个<i>variant</i>,比如查询时指定的不同的返回列,
+ * {@link #invalidate(Object)}会删除这个key下所有的variant.
+ * <p>
+ * 如果在加载记录的过程中发生了{@link #invalidate(Object)}或者{@link #invalidateAll()},
+ * 则加载到的记录不会放入缓存,避免把更新之前读到的旧记录放入缓存.
+ * 查询结果为null的记录不会被缓存.
+ * <p>
+ * 在事务中修改记录时,删除缓存发生在事务提交之前,提交之前其他线程仍然会读到旧的记录并放入缓存.
+ * 因此设置了{@link #setAfterCommitExecutor(Executor)}时,每次删除都会在事务提交之后再执行一次;
+ * 否则只能依靠过期时间,所以没有设置时不能构造不过期的缓存.
+ *
+ * @param <V> 缓存的记录的类型
+ * @author wuda
+ */
+public class ReadThroughCache<V> {
+
+    /**
+     * 每个key下最多缓存的variant数量,超过时淘汰最早放入的.
+     */
+    private final static int MAX_VARIANTS_PER_KEY = 8;
+
+    /**
+     * 在当前事务提交之后执行给定的action,参考{@link #setAfterCommitExecutor(Executor)}.
+     */
+    private static volatile Executor afterCommitExecutor;
+
+    /**
+     * key是主键或者唯一索引的值.
+     */
+    private final ConcurrentLruCache<Object, Entry> cache;
+
+    /**
+     * 过期时间,单位纳秒,0表示不过期.
+     */
+    private final long ttlNanos;
+
+    /**
+     * 每次invalidate都会加1,加载记录之前和放入缓存时的值不同,说明期间记录可能被修改了.
+     */
+    private final AtomicLong generation = new AtomicLong();
+
+    /**
+     * 构造不过期的缓存,需要先设置{@link #setAfterCommitExecutor(Executor)}.
+     *
+     * @param capacity 最多缓存的key的数量
+     */
+    public ReadThroughCache(int capacity) {
+        this(capacity, 0, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 构造缓存.
+     *
+     * @param capacity 最多缓存的key的数量
+     * @param ttl      放入缓存之后多长时间过期,0表示不过期,需要先设置{@link #setAfterCommitExecutor(Executor)}
+     * @param unit     ttl的单位
+     */
+    public ReadThroughCache(int capacity, long ttl, TimeUnit unit) {
+        if (ttl < 0) {
+            throw new IllegalArgumentException("ttl不能小于0,ttl=" + ttl);
+        }
+        if (ttl == 0 && afterCommitExecutor == null) {
+            throw new IllegalArgumentException("没有通过setAfterCommitExecutor设置事务提交之后删除缓存时,必须指定过期时间,"
+                    + "否则事务提交之前被其他线程放入缓存的旧记录永远不会被删除");
+        }
+        this.cache = new ConcurrentLruCache<>(capacity);
+        this.ttlNanos = unit.toNanos(ttl);
+    }
+
+    /**
+     * 设置在当前事务提交之后执行action的{@link Executor},所有缓存共用.设置之后,{@link #invalidate(Object)}和
+     * {@link #invalidateAll()}除了立即删除缓存,还会通过这个executor在事务提交之后再删除一次.
+     * 没有事务时executor应该立即执行action.比如使用spring时:
+     * <pre>
+     * ReadThroughCache.setAfterCommitExecutor(action -&gt; {
+     *     if (TransactionSynchronizationManager.isSynchronizationActive()) {
+     *         TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+     *             public void afterCompletion(int status) {
+     *                 action.run();
+     *             }
+     *         });
+     *     } else {
+     *         action.run();
+     *     }
+     * });
+     * </pre>
+     * 必须在构造不过期的缓存之前设置.
+     *
+     * @param executor 在当前事务提交之后执行action,null表示不在事务提交之后再删除
+     */
+    public static void setAfterCommitExecutor(Executor executor) {
+        afterCommitExecutor = executor;
+    }
+
+    /**
+     * 把多个列的值组成一个key.一个列时就是这个列的值本身.
+     *
+     * @param values 主键或者唯一索引中每个列的值
+     * @return key
+     */
+    public static Object key(Object... values) {
+        return values.length == 1 ? values[0] : Arrays.asList(values);
+    }
+
+    /**
+     * 从缓存中获取记录,如果不存在或者已经过期,则用<i>loader</i>加载并放入缓存.
+     *
+     * @param key     主键或者唯一索引的值,参考{@link #key(Object...)}
+     * @param variant 同一个key下的不同版本,比如查询时指定的返回列
+     * @param loader  从数据库加载记录
+     * @return 记录, 如果不存在则返回null
+     */
+    public V get(Object key, Object variant, Supplier<V> loader) {
+        if (key == null) {
+            return loader.get();
+        }
+        Entry entry = cache.get(key);
+        if (entry != null) {
+            V value = entry.get(variant, System.nanoTime());
+            if (value != null) {
+                return value;
+            }
+        }
+        long expectedGeneration = generation.get();
+        V value = loader.get();
+        if (value != null) {
+            long expireAt = ttlNanos == 0 ? 0 : System.nanoTime() + ttlNanos;
+            cache.compute(key, (k, old) -> {
+                if (generation.get() != expectedGeneration) {
+                    return old;
+                }
+                return old == null ? new Entry(variant, value, expireAt) : old.with(variant, value, expireAt);
+            });
+        }
+        return value;
+    }
+
+    /**
+     * 删除key对应的所有variant.
+     *
+     * @param key 主键或者唯一索引的值,参考{@link #key(Object...)}
+     */
+    public void invalidate(Object key) {
+        doInvalidate(key);
+        Executor executor = afterCommitExecutor;
+        if (executor != null) {
+            executor.execute(() -> doInvalidate(key));
+        }
+    }
+
+    /**
+     * 删除所有缓存.
+     */
+    public void invalidateAll() {
+        doInvalidateAll();
+        Executor executor = afterCommitExecutor;
+        if (executor != null) {
+            executor.execute(this::doInvalidateAll);
+        }
+    }
+
+    private void doInvalidate(Object key) {
+        generation.incrementAndGet();
+        if (key != null) {
+            cache.remove(key);
+        }
+    }
+
+    private void doInvalidateAll() {
+        generation.incrementAndGet();
+        cache.clear();
+    }
+
+    /**
+     * 当前缓存的key的数量.
+     *
+     * @return size
+     */
+    public int size() {
+        return cache.size();
+    }
+
+    /**
+     * 一个key下的所有variant,不可变,修改时复制.
+     */
+    private static final class Entry {
+
+        private final Object[] variants;
+        private final Object[] values;
+        /**
+         * 过期的{@link System#nanoTime()},0表示不过期.
+         */
+        private final long[] expireAt;
+
+        Entry(Object variant, Object value, long expireAt) {
+            this(new Object[]{variant}, new Object[]{value}, new long[]{expireAt});
+        }
+
+        private Entry(Object[] variants, Object[] values, long[] expireAt) {
+            this.variants = variants;
+            this.values = values;
+            this.expireAt = expireAt;
+        }
+
+        @SuppressWarnings("unchecked")
+        <V> V get(Object variant, long now) {
+            for (int i = 0; i < variants.length; i++) {
+                if (Objects.equals(variants[i], variant)) {
+                    if (expireAt[i] != 0 && now - expireAt[i] >= 0) {
+                        return null;
+                    }
+                    return (V) values[i];
+                }
+            }
+            return null;
+        }
+
+        Entry with(Object variant, Object value, long expireAt) {
+            int length = variants.length;
+            for (int i = 0; i < length; i++) {
+                if (Objects.equals(variants[i], variant)) {
+                    Object[] newValues = values.clone();
+                    long[] newExpireAt = this.expireAt.clone();
+                    newValues[i] = value;
+                    newExpireAt[i] = expireAt;
+                    return new Entry(variants, newValues, newExpireAt);
+                }
+            }
+            // 超过上限时丢弃最早放入的variant
+            int from = length >= MAX_VARIANTS_PER_KEY ? 1 : 0;
+            int newLength = length - from + 1;
+            Object[] newVariants = new Object[newLength];
+            Object[] newValues = new Object[newLength];
+            long[] newExpireAt = new long[newLength];
+            System.arraycopy(variants, from, newVariants, 0, length - from);
+            System.arraycopy(values, from, newValues, 0, length - from);
+            System.arraycopy(this.expireAt, from, newExpireAt, 0, length - from);
+            newVariants[newLength - 1] = variant;
+            newValues[newLength - 1] = value;
+            newExpireAt[newLength - 1] = expireAt;
+            return new Entry(newVariants, newValues, newExpireAt);
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.wuda.yhan.code.generator.lang.util;
+
+import com.wuda.yhan.code.generator.lang.Constant;
+import com.wuda.yhan.code.generator.lang.PojoFieldInfo;
+import com.wuda.yhan.code.generator.lang.TableEntity;
+import com.wuda.yhan.code.generator.lang.TableEntityAccessor;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 通过{@link BeanUtils}绑定的get方法实现的{@link TableEntityAccessor}.
+ * 当实体没有对应的生成的accessor时使用,比如手写的实体,或者用旧版本生成器生成的实体.
+ *
+ * @author wuda
+ */
+final class ReflectiveTableEntityAccessor implements TableEntityAccessor<TableEntity> {
+
+    /**
+     * 有getter方法的属性,下标就是属性在field mask中的bit位置.
+     */
+    private final PojoFieldInfo[] fieldInfos;
+
+    /**
+     * 属性名称.
+     */
+    private final String[] fieldNames;
+
+    /**
+     * 属性对应的列名.
+     */
+    private final String[] columnNames;
+
+    ReflectiveTableEntityAccessor(Class<?> clazz) {
+        List<PojoFieldInfo> fieldInfoList = BeanUtils.getFieldInfoList(clazz, true, false, null, null);
+        List<PojoFieldInfo> columnFieldInfoList = new ArrayList<>();
+        if (fieldInfoList != null) {
+            for (PojoFieldInfo fieldInfo : fieldInfoList) {
+                // static和transient的属性不是表的列
+                Field field = fieldInfo.getField();
+                int modifiers = field.getModifiers();
+                if (!Modifier.isStatic(modifiers) && !Modifier.isTransient(modifiers) && !isDirtyFieldMask(field)) {
+                    columnFieldInfoList.add(fieldInfo);
+                }
+            }
+        }
+        fieldInfos = columnFieldInfoList.toArray(new PojoFieldInfo[0]);
+        fieldNames = new String[fieldInfos.length];
+        columnNames = new String[fieldInfos.length];
+        for (int i = 0; i < fieldInfos.length; i++) {
+            fieldNames[i] = fieldInfos[i].getField().getName();
+            columnNames[i] = JavaNamingUtils.toUnderscoreCase(fieldNames[i]);
+        }
+    }
+
+    /**
+     * 是否是保存dirty field mask的属性.这个属性需要序列化,因此不是transient的,
+     * 没有get方法时已经被排除,但是手写的实体可能有get方法,比如使用了lombok,所以按照名称和类型排除.
+     *
+     * @param field 属性
+     * @return true-如果是dirty field mask
+     */
+    private static boolean isDirtyFieldMask(Field field) {
+        return field.getType() == long[].class && Constant.DIRTY_FIELD_MASK.equals(field.getName());
+    }
+
+    @Override
+    public String[] fieldNames() {
+        return fieldNames;
+    }
+
+    @Override
+    public String[] columnNames() {
+        return columnNames;
+    }
+
+    @Override
+    public Object getValue(TableEntity entity, int index) {
+        return fieldInfos[index].getGetterFunction().apply(entity);
+    }
+
+    @Override
+    public long[] nonNullMask(TableEntity entity) {
+        long[] mask = new long[(fieldInfos.length + 63) >>> 6];
+        for (int i = 0; i < fieldInfos.length; i++) {
+            if (getValue(entity, i) != null) {
+                mask[i >>> 6] |= 1L << i;
+            }
+        }
+        return mask;
+    }
+}
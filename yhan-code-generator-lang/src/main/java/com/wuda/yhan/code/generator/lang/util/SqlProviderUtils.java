@@ -3,14 +3,17 @@ package com.wuda.yhan.code.generator.lang.util;
 import com.wuda.yhan.code.generator.lang.Constant;
 import com.wuda.yhan.code.generator.lang.OrderBy;
 import com.wuda.yhan.code.generator.lang.TableEntity;
+import com.wuda.yhan.code.generator.lang.TableEntityAccessor;
 import org.apache.ibatis.jdbc.SQL;
 import org.mybatis.dynamic.sql.SqlColumn;
 
-import java.lang.reflect.Method;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * mybatis SqlProvider 工具类.
@@ -19,6 +22,414 @@ import java.util.Set;
  */
 public class SqlProviderUtils {
 
+    /**
+     * 配置sql语句缓存容量的system property.
+     */
+    public final static String STATEMENT_CACHE_CAPACITY_PROPERTY = "yhan.sql.statement.cache.capacity";
+
+    /**
+     * sql语句缓存的默认容量.
+     */
+    public final static int DEFAULT_STATEMENT_CACHE_CAPACITY = 2048;
+
+    /**
+     * IN列表按照2的n次方取整时,最大的大小.
+     */
+    public final static int MAX_IN_LIST_BUCKET_SIZE = 1024;
+
+    /**
+     * insert,update等语句的缓存.同一个实体class,同一个方法,非null属性相同时,生成的sql语句是一样的,
+     * 因此只需要生成一次.
+     */
+    private static volatile ConcurrentLruCache<StatementKey, String> statementCache =
+            new ConcurrentLruCache<>(Integer.getInteger(STATEMENT_CACHE_CAPACITY_PROPERTY, DEFAULT_STATEMENT_CACHE_CAPACITY));
+
+    /**
+     * 每个实体class的batch insert语句片段,key是集合名称加上自增列.
+     */
+    private final static ClassValue<ConcurrentMap<String, BatchInsertFragments>> BATCH_INSERT_FRAGMENTS =
+            new ClassValue<ConcurrentMap<String, BatchInsertFragments>>() {
+                @Override
+                protected ConcurrentMap<String, BatchInsertFragments> computeValue(Class<?> type) {
+                    return new ConcurrentHashMap<>();
+                }
+            };
+
+    /**
+     * 设置sql语句缓存的容量.会丢弃当前已经缓存的所有语句.
+     *
+     * @param capacity 容量,必须大于0
+     */
+    public static void setStatementCacheCapacity(int capacity) {
+        statementCache = new ConcurrentLruCache<>(capacity);
+    }
+
+    /**
+     * sql语句缓存.
+     *
+     * @return statement cache
+     */
+    public static ConcurrentLruCache<?, String> getStatementCache() {
+        return statementCache;
+    }
+
+    /**
+     * 生成insert语句,只insert调用过set方法的属性,如果实体没有跟踪set方法的调用,则只insert值不为null的属性,
+     * 参考{@link TableEntityUtils#fieldMask(TableEntity)}.
+     * 生成的语句会被缓存,key是实体的class加上这些属性的bit mask.
+     *
+     * @param schemaDotTable schema.table
+     * @param entity         表对应的实体
+     * @return sql
+     */
+    public static String insertStatement(String schemaDotTable, TableEntity entity) {
+        validate(entity);
+        Class<? extends TableEntity> clazz = entity.getClass();
+        long[] fieldMask = TableEntityUtils.fieldMask(entity);
+        noneNullFieldValidate(entity, fieldMask);
+        StatementKey key = new StatementKey(clazz, Constant.MAPPER_INSERT, schemaDotTable, fieldMask);
+        return statementCache.computeIfAbsent(key, k -> {
+            SQL sql = new SQL();
+            sql.INSERT_INTO(schemaDotTable);
+            insertColumnsAndValues(sql, clazz, fieldMask);
+            return sql.toString();
+        });
+    }
+
+    /**
+     * 生成update语句,只更新调用过set方法的属性,如果实体没有跟踪set方法的调用,则只更新值不为null的属性,
+     * 参考{@link TableEntityUtils#fieldMask(TableEntity)}.
+     * 生成的语句会被缓存,key是实体的class,<i>statementId</i>加上这些属性的bit mask.
+     *
+     * @param statementId          语句的标识,通常是mapper中的方法名,不同的update方法必须不同
+     * @param schemaDotTable       schema.table
+     * @param entity               表对应的实体
+     * @param parameterName        参数名称,Mybatis的参数名称
+     * @param exclusiveWhereClause 排除更新的列,参考{@link #updateSetColumnsAndValues(SQL, Map, String, String...)}
+     * @param whereClauses         where条件中的列
+     * @return sql
+     */
+    public static String updateStatement(String statementId, String schemaDotTable, TableEntity entity, String parameterName,
+                                         String[] exclusiveWhereClause, String... whereClauses) {
+        validate(entity);
+        Class<? extends TableEntity> clazz = entity.getClass();
+        long[] fieldMask = TableEntityUtils.fieldMask(entity);
+        noneNullFieldValidate(entity, fieldMask);
+        StatementKey key = new StatementKey(clazz, statementId, schemaDotTable, fieldMask);
+        return statementCache.computeIfAbsent(key, k -> {
+            SQL sql = new SQL();
+            sql.UPDATE(schemaDotTable);
+            updateSetColumnsAndValues(sql, clazz, fieldMask, parameterName, exclusiveWhereClause);
+            whereConditions(sql, whereClauses);
+            return sql.toString();
+        });
+    }
+
+    /**
+     * 生成根据主键批量更新的语句,一条语句更新多行,比如:
+     * <pre>
+     * UPDATE t
+     * SET item_name = CASE id WHEN #{list[0].id} THEN #{list[0].itemName} WHEN #{list[1].id} THEN #{list[1].itemName} ELSE item_name END
+     * WHERE id IN (#{list[0].id},#{list[1].id})
+     * </pre>
+     * 只SET至少有一个实体需要更新的列,参考{@link TableEntityUtils#fieldMask(TableEntity)}.
+     * 某一行不需要更新的列不会出现在该列的CASE中,由ELSE保持原值.
+     * 复合主键时使用<code>CASE WHEN a=? AND b=? THEN</code>和row constructor形式的IN条件.
+     * 每一行需要更新的属性可能不同,因此生成的语句不缓存.
+     *
+     * @param schemaDotTable schema.table
+     * @param list           list of entity,主键不能为null
+     * @param collectionName 集合名称,类似于Mybatis foreach中的定义
+     * @param keyColumns     主键的列
+     * @return sql
+     */
+    public static String batchUpdateStatement(String schemaDotTable,
+                                              List<? extends TableEntity> list,
+                                              String collectionName,
+                                              String... keyColumns) {
+        return batchUpdateStatement(schemaDotTable, list, collectionName, new String[0], keyColumns);
+    }
+
+    /**
+     * 生成根据主键批量更新的语句,参考{@link #batchUpdateStatement(String, List, String, String...)},
+     * <i>exclusiveColumns</i>中的列即使调用过set方法也不更新,比如分表时的分片键.
+     *
+     * @param schemaDotTable   schema.table
+     * @param list             list of entity,主键不能为null
+     * @param collectionName   集合名称,类似于Mybatis foreach中的定义
+     * @param exclusiveColumns 不更新的列
+     * @param keyColumns       主键的列
+     * @return sql
+     */
+    public static String batchUpdateStatement(String schemaDotTable,
+                                              List<? extends TableEntity> list,
+                                              String collectionName,
+                                              String[] exclusiveColumns,
+                                              String... keyColumns) {
+        if (list == null || list.isEmpty()) {
+            throw new RuntimeException("批量更新的数据不能为空");
+        }
+        if (keyColumns == null || keyColumns.length == 0) {
+            throw new RuntimeException("批量更新必须指定主键");
+        }
+        @SuppressWarnings("unchecked")
+        TableEntityAccessor<TableEntity> accessor = TableEntityUtils.getAccessor((Class<TableEntity>) list.get(0).getClass());
+        String[] fieldNames = accessor.fieldNames();
+        String[] columnNames = accessor.columnNames();
+        int[] keyIndexes = new int[keyColumns.length];
+        for (int k = 0; k < keyColumns.length; k++) {
+            keyIndexes[k] = indexOf(columnNames, keyColumns[k]);
+        }
+        int rows = list.size();
+        long[][] rowMasks = new long[rows][];
+        long[] unionMask = new long[(fieldNames.length + 63) >>> 6];
+        for (int r = 0; r < rows; r++) {
+            TableEntity entity = list.get(r);
+            validate(entity);
+            for (int keyIndex : keyIndexes) {
+                if (accessor.getValue(entity, keyIndex) == null) {
+                    throw new RuntimeException("批量更新时主键不能为null! column " + columnNames[keyIndex] + ",第" + r + "条记录");
+                }
+            }
+            rowMasks[r] = TableEntityUtils.fieldMask(entity);
+            for (int w = 0; w < unionMask.length; w++) {
+                unionMask[w] |= rowMasks[r][w];
+            }
+        }
+        String valuePrefix = "#{" + collectionName + "[";
+        StringBuilder builder = new StringBuilder(256 + rows * 64);
+        builder.append("UPDATE ").append(schemaDotTable).append("\nSET ");
+        boolean firstColumn = true;
+        for (int i = 0; i < fieldNames.length; i++) {
+            if ((unionMask[i >>> 6] & (1L << i)) == 0 || contains(keyColumns, columnNames[i])
+                    || contains(exclusiveColumns, columnNames[i])) {
+                continue;
+            }
+            if (!firstColumn) {
+                builder.append(",\n    ");
+            }
+            builder.append(columnNames[i]).append(" = CASE");
+            if (keyIndexes.length == 1) {
+                builder.append(' ').append(columnNames[keyIndexes[0]]);
+            }
+            for (int r = 0; r < rows; r++) {
+                if ((rowMasks[r][i >>> 6] & (1L << i)) == 0) {
+                    continue;
+                }
+                builder.append(" WHEN ");
+                if (keyIndexes.length == 1) {
+                    builder.append(valuePrefix).append(r).append("].").append(fieldNames[keyIndexes[0]]).append('}');
+                } else {
+                    for (int k = 0; k < keyIndexes.length; k++) {
+                        if (k != 0) {
+                            builder.append(" AND ");
+                        }
+                        builder.append(columnNames[keyIndexes[k]]).append('=')
+                                .append(valuePrefix).append(r).append("].").append(fieldNames[keyIndexes[k]]).append('}');
+                    }
+                }
+                builder.append(" THEN ").append(valuePrefix).append(r).append("].").append(fieldNames[i]).append('}');
+            }
+            builder.append(" ELSE ").append(columnNames[i]).append(" END");
+            firstColumn = false;
+        }
+        if (firstColumn) {
+            throw new RuntimeException("所有字段都为null! Class Name:" + list.get(0).getClass().getName());
+        }
+        builder.append("\nWHERE ");
+        if (keyIndexes.length == 1) {
+            builder.append(columnNames[keyIndexes[0]]);
+        } else {
+            builder.append('(');
+            for (int k = 0; k < keyIndexes.length; k++) {
+                if (k != 0) {
+                    builder.append(',');
+                }
+                builder.append(columnNames[keyIndexes[k]]);
+            }
+            builder.append(')');
+        }
+        builder.append(" IN (");
+        for (int r = 0; r < rows; r++) {
+            if (r != 0) {
+                builder.append(',');
+            }
+            if (keyIndexes.length > 1) {
+                builder.append('(');
+            }
+            for (int k = 0; k < keyIndexes.length; k++) {
+                if (k != 0) {
+                    builder.append(',');
+                }
+                builder.append(valuePrefix).append(r).append("].").append(fieldNames[keyIndexes[k]]).append('}');
+            }
+            if (keyIndexes.length > 1) {
+                builder.append(')');
+            }
+        }
+        builder.append(')');
+        return builder.toString();
+    }
+
+    /**
+     * 生成<code>INSERT ... ON DUPLICATE KEY UPDATE</code>语句,insert的列和{@link #insertStatement(String, TableEntity)}一样,
+     * 如果主键或者唯一索引冲突,则用这次insert的值更新除了<i>keyColumns</i>之外的列,即<code>col=VALUES(col)</code>.
+     * 生成的语句会被缓存,参考{@link #insertStatement(String, TableEntity)}.
+     *
+     * @param schemaDotTable schema.table
+     * @param entity         表对应的实体
+     * @param keyColumns     主键和唯一索引中的列,冲突时不更新
+     * @return sql
+     */
+    public static String upsertStatement(String schemaDotTable, TableEntity entity, String... keyColumns) {
+        upsertKeyColumnsValidate(schemaDotTable, keyColumns);
+        validate(entity);
+        Class<? extends TableEntity> clazz = entity.getClass();
+        long[] fieldMask = TableEntityUtils.fieldMask(entity);
+        noneNullFieldValidate(entity, fieldMask);
+        StatementKey key = new StatementKey(clazz, Constant.MAPPER_UPSERT, schemaDotTable, fieldMask);
+        return statementCache.computeIfAbsent(key, k -> {
+            SQL sql = new SQL();
+            sql.INSERT_INTO(schemaDotTable);
+            insertColumnsAndValues(sql, clazz, fieldMask);
+            StringBuilder builder = new StringBuilder();
+            sql.usingAppender(builder);
+            appendOnDuplicateKeyUpdate(builder, TableEntityUtils.getAccessor(clazz).columnNames(), fieldMask, keyColumns);
+            return builder.toString();
+        });
+    }
+
+    /**
+     * 生成批量的<code>INSERT ... ON DUPLICATE KEY UPDATE</code>语句,和{@link #upsertStatement(String, TableEntity, String...)}一样
+     * 只包含调用过set方法的属性,即所有实体的{@link TableEntityUtils#fieldMask(TableEntity)}的并集,
+     * 冲突时更新除了<i>keyColumns</i>之外的这些列.一条语句代替逐行的先查询再insert或者update.
+     * <p>
+     * 只有一部分实体设置了的列,其他实体在这一列的值是null,冲突时使用<code>col=IFNULL(VALUES(col),col)</code>保持原值,
+     * 因此这样的列不能通过batch upsert更新成null;所有实体都设置了的列使用<code>col=VALUES(col)</code>.
+     * 每一行设置的属性可能不同,因此生成的语句不缓存.
+     *
+     * @param schemaDotTable schema.table
+     * @param list           list of entity
+     * @param collectionName 集合名称,类似于Mybatis foreach中的定义
+     * @param keyColumns     主键和唯一索引中的列,冲突时不更新
+     * @return sql
+     */
+    public static String batchUpsertStatement(String schemaDotTable,
+                                              List<? extends TableEntity> list,
+                                              String collectionName,
+                                              String... keyColumns) {
+        upsertKeyColumnsValidate(schemaDotTable, keyColumns);
+        if (list == null || list.isEmpty()) {
+            throw new RuntimeException("批量插入的数据不能为空");
+        }
+        @SuppressWarnings("unchecked")
+        TableEntityAccessor<TableEntity> accessor = TableEntityUtils.getAccessor((Class<TableEntity>) list.get(0).getClass());
+        String[] fieldNames = accessor.fieldNames();
+        String[] columnNames = accessor.columnNames();
+        int words = (fieldNames.length + 63) >>> 6;
+        long[] unionMask = new long[words];
+        long[] intersectionMask = new long[words];
+        Arrays.fill(intersectionMask, -1L);
+        for (TableEntity entity : list) {
+            validate(entity);
+            long[] fieldMask = TableEntityUtils.fieldMask(entity);
+            for (int w = 0; w < words; w++) {
+                unionMask[w] |= fieldMask[w];
+                intersectionMask[w] &= fieldMask[w];
+            }
+        }
+        int unionColumns = 0;
+        for (long word : unionMask) {
+            unionColumns += Long.bitCount(word);
+        }
+        int rows = list.size();
+        String valuePrefix = "#{" + collectionName + "[";
+        StringBuilder builder = new StringBuilder(256 + rows * unionColumns * 32 + unionColumns * 48);
+        builder.append("INSERT INTO ").append(schemaDotTable).append("\n (");
+        boolean first = true;
+        for (int i = 0; i < fieldNames.length; i++) {
+            if ((unionMask[i >>> 6] & (1L << i)) == 0) {
+                continue;
+            }
+            if (!first) {
+                builder.append(", ");
+            }
+            builder.append(columnNames[i]);
+            first = false;
+        }
+        if (first) {
+            throw new RuntimeException("所有字段都为null! Class Name:" + list.get(0).getClass().getName());
+        }
+        builder.append(")\nVALUES ");
+        for (int r = 0; r < rows; r++) {
+            builder.append(r == 0 ? "(" : ",(");
+            first = true;
+            for (int i = 0; i < fieldNames.length; i++) {
+                if ((unionMask[i >>> 6] & (1L << i)) == 0) {
+                    continue;
+                }
+                if (!first) {
+                    builder.append(", ");
+                }
+                builder.append(valuePrefix).append(r).append("].").append(fieldNames[i]).append('}');
+                first = false;
+            }
+            builder.append(')');
+        }
+        builder.append("\nON DUPLICATE KEY UPDATE ");
+        first = true;
+        for (int i = 0; i < columnNames.length; i++) {
+            String column = columnNames[i];
+            if ((unionMask[i >>> 6] & (1L << i)) == 0 || contains(keyColumns, column)) {
+                continue;
+            }
+            if (!first) {
+                builder.append(", ");
+            }
+            if ((intersectionMask[i >>> 6] & (1L << i)) != 0) {
+                builder.append(column).append("=VALUES(").append(column).append(")");
+            } else {
+                builder.append(column).append("=IFNULL(VALUES(").append(column).append("),").append(column).append(")");
+            }
+            first = false;
+        }
+        if (first) {
+            builder.append(keyColumns[0]).append("=").append(keyColumns[0]);
+        }
+        return builder.toString();
+    }
+
+    /**
+     * 追加<code>ON DUPLICATE KEY UPDATE col=VALUES(col)</code>.如果没有可以更新的列,
+     * 则使用<code>key=key</code>,即冲突时什么都不做.
+     *
+     * @param builder     sql statement
+     * @param columnNames 实体的所有列
+     * @param fieldMask   insert的列的bit mask
+     * @param keyColumns  主键和唯一索引中的列,冲突时不更新
+     */
+    private static void appendOnDuplicateKeyUpdate(StringBuilder builder, String[] columnNames, long[] fieldMask, String... keyColumns) {
+        builder.append("\nON DUPLICATE KEY UPDATE ");
+        boolean first = true;
+        for (int i = 0; i < columnNames.length; i++) {
+            if ((fieldMask[i >>> 6] & (1L << i)) == 0) {
+                continue;
+            }
+            String column = columnNames[i];
+            if (contains(keyColumns, column)) {
+                continue;
+            }
+            if (!first) {
+                builder.append(", ");
+            }
+            builder.append(column).append("=VALUES(").append(column).append(")");
+            first = false;
+        }
+        if (first) {
+            builder.append(keyColumns[0]).append("=").append(keyColumns[0]);
+        }
+    }
+
     /**
      * sql insert语法中指定列名和<i>VALUES</i>.
      *
@@ -39,6 +450,78 @@ public class SqlProviderUtils {
         sql.INTO_VALUES(values);
     }
 
+    /**
+     * sql insert语法中指定列名和<i>VALUES</i>,只包含field mask中bit为1的属性.
+     *
+     * @param sql       {@link SQL}
+     * @param clazz     实体class
+     * @param fieldMask 需要insert的属性的bit mask
+     */
+    public static void insertColumnsAndValues(SQL sql, Class<? extends TableEntity> clazz, long[] fieldMask) {
+        TableEntityAccessor<?> accessor = TableEntityUtils.getAccessor(clazz);
+        String[] fieldNames = accessor.fieldNames();
+        String[] columnNames = accessor.columnNames();
+        for (int i = 0; i < fieldNames.length; i++) {
+            if ((fieldMask[i >>> 6] & (1L << i)) != 0) {
+                sql.INTO_COLUMNS(columnNames[i]);
+                sql.INTO_VALUES("#{" + fieldNames[i] + "}");
+            }
+        }
+    }
+
+    /**
+     * 生成batch insert语句,insert所有的列,和生成的mapper中batchInsert的script一样.
+     * 用于表名在每次调用时才能确定的情况,比如分表.
+     *
+     * @param schemaDotTable schema.table
+     * @param list           list of entity
+     * @param collectionName 集合名称,类似于Mybatis foreach中的定义
+     * @return sql
+     */
+    public static String batchInsertStatement(String schemaDotTable,
+                                              List<? extends TableEntity> list,
+                                              String collectionName) {
+        BatchInsertFragments fragments = batchInsertFragments(list, collectionName, null);
+        int rows = list.size();
+        StringBuilder builder = new StringBuilder(schemaDotTable.length() + fragments.columns.length() + 32
+                + fragments.valuesLength(rows));
+        builder.append("INSERT INTO ").append(schemaDotTable)
+                .append("\n (").append(fragments.columns).append(")")
+                .append("\nVALUES (");
+        fragments.appendValues(builder, rows);
+        builder.append(")");
+        return builder.toString();
+    }
+
+    /**
+     * 生成batch insert语句,并且希望取回数据库自增列的值.不能提前设置自增列的值,
+     * 否则会出现混乱,因此会检查每一条记录中<i>AUTO_INCREMENT</i>列对应的属性是否设置了值.
+     * 每一行的VALUES片段只在第一次使用时计算,之后直接写入一个预先估算好容量的{@link StringBuilder},
+     * 因此生成语句的耗时和记录数成线性关系.
+     *
+     * @param schemaDotTable      schema.table
+     * @param list                list of entity
+     * @param collectionName      集合名称,类似于Mybatis foreach中的定义
+     * @param autoIncrementColumn AUTO_INCREMENT column
+     * @return sql
+     */
+    public static String batchInsertUseGeneratedKeysStatement(String schemaDotTable,
+                                                              List<? extends TableEntity> list,
+                                                              String collectionName,
+                                                              String autoIncrementColumn) {
+        BatchInsertFragments fragments = batchInsertFragments(list, collectionName, autoIncrementColumn);
+        fragments.autoIncrementValidate(list);
+        int rows = list.size();
+        StringBuilder builder = new StringBuilder(schemaDotTable.length() + fragments.columns.length() + 32
+                + fragments.valuesLength(rows));
+        builder.append("INSERT INTO ").append(schemaDotTable)
+                .append("\n (").append(fragments.columns).append(")")
+                .append("\nVALUES (");
+        fragments.appendValues(builder, rows);
+        builder.append(")");
+        return builder.toString();
+    }
+
     /**
      * batch insert,并且希望取回数据库自增列的值,不能提前设置,
      * 否则会出现混乱.为了严格防止这种情况发生,不使用<i>script</i>
@@ -49,65 +532,38 @@ public class SqlProviderUtils {
      * @param list                list of entity
      * @param collectionName      集合名称,类似于Mybatis foreach中的定义
      * @param autoIncrementColumn AUTO_INCREMENT column
+     * @see #batchInsertUseGeneratedKeysStatement(String, List, String, String)
      */
     public static void batchInsertUseGeneratedKeysColumnsAndValues(SQL sql,
                                                                    List<? extends TableEntity> list,
                                                                    String collectionName,
                                                                    String autoIncrementColumn) {
+        BatchInsertFragments fragments = batchInsertFragments(list, collectionName, autoIncrementColumn);
+        fragments.autoIncrementValidate(list);
+        StringBuilder builder = new StringBuilder(fragments.valuesLength(list.size()));
+        fragments.appendValues(builder, list.size());
+        sql.INTO_COLUMNS(fragments.columns);
+        sql.INTO_VALUES(builder.toString());
+    }
+
+    /**
+     * 获取batch insert语句的片段,如果没有则计算并缓存.
+     *
+     * @param list                list of entity
+     * @param collectionName      集合名称
+     * @param autoIncrementColumn AUTO_INCREMENT column,null表示insert所有的列
+     * @return fragments
+     */
+    private static BatchInsertFragments batchInsertFragments(List<? extends TableEntity> list,
+                                                             String collectionName,
+                                                             String autoIncrementColumn) {
         if (list == null || list.isEmpty()) {
             throw new RuntimeException("批量插入的数据不能为空");
         }
         // 同一类型,任意取一个即可
         Class<? extends TableEntity> arbitrary = list.get(0).getClass();
-        Map<String, String> fieldToColumnMap = TableEntityUtils.fieldToColumn(arbitrary);
-        Set<Map.Entry<String, String>> entrySet = fieldToColumnMap.entrySet();
-        // auto-increment 列排除
-        String[] columns = new String[fieldToColumnMap.size() - 1];
-        int index = 0;
-        String columnName;
-        String fieldName;
-        String columnValuePlaceholder;
-        StringBuilder valueStatementTemplateBuilder = new StringBuilder();
-        String placeholder = "-k-";
-        for (Map.Entry<String, String> entry : entrySet) {
-            columnName = entry.getValue();
-            if (columnName.equalsIgnoreCase(autoIncrementColumn)) {
-                continue;
-            }
-            columns[index] = columnName;
-            fieldName = JavaNamingUtils.toCamelCase(columnName, Constant.underscore);
-            columnValuePlaceholder = "#{" + collectionName + "[" + placeholder + "]." + fieldName + "}";
-            valueStatementTemplateBuilder.append(columnValuePlaceholder);
-            if (index != columns.length - 1) {
-                valueStatementTemplateBuilder.append(",");
-            }
-            index++;
-        }
-        String valueStatementTemplate = valueStatementTemplateBuilder.toString();
-        int k = 0;
-        StringBuilder builder = new StringBuilder();
-        String autoIncrementField = JavaNamingUtils.toCamelCase(autoIncrementColumn, Constant.underscore);
-        Method autoIncrementFieldGetter = BeanUtils.getter(arbitrary, autoIncrementField);
-        for (TableEntity entity : list) {
-            if (k != 0) {
-                builder.append("(");
-            }
-            Object autoIncrementColumnValue = BeanUtils.getValue(entity, autoIncrementFieldGetter);
-            if (autoIncrementColumnValue != null) {
-                throw new RuntimeException("如果想使用useGeneratedKeys特性,必须使用数据库的自增值,不能提前设置值,否则会出现混乱" +
-                        ".column " + autoIncrementColumn + " 设置了值" +
-                        ".如果自己设置值,可以考虑使用" + Constant.MAPPER_BATCH_INSERT +
-                        "方法");
-            }
-            String value = valueStatementTemplate.replaceAll(placeholder, k + "");
-            builder.append(value);
-            if (k != list.size() - 1) {
-                builder.append("),");
-            }
-            k++;
-        }
-        sql.INTO_COLUMNS(columns);
-        sql.INTO_VALUES(builder.toString());
+        return BATCH_INSERT_FRAGMENTS.get(arbitrary).computeIfAbsent(collectionName + ":" + autoIncrementColumn,
+                key -> new BatchInsertFragments(arbitrary, collectionName, autoIncrementColumn));
     }
 
     /**
@@ -132,6 +588,28 @@ public class SqlProviderUtils {
         }
     }
 
+    /**
+     * sql update语法中<i>SET</i>内容,直接根据field mask生成,只包含bit为1的属性.
+     *
+     * @param sql                  {@link SQL}
+     * @param clazz                实体class
+     * @param fieldMask            需要更新的属性的bit mask
+     * @param parameterName        参数名称,Mybatis的参数名称
+     * @param exclusiveWhereClause 排除更新条件,参考{@link #updateSetColumnsAndValues(SQL, Map, String, String...)}
+     */
+    public static void updateSetColumnsAndValues(SQL sql, Class<? extends TableEntity> clazz, long[] fieldMask,
+                                                 String parameterName, String... exclusiveWhereClause) {
+        TableEntityAccessor<?> accessor = TableEntityUtils.getAccessor(clazz);
+        String[] fieldNames = accessor.fieldNames();
+        String[] columnNames = accessor.columnNames();
+        for (int i = 0; i < fieldNames.length; i++) {
+            if ((fieldMask[i >>> 6] & (1L << i)) == 0 || contains(exclusiveWhereClause, columnNames[i])) {
+                continue;
+            }
+            sql.SET(columnNames[i] + "=#{" + parameterName + "." + fieldNames[i] + "}");
+        }
+    }
+
     /**
      * 校验实体类中已经调用过<strong>set</strong>方法的属性.
      *
@@ -144,6 +622,31 @@ public class SqlProviderUtils {
         }
     }
 
+    /**
+     * 校验实体类中需要操作的属性.
+     *
+     * @param entity    实体类
+     * @param fieldMask 需要操作的属性的bit mask,参考{@link TableEntityUtils#fieldMask(TableEntity)}
+     */
+    public static void noneNullFieldValidate(TableEntity entity, long[] fieldMask) {
+        if (TableEntityUtils.isEmptyFieldMask(fieldMask)) {
+            throw new RuntimeException("所有字段都为null! Class Name:" + entity.getClass().getName());
+        }
+    }
+
+    /**
+     * 校验upsert语句冲突时不更新的列.没有主键和唯一索引的表不会有冲突,
+     * <code>ON DUPLICATE KEY UPDATE</code>没有意义,生成器也不会为这样的表生成upsert方法.
+     *
+     * @param schemaDotTable schema.table
+     * @param keyColumns     主键和唯一索引中的列
+     */
+    private static void upsertKeyColumnsValidate(String schemaDotTable, String... keyColumns) {
+        if (keyColumns == null || keyColumns.length == 0) {
+            throw new RuntimeException("表没有主键和唯一索引,不能使用upsert! Table:" + schemaDotTable);
+        }
+    }
+
     /**
      * 数组中是否包含给定的元素.
      *
@@ -162,6 +665,22 @@ public class SqlProviderUtils {
         return false;
     }
 
+    /**
+     * 列在数组中的下标,忽略大小写.
+     *
+     * @param columns 列
+     * @param column  需要查找的列
+     * @return 下标
+     */
+    private static int indexOf(String[] columns, String column) {
+        for (int i = 0; i < columns.length; i++) {
+            if (columns[i].equalsIgnoreCase(column)) {
+                return i;
+            }
+        }
+        throw new RuntimeException("没有找到列: " + column);
+    }
+
     /**
      * 验证.
      *
@@ -237,25 +756,142 @@ public class SqlProviderUtils {
      * @param whereClauses where条件中的字段
      */
     public static void whereConditionsForeach(SQL sql, String collectionName, int collectionSize, String... whereClauses) {
+        sql.WHERE(renderForeachConditions(collectionName, collectionSize, collectionSize, whereClauses));
+    }
+
+    /**
+     * 和{@link #whereConditionsForeach(SQL, String, int, String...)}一样,不过参数的个数按照
+     * {@link #inListBucketSize(int)}向上取整,多出来的参数重复引用集合中的最后一个元素.
+     * 这样不同大小的集合只会产生少数几种sql语句,prepared statement cache
+     * (比如mysql驱动的cachePrepStmts,或者server side prepared statement)可以重复使用.
+     * 集合的大小超过{@link #MAX_IN_LIST_BUCKET_SIZE}时不再取整,调用方应该先拆分集合.
+     *
+     * @param sql            {@link SQL}
+     * @param collectionName 集合名称
+     * @param collectionSize 集合的大小
+     * @param whereClauses   where条件中的字段
+     */
+    public static void whereConditionsForeachBucketed(SQL sql, String collectionName, int collectionSize, String... whereClauses) {
+        sql.WHERE(renderForeachConditions(collectionName, collectionSize, inListBucketSize(collectionSize), whereClauses));
+    }
+
+    /**
+     * 和{@link #whereConditionsForeach(SQL, String, int, String...)}一样,不过多个列时使用row constructor,
+     * 即<code>(a,b) IN ((?,?),(?,?))</code>,而不是<code>(a=? AND b=?) OR (a=? AND b=?)</code>.
+     * 对于组合主键或者组合唯一索引,mysql 5.7之后可以把row constructor优化成索引上的range lookup,
+     * 而OR的形式在集合比较大时经常退化成范围扫描.
+     *
+     * @param sql            {@link SQL}
+     * @param collectionName 集合名称
+     * @param collectionSize 集合的大小
+     * @param whereClauses   where条件中的字段
+     */
+    public static void whereConditionsRowConstructorIn(SQL sql, String collectionName, int collectionSize, String... whereClauses) {
+        sql.WHERE(renderRowConstructorIn(collectionName, collectionSize, collectionSize, whereClauses));
+    }
+
+    /**
+     * 和{@link #whereConditionsRowConstructorIn(SQL, String, int, String...)}一样,不过参数的个数向上取整,
+     * 参考{@link #whereConditionsForeachBucketed(SQL, String, int, String...)}.
+     *
+     * @param sql            {@link SQL}
+     * @param collectionName 集合名称
+     * @param collectionSize 集合的大小
+     * @param whereClauses   where条件中的字段
+     */
+    public static void whereConditionsRowConstructorInBucketed(SQL sql, String collectionName, int collectionSize, String... whereClauses) {
+        sql.WHERE(renderRowConstructorIn(collectionName, collectionSize, inListBucketSize(collectionSize), whereClauses));
+    }
+
+    /**
+     * 集合的大小向上取整到2的n次方,最大是{@link #MAX_IN_LIST_BUCKET_SIZE}.
+     *
+     * @param collectionSize 集合的大小
+     * @return 取整后的大小, 如果集合的大小超过{@link #MAX_IN_LIST_BUCKET_SIZE},则原样返回
+     */
+    public static int inListBucketSize(int collectionSize) {
+        if (collectionSize <= 1 || collectionSize > MAX_IN_LIST_BUCKET_SIZE) {
+            return collectionSize;
+        }
+        return Integer.highestOneBit(collectionSize - 1) << 1;
+    }
+
+    /**
+     * row constructor形式的IN条件,只有一个列时就是普通的IN条件.
+     *
+     * @param collectionName 集合名称
+     * @param collectionSize 集合的大小
+     * @param renderedSize   生成的参数的个数,大于集合的大小时,多出来的参数引用集合中的最后一个元素
+     * @param whereClauses   where条件中的字段
+     * @return where条件
+     */
+    private static String renderRowConstructorIn(String collectionName, int collectionSize, int renderedSize, String... whereClauses) {
+        if (whereClauses.length == 1) {
+            return renderForeachConditions(collectionName, collectionSize, renderedSize, whereClauses);
+        }
+        String[] fieldNames = new String[whereClauses.length];
+        StringBuilder stringBuilder = new StringBuilder();
+        stringBuilder.append("(");
+        for (int k = 0; k < whereClauses.length; k++) {
+            fieldNames[k] = JavaNamingUtils.toCamelCase(whereClauses[k], Constant.underscore);
+            if (k != 0) {
+                stringBuilder.append(",");
+            }
+            stringBuilder.append(whereClauses[k]);
+        }
+        stringBuilder.append(") IN (");
+        int lastIndex = collectionSize - 1;
+        for (int index = 0; index < renderedSize; index++) {
+            if (index != 0) {
+                stringBuilder.append(",");
+            }
+            stringBuilder.append("(");
+            for (int k = 0; k < fieldNames.length; k++) {
+                if (k != 0) {
+                    stringBuilder.append(",");
+                }
+                stringBuilder.append("#{")
+                        .append(collectionName)
+                        .append("[").append(Math.min(index, lastIndex)).append("].")
+                        .append(fieldNames[k])
+                        .append("}");
+            }
+            stringBuilder.append(")");
+        }
+        stringBuilder.append(")");
+        return stringBuilder.toString();
+    }
+
+    /**
+     * foreach条件.
+     *
+     * @param collectionName 集合名称
+     * @param collectionSize 集合的大小
+     * @param renderedSize   生成的参数的个数,大于集合的大小时,多出来的参数引用集合中的最后一个元素
+     * @param whereClauses   where条件中的字段
+     * @return where条件
+     */
+    private static String renderForeachConditions(String collectionName, int collectionSize, int renderedSize, String... whereClauses) {
         String columnName;
         StringBuilder stringBuilder = new StringBuilder();
+        int lastIndex = collectionSize - 1;
         if (whereClauses.length == 1) {
             columnName = whereClauses[0];
             stringBuilder.append(columnName);
             stringBuilder.append(" IN (");
-            for (int index = 0; index < collectionSize; index++) {
+            for (int index = 0; index < renderedSize; index++) {
                 stringBuilder.append("#{");
                 stringBuilder.append(collectionName);
-                stringBuilder.append("[").append(index).append("]");
+                stringBuilder.append("[").append(Math.min(index, lastIndex)).append("]");
                 stringBuilder.append("}");
-                if (index != collectionSize - 1) {
+                if (index != renderedSize - 1) {
                     stringBuilder.append(",");
                 }
             }
             stringBuilder.append(" )");
         } else {
             String fieldName;
-            for (int index = 0; index < collectionSize; index++) {
+            for (int index = 0; index < renderedSize; index++) {
                 stringBuilder.append("(");
                 for (int k = 0; k < whereClauses.length; k++) {
                     columnName = whereClauses[k];
@@ -263,7 +899,7 @@ public class SqlProviderUtils {
                     stringBuilder.append(columnName).append("=")
                             .append("#{")
                             .append(collectionName)
-                            .append("[").append(index).append("].")
+                            .append("[").append(Math.min(index, lastIndex)).append("].")
                             .append(fieldName)
                             .append("}");
                     if (k != whereClauses.length - 1) {
@@ -271,12 +907,12 @@ public class SqlProviderUtils {
                     }
                 }
                 stringBuilder.append(")");
-                if (index != collectionSize - 1) {
+                if (index != renderedSize - 1) {
                     stringBuilder.append(" OR ");
                 }
             }
         }
-        sql.WHERE(stringBuilder.toString());
+        return stringBuilder.toString();
     }
 
     /**
@@ -288,6 +924,45 @@ public class SqlProviderUtils {
         builder.append(" LIMIT #{").append(Constant.PAGING_OFFSET).append("},#{").append(Constant.PAGING_ROW_COUNT).append("}");
     }
 
+    /**
+     * 追加keyset分页的行数,即<code>LIMIT #{rowCount}</code>.
+     *
+     * @param builder sql statement
+     */
+    public static void appendLimit(StringBuilder builder) {
+        builder.append(" LIMIT #{").append(Constant.PAGING_ROW_COUNT).append("}");
+    }
+
+    /**
+     * keyset(seek)分页的<i>WHERE</i>条件,查询排在上一页最后一条记录之后的记录,参数就是上一页最后一条记录的这些列的值.
+     * 一个列时是<code>a &gt; #{a}</code>;多个列时是<code>a &gt;= #{a} AND (a,b) &gt; (#{a},#{b})</code>,
+     * 第一个条件让mysql可以在索引上做范围扫描,row constructor比较负责准确的过滤.
+     * 需要和<code>ORDER BY</code>这些列一起使用.
+     *
+     * @param sql        {@link SQL}
+     * @param keyColumns 排序的列,必须能唯一确定一条记录
+     */
+    public static void whereKeyAfter(SQL sql, String... keyColumns) {
+        String firstColumn = keyColumns[0];
+        String firstParameter = "#{" + JavaNamingUtils.toCamelCase(firstColumn, Constant.underscore) + "}";
+        if (keyColumns.length == 1) {
+            sql.WHERE(firstColumn + " > " + firstParameter);
+            return;
+        }
+        sql.WHERE(firstColumn + " >= " + firstParameter);
+        StringBuilder columns = new StringBuilder();
+        StringBuilder parameters = new StringBuilder();
+        for (int i = 0; i < keyColumns.length; i++) {
+            if (i != 0) {
+                columns.append(",");
+                parameters.append(",");
+            }
+            columns.append(keyColumns[i]);
+            parameters.append("#{").append(JavaNamingUtils.toCamelCase(keyColumns[i], Constant.underscore)).append("}");
+        }
+        sql.WHERE("(" + columns + ") > (" + parameters + ")");
+    }
+
     /**
      * 追加排序参数.
      *
@@ -363,4 +1038,167 @@ public class SqlProviderUtils {
     public static String toDoubleQuotedString(String str) {
         return "\"" + str + "\"";
     }
+
+    /**
+     * batch insert语句中和记录无关的片段.每一个值的占位符是
+     * <code>valuePrefix + 行号 + valueSuffixes[i]</code>,比如: <code>#{list[</code> + 3 + <code>].itemName}</code>.
+     */
+    private static final class BatchInsertFragments {
+
+        /**
+         * 逗号分隔的列名,不包括自增列,没有指定自增列时包括所有列.
+         */
+        private final String columns;
+        /**
+         * 占位符中行号之前的部分.
+         */
+        private final String valuePrefix;
+        /**
+         * 每一列的占位符中行号之后的部分.
+         */
+        private final String[] valueSuffixes;
+        /**
+         * 每一行中,除了行号以外的字符数.
+         */
+        private final int fixedRowLength;
+        /**
+         * 读取属性值.
+         */
+        private final TableEntityAccessor<TableEntity> accessor;
+        /**
+         * 自增列对应的属性的下标,-1表示没有指定自增列.
+         */
+        private final int autoIncrementFieldIndex;
+        /**
+         * 自增列.
+         */
+        private final String autoIncrementColumn;
+
+        @SuppressWarnings("unchecked")
+        BatchInsertFragments(Class<? extends TableEntity> clazz, String collectionName, String autoIncrementColumn) {
+            this.accessor = TableEntityUtils.getAccessor((Class<TableEntity>) clazz);
+            this.autoIncrementColumn = autoIncrementColumn;
+            String[] fieldNames = accessor.fieldNames();
+            String[] columnNames = accessor.columnNames();
+            this.autoIncrementFieldIndex = autoIncrementColumn == null ? -1 : indexOf(columnNames, autoIncrementColumn);
+            this.valuePrefix = "#{" + collectionName + "[";
+            this.valueSuffixes = new String[autoIncrementFieldIndex < 0 ? fieldNames.length : fieldNames.length - 1];
+            StringBuilder columnsBuilder = new StringBuilder();
+            int length = 0;
+            int index = 0;
+            for (int i = 0; i < fieldNames.length; i++) {
+                if (i == autoIncrementFieldIndex) {
+                    continue;
+                }
+                if (index > 0) {
+                    columnsBuilder.append(", ");
+                    length++;
+                }
+                columnsBuilder.append(columnNames[i]);
+                valueSuffixes[index] = "]." + fieldNames[i] + "}";
+                length += valuePrefix.length() + valueSuffixes[index].length();
+                index++;
+            }
+            this.columns = columnsBuilder.toString();
+            this.fixedRowLength = length;
+        }
+
+        /**
+         * 检查自增列没有设置值.
+         *
+         * @param list list of entity
+         */
+        void autoIncrementValidate(List<? extends TableEntity> list) {
+            for (TableEntity entity : list) {
+                if (accessor.getValue(entity, autoIncrementFieldIndex) != null) {
+                    throw new RuntimeException("如果想使用useGeneratedKeys特性,必须使用数据库的自增值,不能提前设置值,否则会出现混乱" +
+                            ".column " + autoIncrementColumn + " 设置了值" +
+                            ".如果自己设置值,可以考虑使用" + Constant.MAPPER_BATCH_INSERT +
+                            "方法");
+                }
+            }
+        }
+
+        /**
+         * 所有行的VALUES的最大长度,用于预先分配{@link StringBuilder}的容量.
+         *
+         * @param rows 行数
+         * @return 长度
+         */
+        int valuesLength(int rows) {
+            int digits = Integer.toString(Math.max(rows - 1, 0)).length();
+            // 行之间的"),("
+            return rows * (fixedRowLength + digits * valueSuffixes.length) + (rows - 1) * 3;
+        }
+
+        /**
+         * 追加所有行的VALUES,行之间用<code>),(</code>分隔,不包括第一行开始和最后一行结束的括号.
+         *
+         * @param builder builder
+         * @param rows    行数
+         */
+        void appendValues(StringBuilder builder, int rows) {
+            for (int k = 0; k < rows; k++) {
+                if (k != 0) {
+                    builder.append("),(");
+                }
+                for (int i = 0; i < valueSuffixes.length; i++) {
+                    if (i != 0) {
+                        builder.append(',');
+                    }
+                    builder.append(valuePrefix).append(k).append(valueSuffixes[i]);
+                }
+            }
+        }
+    }
+
+    /**
+     * sql语句缓存的key.
+     */
+    private static final class StatementKey {
+
+        private final Class<?> entityClass;
+        private final String statementId;
+        private final String schemaDotTable;
+        private final long[] fieldMask;
+        private final int hash;
+
+        StatementKey(Class<?> entityClass, String statementId, String schemaDotTable, long[] fieldMask) {
+            this.entityClass = entityClass;
+            this.statementId = statementId;
+            this.schemaDotTable = schemaDotTable;
+            this.fieldMask = fieldMask;
+            int h = entityClass.hashCode();
+            h = 31 * h + statementId.hashCode();
+            h = 31 * h + schemaDotTable.hashCode();
+            h = 31 * h + Arrays.hashCode(fieldMask);
+            this.hash = h;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof StatementKey)) {
+                return false;
+            }
+            StatementKey that = (StatementKey) obj;
+            return hash == that.hash
+                    && entityClass == that.entityClass
+                    && statementId.equals(that.statementId)
+                    && schemaDotTable.equals(that.schemaDotTable)
+                    && Arrays.equals(fieldMask, that.fieldMask);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public String toString() {
+            return entityClass.getName() + "#" + statementId + "@" + schemaDotTable + Arrays.toString(fieldMask);
+        }
+    }
 }
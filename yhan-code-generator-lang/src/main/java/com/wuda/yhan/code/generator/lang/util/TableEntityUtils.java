@@ -1,15 +1,13 @@
 package com.wuda.yhan.code.generator.lang.util;
 
 import com.wuda.yhan.code.generator.lang.Constant;
-import com.wuda.yhan.code.generator.lang.PojoFieldInfo;
 import com.wuda.yhan.code.generator.lang.TableEntity;
+import com.wuda.yhan.code.generator.lang.TableEntityAccessor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.lang.reflect.Field;
-import java.lang.reflect.Method;
-import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -25,6 +23,30 @@ public class TableEntityUtils {
      */
     private static Logger logger = LoggerFactory.getLogger(TableEntityUtils.class);
 
+    /**
+     * 每个{@link TableEntity} class对应的{@link TableEntityAccessor}.
+     * 优先使用代码生成器生成的accessor,如果没有,则使用基于反射的实现.
+     */
+    private final static ClassValue<TableEntityAccessor> ACCESSOR_CACHE = new ClassValue<TableEntityAccessor>() {
+        @Override
+        protected TableEntityAccessor computeValue(Class<?> type) {
+            TableEntityAccessor accessor = loadGeneratedAccessor(type);
+            return accessor != null ? accessor : new ReflectiveTableEntityAccessor(type);
+        }
+    };
+
+    /**
+     * 获取实体class对应的{@link TableEntityAccessor}.
+     *
+     * @param clazz 实体class
+     * @param <T>   实体类型
+     * @return accessor
+     */
+    @SuppressWarnings("unchecked")
+    public static <T extends TableEntity> TableEntityAccessor<T> getAccessor(Class<T> clazz) {
+        return ACCESSOR_CACHE.get(clazz);
+    }
+
     /**
      * 所有entity的class是否同一个类型.
      *
@@ -52,8 +74,17 @@ public class TableEntityUtils {
      * @return field和column的映射
      */
     public static Map<String, String> fieldToColumn(TableEntity entity, boolean onlyNotNullField) {
-        Field[] fields = getField(entity, onlyNotNullField);
-        return fieldToColumn(fields);
+        TableEntityAccessor<TableEntity> accessor = accessorOf(entity);
+        String[] fieldNames = accessor.fieldNames();
+        String[] columnNames = accessor.columnNames();
+        Map<String, String> map = new HashMap<>();
+        for (int i = 0; i < fieldNames.length; i++) {
+            if (onlyNotNullField && accessor.getValue(entity, i) == null) {
+                continue;
+            }
+            map.put(fieldNames[i], columnNames[i]);
+        }
+        return map.isEmpty() ? null : map;
     }
 
     /**
@@ -63,8 +94,17 @@ public class TableEntityUtils {
      * @return field和column的映射
      */
     public static Map<String, String> fieldToColumn(Class<? extends TableEntity> clazz) {
-        Field[] fields = getField(clazz);
-        return fieldToColumn(fields);
+        TableEntityAccessor<?> accessor = getAccessor(clazz);
+        String[] fieldNames = accessor.fieldNames();
+        String[] columnNames = accessor.columnNames();
+        if (fieldNames.length == 0) {
+            return null;
+        }
+        Map<String, String> map = new LinkedHashMap<>();
+        for (int i = 0; i < fieldNames.length; i++) {
+            map.put(fieldNames[i], columnNames[i]);
+        }
+        return map;
     }
 
     /**
@@ -75,119 +115,148 @@ public class TableEntityUtils {
      * @return field和value的映射
      */
     public static Map<String, Object> fieldToValue(TableEntity entity, boolean onlyNotNullField) {
-        Field[] fields = getField(entity.getClass());
-        if (fields == null || fields.length == 0) {
+        TableEntityAccessor<TableEntity> accessor = accessorOf(entity);
+        String[] fieldNames = accessor.fieldNames();
+        if (fieldNames.length == 0) {
             return null;
         }
         Map<String, Object> map = new HashMap<>();
-        for (Field field : fields) {
-            String fieldName = field.getName();
-            Method getter = BeanUtils.getter(entity.getClass(), field.getName());
-            Object fieldValue = getValue(entity, getter);
-            if (onlyNotNullField && fieldValue != null) {
-                map.put(fieldName, fieldValue);
+        for (int i = 0; i < fieldNames.length; i++) {
+            Object fieldValue = accessor.getValue(entity, i);
+            if (!onlyNotNullField || fieldValue != null) {
+                map.put(fieldNames[i], fieldValue);
             }
         }
         return map;
     }
 
     /**
-     * 根据entity class找到对应的mybatis mapper类.
+     * 计算实体中值不为<code>null</code>的属性的bit mask.
+     * 第i个bit对应{@link #fieldNames(Class)}中下标为i的属性,
+     * 每个long保存64个属性,因此相同class的实体返回的数组长度一定相同.
      *
-     * @param clazz {@link TableEntity} class
-     * @return 对应的mybatis mapper
+     * @param entity 表对应的实体
+     * @return field mask
      */
-    public static Class<?> getMybatisMapper(Class<? extends TableEntity> clazz) {
-        String entityName = clazz.getName();
-        String mapperName = StringUtils.addSuffix(entityName, Constant.MAPPER_CLASS_NAME_SUFFIX);
-        try {
-            return Class.forName(mapperName);
-        } catch (ClassNotFoundException e) {
-            // 代码生成的类,一般都会找到
-            throw new RuntimeException("TableEntity " + clazz + " 没有找到对应的Mapper类!", e);
-        }
+    public static long[] nonNullFieldMask(TableEntity entity) {
+        return accessorOf(entity).nonNullMask(entity);
     }
 
     /**
-     * key是属性名称,value该属性对应的数据库表的列名.
+     * insert,update等语句需要操作的属性的bit mask.如果实体跟踪了set方法的调用,
+     * 则返回{@link TableEntity#dirtyFieldMask()}的拷贝,否则返回{@link #nonNullFieldMask(TableEntity)}.
      *
-     * @param fields {@link TableEntity}类的属性
-     * @return field-column mapping
+     * @param entity 表对应的实体
+     * @return field mask
      */
-    private static Map<String, String> fieldToColumn(Field[] fields) {
-        if (fields == null || fields.length == 0) {
-            return null;
+    public static long[] fieldMask(TableEntity entity) {
+        long[] dirtyFieldMask = entity.dirtyFieldMask();
+        if (dirtyFieldMask != null) {
+            // 实体之后还可能被修改,而返回的mask可能被用作缓存的key
+            return dirtyFieldMask.clone();
         }
-        Map<String, String> map = new HashMap<>();
-        for (Field field : fields) {
-            String columnName = JavaNamingUtils.toUnderscoreCase(field.getName());
-            map.put(field.getName(), columnName);
-        }
-        return map;
+        return nonNullFieldMask(entity);
     }
 
     /**
-     * 获取{@link TableEntity}的属性.
+     * field mask中,每个bit对应的属性名称.
      *
-     * @param entity           表对应的实体
-     * @param onlyNotNullField 是否只获取值不为<code>null</code>的属性
-     * @return fields
+     * @param clazz class
+     * @return 属性名称, 下标就是bit的位置
      */
-    private static Field[] getField(TableEntity entity, boolean onlyNotNullField) {
-        Field[] fields;
-        if (onlyNotNullField) {
-            fields = getNotNullField(entity);
-        } else {
-            fields = getField(entity.getClass());
-        }
-        return fields;
+    public static String[] fieldNames(Class<? extends TableEntity> clazz) {
+        return getAccessor(clazz).fieldNames().clone();
     }
 
     /**
-     * 获取{@link TableEntity}的属性.
+     * key是属性名称,value该属性对应的数据库表的列名.只包含field mask中bit为1的属性,
+     * 并且按照属性在mask中的顺序排列.
      *
-     * @param clazz class
-     * @return fields
+     * @param clazz     class
+     * @param fieldMask {@link #nonNullFieldMask(TableEntity)}返回的field mask
+     * @return field和column的映射
      */
-    private static Field[] getField(Class<? extends TableEntity> clazz) {
-        List<PojoFieldInfo> fieldInfoList = BeanUtils.getFieldInfoList(clazz, false, false, null, null);
-        if (fieldInfoList == null || fieldInfoList.isEmpty()) {
-            return null;
-        }
-        Field[] fields = new Field[fieldInfoList.size()];
-        for (int i = 0; i < fieldInfoList.size(); i++) {
-            fields[i] = fieldInfoList.get(i).getField();
+    public static Map<String, String> fieldToColumn(Class<? extends TableEntity> clazz, long[] fieldMask) {
+        TableEntityAccessor<?> accessor = getAccessor(clazz);
+        String[] fieldNames = accessor.fieldNames();
+        String[] columnNames = accessor.columnNames();
+        Map<String, String> map = new LinkedHashMap<>();
+        for (int i = 0; i < fieldNames.length; i++) {
+            if ((fieldMask[i >>> 6] & (1L << i)) != 0) {
+                map.put(fieldNames[i], columnNames[i]);
+            }
         }
-        return fields;
+        return map;
     }
 
     /**
-     * 获取{@link TableEntity}的属性.
+     * field mask中是否有任何一个bit为1.
      *
-     * @param entity 实体类
-     * @return fields
+     * @param fieldMask field mask
+     * @return true-如果所有bit都是0
      */
-    private static Field[] getNotNullField(TableEntity entity) {
-        List<PojoFieldInfo> fieldInfoList = BeanUtils.getFieldInfoList(entity.getClass(), true, false, null, null);
-        if (fieldInfoList == null || fieldInfoList.isEmpty()) {
-            return null;
+    public static boolean isEmptyFieldMask(long[] fieldMask) {
+        if (fieldMask == null) {
+            return true;
         }
-        List<Field> fields = new ArrayList<>(fieldInfoList.size());
-        for (PojoFieldInfo pojoFieldInfo : fieldInfoList) {
-            Method method = pojoFieldInfo.getGetter();
-            if (getValue(entity, method) != null) {
-                fields.add(pojoFieldInfo.getField());
+        for (long word : fieldMask) {
+            if (word != 0) {
+                return false;
             }
         }
-        return fields.toArray(new Field[]{});
+        return true;
+    }
+
+    /**
+     * 根据entity class找到对应的mybatis mapper类.
+     *
+     * @param clazz {@link TableEntity} class
+     * @return 对应的mybatis mapper
+     */
+    public static Class<?> getMybatisMapper(Class<? extends TableEntity> clazz) {
+        String entityName = clazz.getName();
+        String mapperName = StringUtils.addSuffix(entityName, Constant.MAPPER_CLASS_NAME_SUFFIX);
+        try {
+            return Class.forName(mapperName);
+        } catch (ClassNotFoundException e) {
+            // 代码生成的类,一般都会找到
+            throw new RuntimeException("TableEntity " + clazz + " 没有找到对应的Mapper类!", e);
+        }
+    }
+
+    /**
+     * 实体对应的accessor.
+     *
+     * @param entity 实体
+     * @return accessor
+     */
+    @SuppressWarnings("unchecked")
+    private static TableEntityAccessor<TableEntity> accessorOf(TableEntity entity) {
+        return ACCESSOR_CACHE.get(entity.getClass());
     }
 
-    private static Object getValue(TableEntity entity, Method getter) {
+    /**
+     * 按照命名约定加载代码生成器生成的accessor,即实体类名加上{@link Constant#ACCESSOR_CLASS_NAME_SUFFIX}.
+     *
+     * @param clazz 实体class
+     * @return accessor, null-如果没有生成accessor
+     */
+    private static TableEntityAccessor loadGeneratedAccessor(Class<?> clazz) {
+        String accessorName = StringUtils.addSuffix(clazz.getName(), Constant.ACCESSOR_CLASS_NAME_SUFFIX);
+        Class<?> accessorClass;
+        try {
+            accessorClass = Class.forName(accessorName, true, clazz.getClassLoader());
+        } catch (ClassNotFoundException e) {
+            return null;
+        }
+        if (!TableEntityAccessor.class.isAssignableFrom(accessorClass)) {
+            logger.warn("{} 没有实现 {},使用反射访问属性", accessorName, TableEntityAccessor.class.getName());
+            return null;
+        }
         try {
-            return getter.invoke(entity);
+            return (TableEntityAccessor) accessorClass.newInstance();
         } catch (Exception e) {
-            // 自动生成的代码,肯定会有getter方法,一般不会来到这里
-            logger.warn(e.getMessage(), e);
+            logger.warn(accessorName + " 实例化失败,使用反射访问属性", e);
             return null;
         }
     }
@@ -0,0 +1,98 @@
+package com.wuda.yhan.code.generator.lang.metrics;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class LatencyHistogramTest {
+
+    @Test
+    public void testPercentileBounds() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        int count = 100000;
+        for (int i = 1; i <= count; i++) {
+            histogram.record(i * 7L);
+        }
+        for (double percentile : new double[]{1, 50, 90, 99, 99.9, 99.99}) {
+            long exact = (long) Math.ceil(percentile / 100 * count) * 7L;
+            long value = histogram.getValueAtPercentile(percentile);
+            // 不小于准确值,相对误差不超过1/SUB_BUCKET_COUNT
+            assertTrue(percentile + ": " + value, value >= exact);
+            assertTrue(percentile + ": " + value, value <= exact + exact / LatencyHistogram.SUB_BUCKET_COUNT);
+        }
+        assertEquals(count * 7L, histogram.getValueAtPercentile(100));
+        assertEquals(count * 7L, histogram.getMaxValue());
+        assertEquals(count, histogram.getTotalCount());
+        assertEquals((count + 1) * 7.0 / 2, histogram.getMean(), 1e-9);
+    }
+
+    @Test
+    public void testSmallValuesAreExact() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 0; i < 2 * LatencyHistogram.SUB_BUCKET_COUNT; i++) {
+            histogram.record(i);
+        }
+        assertEquals(0, histogram.getValueAtPercentile(0));
+        assertEquals(31, histogram.getValueAtPercentile(50));
+        assertEquals(63, histogram.getValueAtPercentile(100));
+    }
+
+    @Test
+    public void testNotExceedMaxValue() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(1000);
+        // 1000所在的bucket是[992, 1007]
+        assertEquals(1000, histogram.getValueAtPercentile(50));
+        histogram.record(Long.MAX_VALUE);
+        assertEquals(Long.MAX_VALUE, histogram.getValueAtPercentile(100));
+    }
+
+    @Test
+    public void testEmptyAndNegative() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        assertEquals(0, histogram.getValueAtPercentile(99));
+        assertEquals(0, histogram.getMean(), 0);
+        histogram.record(-5);
+        assertEquals(0, histogram.getValueAtPercentile(100));
+        assertEquals(1, histogram.getTotalCount());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidPercentile() {
+        new LatencyHistogram().getValueAtPercentile(100.5);
+    }
+
+    @Test
+    public void testBucketIndex() {
+        // 小于2*SUB_BUCKET_COUNT的值每个值一个bucket
+        for (int value = 0; value < 2 * LatencyHistogram.SUB_BUCKET_COUNT; value++) {
+            assertEquals(value, LatencyHistogram.bucketIndex(value));
+            assertEquals(value, LatencyHistogram.highestValueInBucket(value));
+        }
+        // 64和65在同一个bucket,之后每个2的n次方区间的bucket宽度翻倍
+        assertEquals(64, LatencyHistogram.bucketIndex(64));
+        assertEquals(64, LatencyHistogram.bucketIndex(65));
+        assertEquals(65, LatencyHistogram.highestValueInBucket(64));
+        assertEquals(96, LatencyHistogram.bucketIndex(128));
+        assertEquals(131, LatencyHistogram.highestValueInBucket(96));
+        assertEquals(Long.MAX_VALUE, LatencyHistogram.highestValueInBucket(LatencyHistogram.bucketIndex(Long.MAX_VALUE)));
+    }
+
+    @Test
+    public void testBucketsAreContiguous() {
+        int last = LatencyHistogram.bucketIndex(Long.MAX_VALUE);
+        long lowest = 0;
+        for (int index = 0; index <= last; index++) {
+            long highest = LatencyHistogram.highestValueInBucket(index);
+            assertEquals(index, LatencyHistogram.bucketIndex(lowest));
+            assertEquals(index, LatencyHistogram.bucketIndex(highest));
+            // bucket的宽度不超过最小值的1/SUB_BUCKET_COUNT
+            assertTrue(index + ": " + lowest + "-" + highest,
+                    highest - lowest <= Math.max(0, lowest / LatencyHistogram.SUB_BUCKET_COUNT));
+            lowest = highest + 1;
+        }
+        // 最后一个bucket的上限是Long.MAX_VALUE
+        assertEquals(Long.MIN_VALUE, lowest);
+    }
+}
@@ -0,0 +1,49 @@
+package com.wuda.yhan.code.generator.lang.metrics;
+
+import org.apache.ibatis.binding.BindingException;
+import org.apache.ibatis.binding.MapperMethod;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+
+import static org.junit.Assert.assertEquals;
+
+public class MapperMetricsInterceptorTest {
+
+    @Test
+    public void testBatchSizeOfCollection() {
+        assertEquals(3, MapperMetricsInterceptor.batchSize(Arrays.asList(1, 2, 3)));
+        assertEquals(2, MapperMetricsInterceptor.batchSize(new HashSet<>(Arrays.asList(1, 2))));
+        assertEquals(0, MapperMetricsInterceptor.batchSize(Collections.emptyList()));
+    }
+
+    @Test
+    public void testBatchSizeOfParamMap() {
+        MapperMethod.ParamMap<Object> paramMap = new MapperMethod.ParamMap<>();
+        paramMap.put(MapperMetricsInterceptor.LIST_PARAM_NAME, Arrays.asList(1, 2));
+        paramMap.put("param1", Arrays.asList(1, 2));
+        assertEquals(2, MapperMetricsInterceptor.batchSize(paramMap));
+    }
+
+    @Test(expected = BindingException.class)
+    public void testParamMapThrowsOnMissingKey() {
+        new MapperMethod.ParamMap<>().get(MapperMetricsInterceptor.LIST_PARAM_NAME);
+    }
+
+    @Test
+    public void testBatchSizeOfNonBatchParameter() {
+        // ParamMap中没有list时不能抛出异常
+        MapperMethod.ParamMap<Object> paramMap = new MapperMethod.ParamMap<>();
+        paramMap.put("id", 1L);
+        assertEquals(0, MapperMetricsInterceptor.batchSize(paramMap));
+        // list不是集合
+        MapperMethod.ParamMap<Object> notCollection = new MapperMethod.ParamMap<>();
+        notCollection.put(MapperMetricsInterceptor.LIST_PARAM_NAME, "a");
+        assertEquals(0, MapperMetricsInterceptor.batchSize(notCollection));
+        assertEquals(0, MapperMetricsInterceptor.batchSize(null));
+        assertEquals(0, MapperMetricsInterceptor.batchSize(1L));
+        assertEquals(0, MapperMetricsInterceptor.batchSize(new long[]{1L, 2L}));
+    }
+}
@@ -0,0 +1,141 @@
+package com.wuda.yhan.code.generator.lang.metrics;
+
+import org.apache.ibatis.executor.statement.RoutingStatementHandler;
+import org.apache.ibatis.executor.statement.StatementHandler;
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.mapping.SqlCommandType;
+import org.apache.ibatis.mapping.SqlSource;
+import org.apache.ibatis.plugin.Interceptor;
+import org.apache.ibatis.plugin.Intercepts;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.plugin.Plugin;
+import org.apache.ibatis.plugin.Signature;
+import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.session.RowBounds;
+import org.junit.Test;
+
+import java.lang.reflect.Proxy;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+
+public class SlowQueryInterceptorTest {
+
+    private final Configuration configuration = new Configuration();
+
+    /**
+     * sql builder被调用的次数.
+     */
+    private final AtomicInteger renders = new AtomicInteger();
+
+    @Test
+    public void testSinkFailureDoesNotMaskException() throws SQLException {
+        SlowQueryInterceptor interceptor = new SlowQueryInterceptor((statementId, fingerprint, sql, elapsedNanos) -> {
+            throw new IllegalStateException("sink failed");
+        });
+        interceptor.setThreshold(0, TimeUnit.NANOSECONDS);
+        SQLException exception = new SQLException("deadlock");
+        StatementHandler handler = handler(interceptor, new HashMap<>());
+        try {
+            handler.update(statement(() -> {
+                throw exception;
+            }));
+            fail();
+        } catch (SQLException e) {
+            assertSame(exception, e);
+        }
+        // 成功的语句也不受影响
+        assertEquals(1, handler.update(statement(() -> {
+        })));
+    }
+
+    @Test
+    public void testReportsExecutedSqlWithoutRendering() throws SQLException {
+        List<String> reports = new ArrayList<>();
+        SlowQueryInterceptor interceptor = new SlowQueryInterceptor((statementId, fingerprint, sql, elapsedNanos) ->
+                reports.add(statementId + ": " + sql));
+        interceptor.setThreshold(0, TimeUnit.NANOSECONDS);
+        Map<String, Object> parameter = new HashMap<>();
+        StatementHandler handler = handler(interceptor, parameter);
+        assertEquals(1, renders.get());
+        // 执行时回填自增主键,再调用sql builder会生成不同的sql
+        handler.update(statement(() -> parameter.put("id", 1L)));
+        assertEquals(Collections.singletonList("ItemMapper.insert: INSERT INTO t(a) VALUES (?)"), reports);
+        assertEquals(1, renders.get());
+    }
+
+    @Test
+    public void testFastStatementNotReported() throws SQLException {
+        SlowQueryInterceptor interceptor = new SlowQueryInterceptor((statementId, fingerprint, sql, elapsedNanos) -> fail());
+        interceptor.setThreshold(1, TimeUnit.HOURS);
+        handler(interceptor, new HashMap<>()).update(statement(() -> {
+        }));
+    }
+
+    /**
+     * 和mybatis一样创建handler,先被另一个插件包装,再被<i>interceptor</i>包装.
+     */
+    private StatementHandler handler(SlowQueryInterceptor interceptor, Map<String, Object> parameter) {
+        // 和sql builder一样,只有非null的属性才出现在sql中
+        SqlSource sqlSource = param -> {
+            renders.incrementAndGet();
+            String sql = ((Map<?, ?>) param).containsKey("id") ? "INSERT INTO t(id,a) VALUES (?,?)" : "INSERT INTO t(a) VALUES (?)";
+            return new BoundSql(configuration, sql, Collections.emptyList(), param);
+        };
+        MappedStatement mappedStatement = new MappedStatement.Builder(configuration, "ItemMapper.insert", sqlSource,
+                SqlCommandType.INSERT).build();
+        StatementHandler handler = new RoutingStatementHandler(null, mappedStatement, parameter, RowBounds.DEFAULT, null, null);
+        return (StatementHandler) interceptor.plugin(new OtherInterceptor().plugin(handler));
+    }
+
+    private static Statement statement(Execution execution) {
+        return (Statement) Proxy.newProxyInstance(SlowQueryInterceptorTest.class.getClassLoader(), new Class<?>[]{PreparedStatement.class},
+                (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "execute":
+                            execution.execute();
+                            return false;
+                        case "getUpdateCount":
+                            return 1;
+                        default:
+                            return null;
+                    }
+                });
+    }
+
+    private interface Execution {
+
+        void execute() throws SQLException;
+    }
+
+    @Intercepts(@Signature(type = StatementHandler.class, method = "update", args = {Statement.class}))
+    private static class OtherInterceptor implements Interceptor {
+
+        @Override
+        public Object intercept(Invocation invocation) throws Throwable {
+            return invocation.proceed();
+        }
+
+        @Override
+        public Object plugin(Object target) {
+            return Plugin.wrap(target, this);
+        }
+
+        @Override
+        public void setProperties(Properties properties) {
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.wuda.yhan.code.generator.lang.metrics;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+public class SqlFingerprintUtilsTest {
+
+    @Test
+    public void testInList() {
+        assertEquals("SELECT * FROM t WHERE id IN (...)",
+                SqlFingerprintUtils.normalize("SELECT * FROM t WHERE id IN (?, ?,\n ?)"));
+        assertEquals(SqlFingerprintUtils.normalize("SELECT * FROM t WHERE id IN (#{list[0]})"),
+                SqlFingerprintUtils.normalize("SELECT * FROM t WHERE id in (1,2,3)"));
+    }
+
+    @Test
+    public void testRowInList() {
+        assertEquals("SELECT * FROM t WHERE (a,b) IN ((?,?),...)",
+                SqlFingerprintUtils.normalize("SELECT * FROM t WHERE (a, b) IN ((?, ?), (?, ?), (?, ?))"));
+    }
+
+    @Test
+    public void testValues() {
+        assertEquals("INSERT INTO t (a,b) VALUES (?,?),...",
+                SqlFingerprintUtils.normalize("INSERT INTO t (a, b)\nVALUES (#{list[0].a}, #{list[0].b}), (#{list[1].a}, 'x')"));
+        // 只有一行时不变
+        assertEquals("INSERT INTO t (a,b) VALUES (?,?)", SqlFingerprintUtils.normalize("INSERT INTO t (a, b) VALUES (?, ?)"));
+    }
+
+    @Test
+    public void testCaseWhen() {
+        assertEquals("UPDATE t SET name = CASE id WHEN ? THEN ? ... ELSE name END WHERE id IN (...)",
+                SqlFingerprintUtils.normalize("UPDATE t\nSET name = CASE id WHEN #{list[0].id} THEN #{list[0].name} "
+                        + "WHEN #{list[1].id} THEN #{list[1].name} ELSE name END\nWHERE id IN (#{list[0].id},#{list[1].id})"));
+    }
+
+    @Test
+    public void testOrGroups() {
+        assertEquals("SELECT * FROM t WHERE (a = ? AND b = ?) OR ...",
+                SqlFingerprintUtils.normalize("SELECT * FROM t WHERE (a = ? AND b = ?) OR (a = ? AND b = ?)"));
+    }
+
+    @Test
+    public void testLiterals() {
+        // 引号中的;和转义的引号都属于常量
+        assertEquals("SELECT * FROM t WHERE name = ? AND code = ? AND c = ?",
+                SqlFingerprintUtils.normalize("SELECT * FROM t WHERE name = 'a;b' AND code = \"it''s\\\"x\" AND c = 'x'"));
+        // 标识符中的数字不是常量,反引号中的内容保持不变
+        assertEquals("SELECT `col 1` FROM t_01 WHERE v > ? LIMIT ?",
+                SqlFingerprintUtils.normalize("SELECT `col 1` FROM t_01 WHERE v > 1.5 LIMIT 10"));
+    }
+
+    @Test
+    public void testFingerprintInterned() {
+        String first = SqlFingerprintUtils.fingerprint("SELECT * FROM t WHERE id IN (1,2)");
+        String second = SqlFingerprintUtils.fingerprint("SELECT * FROM t WHERE id IN (3)");
+        assertSame(first, second);
+    }
+
+    @Test
+    public void testLongSqlNotCached() {
+        // 很长的IN列表不缓存,但是指纹仍然和短的sql相同
+        StringBuilder builder = new StringBuilder("SELECT * FROM t WHERE id IN (0");
+        for (int i = 1; builder.length() <= SqlFingerprintUtils.MAX_CACHED_LENGTH; i++) {
+            builder.append(',').append(i);
+        }
+        String sql = builder.append(')').toString();
+        String fingerprint = SqlFingerprintUtils.fingerprint(sql);
+        assertSame(SqlFingerprintUtils.fingerprint("SELECT * FROM t WHERE id IN (1)"), fingerprint);
+        assertSame(fingerprint, SqlFingerprintUtils.fingerprint(sql));
+    }
+}
@@ -0,0 +1,118 @@
+package com.wuda.yhan.code.generator.lang.routing;
+
+import org.junit.Test;
+
+import javax.sql.DataSource;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class ReadWriteRoutingDataSourceTest {
+
+    /**
+     * 物理连接上调用的方法,格式是"数据源名称.方法名".
+     */
+    private final List<String> calls = new ArrayList<>();
+
+    private final ReadWriteRoutingDataSource dataSource = new ReadWriteRoutingDataSource(dataSource("primary", true),
+            Collections.singletonList(dataSource("replica", true)));
+
+    @Test
+    public void testAutoCommitRoutesEachStatement() throws SQLException {
+        Connection connection = dataSource.getConnection();
+        assertTrue(calls.isEmpty());
+        prepare(connection, true);
+        prepare(connection, false);
+        prepare(connection, true);
+        connection.close();
+        assertEquals(list("replica.getConnection", "replica.setReadOnly", "replica.getAutoCommit", "replica.prepareStatement",
+                "primary.getConnection", "primary.getAutoCommit", "primary.prepareStatement",
+                "replica.prepareStatement",
+                "replica.close", "primary.close"), calls);
+    }
+
+    @Test
+    public void testTransactionUsesPrimary() throws SQLException {
+        Connection connection = dataSource.getConnection();
+        connection.setAutoCommit(false);
+        prepare(connection, true);
+        prepare(connection, false);
+        connection.commit();
+        connection.close();
+        assertEquals(list("primary.getConnection", "primary.getAutoCommit", "primary.setAutoCommit",
+                "primary.prepareStatement", "primary.prepareStatement", "primary.commit", "primary.close"), calls);
+    }
+
+    @Test
+    public void testPrimaryDefaultsToManualCommit() throws SQLException {
+        // 连接池配置成autoCommit=false,比如HikariCP的autoCommit属性
+        ReadWriteRoutingDataSource dataSource = new ReadWriteRoutingDataSource(dataSource("primary", false),
+                Collections.singletonList(dataSource("replica", true)));
+        Connection connection = dataSource.getConnection();
+        // mybatis的openSession(true)看到自动提交就不会调用commit
+        assertTrue(connection.getAutoCommit());
+        prepare(connection, false);
+        connection.close();
+        assertEquals(list("primary.getConnection", "primary.getAutoCommit", "primary.setAutoCommit(true)",
+                "primary.prepareStatement", "primary.close"), calls);
+    }
+
+    @Test
+    public void testCommitWithoutStatement() throws SQLException {
+        Connection connection = dataSource.getConnection();
+        connection.setAutoCommit(false);
+        connection.commit();
+        connection.close();
+        assertTrue(calls.isEmpty());
+    }
+
+    private static void prepare(Connection connection, boolean readOnly) throws SQLException {
+        Boolean previous = RoutingContext.mark(readOnly);
+        try {
+            connection.prepareStatement("SELECT 1");
+        } finally {
+            RoutingContext.restore(previous);
+        }
+    }
+
+    private static List<String> list(String... calls) {
+        List<String> list = new ArrayList<>();
+        Collections.addAll(list, calls);
+        return list;
+    }
+
+    private DataSource dataSource(String name, boolean autoCommit) {
+        return (DataSource) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{DataSource.class}, (proxy, method, args) -> {
+            if (!method.getName().equals("getConnection")) {
+                throw new UnsupportedOperationException(method.getName());
+            }
+            calls.add(name + ".getConnection");
+            return connection(name, autoCommit);
+        });
+    }
+
+    private Connection connection(String name, boolean defaultAutoCommit) {
+        boolean[] autoCommit = {defaultAutoCommit};
+        return (Connection) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{Connection.class}, (proxy, method, args) -> {
+            switch (method.getName()) {
+                case "getAutoCommit":
+                    calls.add(name + ".getAutoCommit");
+                    return autoCommit[0];
+                case "setAutoCommit":
+                    autoCommit[0] = (Boolean) args[0];
+                    // 只有和默认值不同时才记录参数,这样其他测试中的记录不变
+                    calls.add(name + ".setAutoCommit" + (defaultAutoCommit ? "" : "(" + args[0] + ")"));
+                    return null;
+                default:
+                    calls.add(name + "." + method.getName());
+                    return null;
+            }
+        });
+    }
+}
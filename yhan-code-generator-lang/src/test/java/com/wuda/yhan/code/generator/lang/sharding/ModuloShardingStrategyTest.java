@@ -0,0 +1,57 @@
+package com.wuda.yhan.code.generator.lang.sharding;
+
+import org.junit.Test;
+
+import java.math.BigInteger;
+
+import static org.junit.Assert.assertEquals;
+
+public class ModuloShardingStrategyTest {
+
+    @Test
+    public void testPhysicalTable() {
+        ModuloShardingStrategy strategy = new ModuloShardingStrategy(64);
+        // 后缀加在最后一个反引号之前
+        assertEquals("`shop`.`order_07`", strategy.physicalTable("`shop`.`order`", 7L));
+        assertEquals("`shop`.`order_63`", strategy.physicalTable("`shop`.`order`", 127));
+        assertEquals("shop.order_00", strategy.physicalTable("shop.order", 64L));
+    }
+
+    @Test
+    public void testSuffixWidth() {
+        // 至少两位
+        assertEquals("t_03", new ModuloShardingStrategy(4).physicalTable("t", 3));
+        assertEquals("t_00", new ModuloShardingStrategy(1).physicalTable("t", 5));
+        // 最大的下标是100,补齐到三位
+        assertEquals("t_007", new ModuloShardingStrategy(101).physicalTable("t", 7));
+        assertEquals("t_100", new ModuloShardingStrategy(101).physicalTable("t", 100));
+        assertEquals("t_99", new ModuloShardingStrategy(100).physicalTable("t", 99));
+    }
+
+    @Test
+    public void testNegativeShardKey() {
+        ModuloShardingStrategy strategy = new ModuloShardingStrategy(10);
+        assertEquals(9, strategy.shardIndex(-1L));
+        assertEquals(7, strategy.shardIndex(-3));
+        assertEquals(0, strategy.shardIndex((short) -10));
+        assertEquals(2, strategy.shardIndex(Long.MIN_VALUE));
+        assertEquals("`shop`.`order_09`", strategy.physicalTable("`shop`.`order`", -1L));
+    }
+
+    @Test
+    public void testNonIntegralShardKey() {
+        ModuloShardingStrategy strategy = new ModuloShardingStrategy(10);
+        // hashCode是Integer.MIN_VALUE
+        assertEquals(Integer.MIN_VALUE, "polygenelubricants".hashCode());
+        assertEquals(2, strategy.shardIndex("polygenelubricants"));
+        assertEquals(Math.floorMod("order".hashCode(), 10), strategy.shardIndex("order"));
+        // BigInteger不是直接取模
+        BigInteger key = BigInteger.valueOf(-7);
+        assertEquals(Math.floorMod(key.hashCode(), 10), strategy.shardIndex(key));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testShardCountMustBePositive() {
+        new ModuloShardingStrategy(0);
+    }
+}
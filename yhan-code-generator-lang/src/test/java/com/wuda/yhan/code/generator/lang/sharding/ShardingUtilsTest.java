@@ -0,0 +1,79 @@
+package com.wuda.yhan.code.generator.lang.sharding;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.function.Function;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class ShardingUtilsTest {
+
+    /**
+     * 每个测试使用不同的逻辑表,注册的策略是全局的.
+     */
+    private static String register(String table) {
+        String schemaDotTable = "`shop`.`" + table + "`";
+        ShardingUtils.register(schemaDotTable, new ModuloShardingStrategy(4));
+        return schemaDotTable;
+    }
+
+    @Test
+    public void testPhysicalTableOfList() {
+        String schemaDotTable = register("order_list");
+        assertEquals("`shop`.`order_list_01`", ShardingUtils.physicalTable(schemaDotTable, Arrays.asList(1L, 5L, -3L), Function.identity()));
+        try {
+            ShardingUtils.physicalTable(schemaDotTable, Arrays.asList(1L, 5L, 2L), Function.identity());
+            fail();
+        } catch (RuntimeException e) {
+            assertTrue(e.getMessage(), e.getMessage().contains("`shop`.`order_list_01`和`shop`.`order_list_02`"));
+        }
+    }
+
+    @Test
+    public void testPhysicalTableOfEmptyListUsesShardKey() {
+        String schemaDotTable = register("order_empty");
+        assertEquals("`shop`.`order_empty_03`", ShardingUtils.withShardKey(7L,
+                () -> ShardingUtils.physicalTable(schemaDotTable, Collections.<Long>emptyList(), Function.identity())));
+    }
+
+    @Test
+    public void testWithShardKeyNested() {
+        String schemaDotTable = register("order_nested");
+        ShardingUtils.withShardKey(1L, () -> {
+            assertEquals("`shop`.`order_nested_01`", ShardingUtils.physicalTable(schemaDotTable));
+            ShardingUtils.withShardKey(2L, () -> {
+                assertEquals("`shop`.`order_nested_02`", ShardingUtils.physicalTable(schemaDotTable));
+                // 参数中的分片键优先
+                assertEquals("`shop`.`order_nested_03`", ShardingUtils.physicalTable(schemaDotTable, 3L));
+                return null;
+            });
+            // 内层结束后恢复外层的分片键,即使内层抛出异常
+            assertEquals("`shop`.`order_nested_01`", ShardingUtils.physicalTable(schemaDotTable));
+            try {
+                ShardingUtils.withShardKey(2L, () -> {
+                    throw new IllegalStateException();
+                });
+                fail();
+            } catch (IllegalStateException e) {
+                assertEquals("`shop`.`order_nested_01`", ShardingUtils.physicalTable(schemaDotTable));
+            }
+            return null;
+        });
+        // 外层结束后没有分片键
+        try {
+            ShardingUtils.physicalTable(schemaDotTable);
+            fail();
+        } catch (RuntimeException e) {
+            assertTrue(e.getMessage(), e.getMessage().contains("withShardKey"));
+        }
+    }
+
+    @Test(expected = RuntimeException.class)
+    public void testUnregisteredTable() {
+        ShardingUtils.physicalTable("`shop`.`unregistered`", 1L);
+    }
+}
@@ -0,0 +1,121 @@
+package com.wuda.yhan.code.generator.lang.util;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class BatchLoaderTest {
+
+    /**
+     * 每次批量查询的key.
+     */
+    private final List<List<String>> batches = new ArrayList<>();
+
+    @Test
+    public void testDedupe() {
+        BatchLoader<String, String> loader = new BatchLoader<>(this::query, this::key, 10);
+        CompletableFuture<String> first = loader.load("a");
+        CompletableFuture<String> second = loader.load("a");
+        loader.load("b");
+        assertSame(first, second);
+        loader.dispatch();
+        assertEquals("a-value", first.join());
+        // 已经完成的key不再查询
+        assertEquals(Arrays.asList("a-value", "b-value"), loader.loadMany(Arrays.asList("a", "b")).join());
+        loader.dispatch();
+        assertEquals(Collections.singletonList(Arrays.asList("a", "b")), batches);
+    }
+
+    @Test
+    public void testMaxBatchSize() {
+        BatchLoader<String, String> loader = new BatchLoader<>(this::query, this::key, 2);
+        CompletableFuture<String> a = loader.load("a");
+        assertTrue(!a.isDone());
+        loader.load("b");
+        assertEquals("a-value", a.getNow(null));
+        loader.load("c");
+        loader.dispatch();
+        assertEquals(Arrays.asList(Arrays.asList("a", "b"), Collections.singletonList("c")), batches);
+    }
+
+    @Test
+    public void testRetryAfterFailure() {
+        RuntimeException exception = new RuntimeException("query failed");
+        boolean[] fail = {true};
+        BatchLoader<String, String> loader = new BatchLoader<>(keys -> {
+            if (fail[0]) {
+                throw exception;
+            }
+            return query(keys);
+        }, this::key, 10);
+        CompletableFuture<String> failed = loader.load("a");
+        loader.dispatch();
+        try {
+            failed.join();
+            fail();
+        } catch (CompletionException e) {
+            assertSame(exception, e.getCause());
+        }
+        // 失败的key再次加载时重新查询
+        fail[0] = false;
+        CompletableFuture<String> retried = loader.load("a");
+        assertTrue(retried != failed);
+        loader.dispatch();
+        assertEquals("a-value", retried.join());
+    }
+
+    @Test
+    public void testMissingRecordCompletesWithNull() {
+        // 批量查询只返回存在的记录,并且可以包含null和不属于这一批的记录
+        BatchLoader<String, String> loader = new BatchLoader<>(keys -> Arrays.asList(null, "other-value", "b-value"), this::key, 10);
+        CompletableFuture<String> a = loader.load("a");
+        CompletableFuture<String> b = loader.load("b");
+        loader.dispatch();
+        assertNull(a.join());
+        assertEquals("b-value", b.join());
+
+        BatchLoader<String, String> nullResult = new BatchLoader<>(keys -> null, this::key, 10);
+        CompletableFuture<String> c = nullResult.load("c");
+        nullResult.dispatch();
+        assertNull(c.join());
+    }
+
+    @Test
+    public void testKeyMatchingUsesEquals() {
+        // 不区分大小写的collation中'A'和'a'相等,但是equals不相等,查询到的记录对应不到key
+        BatchLoader<String, String> loader = new BatchLoader<>(keys -> Collections.singletonList("a-value"), this::key, 10);
+        CompletableFuture<String> upper = loader.load("A");
+        loader.dispatch();
+        assertNull(upper.join());
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testNullKey() {
+        new BatchLoader<>(this::query, this::key, 10).load(null);
+    }
+
+    private List<String> query(List<String> keys) {
+        batches.add(new ArrayList<>(keys));
+        List<String> values = new ArrayList<>(keys.size());
+        // 返回的顺序和key的顺序不一样
+        for (int i = keys.size() - 1; i >= 0; i--) {
+            values.add(keys.get(i) + "-value");
+        }
+        return values;
+    }
+
+    private String key(String value) {
+        return value.substring(0, value.indexOf('-'));
+    }
+}
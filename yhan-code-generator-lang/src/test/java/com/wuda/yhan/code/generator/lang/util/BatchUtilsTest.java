@@ -0,0 +1,79 @@
+package com.wuda.yhan.code.generator.lang.util;
+
+import com.wuda.yhan.code.generator.lang.TableEntity;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+
+public class BatchUtilsTest {
+
+    @Test
+    public void testExecuteInChunksByBytes() {
+        List<Integer> rows = Arrays.asList(100, 100, 100, 900, 100, 2000, 100);
+        List<List<Integer>> chunks = new ArrayList<>();
+        long maxStatementBytes = BatchUtils.STATEMENT_HEADER_BYTES + 1000;
+        int affectedRows = BatchUtils.executeInChunks(rows, 10, maxStatementBytes, bytes -> bytes, chunk -> {
+            chunks.add(new ArrayList<>(chunk));
+            return chunk.size();
+        });
+        assertEquals(rows.size(), affectedRows);
+        // 超过上限的行单独一批
+        assertEquals(Arrays.asList(Arrays.asList(100, 100, 100), Arrays.asList(900, 100), Arrays.asList(2000), Arrays.asList(100)), chunks);
+    }
+
+    @Test
+    public void testExecuteInChunksByRows() {
+        List<Integer> rows = Arrays.asList(1, 1, 1, 1, 1);
+        List<Integer> sizes = new ArrayList<>();
+        BatchUtils.executeInChunks(rows, 2, Long.MAX_VALUE, bytes -> bytes, chunk -> {
+            sizes.add(chunk.size());
+            return chunk.size();
+        });
+        assertEquals(Arrays.asList(2, 2, 1), sizes);
+    }
+
+    @Test
+    public void testInsertRowBytes() {
+        // 括号和逗号5个字节, NULL, 'a\'b', 123
+        assertEquals(5 + 4 + 6 + 3, BatchUtils.insertRowBytes(new Item(null, "a'b", 123)));
+        // 中文每个字符3个字节, emoji 4个字节
+        assertEquals(5 + 4 + 2 + 6 + 4 + 1, BatchUtils.insertRowBytes(new Item(null, "中文\uD83D\uDE00", 1)));
+    }
+
+    @Test
+    public void testUpdateRowBytes() {
+        // " WHEN 7 THEN 'a\'b'",IN条件中的"7,",值为null的quantity不更新
+        assertEquals(12 + 1 + 6 + 2, BatchUtils.updateRowBytes(new Item(7L, "a'b", null), "id"));
+        // " WHEN id=7 AND name='ab' THEN 3",IN条件中的"(7,'ab'),"
+        assertEquals(31 + 9, BatchUtils.updateRowBytes(new Item(7L, "ab", 3), "id", "name"));
+    }
+
+    public static class Item implements TableEntity {
+
+        private final Long id;
+        private final String name;
+        private final Integer quantity;
+
+        Item(Long id, String name, Integer quantity) {
+            this.id = id;
+            this.name = name;
+            this.quantity = quantity;
+        }
+
+        public Long getId() {
+            return id;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public Integer getQuantity() {
+            return quantity;
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.wuda.yhan.code.generator.lang.util;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+public class ConcurrentLruCacheTest {
+
+    @Test
+    public void testCompute() {
+        ConcurrentLruCache<String, Integer> cache = new ConcurrentLruCache<>(4);
+        assertEquals(Integer.valueOf(1), cache.compute("a", (key, old) -> {
+            assertNull(old);
+            return 1;
+        }));
+        assertEquals(Integer.valueOf(2), cache.compute("a", (key, old) -> old + 1));
+        assertEquals(Integer.valueOf(2), cache.get("a"));
+        // 返回null表示删除
+        assertNull(cache.compute("a", (key, old) -> null));
+        assertNull(cache.get("a"));
+        assertEquals(0, cache.size());
+        // 不存在时返回null,什么都不做
+        assertNull(cache.compute("b", (key, old) -> null));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void testComputeKeepsCapacity() {
+        ConcurrentLruCache<Integer, Integer> cache = new ConcurrentLruCache<>(2, 1);
+        cache.compute(1, (key, old) -> 1);
+        cache.compute(2, (key, old) -> 2);
+        // 访问1之后,最久未被访问的是2
+        cache.get(1);
+        cache.compute(3, (key, old) -> 3);
+        assertEquals(2, cache.size());
+        assertEquals(Integer.valueOf(1), cache.get(1));
+        assertNull(cache.get(2));
+        assertEquals(Integer.valueOf(3), cache.get(3));
+    }
+
+    @Test
+    public void testComputeIfAbsent() {
+        ConcurrentLruCache<String, Integer> cache = new ConcurrentLruCache<>(4);
+        assertEquals(Integer.valueOf(1), cache.computeIfAbsent("a", key -> 1));
+        assertEquals(Integer.valueOf(1), cache.computeIfAbsent("a", key -> 2));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testCapacityMustBePositive() {
+        new ConcurrentLruCache<String, Integer>(0);
+    }
+}
@@ -0,0 +1,110 @@
+package com.wuda.yhan.code.generator.lang.util;
+
+import com.wuda.yhan.code.generator.lang.TableEntity;
+import org.apache.ibatis.cursor.Cursor;
+import org.apache.ibatis.plugin.Invocation;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class DirtyFieldMaskInterceptorTest {
+
+    private final DirtyFieldMaskInterceptor interceptor = new DirtyFieldMaskInterceptor();
+
+    @Test
+    public void testClearListResult() throws Throwable {
+        TrackedEntity first = new TrackedEntity();
+        TrackedEntity second = new TrackedEntity();
+        List<Object> nested = new ArrayList<>(Collections.singletonList(second));
+        List<Object> result = new ArrayList<>(Arrays.asList(first, nested, "not an entity"));
+
+        Object returned = interceptor.intercept(invocation(result));
+
+        assertSame(result, returned);
+        assertArrayEquals(new long[]{0L}, first.dirtyFieldMask());
+        assertArrayEquals(new long[]{0L}, second.dirtyFieldMask());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testClearCursorResult() throws Throwable {
+        TrackedEntity entity = new TrackedEntity();
+        Cursor<Object> cursor = new ListCursor(Collections.singletonList(entity));
+
+        Cursor<Object> returned = (Cursor<Object>) interceptor.intercept(invocation(cursor));
+
+        assertArrayEquals(new long[]{1L}, entity.dirtyFieldMask());
+        Iterator<Object> iterator = returned.iterator();
+        assertSame(entity, iterator.next());
+        assertArrayEquals(new long[]{0L}, entity.dirtyFieldMask());
+        assertTrue(!iterator.hasNext());
+    }
+
+    private static Invocation invocation(Object result) throws NoSuchMethodException {
+        return new Invocation(result, Object.class.getMethod("toString"), new Object[0]) {
+            @Override
+            public Object proceed() {
+                return result;
+            }
+        };
+    }
+
+    /**
+     * mybatis已经通过set方法填充过的实体.
+     */
+    private static class TrackedEntity implements TableEntity {
+
+        private final long[] dirtyFieldMask = {1L};
+
+        @Override
+        public long[] dirtyFieldMask() {
+            return dirtyFieldMask;
+        }
+
+        @Override
+        public void clearDirtyFieldMask() {
+            Arrays.fill(dirtyFieldMask, 0L);
+        }
+    }
+
+    private static class ListCursor implements Cursor<Object> {
+
+        private final List<Object> list;
+
+        ListCursor(List<Object> list) {
+            this.list = list;
+        }
+
+        @Override
+        public boolean isOpen() {
+            return true;
+        }
+
+        @Override
+        public boolean isConsumed() {
+            return false;
+        }
+
+        @Override
+        public int getCurrentIndex() {
+            return 0;
+        }
+
+        @Override
+        public void close() {
+        }
+
+        @Override
+        public Iterator<Object> iterator() {
+            return list.iterator();
+        }
+    }
+}
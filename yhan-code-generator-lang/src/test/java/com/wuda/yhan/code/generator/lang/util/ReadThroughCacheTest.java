@@ -0,0 +1,105 @@
+package com.wuda.yhan.code.generator.lang.util;
+
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+public class ReadThroughCacheTest {
+
+    @After
+    public void resetAfterCommitExecutor() {
+        ReadThroughCache.setAfterCommitExecutor(null);
+    }
+
+    @Test
+    public void testLoadOnce() {
+        ReadThroughCache<String> cache = new ReadThroughCache<>(16, 1, TimeUnit.HOURS);
+        AtomicInteger loads = new AtomicInteger();
+        assertEquals("a", cache.get(1L, "all", () -> {
+            loads.incrementAndGet();
+            return "a";
+        }));
+        assertEquals("a", cache.get(1L, "all", () -> "b"));
+        assertEquals(1, loads.get());
+        // 不同的variant分别加载
+        assertEquals("c", cache.get(1L, "name", () -> "c"));
+        assertEquals("a", cache.get(1L, "all", () -> "d"));
+    }
+
+    @Test
+    public void testNullNotCached() {
+        ReadThroughCache<String> cache = new ReadThroughCache<>(16, 1, TimeUnit.HOURS);
+        assertNull(cache.get(1L, "all", () -> null));
+        assertEquals(0, cache.size());
+        assertEquals("a", cache.get(1L, "all", () -> "a"));
+    }
+
+    @Test
+    public void testInvalidateDuringLoad() {
+        ReadThroughCache<String> cache = new ReadThroughCache<>(16, 1, TimeUnit.HOURS);
+        String value = cache.get(1L, "all", () -> {
+            // 加载的过程中记录被修改了
+            cache.invalidate(1L);
+            return "old";
+        });
+        assertEquals("old", value);
+        assertEquals(0, cache.size());
+        assertEquals("new", cache.get(1L, "all", () -> "new"));
+    }
+
+    @Test
+    public void testInvalidate() {
+        ReadThroughCache<String> cache = new ReadThroughCache<>(16, 1, TimeUnit.HOURS);
+        cache.get(ReadThroughCache.key(1L, "x"), "all", () -> "a");
+        cache.get(ReadThroughCache.key(1L, "x"), "name", () -> "b");
+        cache.get(ReadThroughCache.key(2L, "x"), "all", () -> "c");
+        cache.invalidate(ReadThroughCache.key(1L, "x"));
+        assertEquals(1, cache.size());
+        assertEquals("d", cache.get(ReadThroughCache.key(1L, "x"), "name", () -> "d"));
+        cache.invalidateAll();
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void testExpire() throws InterruptedException {
+        ReadThroughCache<String> cache = new ReadThroughCache<>(16, 1, TimeUnit.MILLISECONDS);
+        cache.get(1L, "all", () -> "a");
+        Thread.sleep(5);
+        assertEquals("b", cache.get(1L, "all", () -> "b"));
+    }
+
+    @Test
+    public void testInvalidateAgainAfterCommit() {
+        List<Runnable> afterCommit = new ArrayList<>();
+        ReadThroughCache.setAfterCommitExecutor(afterCommit::add);
+        ReadThroughCache<String> cache = new ReadThroughCache<>(16);
+        cache.get(1L, "all", () -> "old");
+        // 事务中修改,然后其他线程在提交之前读到旧的记录并放入缓存
+        cache.invalidate(1L);
+        assertEquals("old", cache.get(1L, "all", () -> "old"));
+        assertEquals(1, afterCommit.size());
+        afterCommit.forEach(Runnable::run);
+        assertEquals("new", cache.get(1L, "all", () -> "new"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNoTtlRequiresAfterCommitExecutor() {
+        new ReadThroughCache<String>(16);
+    }
+
+    @Test
+    public void testNullKeyNotCached() {
+        ReadThroughCache<String> cache = new ReadThroughCache<>(16, 1, TimeUnit.HOURS);
+        String value = "a";
+        assertSame(value, cache.get(null, "all", () -> value));
+        assertEquals(0, cache.size());
+    }
+}
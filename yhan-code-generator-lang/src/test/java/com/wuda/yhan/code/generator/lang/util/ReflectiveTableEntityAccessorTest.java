@@ -0,0 +1,51 @@
+package com.wuda.yhan.code.generator.lang.util;
+
+import com.wuda.yhan.code.generator.lang.TableEntity;
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+
+public class ReflectiveTableEntityAccessorTest {
+
+    @Test
+    public void testDirtyFieldMaskIsNotColumn() {
+        ReflectiveTableEntityAccessor accessor = new ReflectiveTableEntityAccessor(Item.class);
+        assertArrayEquals(new String[]{"id", "itemName", "tags"}, accessor.fieldNames());
+        assertArrayEquals(new String[]{"id", "item_name", "tags"}, accessor.columnNames());
+        Item item = new Item();
+        item.id = 1L;
+        assertArrayEquals(new long[]{1L}, accessor.nonNullMask(item));
+    }
+
+    /**
+     * 手写的实体,保存dirty field mask的属性有get方法,比如使用了lombok.
+     */
+    public static class Item implements TableEntity {
+
+        private Long id;
+        private String itemName;
+        private long[] tags;
+        private long[] dirtyFieldMask = new long[1];
+
+        public Long getId() {
+            return id;
+        }
+
+        public String getItemName() {
+            return itemName;
+        }
+
+        public long[] getTags() {
+            return tags;
+        }
+
+        public long[] getDirtyFieldMask() {
+            return dirtyFieldMask;
+        }
+
+        @Override
+        public long[] dirtyFieldMask() {
+            return dirtyFieldMask;
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.wuda.yhan.code.generator.lang.util;
+
+import com.wuda.yhan.code.generator.lang.TableEntity;
+import org.junit.Test;
+
+import java.util.Arrays;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+public class SqlProviderUtilsTest {
+
+    @Test
+    public void testBatchUpsertOnlySetColumns() {
+        Item first = new Item(1L, "a", 10);
+        Item second = new Item(2L, null, 20);
+        String sql = SqlProviderUtils.batchUpsertStatement("db.item", Arrays.asList(first, second), "list", "id");
+        assertEquals("INSERT INTO db.item\n (id, item_name, quantity)\n"
+                + "VALUES (#{list[0].id}, #{list[0].itemName}, #{list[0].quantity}),"
+                + "(#{list[1].id}, #{list[1].itemName}, #{list[1].quantity})\n"
+                + "ON DUPLICATE KEY UPDATE item_name=IFNULL(VALUES(item_name),item_name), quantity=VALUES(quantity)", sql);
+    }
+
+    @Test
+    public void testBatchUpsertSkipsColumnsNoEntitySet() {
+        Item item = new Item(1L, null, 10);
+        String sql = SqlProviderUtils.batchUpsertStatement("db.item", Arrays.asList(item), "list", "id");
+        assertEquals("INSERT INTO db.item\n (id, quantity)\n"
+                + "VALUES (#{list[0].id}, #{list[0].quantity})\n"
+                + "ON DUPLICATE KEY UPDATE quantity=VALUES(quantity)", sql);
+    }
+
+    @Test
+    public void testBatchUpsertOnlyKeyColumns() {
+        Item item = new Item(1L, null, null);
+        String sql = SqlProviderUtils.batchUpsertStatement("db.item", Arrays.asList(item), "list", "id");
+        assertEquals("INSERT INTO db.item\n (id)\n"
+                + "VALUES (#{list[0].id})\n"
+                + "ON DUPLICATE KEY UPDATE id=id", sql);
+    }
+
+    @Test
+    public void testUpsertWithoutKeyColumns() {
+        Item item = new Item(1L, "a", 10);
+        try {
+            SqlProviderUtils.upsertStatement("db.item", item);
+            fail();
+        } catch (RuntimeException e) {
+            assertEquals("表没有主键和唯一索引,不能使用upsert! Table:db.item", e.getMessage());
+        }
+        try {
+            SqlProviderUtils.batchUpsertStatement("db.item", Arrays.asList(item), "list");
+            fail();
+        } catch (RuntimeException e) {
+            assertEquals("表没有主键和唯一索引,不能使用upsert! Table:db.item", e.getMessage());
+        }
+    }
+
+    public static class Item implements TableEntity {
+
+        private Long id;
+        private String itemName;
+        private Integer quantity;
+
+        public Item(Long id, String itemName, Integer quantity) {
+            this.id = id;
+            this.itemName = itemName;
+            this.quantity = quantity;
+        }
+
+        public Long getId() {
+            return id;
+        }
+
+        public String getItemName() {
+            return itemName;
+        }
+
+        public Integer getQuantity() {
+            return quantity;
+        }
+    }
+}